@@ -0,0 +1,118 @@
+package egain.oassdk.examples;
+
+import egain.oassdk.core.exceptions.OASSDKException;
+import egain.oassdk.core.parser.OASParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Measures the retained heap of resolved specs as {@link OASParser} returns them and after
+ * {@link OASParser#canonicalize}, as a long-running generation service would keep them.
+ * <p>
+ * For each spec, {@code copies} resolved instances are kept reachable and the used heap is read after a full GC;
+ * then the same number of canonical copies. Each figure is the median of a few rounds. The numbers are approximate
+ * (they include whatever else the JVM allocated or released meanwhile), so use enough copies for the specs to
+ * dominate.
+ * <p>
+ * Program arguments: {@code [copies] [specPath...]}. Without spec paths, the YAML specs directly under
+ * {@code src/test/resources} are measured. Run from the repo root, for example:
+ * {@code mvn -q exec:java -Dexec.mainClass=egain.oassdk.examples.SpecRetainedHeapBenchmark -Dexec.args="100"}.
+ */
+public final class SpecRetainedHeapBenchmark {
+
+    private static final int DEFAULT_COPIES = 100;
+    private static final int ROUNDS = 3;
+
+    private SpecRetainedHeapBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, OASSDKException, InterruptedException {
+        int copies = DEFAULT_COPIES;
+        List<String> specs = new ArrayList<>();
+        for (String arg : args) {
+            if (specs.isEmpty() && arg.matches("\\d+")) {
+                copies = Integer.parseInt(arg);
+            } else {
+                specs.add(arg);
+            }
+        }
+        if (specs.isEmpty()) {
+            try (Stream<Path> files = Files.list(Paths.get("src/test/resources"))) {
+                files.filter(file -> file.toString().endsWith(".yaml")).sorted()
+                        .forEach(file -> specs.add(file.toString()));
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%-48s %12s %12s %10s%n", "spec (x" + copies + ")", "parsed KB", "canonical KB",
+                "reduction");
+        long totalParsed = 0;
+        long totalCanonical = 0;
+        for (String spec : specs) {
+            OASParser parser = new OASParser();
+            parser.setDocumentCache(null);
+            Map<String, Object> resolved;
+            try {
+                resolved = parser.parseAndResolve(spec);
+            } catch (OASSDKException e) {
+                System.out.printf(Locale.ROOT, "%-48s skipped: %s%n", Paths.get(spec).getFileName(), e.getMessage());
+                continue;
+            }
+
+            // Heap readings are noisy (soft references, lazily filled caches): take the median of a few rounds
+            long[] parsedRounds = new long[ROUNDS];
+            long[] canonicalRounds = new long[ROUNDS];
+            List<Map<String, Object>> kept = new ArrayList<>(copies);
+            for (int round = 0; round < ROUNDS; round++) {
+                long before = usedHeap();
+                for (int i = 0; i < copies; i++) {
+                    kept.add(parser.parseAndResolve(spec));
+                }
+                parsedRounds[round] = usedHeap() - before;
+                kept.clear();
+
+                before = usedHeap();
+                for (int i = 0; i < copies; i++) {
+                    kept.add(OASParser.canonicalize(resolved));
+                }
+                canonicalRounds[round] = usedHeap() - before;
+                kept.clear();
+            }
+            long parsed = median(parsedRounds);
+            long canonical = median(canonicalRounds);
+
+            totalParsed += parsed;
+            totalCanonical += canonical;
+            print(Paths.get(spec).getFileName().toString(), parsed, canonical);
+        }
+        print("total", totalParsed, totalCanonical);
+    }
+
+    private static void print(String name, long parsed, long canonical) {
+        double reduction = parsed > 0 ? 100.0 * (parsed - canonical) / parsed : 0;
+        System.out.printf(Locale.ROOT, "%-48s %12d %12d %9.1f%%%n", name, parsed / 1024, canonical / 1024, reduction);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
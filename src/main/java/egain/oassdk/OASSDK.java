@@ -10,7 +10,9 @@ import egain.oassdk.core.exceptions.OASSDKException;
 import egain.oassdk.core.exceptions.ValidationException;
 import egain.oassdk.core.logging.LoggerConfig;
 import egain.oassdk.core.metadata.OASMetadata;
+import egain.oassdk.core.model.OpenApiDocument;
 import egain.oassdk.core.parser.OASParser;
+import egain.oassdk.core.parser.SpecCache;
 import egain.oassdk.core.validator.OASValidator;
 import egain.oassdk.docs.DocumentationGenerator;
 import egain.oassdk.generators.GeneratorFactory;
@@ -114,6 +116,10 @@ public class OASSDK implements AutoCloseable {
                 searchPaths = generatorConfig.getSearchPaths();
             }
             this.parser = new OASParser(searchPaths);
+            if (generatorConfig != null && generatorConfig.isSpecCacheEnabled()) {
+                String cacheDir = generatorConfig.getSpecCacheDir();
+                this.parser.setSpecCache(SpecCache.shared(cacheDir != null ? Paths.get(cacheDir) : null));
+            }
         }
         this.validator = new OASValidator();
         this.metadata = new OASMetadata();
@@ -196,6 +202,20 @@ public class OASSDK implements AutoCloseable {
         }
     }
 
+    /**
+     * Generator configuration for one generation: the SLA latency targets become metric SLO buckets unless buckets
+     * were configured explicitly. The defaults go into a copy, so a configuration reused across runs is left as is.
+     */
+    private GeneratorConfig withSLAObservabilityDefaults() {
+        if (generatorConfig == null || generatorConfig.getObservabilityConfig() == null
+                || !generatorConfig.getObservabilityConfig().getSloBucketsMs().isEmpty()) {
+            return generatorConfig;
+        }
+        GeneratorConfig config = new GeneratorConfig(generatorConfig);
+        config.getObservabilityConfig().setSloBucketsMs(SLAProcessor.extractResponseTimeTargetsMs(spec, slaSpec));
+        return config;
+    }
+
     /**
      * Filter OpenAPI specification based on path and operation filters
      *
@@ -285,11 +305,9 @@ public class OASSDK implements AutoCloseable {
         Objects.requireNonNull(specPath, "Specification path cannot be null");
         String unixSpecPath = egain.oassdk.core.parser.PathUtils.toUnixPath(specPath);
         try {
-            // Parse the specification (all paths processed in Unix style)
-            this.spec = parser.parse(unixSpecPath);
-
-            // Resolve all $ref references (internal and external)
-            this.spec = parser.resolveReferences(this.spec, unixSpecPath);
+            // Parse the specification and resolve all $ref references, internal and external
+            // (all paths processed in Unix style)
+            this.spec = parser.parseAndResolve(unixSpecPath);
 
             // Validate specification
             validator.validate(this.spec);
@@ -372,12 +390,13 @@ public class OASSDK implements AutoCloseable {
 
             // Apply filters from config if available
             applyConfigFilters();
+            GeneratorConfig config = withSLAObservabilityDefaults();
 
             // Filter spec if filters are set
             Map<String, Object> specToUse = filterSpec(spec);
 
             // Generate application
-            generator.generate(specToUse, outputDir, generatorConfig, packageName);
+            generator.generateFromDocument(OpenApiDocument.of(specToUse), outputDir, config, packageName);
 
             return this;
 
@@ -452,10 +471,11 @@ public class OASSDK implements AutoCloseable {
                 }
             }
 
-            // Generate each test type
+            // Generate each test type, indexing the spec once for all of them
+            OpenApiDocument document = OpenApiDocument.of(specToUse);
             for (String testType : effectiveTypes) {
                 var testGenerator = testGeneratorFactory.getGenerator(testType, testConfig);
-                testGenerator.generate(specToUse, outputDir, testConfig, testFramework);
+                testGenerator.generateFromDocument(document, outputDir, testConfig, testFramework);
             }
 
             return this;
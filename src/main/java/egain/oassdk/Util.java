@@ -1,6 +1,7 @@
 package egain.oassdk;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -84,4 +85,67 @@ public class Util {
         return out;
     }
 
+    /**
+     * Checked, non-copying counterpart of {@link #asStringObjectMap} for read-only traversal of a parsed spec: an
+     * unmodifiable view of the map instead of a copy. Like a copy, the view is a distinct object, so it can be used
+     * where the copy was; unlike one, it reflects later changes to the map.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> asStringObjectMapView(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Map<?, ?> raw)) {
+            throw new IllegalArgumentException("Expected a Map, got: " +
+                    value.getClass().getName());
+        }
+        for (Object key : raw.keySet()) {
+            if (!(key instanceof String)) {
+                throw new IllegalArgumentException("Non-String key found: " + key);
+            }
+        }
+        return Collections.unmodifiableMap((Map<String, Object>) raw);
+    }
+
+    /**
+     * Counterpart of {@link #asStringObjectMapList} whose elements are {@linkplain #asStringObjectMapView views}
+     * rather than copies.
+     */
+    public static List<Map<String, Object>> asStringObjectMapListView(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List<?> raw)) {
+            throw new IllegalArgumentException("Expected a List, got: " +
+                    value.getClass().getName());
+        }
+
+        List<Map<String, Object>> out = new ArrayList<>(raw.size());
+        for (Object item : raw) {
+            out.add(item == null ? null : asStringObjectMapView(item));
+        }
+        return Collections.unmodifiableList(out);
+    }
+
+    /**
+     * Checked, non-copying counterpart of {@link #asStringList}: an unmodifiable view of the list.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> asStringListView(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List<?> raw)) {
+            throw new IllegalArgumentException("Expected a List, got: " +
+                    value.getClass().getName());
+        }
+        for (Object item : raw) {
+            if (item != null && !(item instanceof String)) {
+                throw new IllegalArgumentException("Expected List<String>, found non-String element: " +
+                        item.getClass().getName());
+            }
+        }
+        return Collections.unmodifiableList((List<String>) raw);
+    }
+
 }
@@ -81,6 +81,24 @@ public class OASSDKCLI implements Callable<Integer> {
                 description = "Use wrapper types (Integer, Long, Double, Float) instead of primitives in generated Java code")
         private boolean useBoxedPrimitives;
 
+        @Option(names = {"--collect-all-validation-errors"},
+                description = "Generated ValidationMapHelper.validateRequest returns every parameter error instead of stopping at the first")
+        private boolean collectAllValidationErrors;
+
+        @Option(names = {"--parallel"},
+                description = "Generate Java sources on all available cores; output is identical to a sequential run")
+        private boolean parallelGeneration;
+
+        @Option(names = {"--incremental"},
+                description = "Regenerate only what the spec changes affect and leave unchanged files untouched "
+                        + "(keeps a manifest in the output directory)")
+        private boolean incrementalGeneration;
+
+        @Option(names = {"--spec-cache-dir"},
+                description = "Directory for snapshots of parsed and resolved specs; an unchanged spec is then loaded "
+                        + "without parsing or resolving its $refs")
+        private String specCacheDir;
+
         @Override
         public Integer call() {
             try {
@@ -93,7 +111,11 @@ public class OASSDKCLI implements Callable<Integer> {
                         .searchPaths(searchPaths != null && !searchPaths.isEmpty() ? searchPaths : null)
                         .authorizationDataGenerationEnabled(authorizationData)
                         .useJakartaNamespace(useJakartaNamespace)
-                        .useBoxedPrimitives(useBoxedPrimitives);
+                        .useBoxedPrimitives(useBoxedPrimitives)
+                        .collectAllValidationErrors(collectAllValidationErrors)
+                        .parallelGeneration(parallelGeneration)
+                        .incrementalGeneration(incrementalGeneration)
+                        .specCacheDir(specCacheDir != null && !specCacheDir.isEmpty() ? specCacheDir : null);
                 if (specZipPath != null && !specZipPath.isEmpty()) {
                     configBuilder.specZipPath(specZipPath);
                 }
@@ -311,6 +333,24 @@ public class OASSDKCLI implements Callable<Integer> {
                 description = "Use wrapper types (Integer, Long, Double, Float) instead of primitives in generated Java code")
         private boolean useBoxedPrimitives;
 
+        @Option(names = {"--collect-all-validation-errors"},
+                description = "Generated ValidationMapHelper.validateRequest returns every parameter error instead of stopping at the first")
+        private boolean collectAllValidationErrors;
+
+        @Option(names = {"--parallel"},
+                description = "Generate Java sources on all available cores; output is identical to a sequential run")
+        private boolean parallelGeneration;
+
+        @Option(names = {"--incremental"},
+                description = "Regenerate only what the spec changes affect and leave unchanged files untouched "
+                        + "(keeps a manifest in the output directory)")
+        private boolean incrementalGeneration;
+
+        @Option(names = {"--spec-cache-dir"},
+                description = "Directory for snapshots of parsed and resolved specs; an unchanged spec is then loaded "
+                        + "without parsing or resolving its $refs")
+        private String specCacheDir;
+
         @Override
         public Integer call() {
             try {
@@ -321,7 +361,11 @@ public class OASSDKCLI implements Callable<Integer> {
                         .outputDir(output)
                         .searchPaths(searchPaths != null && !searchPaths.isEmpty() ? searchPaths : null)
                         .useJakartaNamespace(useJakartaNamespace)
-                        .useBoxedPrimitives(useBoxedPrimitives);
+                        .useBoxedPrimitives(useBoxedPrimitives)
+                        .collectAllValidationErrors(collectAllValidationErrors)
+                        .parallelGeneration(parallelGeneration)
+                        .incrementalGeneration(incrementalGeneration)
+                        .specCacheDir(specCacheDir != null && !specCacheDir.isEmpty() ? specCacheDir : null);
                 if (standaloneMode) {
                     Map<String, Object> extra = new HashMap<>();
                     extra.put("standaloneMode", "true");
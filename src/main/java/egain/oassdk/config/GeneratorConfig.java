@@ -29,6 +29,15 @@ public class GeneratorConfig {
     // ZIP-based spec loading: when set, specs and $ref resolution are read from this ZIP (entry paths use forward slashes)
     private String specZipPath;
 
+    /**
+     * When true, parsed files and resolved specs are kept in a process-wide cache, so loading a spec again, or another
+     * spec that shares its external files, skips parsing and {@code $ref} resolution of unchanged files.
+     */
+    private boolean specCacheEnabled;
+
+    /** Directory for binary snapshots of resolved specs, reused across processes. Setting it enables the spec cache. */
+    private String specCacheDir;
+
     private boolean modelsOnly; // If true, only generate models and skip resources, services, and other non-model output.
 
     /** When true, emit Java *AuthorizationData classes from {@code x-egain-authorization-data} on component schemas. */
@@ -63,6 +72,26 @@ public class GeneratorConfig {
      */
     private boolean useBoxedPrimitives;
 
+    /**
+     * When true, the generated {@code ValidationMapHelper.validateRequest} runs every parameter validator and
+     * returns all errors (for API clients that want the full list). When false (default), validation is
+     * fail-fast: it stops at the first error and allocates nothing for a valid request.
+     */
+    private boolean collectAllValidationErrors;
+
+    /**
+     * When true, the Jersey generator runs independent sub-generators and per-model / per-resource emission on a
+     * worker pool and writes files through a bounded background writer. The output is identical to sequential
+     * generation, which remains the default.
+     */
+    private boolean parallelGeneration;
+
+    /**
+     * When true, the Jersey generator keeps a manifest of content hashes in the output directory, re-runs only the
+     * models, resources and sub-generators whose inputs changed, and leaves files whose content is unchanged untouched.
+     */
+    private boolean incrementalGeneration;
+
     // Observability configuration (OpenTelemetry + Micrometer)
     private ObservabilityConfig observabilityConfig;
 
@@ -82,12 +111,17 @@ public class GeneratorConfig {
         this.includeOperations = null;
         this.searchPaths = null;
         this.specZipPath = null;
+        this.specCacheEnabled = false;
+        this.specCacheDir = null;
         this.authorizationDataGenerationEnabled = false;
         this.defaultAuthorizationDataExtends = null;
         this.useJakartaNamespace = false;
         this.jsonOnlyResourceMediaTypes = false;
         this.legacyXorNestedIdAsserts = false;
         this.useBoxedPrimitives = false;
+        this.collectAllValidationErrors = false;
+        this.parallelGeneration = false;
+        this.incrementalGeneration = false;
         this.observabilityConfig = new ObservabilityConfig();
     }
 
@@ -109,15 +143,51 @@ public class GeneratorConfig {
         this.includeOperations = null;
         this.searchPaths = null;
         this.specZipPath = null;
+        this.specCacheEnabled = false;
+        this.specCacheDir = null;
         this.authorizationDataGenerationEnabled = false;
         this.defaultAuthorizationDataExtends = null;
         this.useJakartaNamespace = false;
         this.jsonOnlyResourceMediaTypes = false;
         this.legacyXorNestedIdAsserts = false;
         this.useBoxedPrimitives = false;
+        this.collectAllValidationErrors = false;
+        this.parallelGeneration = false;
+        this.incrementalGeneration = false;
         this.observabilityConfig = new ObservabilityConfig();
     }
 
+    /**
+     * Copy constructor; collections and the observability configuration are copied too
+     */
+    public GeneratorConfig(GeneratorConfig other) {
+        this.language = other.language;
+        this.framework = other.framework;
+        this.packageName = other.packageName;
+        this.version = other.version;
+        this.outputDir = other.outputDir;
+        this.templatesDir = other.templatesDir;
+        this.customTemplates = other.customTemplates;
+        this.additionalProperties = other.getAdditionalProperties();
+        this.includePaths = other.getIncludePaths();
+        this.includeOperations = other.getIncludeOperations();
+        this.searchPaths = other.getSearchPaths();
+        this.specZipPath = other.specZipPath;
+        this.specCacheEnabled = other.specCacheEnabled;
+        this.specCacheDir = other.specCacheDir;
+        this.modelsOnly = other.modelsOnly;
+        this.authorizationDataGenerationEnabled = other.authorizationDataGenerationEnabled;
+        this.defaultAuthorizationDataExtends = other.defaultAuthorizationDataExtends;
+        this.useJakartaNamespace = other.useJakartaNamespace;
+        this.jsonOnlyResourceMediaTypes = other.jsonOnlyResourceMediaTypes;
+        this.legacyXorNestedIdAsserts = other.legacyXorNestedIdAsserts;
+        this.useBoxedPrimitives = other.useBoxedPrimitives;
+        this.collectAllValidationErrors = other.collectAllValidationErrors;
+        this.parallelGeneration = other.parallelGeneration;
+        this.incrementalGeneration = other.incrementalGeneration;
+        this.observabilityConfig = other.observabilityConfig != null ? new ObservabilityConfig(other.observabilityConfig) : null;
+    }
+
     // Getters and Setters
     public String getLanguage() {
         return language;
@@ -207,6 +277,30 @@ public class GeneratorConfig {
         this.useBoxedPrimitives = useBoxedPrimitives;
     }
 
+    public boolean isCollectAllValidationErrors() {
+        return collectAllValidationErrors;
+    }
+
+    public void setCollectAllValidationErrors(boolean collectAllValidationErrors) {
+        this.collectAllValidationErrors = collectAllValidationErrors;
+    }
+
+    public boolean isParallelGeneration() {
+        return parallelGeneration;
+    }
+
+    public void setParallelGeneration(boolean parallelGeneration) {
+        this.parallelGeneration = parallelGeneration;
+    }
+
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    public void setIncrementalGeneration(boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+    }
+
     public String getDefaultAuthorizationDataExtends() {
         return defaultAuthorizationDataExtends;
     }
@@ -290,6 +384,22 @@ public class GeneratorConfig {
         this.specZipPath = specZipPath;
     }
 
+    public boolean isSpecCacheEnabled() {
+        return specCacheEnabled || specCacheDir != null;
+    }
+
+    public void setSpecCacheEnabled(boolean specCacheEnabled) {
+        this.specCacheEnabled = specCacheEnabled;
+    }
+
+    public String getSpecCacheDir() {
+        return specCacheDir;
+    }
+
+    public void setSpecCacheDir(String specCacheDir) {
+        this.specCacheDir = specCacheDir;
+    }
+
     public ObservabilityConfig getObservabilityConfig() {
         return observabilityConfig;
     }
@@ -314,6 +424,8 @@ public class GeneratorConfig {
         private Map<String, List<String>> includeOperations = null;
         private List<String> searchPaths = null;
         private String specZipPath = null;
+        private boolean specCacheEnabled = false;
+        private String specCacheDir = null;
         private boolean modelsOnly = false;
         private boolean authorizationDataGenerationEnabled = false;
         private String defaultAuthorizationDataExtends = null;
@@ -321,6 +433,9 @@ public class GeneratorConfig {
         private boolean jsonOnlyResourceMediaTypes = false;
         private boolean legacyXorNestedIdAsserts = false;
         private boolean useBoxedPrimitives = false;
+        private boolean collectAllValidationErrors = false;
+        private boolean parallelGeneration = false;
+        private boolean incrementalGeneration = false;
         private ObservabilityConfig observabilityConfig = new ObservabilityConfig();
 
         public Builder language(String language) {
@@ -390,6 +505,16 @@ public class GeneratorConfig {
             return this;
         }
 
+        public Builder specCacheEnabled(boolean specCacheEnabled) {
+            this.specCacheEnabled = specCacheEnabled;
+            return this;
+        }
+
+        public Builder specCacheDir(String specCacheDir) {
+            this.specCacheDir = specCacheDir;
+            return this;
+        }
+
         public Builder modelsOnly(boolean modelsOnly) {
             this.modelsOnly = modelsOnly;
             return this;
@@ -425,6 +550,21 @@ public class GeneratorConfig {
             return this;
         }
 
+        public Builder collectAllValidationErrors(boolean collectAllValidationErrors) {
+            this.collectAllValidationErrors = collectAllValidationErrors;
+            return this;
+        }
+
+        public Builder parallelGeneration(boolean parallelGeneration) {
+            this.parallelGeneration = parallelGeneration;
+            return this;
+        }
+
+        public Builder incrementalGeneration(boolean incrementalGeneration) {
+            this.incrementalGeneration = incrementalGeneration;
+            return this;
+        }
+
         public Builder observabilityConfig(ObservabilityConfig observabilityConfig) {
             this.observabilityConfig = observabilityConfig;
             return this;
@@ -442,6 +582,8 @@ public class GeneratorConfig {
             config.setIncludeOperations(includeOperations);
             config.setSearchPaths(searchPaths);
             config.setSpecZipPath(specZipPath);
+            config.setSpecCacheEnabled(specCacheEnabled);
+            config.setSpecCacheDir(specCacheDir);
             config.setModelsOnly(modelsOnly);
             config.setAuthorizationDataGenerationEnabled(authorizationDataGenerationEnabled);
             config.setDefaultAuthorizationDataExtends(defaultAuthorizationDataExtends);
@@ -449,6 +591,9 @@ public class GeneratorConfig {
             config.setJsonOnlyResourceMediaTypes(jsonOnlyResourceMediaTypes);
             config.setLegacyXorNestedIdAsserts(legacyXorNestedIdAsserts);
             config.setUseBoxedPrimitives(useBoxedPrimitives);
+            config.setCollectAllValidationErrors(collectAllValidationErrors);
+            config.setParallelGeneration(parallelGeneration);
+            config.setIncrementalGeneration(incrementalGeneration);
             config.setObservabilityConfig(observabilityConfig);
             return config;
         }
@@ -478,6 +623,8 @@ public class GeneratorConfig {
                 ", includeOperations=" + includeOperations +
                 ", searchPaths=" + searchPaths +
                 ", specZipPath=" + specZipPath +
+                ", specCacheEnabled=" + specCacheEnabled +
+                ", specCacheDir=" + specCacheDir +
                 ", modelsOnly=" + modelsOnly +
                 ", authorizationDataGenerationEnabled=" + authorizationDataGenerationEnabled +
                 ", defaultAuthorizationDataExtends='" + defaultAuthorizationDataExtends + '\'' +
@@ -485,6 +632,9 @@ public class GeneratorConfig {
                 ", jsonOnlyResourceMediaTypes=" + jsonOnlyResourceMediaTypes +
                 ", legacyXorNestedIdAsserts=" + legacyXorNestedIdAsserts +
                 ", useBoxedPrimitives=" + useBoxedPrimitives +
+                ", collectAllValidationErrors=" + collectAllValidationErrors +
+                ", parallelGeneration=" + parallelGeneration +
+                ", incrementalGeneration=" + incrementalGeneration +
                 ", observabilityConfig=" + observabilityConfig +
                 '}';
     }
@@ -1,6 +1,8 @@
 package egain.oassdk.config;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -19,6 +21,13 @@ public class ObservabilityConfig {
     private String serviceName;           // defaults to OAS info.title
     private String otlpEndpoint;
     private Map<String, String> resourceAttributes;
+    private List<Long> sloBucketsMs;      // latency SLO boundaries (ms), e.g. SLA p95/p99 targets
+    private double samplingRatio;         // fraction of root traces sampled, 0.0 - 1.0
+    private boolean parentBasedSampling;  // honour the caller's sampled flag
+    private int batchMaxQueueSize;
+    private int batchMaxExportBatchSize;
+    private long batchScheduleDelayMs;
+    private long batchExportTimeoutMs;
 
     /**
      * Default constructor — observability enabled with Prometheus metrics + OTLP tracing
@@ -33,12 +42,27 @@ public class ObservabilityConfig {
         this.serviceName = null;
         this.otlpEndpoint = "http://localhost:4318";
         this.resourceAttributes = new HashMap<>();
+        this.sloBucketsMs = new ArrayList<>();
+        this.samplingRatio = 1.0;
+        this.parentBasedSampling = true;
+        this.batchMaxQueueSize = 2048;
+        this.batchMaxExportBatchSize = 512;
+        this.batchScheduleDelayMs = 5000;
+        this.batchExportTimeoutMs = 30000;
     }
 
     public ObservabilityConfig(boolean enabled, boolean enableMetrics, boolean enableTracing,
                                boolean enableLogging, String metricsExporter, String tracingExporter,
                                String serviceName, String otlpEndpoint,
                                Map<String, String> resourceAttributes) {
+        this(enabled, enableMetrics, enableTracing, enableLogging, metricsExporter, tracingExporter,
+                serviceName, otlpEndpoint, resourceAttributes, null);
+    }
+
+    public ObservabilityConfig(boolean enabled, boolean enableMetrics, boolean enableTracing,
+                               boolean enableLogging, String metricsExporter, String tracingExporter,
+                               String serviceName, String otlpEndpoint,
+                               Map<String, String> resourceAttributes, List<Long> sloBucketsMs) {
         this.enabled = enabled;
         this.enableMetrics = enableMetrics;
         this.enableTracing = enableTracing;
@@ -48,6 +72,35 @@ public class ObservabilityConfig {
         this.serviceName = serviceName;
         this.otlpEndpoint = otlpEndpoint;
         this.resourceAttributes = resourceAttributes != null ? new HashMap<>(resourceAttributes) : new HashMap<>();
+        this.sloBucketsMs = sloBucketsMs != null ? new ArrayList<>(sloBucketsMs) : new ArrayList<>();
+        this.samplingRatio = 1.0;
+        this.parentBasedSampling = true;
+        this.batchMaxQueueSize = 2048;
+        this.batchMaxExportBatchSize = 512;
+        this.batchScheduleDelayMs = 5000;
+        this.batchExportTimeoutMs = 30000;
+    }
+
+    /**
+     * Copy constructor
+     */
+    public ObservabilityConfig(ObservabilityConfig other) {
+        this.enabled = other.enabled;
+        this.enableMetrics = other.enableMetrics;
+        this.enableTracing = other.enableTracing;
+        this.enableLogging = other.enableLogging;
+        this.metricsExporter = other.metricsExporter;
+        this.tracingExporter = other.tracingExporter;
+        this.serviceName = other.serviceName;
+        this.otlpEndpoint = other.otlpEndpoint;
+        this.resourceAttributes = other.getResourceAttributes();
+        this.sloBucketsMs = other.getSloBucketsMs();
+        this.samplingRatio = other.samplingRatio;
+        this.parentBasedSampling = other.parentBasedSampling;
+        this.batchMaxQueueSize = other.batchMaxQueueSize;
+        this.batchMaxExportBatchSize = other.batchMaxExportBatchSize;
+        this.batchScheduleDelayMs = other.batchScheduleDelayMs;
+        this.batchExportTimeoutMs = other.batchExportTimeoutMs;
     }
 
     // Getters and Setters
@@ -124,6 +177,75 @@ public class ObservabilityConfig {
         this.resourceAttributes = resourceAttributes != null ? new HashMap<>(resourceAttributes) : new HashMap<>();
     }
 
+    /**
+     * Latency service-level objectives in milliseconds. The generated MetricsFilter publishes them as
+     * histogram buckets of {@code http.server.requests}, so SLO compliance can be read straight off the
+     * bucket counters. Empty means percentile histogram buckets only.
+     */
+    public List<Long> getSloBucketsMs() {
+        return sloBucketsMs != null ? new ArrayList<>(sloBucketsMs) : new ArrayList<>();
+    }
+
+    public void setSloBucketsMs(List<Long> sloBucketsMs) {
+        this.sloBucketsMs = sloBucketsMs != null ? new ArrayList<>(sloBucketsMs) : new ArrayList<>();
+    }
+
+    /**
+     * Fraction (0.0 - 1.0) of new traces the generated ObservabilityBootstrap samples. Unsampled
+     * requests still get a (non-recording) span for context propagation but skip attribute work and export.
+     */
+    public double getSamplingRatio() {
+        return samplingRatio;
+    }
+
+    public void setSamplingRatio(double samplingRatio) {
+        this.samplingRatio = samplingRatio;
+    }
+
+    /**
+     * When true, a request that carries a trace context keeps its caller's sampling decision and
+     * {@link #getSamplingRatio()} only applies to traces started by this service.
+     */
+    public boolean isParentBasedSampling() {
+        return parentBasedSampling;
+    }
+
+    public void setParentBasedSampling(boolean parentBasedSampling) {
+        this.parentBasedSampling = parentBasedSampling;
+    }
+
+    public int getBatchMaxQueueSize() {
+        return batchMaxQueueSize;
+    }
+
+    public void setBatchMaxQueueSize(int batchMaxQueueSize) {
+        this.batchMaxQueueSize = batchMaxQueueSize;
+    }
+
+    public int getBatchMaxExportBatchSize() {
+        return batchMaxExportBatchSize;
+    }
+
+    public void setBatchMaxExportBatchSize(int batchMaxExportBatchSize) {
+        this.batchMaxExportBatchSize = batchMaxExportBatchSize;
+    }
+
+    public long getBatchScheduleDelayMs() {
+        return batchScheduleDelayMs;
+    }
+
+    public void setBatchScheduleDelayMs(long batchScheduleDelayMs) {
+        this.batchScheduleDelayMs = batchScheduleDelayMs;
+    }
+
+    public long getBatchExportTimeoutMs() {
+        return batchExportTimeoutMs;
+    }
+
+    public void setBatchExportTimeoutMs(long batchExportTimeoutMs) {
+        this.batchExportTimeoutMs = batchExportTimeoutMs;
+    }
+
     /**
      * Builder for ObservabilityConfig
      */
@@ -137,6 +259,13 @@ public class ObservabilityConfig {
         private String serviceName;
         private String otlpEndpoint = "http://localhost:4318";
         private Map<String, String> resourceAttributes = new HashMap<>();
+        private List<Long> sloBucketsMs = new ArrayList<>();
+        private double samplingRatio = 1.0;
+        private boolean parentBasedSampling = true;
+        private int batchMaxQueueSize = 2048;
+        private int batchMaxExportBatchSize = 512;
+        private long batchScheduleDelayMs = 5000;
+        private long batchExportTimeoutMs = 30000;
 
         public Builder enabled(boolean enabled) {
             this.enabled = enabled;
@@ -183,9 +312,51 @@ public class ObservabilityConfig {
             return this;
         }
 
+        public Builder sloBucketsMs(List<Long> sloBucketsMs) {
+            this.sloBucketsMs = sloBucketsMs != null ? new ArrayList<>(sloBucketsMs) : new ArrayList<>();
+            return this;
+        }
+
+        public Builder samplingRatio(double samplingRatio) {
+            this.samplingRatio = samplingRatio;
+            return this;
+        }
+
+        public Builder parentBasedSampling(boolean parentBasedSampling) {
+            this.parentBasedSampling = parentBasedSampling;
+            return this;
+        }
+
+        public Builder batchMaxQueueSize(int batchMaxQueueSize) {
+            this.batchMaxQueueSize = batchMaxQueueSize;
+            return this;
+        }
+
+        public Builder batchMaxExportBatchSize(int batchMaxExportBatchSize) {
+            this.batchMaxExportBatchSize = batchMaxExportBatchSize;
+            return this;
+        }
+
+        public Builder batchScheduleDelayMs(long batchScheduleDelayMs) {
+            this.batchScheduleDelayMs = batchScheduleDelayMs;
+            return this;
+        }
+
+        public Builder batchExportTimeoutMs(long batchExportTimeoutMs) {
+            this.batchExportTimeoutMs = batchExportTimeoutMs;
+            return this;
+        }
+
         public ObservabilityConfig build() {
-            return new ObservabilityConfig(enabled, enableMetrics, enableTracing, enableLogging,
-                    metricsExporter, tracingExporter, serviceName, otlpEndpoint, resourceAttributes);
+            ObservabilityConfig config = new ObservabilityConfig(enabled, enableMetrics, enableTracing, enableLogging,
+                    metricsExporter, tracingExporter, serviceName, otlpEndpoint, resourceAttributes, sloBucketsMs);
+            config.setSamplingRatio(samplingRatio);
+            config.setParentBasedSampling(parentBasedSampling);
+            config.setBatchMaxQueueSize(batchMaxQueueSize);
+            config.setBatchMaxExportBatchSize(batchMaxExportBatchSize);
+            config.setBatchScheduleDelayMs(batchScheduleDelayMs);
+            config.setBatchExportTimeoutMs(batchExportTimeoutMs);
+            return config;
         }
     }
 
@@ -205,6 +376,13 @@ public class ObservabilityConfig {
                 ", serviceName='" + serviceName + '\'' +
                 ", otlpEndpoint='" + otlpEndpoint + '\'' +
                 ", resourceAttributes=" + resourceAttributes +
+                ", sloBucketsMs=" + sloBucketsMs +
+                ", samplingRatio=" + samplingRatio +
+                ", parentBasedSampling=" + parentBasedSampling +
+                ", batchMaxQueueSize=" + batchMaxQueueSize +
+                ", batchMaxExportBatchSize=" + batchMaxExportBatchSize +
+                ", batchScheduleDelayMs=" + batchScheduleDelayMs +
+                ", batchExportTimeoutMs=" + batchExportTimeoutMs +
                 '}';
     }
 }
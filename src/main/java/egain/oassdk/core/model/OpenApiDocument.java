@@ -0,0 +1,230 @@
+package egain.oassdk.core.model;
+
+import egain.oassdk.core.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of a parsed, reference-resolved OpenAPI specification, built once so generators can look up operations and
+ * component schemas directly instead of walking {@code paths} and {@code components.schemas} each time.
+ *
+ * <p>The document indexes:
+ * <ul>
+ *   <li>operations in document order (paths in order, methods in {@link Constants#HTTP_METHODS} order), by
+ *       {@code operationId} and by path;</li>
+ *   <li>component schemas by name, and by identity: the parser inlines a {@code $ref} by sharing the referenced
+ *       component's map, so {@link #schemaNameOf} names an inlined schema;</li>
+ *   <li>references between component schemas, in both directions.</li>
+ * </ul>
+ *
+ * <p>The index is immutable and describes the spec as it was when the document was built; the spec's maps are not
+ * copied, and callers must treat them as read-only.
+ */
+public final class OpenApiDocument {
+
+    private static final String COMPONENT_SCHEMA_PREFIX = "#/components/schemas/";
+
+    private final Map<String, Object> spec;
+    private final List<Operation> operations;
+    private final Map<String, Operation> operationsById;
+    private final Map<String, List<Operation>> operationsByPath;
+    private final Map<String, Map<String, Object>> schemas;
+    private final Map<Object, String> schemaNames;
+    private final Map<String, Set<String>> references;
+    private final Map<String, Set<String>> referencedBy;
+
+    /**
+     * One operation of the spec.
+     *
+     * @param path        the path template, as keyed in {@code paths}
+     * @param method      the lower-case HTTP method
+     * @param operationId the operation id, or null when the operation has none
+     * @param operation   the operation map of the spec; read-only
+     */
+    public record Operation(String path, String method, String operationId, Map<String, Object> operation) {
+    }
+
+    private OpenApiDocument(Map<String, Object> spec) {
+        this.spec = spec;
+
+        List<Operation> operations = new ArrayList<>();
+        Map<String, Operation> operationsById = new LinkedHashMap<>();
+        Map<String, List<Operation>> operationsByPath = new LinkedHashMap<>();
+        Map<String, Object> paths = asMap(spec.get("paths"));
+        if (paths != null) {
+            for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+                Map<String, Object> pathItem = asMap(pathEntry.getValue());
+                if (pathItem == null) {
+                    continue;
+                }
+                List<Operation> atPath = new ArrayList<>();
+                for (String method : Constants.HTTP_METHODS) {
+                    Map<String, Object> operation = asMap(pathItem.get(method));
+                    if (operation == null) {
+                        continue;
+                    }
+                    Object id = operation.get("operationId");
+                    Operation op = new Operation(pathEntry.getKey(), method, id instanceof String s ? s : null,
+                            operation);
+                    atPath.add(op);
+                    if (op.operationId() != null) {
+                        operationsById.putIfAbsent(op.operationId(), op);
+                    }
+                }
+                operations.addAll(atPath);
+                operationsByPath.put(pathEntry.getKey(), Collections.unmodifiableList(atPath));
+            }
+        }
+        this.operations = Collections.unmodifiableList(operations);
+        this.operationsById = Collections.unmodifiableMap(operationsById);
+        this.operationsByPath = Collections.unmodifiableMap(operationsByPath);
+
+        Map<String, Map<String, Object>> schemas = new LinkedHashMap<>();
+        Map<Object, String> schemaNames = new IdentityHashMap<>();
+        Map<String, Object> components = asMap(spec.get("components"));
+        Map<String, Object> componentSchemas = components != null ? asMap(components.get("schemas")) : null;
+        if (componentSchemas != null) {
+            for (Map.Entry<String, Object> entry : componentSchemas.entrySet()) {
+                Map<String, Object> schema = asMap(entry.getValue());
+                if (schema != null) {
+                    schemas.put(entry.getKey(), schema);
+                    // Aliases share a map; the first name is the one a scan in document order finds
+                    schemaNames.putIfAbsent(schema, entry.getKey());
+                }
+            }
+        }
+        this.schemas = Collections.unmodifiableMap(schemas);
+        this.schemaNames = schemaNames;
+
+        Map<String, Set<String>> references = new LinkedHashMap<>();
+        Map<String, Set<String>> referencedBy = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Object>> entry : schemas.entrySet()) {
+            Set<String> targets = new LinkedHashSet<>();
+            collectReferences(entry.getKey(), entry.getValue(), true, targets,
+                    Collections.newSetFromMap(new IdentityHashMap<>()));
+            references.put(entry.getKey(), Collections.unmodifiableSet(targets));
+            for (String target : targets) {
+                referencedBy.computeIfAbsent(target, k -> new LinkedHashSet<>()).add(entry.getKey());
+            }
+        }
+        referencedBy.replaceAll((name, sources) -> Collections.unmodifiableSet(sources));
+        this.references = Collections.unmodifiableMap(references);
+        this.referencedBy = Collections.unmodifiableMap(referencedBy);
+    }
+
+    /**
+     * Index a parsed, reference-resolved spec.
+     */
+    public static OpenApiDocument of(Map<String, Object> spec) {
+        if (spec == null) {
+            throw new IllegalArgumentException("spec cannot be null");
+        }
+        return new OpenApiDocument(spec);
+    }
+
+    /** The indexed spec. */
+    public Map<String, Object> spec() {
+        return spec;
+    }
+
+    /** Every operation, in document order. */
+    public List<Operation> operations() {
+        return operations;
+    }
+
+    /**
+     * The operation with {@code operationId}, or null when there is none. When ids repeat, the first one in document
+     * order.
+     */
+    public Operation operation(String operationId) {
+        return operationsById.get(operationId);
+    }
+
+    /** The operations of {@code path}, in method order; empty when the spec has no such path. */
+    public List<Operation> operationsAt(String path) {
+        return operationsByPath.getOrDefault(path, List.of());
+    }
+
+    /** Names of the component schemas, in document order. */
+    public Set<String> schemaNames() {
+        return schemas.keySet();
+    }
+
+    /** The component schema named {@code name}, or null when there is none. */
+    public Map<String, Object> schema(String name) {
+        return schemas.get(name);
+    }
+
+    /**
+     * The name of the component schema that is {@code schema} itself (not merely equal to it), or null when
+     * {@code schema} is not a component schema. When components share a map, the first name in document order.
+     */
+    public String schemaNameOf(Object schema) {
+        return schema == null ? null : schemaNames.get(schema);
+    }
+
+    /**
+     * Component schemas that {@code name} refers to directly: by {@code $ref}, by a resolved reference, or by sharing
+     * the referenced schema's map. References inside the referenced schemas are not followed.
+     */
+    public Set<String> references(String name) {
+        return references.getOrDefault(name, Set.of());
+    }
+
+    /** Component schemas that refer to {@code name} directly; the reverse of {@link #references}. */
+    public Set<String> referencedBy(String name) {
+        return referencedBy.getOrDefault(name, Set.of());
+    }
+
+    private void collectReferences(String owner, Object node, boolean root, Set<String> targets, Set<Object> visited) {
+        if (node instanceof Map<?, ?> map) {
+            String target = root ? null : schemaNames.get(map);
+            if (target == null) {
+                target = referencedName(map);
+            }
+            if (target != null && !(root && target.equals(owner))) {
+                // The referenced schema's content is its own, not the owner's
+                if (schemas.containsKey(target)) {
+                    targets.add(target);
+                }
+                return;
+            }
+            if (!visited.add(map)) {
+                return;
+            }
+            for (Object value : map.values()) {
+                collectReferences(owner, value, false, targets, visited);
+            }
+        } else if (node instanceof List<?> list) {
+            if (!visited.add(list)) {
+                return;
+            }
+            for (Object item : list) {
+                collectReferences(owner, item, false, targets, visited);
+            }
+        }
+    }
+
+    /** The component named by a schema's {@code x-resolved-ref} or {@code $ref}, or null. */
+    private static String referencedName(Map<?, ?> schema) {
+        for (String key : new String[]{"x-resolved-ref", "$ref"}) {
+            if (schema.get(key) instanceof String ref && ref.contains(COMPONENT_SCHEMA_PREFIX)) {
+                String name = ref.substring(ref.indexOf(COMPONENT_SCHEMA_PREFIX) + COMPONENT_SCHEMA_PREFIX.length());
+                return name.contains("/") ? name.substring(name.lastIndexOf('/') + 1) : name;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : null;
+    }
+}
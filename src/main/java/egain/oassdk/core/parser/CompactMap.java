@@ -0,0 +1,137 @@
+package egain.oassdk.core.parser;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Unmodifiable, insertion-ordered map of a frozen spec tree, stored as one array of keys and values.
+ *
+ * <p>Most maps of a spec are small ({@code type}, {@code format}, {@code description}), and a
+ * {@link java.util.LinkedHashMap} spends a 40-byte entry and a hash table slot on each of their keys. This map holds
+ * two array slots per key. Maps of up to {@value #LINEAR_SCAN_SIZE} keys are searched linearly, comparing keys by
+ * identity first: keys of frozen trees are interned. Larger maps add an open-addressing index of {@code int}s.
+ *
+ * <p>The map is filled once, by {@link SpecTrees}, after it is created: a recursive subtree can then refer back to
+ * its own container. Null keys are not supported.
+ */
+final class CompactMap extends AbstractMap<String, Object> {
+
+    static final int LINEAR_SCAN_SIZE = 8;
+
+    // Keys at even and values at odd positions, in insertion order
+    private final Object[] table;
+    // Open-addressing index into table (entry number + 1, 0 for free); null for small maps
+    private int[] index;
+    private int size;
+
+    CompactMap(int capacity) {
+        this.table = new Object[capacity * 2];
+    }
+
+    /** Append an entry while the map is being filled. Keys must be distinct. */
+    void add(String key, Object value) {
+        table[size * 2] = key;
+        table[size * 2 + 1] = value;
+        size++;
+        if (size == table.length / 2 && size > LINEAR_SCAN_SIZE) {
+            buildIndex();
+        }
+    }
+
+    /** Estimated retained heap of this map itself, not of its keys and values. */
+    long shallowBytes() {
+        return 24 + 16 + 4L * table.length + (index != null ? 16 + 4L * index.length : 0);
+    }
+
+    private void buildIndex() {
+        int[] built = new int[Integer.highestOneBit(size * 2 - 1) << 1];
+        int mask = built.length - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = table[i * 2].hashCode() & mask;
+            while (built[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            built[slot] = i + 1;
+        }
+        index = built;
+    }
+
+    private int find(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (table[i * 2] == key) {
+                    return i;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                if (table[i * 2].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = key.hashCode() & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            int i = index[slot] - 1;
+            Object candidate = table[i * 2];
+            if (candidate == key || candidate.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = find(key);
+        return i >= 0 ? table[i * 2 + 1] : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = next++;
+                        return new SimpleImmutableEntry<>((String) table[i * 2], table[i * 2 + 1]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
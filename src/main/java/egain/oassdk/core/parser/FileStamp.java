@@ -0,0 +1,150 @@
+package egain.oassdk.core.parser;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * What a spec file looked like when it was read: size, modification time and SHA-256 of its content.
+ *
+ * <p>A file is unchanged if its size and modification time match. A modification time close to when the file was
+ * read is not trusted on its own, since a same-size edit within the file system's timestamp granularity would go
+ * unnoticed; the content hash decides then.
+ *
+ * @param path       normalized absolute path, Unix style
+ * @param verifiedAt when the content was last hashed
+ */
+record FileStamp(String path, long size, long modified, long verifiedAt, String hash) {
+
+    // A modification time this close to the time the file was read may hide a later same-size edit
+    private static final long RACY_WINDOW_MS = 2000;
+
+    static FileStamp of(Path file) throws IOException {
+        try (Reading reading = read(file)) {
+            return reading.stamp();
+        }
+    }
+
+    /**
+     * Open {@code file} for reading; {@link Reading#stamp()} then stamps the content without holding it in memory.
+     * The modification time is taken before the content is read.
+     */
+    static Reading read(Path file) throws IOException {
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        return new Reading(file, modified, Files.newInputStream(file));
+    }
+
+    /**
+     * A stream over a file's content that hashes what is read from it.
+     */
+    static final class Reading extends FilterInputStream {
+
+        private final Path file;
+        private final long modified;
+        private final MessageDigest digest = newSha256();
+        private long size;
+
+        private Reading(Path file, long modified, InputStream in) {
+            super(in);
+            this.file = file;
+            this.modified = modified;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                digest.update((byte) b);
+                size++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                digest.update(b, off, n);
+                size += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes are content too
+            return consume(n);
+        }
+
+        private long consume(long limit) throws IOException {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            while (total < limit) {
+                int n = read(buffer, 0, (int) Math.min(buffer.length, limit - total));
+                if (n < 0) {
+                    break;
+                }
+                total += n;
+            }
+            return total;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /** Read the rest of the file, and stamp its whole content. */
+        FileStamp stamp() throws IOException {
+            consume(Long.MAX_VALUE);
+            return new FileStamp(PathUtils.toUnixPath(file), size, modified, System.currentTimeMillis(),
+                    HexFormat.of().formatHex(digest.digest()));
+        }
+    }
+
+    /** Whether size and modification time alone show the file is unchanged. */
+    boolean trustedBy(Path file) {
+        try {
+            return modified < verifiedAt - RACY_WINDOW_MS
+                    && Files.size(file) == size
+                    && Files.getLastModifiedTime(file).toMillis() == modified;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /** This stamp, a refreshed stamp when only the modification time moved, or null when the content changed. */
+    FileStamp revalidate() {
+        Path file = Paths.get(path);
+        if (trustedBy(file)) {
+            return this;
+        }
+        try {
+            if (Files.size(file) != size) {
+                return null;
+            }
+            FileStamp current = of(file);
+            return current.hash().equals(hash) ? current : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(newSha256().digest(bytes));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
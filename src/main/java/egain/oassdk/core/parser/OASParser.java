@@ -1,12 +1,11 @@
 package egain.oassdk.core.parser;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import egain.oassdk.Util;
 import egain.oassdk.core.exceptions.OASSDKException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -18,10 +17,10 @@ import java.util.*;
  */
 public class OASParser {
 
-    private final ObjectMapper yamlMapper;
-    private final ObjectMapper jsonMapper;
     private final PathResolver pathResolver;
     private final FileSystem zipFs;
+    private ParsedDocumentCache documentCache = ParsedDocumentCache.shared();
+    private SpecCache specCache;
 
     public OASParser() {
         this(null, null, null);
@@ -45,10 +44,6 @@ public class OASParser {
      * @param zipSearchRoot in-ZIP search root (e.g. "" or "published"); use "/" for ZIP root
      */
     public OASParser(List<String> searchPaths, FileSystem zipFs, String zipSearchRoot) {
-        this.yamlMapper = new ObjectMapper(new YAMLFactory());
-        this.yamlMapper.registerModule(new JavaTimeModule());
-        this.jsonMapper = new ObjectMapper();
-        this.jsonMapper.registerModule(new JavaTimeModule());
         this.zipFs = zipFs;
         if (zipFs != null) {
             String root = (zipSearchRoot != null && !zipSearchRoot.isEmpty()) ? zipSearchRoot : "/";
@@ -105,14 +100,108 @@ public class OASParser {
                         " (" + fileSize + " bytes, max: " + PathResolver.MAX_FILE_SIZE + " bytes)");
             }
 
-            String content = Files.readString(path);
-            return parseContent(content, filePath);
+            if (documentCache != null && zipFs == null) {
+                return documentCache.checkout(path, content -> parse(content, filePath));
+            }
+            try (InputStream content = Files.newInputStream(path)) {
+                return parse(content, filePath);
+            }
 
         } catch (IOException e) {
             throw new OASSDKException("Failed to read file: " + filePath, e);
         }
     }
 
+    /**
+     * Parse a specification file and resolve all of its references; the same as {@link #parse(String)} followed by
+     * {@link #resolveReferences(Map, String)}. With a {@linkplain #setSpecCache spec cache}, an unchanged spec is
+     * returned from the cache without parsing or resolving anything.
+     *
+     * @param filePath Path to the YAML or JSON file
+     * @return Specification with all references resolved
+     * @throws OASSDKException if parsing or reference resolution fails
+     */
+    public Map<String, Object> parseAndResolve(String filePath) throws OASSDKException {
+        if (specCache == null || zipFs != null) {
+            return resolveReferences(parse(filePath), filePath);
+        }
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new OASSDKException("File path cannot be null or empty");
+        }
+        // Resolution depends on the search paths as well as the files read
+        String cacheKey = normalizePathKey(Paths.get(sanitizeFilePath(filePath)).normalize().toAbsolutePath())
+                + "\n" + pathResolver.getSearchPaths();
+        Map<String, Object> cached = specCache.getResolved(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, Map<String, Object>> loadedFiles = new HashMap<>();
+        Map<String, Object> resolved = resolveReferences(parse(filePath), filePath, loadedFiles);
+        List<FileStamp> files = new ArrayList<>(loadedFiles.size());
+        try {
+            for (String fileKey : loadedFiles.keySet()) {
+                Path file = Paths.get(fileKey);
+                FileStamp stamp = documentCache != null ? documentCache.stampOf(file) : null;
+                files.add(stamp != null ? stamp : FileStamp.of(file.toAbsolutePath().normalize()));
+            }
+        } catch (IOException e) {
+            // A file went away after it was read; the next load resolves the spec again
+            return resolved;
+        }
+        specCache.putResolved(cacheKey, files, resolved);
+        return resolved;
+    }
+
+    /**
+     * A compact, canonical copy of a parsed or resolved spec, for specs kept in memory for a long time.
+     *
+     * <p>The copy is deeply unmodifiable and uses much less heap than the parser's output:
+     * <ul>
+     *   <li>keys and short string values are interned, so the strings that recur in every spec ({@code type},
+     *       {@code description}, {@code string}, {@code $ref} targets) are stored once in the process, and longer
+     *       strings once per spec;</li>
+     *   <li>maps are stored as arrays of keys and values rather than hash tables of entries, and lists as
+     *       fixed-size arrays.</li>
+     * </ul>
+     * Maps keep their order, and shared and recursive subtrees stay shared. Every map and list is still a distinct
+     * object, so schemas can be matched by identity as in the parser's output. The parser caches keep their trees
+     * in this form.
+     *
+     * @param spec Parsed specification; not modified
+     * @return The canonical copy
+     */
+    public static Map<String, Object> canonicalize(Map<String, Object> spec) {
+        if (spec == null) {
+            throw new IllegalArgumentException("spec cannot be null");
+        }
+        return SpecTrees.freeze(spec).tree();
+    }
+
+    /**
+     * Cache of parsed files used by {@link #parse(String)}, including the external files read while resolving
+     * references; {@link ParsedDocumentCache#shared()} by default, null to parse every file each time it is read.
+     * Ignored for ZIP-based loading.
+     */
+    public ParsedDocumentCache getDocumentCache() {
+        return documentCache;
+    }
+
+    public void setDocumentCache(ParsedDocumentCache documentCache) {
+        this.documentCache = documentCache;
+    }
+
+    /**
+     * Cache of resolved specs used by {@link #parseAndResolve(String)}, or null for none (the default).
+     * Ignored for ZIP-based loading.
+     */
+    public SpecCache getSpecCache() {
+        return specCache;
+    }
+
+    public void setSpecCache(SpecCache specCache) {
+        this.specCache = specCache;
+    }
+
     /**
      * Sanitize file path and normalize to Unix style (forward slashes only).
      * All path processing in the parser uses Unix style for cross-platform consistency.
@@ -131,24 +220,32 @@ public class OASParser {
      */
     public Map<String, Object> parseContent(String content, String filePath) throws OASSDKException {
         try {
-            // Try YAML first
-            if (filePath.toLowerCase(Locale.ROOT).endsWith(".yaml") || filePath.toLowerCase(Locale.ROOT).endsWith(".yml")) {
-                return Util.asStringObjectMap(yamlMapper.readValue(content, Map.class));
-            } else if (filePath.toLowerCase(Locale.ROOT).endsWith(".json")) {
-                return Util.asStringObjectMap(jsonMapper.readValue(content, Map.class));
-            } else {
-                // Try to detect format by content
-                if (content.trim().startsWith("{")) {
-                    return Util.asStringObjectMap(jsonMapper.readValue(content, Map.class));
-                } else {
-                    return Util.asStringObjectMap(yamlMapper.readValue(content, Map.class));
-                }
-            }
+            return SpecReader.read(content, filePath);
         } catch (Exception e) {
             throw new OASSDKException("Failed to parse specification file: " + filePath, e);
         }
     }
 
+    /**
+     * Parse OpenAPI or SLA specification from a stream, without reading it into memory first. The format follows
+     * the extension of {@code filePath} ({@code .yaml}, {@code .yml} or {@code .json}) and is otherwise detected
+     * from the first bytes. The stream is not closed.
+     *
+     * @param content  YAML or JSON content, UTF-8 encoded
+     * @param filePath Original file path for format detection and error reporting
+     * @return Parsed specification as Map
+     * @throws OASSDKException if parsing fails
+     */
+    public Map<String, Object> parse(InputStream content, String filePath) throws OASSDKException {
+        try {
+            return SpecReader.read(content, filePath);
+        } catch (JsonProcessingException | RuntimeException e) {
+            throw new OASSDKException("Failed to parse specification file: " + filePath, e);
+        } catch (IOException e) {
+            throw new OASSDKException("Failed to read file: " + filePath, e);
+        }
+    }
+
     /**
      * Validate that the parsed content is a valid OpenAPI specification
      *
@@ -254,6 +351,14 @@ public class OASParser {
      * @throws OASSDKException if reference resolution fails
      */
     public Map<String, Object> resolveReferences(Map<String, Object> spec, String baseFilePath) throws OASSDKException {
+        return resolveReferences(spec, baseFilePath, new HashMap<>());
+    }
+
+    /**
+     * @param loadedFiles receives every file read during resolution, keyed by normalized path
+     */
+    private Map<String, Object> resolveReferences(Map<String, Object> spec, String baseFilePath,
+                                                  Map<String, Map<String, Object>> loadedFiles) throws OASSDKException {
         if (spec == null) {
             return spec;
         }
@@ -262,7 +367,6 @@ public class OASParser {
         // This ensures that when we modify maps during resolution, we're modifying the actual spec
         // If we use a copy, the modifications won't be reflected in the original
         Map<String, Object> resolvedSpec = spec;
-        Map<String, Map<String, Object>> loadedFiles = new HashMap<>();
 
         // Load the base file into the cache (use normalized key for cross-platform consistency)
         String sanitizedBase = sanitizeFilePath(baseFilePath);
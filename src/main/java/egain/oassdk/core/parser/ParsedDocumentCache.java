@@ -0,0 +1,180 @@
+package egain.oassdk.core.parser;
+
+import egain.oassdk.core.exceptions.OASSDKException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Memory-bounded LRU cache of parsed YAML/JSON documents, shared by {@link OASParser} instances.
+ *
+ * <p>When many specs are loaded in one JVM (for example, generating every service of a repository in one batch),
+ * the external files they share are parsed once instead of once per spec. By default every parser uses the
+ * {@linkplain #shared() process-wide instance}.
+ *
+ * <p>Cached documents are frozen: they are deep, unmodifiable copies in the compact, canonical form described in
+ * {@link OASParser#canonicalize}, and are never handed out. Reference resolution
+ * rewrites the documents it loads, so each caller checks out its own mutable copy; a caller can never see another
+ * caller's changes. Copying a tree is much cheaper than parsing it.
+ *
+ * <p>A cached document is checked against its file on every checkout: by size and modification time, falling back
+ * to the SHA-256 of the content, as described in {@link FileStamp}. The cache is bounded by the estimated retained
+ * heap of its documents; when full, the least recently used documents are evicted. This class is thread-safe.
+ */
+public final class ParsedDocumentCache {
+
+    /** Bound of the {@linkplain #shared() shared} cache: estimated retained heap of its documents, in bytes. */
+    public static final long DEFAULT_MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+
+    private static final ParsedDocumentCache SHARED = new ParsedDocumentCache(DEFAULT_MAX_RETAINED_BYTES);
+
+    private final long maxRetainedBytes;
+    // Access-ordered, so iteration starts at the least recently used document. Guarded by this.
+    private final LinkedHashMap<String, Document> documents = new LinkedHashMap<>(16, 0.75f, true);
+    private long retainedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxRetainedBytes bound on the estimated retained heap of the cached documents
+     */
+    public ParsedDocumentCache(long maxRetainedBytes) {
+        if (maxRetainedBytes <= 0) {
+            throw new IllegalArgumentException("maxRetainedBytes must be positive: " + maxRetainedBytes);
+        }
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    /**
+     * The process-wide cache, used by every {@link OASParser} unless configured otherwise.
+     */
+    public static ParsedDocumentCache shared() {
+        return SHARED;
+    }
+
+    /** Parses a file's content from a stream; {@link OASParser#parse} with the file's name bound. */
+    @FunctionalInterface
+    interface ContentParser {
+        Map<String, Object> parse(InputStream content) throws IOException, OASSDKException;
+    }
+
+    /**
+     * A private, mutable copy of the document in {@code path}. The file is parsed only if it is not cached or has
+     * changed since it was. It is parsed as it is read, and hashed in the same pass.
+     */
+    Map<String, Object> checkout(Path path, ContentParser parser) throws IOException, OASSDKException {
+        Path file = path.toAbsolutePath().normalize();
+        String key = PathUtils.toUnixPath(file);
+        Document document = get(key);
+        if (document != null) {
+            if (document.stamp().trustedBy(file)) {
+                recordHit();
+                return SpecTrees.copy(document.tree());
+            }
+            FileStamp stamp = FileStamp.of(file);
+            if (document.stamp().hash().equals(stamp.hash())) {
+                // Touched but not changed
+                put(key, new Document(stamp, document.tree(), document.retainedBytes()));
+                recordHit();
+                return SpecTrees.copy(document.tree());
+            }
+        }
+
+        Map<String, Object> tree;
+        FileStamp stamp;
+        try (FileStamp.Reading reading = FileStamp.read(file)) {
+            tree = parser.parse(reading);
+            stamp = reading.stamp();
+        }
+        SpecTrees.Frozen frozen = SpecTrees.freeze(tree);
+        put(key, new Document(stamp, frozen.tree(), frozen.retainedBytes()));
+        recordMiss();
+        return tree;
+    }
+
+    /**
+     * The stamp of the cached content of {@code path}, or null when it is not cached.
+     */
+    FileStamp stampOf(Path path) {
+        Document document = get(PathUtils.toUnixPath(path.toAbsolutePath().normalize()));
+        return document != null ? document.stamp() : null;
+    }
+
+    /**
+     * Drop every document. Statistics are kept.
+     */
+    public synchronized void clear() {
+        documents.clear();
+        retainedBytes = 0;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, documents.size(), retainedBytes, maxRetainedBytes);
+    }
+
+    private synchronized Document get(String key) {
+        return documents.get(key);
+    }
+
+    private synchronized void put(String key, Document document) {
+        if (document.retainedBytes() > maxRetainedBytes) {
+            // Would evict everything else and still not fit
+            Document removed = documents.remove(key);
+            if (removed != null) {
+                retainedBytes -= removed.retainedBytes();
+            }
+            return;
+        }
+        Document previous = documents.put(key, document);
+        if (previous != null) {
+            retainedBytes -= previous.retainedBytes();
+        }
+        retainedBytes += document.retainedBytes();
+        Iterator<Document> leastRecentlyUsed = documents.values().iterator();
+        while (retainedBytes > maxRetainedBytes && leastRecentlyUsed.hasNext()) {
+            Document eldest = leastRecentlyUsed.next();
+            if (eldest == document) {
+                break;
+            }
+            leastRecentlyUsed.remove();
+            retainedBytes -= eldest.retainedBytes();
+            evictions++;
+        }
+    }
+
+    private synchronized void recordHit() {
+        hits++;
+    }
+
+    private synchronized void recordMiss() {
+        misses++;
+    }
+
+    private record Document(FileStamp stamp, Map<String, Object> tree, long retainedBytes) {
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param hits             checkouts served from the cache
+     * @param misses           checkouts that parsed the file
+     * @param evictions        documents evicted to stay within the bound
+     * @param documents        documents currently cached
+     * @param retainedBytes    estimated retained heap of the cached documents
+     * @param maxRetainedBytes the bound on {@code retainedBytes}
+     */
+    public record Stats(long hits, long misses, long evictions, int documents, long retainedBytes,
+                        long maxRetainedBytes) {
+
+        /** Fraction of checkouts served from the cache, or 0 before the first checkout. */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -9,8 +9,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 /**
@@ -44,6 +47,8 @@ public class PathResolver {
     private static final String[] ALLOWED_EXTENSIONS = {".yaml", ".yml", ".json"};
 
     private final List<Path> searchPaths;
+    // File name indexes of search paths outside the default file system (e.g. in a ZIP); others are shared
+    private final ConcurrentMap<Path, SearchPathIndex> localIndexes = new ConcurrentHashMap<>();
     // Thread-local recursion depth to ensure thread safety
     private final ThreadLocal<Integer> currentRecursionDepth = ThreadLocal.withInitial(() -> 0);
 
@@ -127,6 +132,13 @@ public class PathResolver {
         this((List<String>) null);
     }
 
+    /**
+     * Directories searched for references that are not found relative to the referring file, in search order.
+     */
+    List<Path> getSearchPaths() {
+        return Collections.unmodifiableList(searchPaths);
+    }
+
     /**
      * Resolve a file reference with path traversal protection
      *
@@ -330,9 +342,10 @@ public class PathResolver {
     }
 
     /**
-     * Find file recursively in a directory (with depth limit)
+     * Find a file by name anywhere below a search path (with depth limit), using the path's
+     * {@link SearchPathIndex} rather than walking the tree on every lookup.
      *
-     * <p>Note: This method uses Files.walk() which has its own depth limit (10 levels).
+     * <p>Note: The index has its own depth limit ({@value SearchPathIndex#MAX_DEPTH} levels).
      * The currentRecursionDepth tracks external file resolution depth, not the recursive
      * search depth within a single directory tree.</p>
      */
@@ -347,22 +360,30 @@ public class PathResolver {
             if (!Files.exists(searchBase) || !Files.isDirectory(searchBase)) {
                 return null;
             }
-
-            // Files.walk() has its own depth limit (10 levels) for recursive search
-            try (var stream = Files.walk(searchBase, 10)) {
-                return stream
-                        .filter(p -> {
-                            java.nio.file.Path fileNamePath = p.getFileName();
-                            return Files.isRegularFile(p) && fileNamePath != null && fileNamePath.toString().equals(fileName);
-                        })
-                        .findFirst()
-                        .orElse(null);
-            }
+            Path found = indexFor(searchBase).find(fileName);
+            return found != null ? searchBase.resolve(found) : null;
         } finally {
             currentRecursionDepth.set(depth);
         }
     }
 
+    private SearchPathIndex indexFor(Path searchBase) {
+        if (searchBase.getFileSystem().equals(FileSystems.getDefault())) {
+            return SearchPathIndex.shared(searchBase);
+        }
+        return localIndexes.computeIfAbsent(searchBase, SearchPathIndex::new);
+    }
+
+    /**
+     * Forget the file name indexes of this resolver's search paths, so files added or removed since are seen by
+     * the next lookup. Indexes also notice such changes on their own, within about a second.
+     */
+    public void invalidateIndexes() {
+        for (Path searchPath : searchPaths) {
+            indexFor(searchPath).invalidate();
+        }
+    }
+
     /**
      * Validate that resolved path doesn't escape base directory (path traversal protection)
      *
@@ -432,18 +453,20 @@ public class PathResolver {
      * Validate file extension
      */
     private void validateFileExtension(String filePath) throws OASSDKException {
+        if (!hasAllowedExtension(filePath)) {
+            throw new OASSDKException("Invalid file extension: " + filePath +
+                    " (allowed: .yaml, .yml, .json)");
+        }
+    }
+
+    static boolean hasAllowedExtension(String filePath) {
         String lowerPath = filePath.toLowerCase(Locale.ROOT);
-        boolean valid = false;
         for (String ext : ALLOWED_EXTENSIONS) {
             if (lowerPath.endsWith(ext)) {
-                valid = true;
-                break;
+                return true;
             }
         }
-        if (!valid) {
-            throw new OASSDKException("Invalid file extension: " + filePath +
-                    " (allowed: .yaml, .yml, .json)");
-        }
+        return false;
     }
 
     /**
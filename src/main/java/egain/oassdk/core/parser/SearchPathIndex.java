@@ -0,0 +1,183 @@
+package egain.oassdk.core.parser;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+/**
+ * Index of the spec files below one search root by file name, for {@link PathResolver}'s last-resort lookup of a
+ * reference by name anywhere under a search path.
+ *
+ * <p>The index is built on first use by a single walk of the tree, down to {@value #MAX_DEPTH} levels, and then
+ * answers each lookup with one map access instead of a walk. It records the modification time of every directory it
+ * entered; adding, removing or renaming a file changes its directory's time. Those times are checked at most once
+ * per {@value #REVALIDATE_INTERVAL_MS} ms, for hits and misses alike, and the index is rebuilt when any of them
+ * changed: a file added since the last check is found within that interval. A found file that has since disappeared
+ * triggers a rebuild right away.
+ *
+ * <p>When several files share a name, the shallowest one wins, then the first by path; the others are reported once
+ * per build in a warning, so the choice does not depend on directory listing order.
+ *
+ * <p>Indexes of default file system roots are shared by all resolvers. This class is thread-safe.
+ */
+final class SearchPathIndex {
+
+    static final int MAX_DEPTH = 10;
+
+    private static final Logger logger = Logger.getLogger(SearchPathIndex.class.getName());
+
+    static final long REVALIDATE_INTERVAL_MS = 1000;
+    private static final ConcurrentMap<Path, SearchPathIndex> SHARED = new ConcurrentHashMap<>();
+
+    private final Path root;
+    private volatile Entries entries;
+    private volatile long checkedAt;
+
+    SearchPathIndex(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * The shared index of a root on the default file system.
+     */
+    static SearchPathIndex shared(Path root) {
+        if (!root.getFileSystem().equals(FileSystems.getDefault())) {
+            throw new IllegalArgumentException("Only default file system roots are shared: " + root);
+        }
+        return SHARED.computeIfAbsent(root.toAbsolutePath().normalize(), SearchPathIndex::new);
+    }
+
+    /**
+     * The path, relative to the root, of the file named {@code fileName} below it, or null when there is none.
+     */
+    Path find(String fileName) throws IOException {
+        Entries current = current();
+        Path found = current.find(fileName);
+        if (found != null && Files.isRegularFile(root.resolve(found))) {
+            return found;
+        }
+        if (found != null) {
+            // Moved or deleted since the index was built
+            current = rebuild();
+            found = current.find(fileName);
+        }
+        return found;
+    }
+
+    /**
+     * Drop the index; the next lookup walks the tree again.
+     */
+    void invalidate() {
+        entries = null;
+    }
+
+    private Entries current() throws IOException {
+        Entries current = entries;
+        if (current == null) {
+            return rebuild();
+        }
+        long now = System.currentTimeMillis();
+        if (now - checkedAt > REVALIDATE_INTERVAL_MS) {
+            if (!current.isCurrent()) {
+                return rebuild();
+            }
+            checkedAt = now;
+        }
+        return current;
+    }
+
+    private synchronized Entries rebuild() throws IOException {
+        Entries built = Entries.build(root);
+        entries = built;
+        checkedAt = System.currentTimeMillis();
+        return built;
+    }
+
+    /** One build of the index. */
+    private record Entries(Path root, Map<String, List<Path>> byName, Map<Path, FileTime> directories,
+                           Set<String> reported) {
+
+        static Entries build(Path root) throws IOException {
+            Map<String, List<Path>> byName = new HashMap<>();
+            Map<Path, FileTime> directories = new HashMap<>();
+            if (!Files.isDirectory(root)) {
+                return new Entries(root, byName, directories, ConcurrentHashMap.newKeySet());
+            }
+            Files.walkFileTree(root, EnumSet.noneOf(FileVisitOption.class), MAX_DEPTH, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    directories.put(dir, attrs.lastModifiedTime());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    Path name = file.getFileName();
+                    if (name != null && PathResolver.hasAllowedExtension(name.toString())
+                            && (attrs.isRegularFile() || (attrs.isSymbolicLink() && Files.isRegularFile(file)))) {
+                        byName.computeIfAbsent(name.toString(), n -> new ArrayList<>(1)).add(root.relativize(file));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    // Unreadable entries are skipped, as if they did not exist
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            Comparator<Path> order = Comparator.<Path>comparingInt(Path::getNameCount)
+                    .thenComparing(path -> PathUtils.toUnixPath(path));
+            for (List<Path> paths : byName.values()) {
+                paths.sort(order);
+            }
+            return new Entries(root, byName, directories, ConcurrentHashMap.newKeySet());
+        }
+
+        Path find(String fileName) {
+            List<Path> paths = byName.get(fileName);
+            if (paths == null) {
+                return null;
+            }
+            if (paths.size() > 1 && reported.add(fileName)) {
+                logger.warning("Reference to " + fileName + " is ambiguous under " + PathUtils.toUnixPath(root)
+                        + ": using " + PathUtils.toUnixPath(root.resolve(paths.get(0))) + " of the candidates "
+                        + paths.stream().map(path -> PathUtils.toUnixPath(root.resolve(path))).toList());
+            }
+            return paths.get(0);
+        }
+
+        /** Whether no directory has been added to, removed from or renamed in since the build. */
+        boolean isCurrent() {
+            if (directories.isEmpty()) {
+                return !Files.isDirectory(root);
+            }
+            for (Map.Entry<Path, FileTime> directory : directories.entrySet()) {
+                try {
+                    if (!Files.getLastModifiedTime(directory.getKey()).equals(directory.getValue())) {
+                        return false;
+                    }
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package egain.oassdk.core.parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache of resolved specifications, shared by {@link OASParser} instances.
+ *
+ * <p>It keeps the result of {@link OASParser#parseAndResolve(String)} with every file read while resolving it, so
+ * re-loading an unchanged spec skips both parsing and {@code $ref} resolution. (Parsed files on their own are cached
+ * by {@link ParsedDocumentCache}.) Entries are checked against the files on every lookup, as described in
+ * {@link FileStamp}. Adding a file that would change how a reference is resolved (for example on a search path) is
+ * not detected; call {@link #clear()} in that case.
+ *
+ * <p>With a snapshot directory, resolved specs are also written there in a compact binary form that keeps shared
+ * and recursive subtrees shared, so a new process can skip parsing and resolution as well. Stale, unreadable or
+ * older-format snapshots are ignored.
+ *
+ * <p>Callers always get their own deep copy; cached trees are never handed out. Cached trees are kept in the compact,
+ * canonical form described in {@link OASParser#canonicalize}. This class is thread-safe.
+ */
+public final class SpecCache {
+
+    private static final Logger logger = Logger.getLogger(SpecCache.class.getName());
+
+    private static final SpecCache IN_MEMORY = new SpecCache(null);
+    private static final ConcurrentMap<Path, SpecCache> WITH_SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private static final int SNAPSHOT_MAGIC = 0x4F415353;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final String SNAPSHOT_SUFFIX = ".oasspec";
+
+    // Snapshot value tags
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte FLOAT = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte BIG_DECIMAL = 8;
+    private static final byte STRING = 9;
+    private static final byte STRING_REF = 10;
+    private static final byte MAP = 11;
+    private static final byte LIST = 12;
+    private static final byte CONTAINER_REF = 13;
+
+    private final Path snapshotDir;
+    private final ConcurrentMap<String, ResolvedEntry> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Create a cache.
+     *
+     * @param snapshotDir directory for binary snapshots of resolved specs, or null to cache in memory only
+     */
+    public SpecCache(Path snapshotDir) {
+        this.snapshotDir = snapshotDir != null ? snapshotDir.toAbsolutePath().normalize() : null;
+    }
+
+    /**
+     * The process-wide in-memory cache.
+     */
+    public static SpecCache shared() {
+        return IN_MEMORY;
+    }
+
+    /**
+     * The process-wide cache for a snapshot directory.
+     *
+     * @param snapshotDir directory for binary snapshots, or null for {@link #shared()}
+     */
+    public static SpecCache shared(Path snapshotDir) {
+        if (snapshotDir == null) {
+            return IN_MEMORY;
+        }
+        return WITH_SNAPSHOTS.computeIfAbsent(snapshotDir.toAbsolutePath().normalize(), SpecCache::new);
+    }
+
+    public Path getSnapshotDir() {
+        return snapshotDir;
+    }
+
+    /**
+     * Drop every in-memory entry. Snapshots on disk are kept; they are still checked against the files on load.
+     */
+    public void clear() {
+        resolved.clear();
+    }
+
+    // -----------------------------------------------------------------------
+    //  Resolved specs
+    // -----------------------------------------------------------------------
+
+    /**
+     * A copy of the resolved spec stored under {@code key}, or null when there is none or one of its files changed.
+     */
+    Map<String, Object> getResolved(String key) {
+        ResolvedEntry entry = resolved.get(key);
+        if (entry == null && snapshotDir != null) {
+            entry = readSnapshot(key);
+            if (entry != null) {
+                resolved.put(key, entry);
+                return SpecTrees.copy(entry.tree());
+            }
+        }
+        if (entry == null) {
+            return null;
+        }
+        ResolvedEntry current = entry.revalidate();
+        if (current == null) {
+            resolved.remove(key, entry);
+            return null;
+        }
+        if (current != entry) {
+            resolved.replace(key, entry, current);
+        }
+        return SpecTrees.copy(current.tree());
+    }
+
+    /**
+     * Store a resolved spec under {@code key}.
+     *
+     * @param files stamps of every file read while resolving it
+     */
+    void putResolved(String key, List<FileStamp> files, Map<String, Object> tree) {
+        ResolvedEntry entry = new ResolvedEntry(List.copyOf(files), SpecTrees.freeze(tree).tree());
+        resolved.put(key, entry);
+        if (snapshotDir != null) {
+            writeSnapshot(key, entry);
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    //  Snapshots
+    // -----------------------------------------------------------------------
+
+    private Path snapshotFile(String key) {
+        return snapshotDir.resolve(FileStamp.sha256(key.getBytes(StandardCharsets.UTF_8)) + SNAPSHOT_SUFFIX);
+    }
+
+    private void writeSnapshot(String key, ResolvedEntry entry) {
+        Path target = snapshotFile(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(snapshotDir);
+            temp = Files.createTempFile(snapshotDir, "snapshot", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                writeString(out, key);
+                out.writeInt(entry.files().size());
+                for (FileStamp stamp : entry.files()) {
+                    writeString(out, stamp.path());
+                    out.writeLong(stamp.size());
+                    out.writeLong(stamp.modified());
+                    out.writeLong(stamp.verifiedAt());
+                    writeString(out, stamp.hash());
+                }
+                new Encoder(out).write(entry.tree());
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Could not write spec snapshot " + target + ": " + e.getMessage(), e);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    private ResolvedEntry readSnapshot(String key) {
+        Path file = snapshotFile(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION || !key.equals(readString(in))) {
+                return null;
+            }
+            int count = in.readInt();
+            List<FileStamp> stamps = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                stamps.add(new FileStamp(readString(in), in.readLong(), in.readLong(), in.readLong(), readString(in)));
+            }
+            // Check the files before decoding the tree, which is the expensive part
+            ResolvedEntry header = new ResolvedEntry(stamps, null).revalidate();
+            if (header == null) {
+                return null;
+            }
+            Object tree = new Decoder(in).read();
+            if (!(tree instanceof Map<?, ?>)) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> spec = (Map<String, Object>) tree;
+            return new ResolvedEntry(header.files(), SpecTrees.freeze(spec).tree());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Ignoring unreadable spec snapshot " + file + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length");
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a spec tree. Maps and lists get an id on first occurrence, and later occurrences of the same instance
+     * are written as references, so shared and recursive subtrees survive. Repeated strings are written once.
+     */
+    private static final class Encoder {
+        private final DataOutputStream out;
+        private final Map<Object, Integer> containers = new IdentityHashMap<>();
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Encoder(OutputStream out) {
+            this.out = out instanceof DataOutputStream data ? data : new DataOutputStream(out);
+        }
+
+        void write(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof String s) {
+                Integer id = strings.get(s);
+                if (id != null) {
+                    out.writeByte(STRING_REF);
+                    out.writeInt(id);
+                } else {
+                    strings.put(s, strings.size());
+                    out.writeByte(STRING);
+                    writeString(out, s);
+                }
+            } else if (value instanceof Boolean b) {
+                out.writeByte(b ? TRUE : FALSE);
+            } else if (value instanceof Integer i) {
+                out.writeByte(INT);
+                out.writeInt(i);
+            } else if (value instanceof Long l) {
+                out.writeByte(LONG);
+                out.writeLong(l);
+            } else if (value instanceof Double d) {
+                out.writeByte(DOUBLE);
+                out.writeDouble(d);
+            } else if (value instanceof Float f) {
+                out.writeByte(FLOAT);
+                out.writeFloat(f);
+            } else if (value instanceof BigInteger big) {
+                out.writeByte(BIG_INTEGER);
+                writeString(out, big.toString());
+            } else if (value instanceof BigDecimal big) {
+                out.writeByte(BIG_DECIMAL);
+                writeString(out, big.toString());
+            } else if (value instanceof Map<?, ?> || value instanceof List<?>) {
+                Integer id = containers.get(value);
+                if (id != null) {
+                    out.writeByte(CONTAINER_REF);
+                    out.writeInt(id);
+                    return;
+                }
+                containers.put(value, containers.size());
+                if (value instanceof Map<?, ?> map) {
+                    out.writeByte(MAP);
+                    out.writeInt(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        write(entry.getKey());
+                        write(entry.getValue());
+                    }
+                } else {
+                    List<?> list = (List<?>) value;
+                    out.writeByte(LIST);
+                    out.writeInt(list.size());
+                    for (Object item : list) {
+                        write(item);
+                    }
+                }
+            } else {
+                throw new IOException("Unsupported value in spec tree: " + value.getClass().getName());
+            }
+        }
+    }
+
+    /** Reads a tree written by {@link Encoder}. Maps come back as {@link LinkedHashMap}s in the order written. */
+    private static final class Decoder {
+        private final DataInputStream in;
+        private final List<Object> containers = new ArrayList<>();
+        private final List<String> strings = new ArrayList<>();
+
+        Decoder(InputStream in) {
+            this.in = in instanceof DataInputStream data ? data : new DataInputStream(in);
+        }
+
+        Object read() throws IOException {
+            byte tag = in.readByte();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case INT:
+                    return in.readInt();
+                case LONG:
+                    return in.readLong();
+                case DOUBLE:
+                    return in.readDouble();
+                case FLOAT:
+                    return in.readFloat();
+                case BIG_INTEGER:
+                    return new BigInteger(readString(in));
+                case BIG_DECIMAL:
+                    return new BigDecimal(readString(in));
+                case STRING: {
+                    String s = readString(in);
+                    strings.add(s);
+                    return s;
+                }
+                case STRING_REF:
+                    return strings.get(in.readInt());
+                case MAP: {
+                    int size = in.readInt();
+                    Map<Object, Object> map = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+                    containers.add(map);
+                    for (int i = 0; i < size; i++) {
+                        Object key = read();
+                        map.put(key, read());
+                    }
+                    return map;
+                }
+                case LIST: {
+                    int size = in.readInt();
+                    List<Object> list = new ArrayList<>(size);
+                    containers.add(list);
+                    for (int i = 0; i < size; i++) {
+                        list.add(read());
+                    }
+                    return list;
+                }
+                case CONTAINER_REF:
+                    return containers.get(in.readInt());
+                default:
+                    throw new IOException("Unknown snapshot tag " + tag);
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    //  Entries
+    // -----------------------------------------------------------------------
+
+    private record ResolvedEntry(List<FileStamp> files, Map<String, Object> tree) {
+
+        /** This entry, one with refreshed stamps, or null when one of the files changed. */
+        ResolvedEntry revalidate() {
+            List<FileStamp> current = null;
+            for (int i = 0; i < files.size(); i++) {
+                FileStamp stamp = files.get(i);
+                FileStamp checked = stamp.revalidate();
+                if (checked == null) {
+                    return null;
+                }
+                if (checked != stamp) {
+                    if (current == null) {
+                        current = new ArrayList<>(files);
+                    }
+                    current.set(i, checked);
+                }
+            }
+            return current == null ? this : new ResolvedEntry(List.copyOf(current), tree);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package egain.oassdk.core.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactoryBuilder;
+import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import egain.oassdk.Util;
+import org.yaml.snakeyaml.LoaderOptions;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads YAML and JSON documents into maps for {@link OASParser}, streaming from the source instead of reading it
+ * into a string first, so a large file is never held in memory twice.
+ *
+ * <p>The format follows the file extension ({@code .yaml}/{@code .yml} or {@code .json}); for any other name it is
+ * detected from the first bytes. The parsers are tuned for spec trees:
+ * <ul>
+ *   <li>keys are interned, so the few hundred distinct keys of a spec ({@code type}, {@code description}, property
+ *       names) are stored once however often they occur. Jackson's JSON parser does this itself; the YAML parser is
+ *       extended to do the same;</li>
+ *   <li>the YAML size limit (by default 3 MB) is raised to {@link PathResolver#MAX_FILE_SIZE}, the limit
+ *       {@link OASParser} enforces for every format;</li>
+ *   <li>sources are never closed by the parser, so callers can read past the document (for example, to hash the
+ *       rest of the file).</li>
+ * </ul>
+ *
+ * <p>This class is thread-safe.
+ */
+final class SpecReader {
+
+    /** Leading bytes inspected to detect the format of a file without a known extension. */
+    static final int DETECTION_BYTES = 512;
+
+    enum Format { YAML, JSON }
+
+    private static final ObjectMapper YAML_MAPPER = mapper(yamlFactory());
+    private static final ObjectMapper JSON_MAPPER = mapper(JsonFactory.builder()
+            .enable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+            .enable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES)
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build());
+
+    private SpecReader() {
+    }
+
+    /**
+     * Read the document in {@code in}. The stream is left open and positioned after the document.
+     *
+     * @param fileName name of the source, for format detection
+     */
+    static Map<String, Object> read(InputStream in, String fileName) throws IOException {
+        Format format = formatOf(fileName);
+        if (format == null) {
+            PushbackInputStream pushback = new PushbackInputStream(in, DETECTION_BYTES);
+            byte[] head = pushback.readNBytes(DETECTION_BYTES);
+            pushback.unread(head);
+            format = detect(head, head.length);
+            in = pushback;
+        }
+        return Util.asStringObjectMap(mapperFor(format).readValue(in, Map.class));
+    }
+
+    /**
+     * Read the document in {@code content}.
+     *
+     * @param fileName name of the source, for format detection
+     */
+    static Map<String, Object> read(String content, String fileName) throws IOException {
+        Format format = formatOf(fileName);
+        if (format == null) {
+            format = content.trim().startsWith("{") ? Format.JSON : Format.YAML;
+        }
+        return Util.asStringObjectMap(mapperFor(format).readValue(content, Map.class));
+    }
+
+    /** The format of a file by its extension, or null when the extension is not a known one. */
+    static Format formatOf(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".yaml") || name.endsWith(".yml")) {
+            return Format.YAML;
+        }
+        if (name.endsWith(".json")) {
+            return Format.JSON;
+        }
+        return null;
+    }
+
+    /**
+     * The format of a document by its first bytes: JSON when the first character after any byte order mark and
+     * white space is an opening brace, otherwise YAML (of which JSON is a subset).
+     */
+    static Format detect(byte[] head, int length) {
+        int i = 0;
+        if (length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            i = 3;
+        }
+        while (i < length && (head[i] == ' ' || head[i] == '\t' || head[i] == '\r' || head[i] == '\n')) {
+            i++;
+        }
+        return i < length && head[i] == '{' ? Format.JSON : Format.YAML;
+    }
+
+    private static ObjectMapper mapperFor(Format format) {
+        return format == Format.JSON ? JSON_MAPPER : YAML_MAPPER;
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.registerModule(new JavaTimeModule());
+        return mapper;
+    }
+
+    private static YAMLFactory yamlFactory() {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit((int) PathResolver.MAX_FILE_SIZE);
+        return new InterningYAMLFactory(YAMLFactory.builder()
+                .loaderOptions(loaderOptions)
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE));
+    }
+
+    /** A YAML factory whose parsers intern keys. */
+    private static final class InterningYAMLFactory extends YAMLFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        InterningYAMLFactory(YAMLFactoryBuilder builder) {
+            super(builder);
+        }
+
+        @Override
+        protected YAMLParser _createParser(InputStream in, IOContext ctxt) throws IOException {
+            return new InterningYAMLParser(ctxt, _parserFeatures, _yamlParserFeatures, _loaderOptions, _objectCodec,
+                    _createReader(in, null, ctxt));
+        }
+
+        @Override
+        protected YAMLParser _createParser(Reader r, IOContext ctxt) throws IOException {
+            return new InterningYAMLParser(ctxt, _parserFeatures, _yamlParserFeatures, _loaderOptions, _objectCodec,
+                    r);
+        }
+
+        @Override
+        protected YAMLParser _createParser(char[] data, int offset, int len, IOContext ctxt, boolean recyclable)
+                throws IOException {
+            return _createParser(new CharArrayReader(data, offset, len), ctxt);
+        }
+
+        @Override
+        protected YAMLParser _createParser(byte[] data, int offset, int len, IOContext ctxt) throws IOException {
+            return new InterningYAMLParser(ctxt, _parserFeatures, _yamlParserFeatures, _loaderOptions, _objectCodec,
+                    _createReader(data, offset, len, null, ctxt));
+        }
+    }
+
+    /** A YAML parser that interns keys, as Jackson's JSON parser does. */
+    private static final class InterningYAMLParser extends YAMLParser {
+
+        // Keys seen in this document; saves the interning lookup for repeated keys
+        private final Map<String, String> names = new HashMap<>();
+
+        InterningYAMLParser(IOContext ctxt, int parserFeatures, int formatFeatures, LoaderOptions loaderOptions,
+                            ObjectCodec codec, Reader reader) {
+            super(ctxt, parserFeatures, formatFeatures, loaderOptions, codec, reader);
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = super.nextToken();
+            if (token == JsonToken.FIELD_NAME && _currentFieldName != null) {
+                _currentFieldName = names.computeIfAbsent(_currentFieldName, String::intern);
+            }
+            return token;
+        }
+    }
+}
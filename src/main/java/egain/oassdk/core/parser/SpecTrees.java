@@ -0,0 +1,173 @@
+package egain.oassdk.core.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies of parsed spec trees (nested maps, lists and scalar values) for the parser caches.
+ *
+ * <p>Copies keep shared and recursive subtrees shared, and maps keep their iteration order.
+ *
+ * <p>Frozen copies are also compact and canonical, since the caches keep them for the life of the process:
+ * <ul>
+ *   <li>maps are {@link CompactMap}s and lists are fixed-size arrays behind an unmodifiable view;</li>
+ *   <li>keys and string values of up to {@value #MAX_INTERNED_LENGTH} characters are interned, so the strings that
+ *       recur across specs and files ({@code type}, {@code string}, {@code #/components/schemas/Error}) are stored
+ *       once in the process. Longer strings (mostly descriptions) are stored once per tree.</li>
+ * </ul>
+ * Every map and list stays a distinct object, even when equal to another: generators match schemas by identity.
+ */
+final class SpecTrees {
+
+    /** Longest string value interned by {@link #freeze}; longer ones are only deduplicated within the tree. */
+    static final int MAX_INTERNED_LENGTH = 64;
+
+    // Rough retained sizes on a 64-bit JVM with compressed oops
+    private static final long MAP_BYTES = 80;
+    private static final long MAP_ENTRY_BYTES = 48;
+    private static final long LIST_BYTES = 56;
+    private static final long LIST_ELEMENT_BYTES = 4;
+    private static final long STRING_BYTES = 40;
+    private static final long BOXED_BYTES = 16;
+
+    private SpecTrees() {
+    }
+
+    /** A tree frozen by {@link #freeze}, with its estimated retained heap. */
+    record Frozen(Map<String, Object> tree, long retainedBytes) {
+    }
+
+    /**
+     * Mutable deep copy of a tree.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> copy(Map<String, Object> tree) {
+        return (Map<String, Object>) copy(tree, new IdentityHashMap<>());
+    }
+
+    /**
+     * Unmodifiable, compact and canonical deep copy of a tree, safe to share between threads and callers.
+     */
+    @SuppressWarnings("unchecked")
+    static Frozen freeze(Map<String, Object> tree) {
+        Freezer freezer = new Freezer();
+        Map<String, Object> frozen = (Map<String, Object>) freezer.freeze(tree);
+        return new Frozen(frozen, freezer.retainedBytes);
+    }
+
+    private static Object copy(Object value, Map<Object, Object> copies) {
+        if (value instanceof Map<?, ?> map) {
+            Object existing = copies.get(map);
+            if (existing != null) {
+                return existing;
+            }
+            Map<Object, Object> copy = new LinkedHashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+            // Register before filling, so a recursive subtree refers back to this copy
+            copies.put(map, copy);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), copy(entry.getValue(), copies));
+            }
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            Object existing = copies.get(list);
+            if (existing != null) {
+                return existing;
+            }
+            List<Object> copy = new ArrayList<>(list.size());
+            copies.put(list, copy);
+            for (Object item : list) {
+                copy.add(copy(item, copies));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /** One {@link #freeze} pass. */
+    private static final class Freezer {
+
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+        // Canonical instance of each string of this tree
+        private final Map<String, String> strings = new HashMap<>();
+        private long retainedBytes;
+
+        Object freeze(Object value) {
+            if (value instanceof Map<?, ?> map) {
+                Object existing = copies.get(map);
+                if (existing != null) {
+                    return existing;
+                }
+                if (!hasStringKeys(map)) {
+                    return freezeAsLinkedHashMap(map);
+                }
+                CompactMap copy = new CompactMap(map.size());
+                // Register before filling, so a recursive subtree refers back to this copy
+                copies.put(map, copy);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    copy.add(canonical((String) entry.getKey()), freeze(entry.getValue()));
+                }
+                retainedBytes += copy.shallowBytes();
+                return copy;
+            }
+            if (value instanceof List<?> list) {
+                Object existing = copies.get(list);
+                if (existing != null) {
+                    return existing;
+                }
+                Object[] items = new Object[list.size()];
+                List<Object> copy = Collections.unmodifiableList(Arrays.asList(items));
+                copies.put(list, copy);
+                int i = 0;
+                for (Object item : list) {
+                    items[i++] = freeze(item);
+                }
+                retainedBytes += LIST_BYTES + LIST_ELEMENT_BYTES * items.length;
+                return copy;
+            }
+            if (value instanceof String s) {
+                return canonical(s);
+            }
+            retainedBytes += value == null || value instanceof Boolean ? 0 : BOXED_BYTES;
+            return value;
+        }
+
+        private Object freezeAsLinkedHashMap(Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+            Map<Object, Object> result = Collections.unmodifiableMap(copy);
+            copies.put(map, result);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object key = entry.getKey() instanceof String s ? canonical(s) : entry.getKey();
+                copy.put(key, freeze(entry.getValue()));
+                retainedBytes += MAP_ENTRY_BYTES;
+            }
+            retainedBytes += MAP_BYTES;
+            return result;
+        }
+
+        private String canonical(String s) {
+            String canonical = strings.get(s);
+            if (canonical == null) {
+                canonical = s.length() <= MAX_INTERNED_LENGTH ? s.intern() : s;
+                strings.put(canonical, canonical);
+                retainedBytes += STRING_BYTES + s.length();
+            }
+            return canonical;
+        }
+
+        private static boolean hasStringKeys(Map<?, ?> map) {
+            for (Object key : map.keySet()) {
+                if (!(key instanceof String)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
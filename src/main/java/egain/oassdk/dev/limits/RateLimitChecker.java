@@ -1,15 +1,19 @@
 package egain.oassdk.dev.limits;
 
+import egain.oassdk.Util;
 import egain.oassdk.core.exceptions.GenerationException;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Map;
 
 /**
- * Generates rate limit checkers based on SLA specification
+ * Generates rate limit checkers based on SLA specification. The generated RateLimiter keeps O(1) primitive
+ * state per client and window (token bucket, GCRA or sliding-window counter); limits and algorithm come from
+ * the SLA spec's {@code sla.enforcement.rate_limiting} section.
  */
 public class RateLimitChecker {
 
@@ -30,6 +34,9 @@ public class RateLimitChecker {
             // Generate rate limiter
             generateRateLimiter(slaSpec, outputDir);
 
+            // Generate backend SPI, shared-store backend and in-process store
+            generateRateLimitBackends(slaSpec, outputDir);
+
             // Generate rate limit interceptor
             generateRateLimitInterceptor(slaSpec, outputDir);
 
@@ -52,111 +59,343 @@ public class RateLimitChecker {
                 package com.example.limits;
                 
                 import jakarta.inject.Singleton;
-                import java.util.concurrent.ConcurrentHashMap;
-                import java.util.concurrent.atomic.AtomicLong;
-                import java.time.LocalDateTime;
                 import java.time.temporal.ChronoUnit;
+                import java.util.Map;
+                import java.util.concurrent.ConcurrentHashMap;
+                import java.util.concurrent.Executors;
+                import java.util.concurrent.ScheduledExecutorService;
+                import java.util.concurrent.TimeUnit;
+                import java.util.concurrent.atomic.AtomicLongArray;
+                import java.util.function.Function;
+                import java.util.function.LongSupplier;
                 
+                /**
+                 * Per-client rate limiter with a per-minute, per-hour and per-day window, plus a per-second window when
+                 * {@link RateLimitConfig#getMaxRequestsPerSecond()} is set.
+                 *
+                 * <p>Each client holds one primitive {@code long} of state per window, updated with compare-and-set: memory
+                 * does not grow with traffic and concurrent requests for a hot client never block each other. How the state
+                 * is encoded depends on the {@link Algorithm}. A background sweep evicts clients whose windows have fully
+                 * recovered, so dropping them changes no decision.
+                 */
                 @Singleton
-                public class RateLimiter {
+                public class RateLimiter implements RateLimitBackend {
                 
-                    private final ConcurrentHashMap<String, RateLimitData> rateLimitMap = new ConcurrentHashMap<>();
-                    private final int maxRequestsPerMinute;
-                    private final int maxRequestsPerHour;
-                    private final int maxRequestsPerDay;
+                    public enum Algorithm {
+                        /** Bucket of {@code burst} tokens refilled one per {@code window / limit}; state: tick the bucket is full again. */
+                        TOKEN_BUCKET,
+                        /** Generic cell rate algorithm, same admission as the token bucket; state: theoretical arrival time. */
+                        GCRA,
+                        /** Previous window's count weighted by overlap plus the current count; state: both counts and the window. */
+                        SLIDING_WINDOW
+                    }
+                
+                    /** Largest limit the sliding window can count (21 bits per packed count). */
+                    public static final int MAX_SLIDING_WINDOW_LIMIT = (1 << 21) - 1;
+                
+                    private static final long EMPTY = Long.MIN_VALUE;
+                    private static final int INDEX_BITS = 22;
+                    private static final int COUNT_BITS = 21;
+                    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+                    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+                
+                    private final Algorithm algorithm;
+                    private final Window[] windows;
+                    private final LongSupplier nanoClock;
+                    private final long epoch;
+                    private final ConcurrentHashMap<String, AtomicLongArray> clients = new ConcurrentHashMap<>();
+                    private final Function<String, AtomicLongArray> newClient = key -> newState();
+                    private final ScheduledExecutorService evictor;
                 
                     public RateLimiter() {
-                        // Default values - these would be loaded from SLA spec
-                        this.maxRequestsPerMinute = 1000;
-                        this.maxRequestsPerHour = 10000;
-                        this.maxRequestsPerDay = 100000;
+                        this(new RateLimitConfig());
                     }
                 
                     public RateLimiter(int maxRequestsPerMinute, int maxRequestsPerHour, int maxRequestsPerDay) {
-                        this.maxRequestsPerMinute = maxRequestsPerMinute;
-                        this.maxRequestsPerHour = maxRequestsPerHour;
-                        this.maxRequestsPerDay = maxRequestsPerDay;
+                        this(new RateLimitConfig(maxRequestsPerMinute, maxRequestsPerHour, maxRequestsPerDay));
                     }
                 
-                    public boolean isAllowed(String key) {
-                        return isAllowed(key, maxRequestsPerMinute, ChronoUnit.MINUTES);
+                    public RateLimiter(RateLimitConfig config) {
+                        this(config, System::nanoTime, true);
                     }
                 
-                    public boolean isAllowed(String key, int maxRequests, ChronoUnit timeUnit) {
-                        RateLimitData data = rateLimitMap.computeIfAbsent(key, k -> new RateLimitData());
+                    /**
+                     * Without the background sweep, call {@link #evictIdle()} to drop recovered clients.
+                     */
+                    RateLimiter(RateLimitConfig config, LongSupplier nanoClock, boolean evictInBackground) {
+                        this.algorithm = config.getAlgorithm();
+                        int burst = config.getBurstCapacity();
+                        this.windows = new Window[] {
+                            // No per-second window unless one is configured
+                            config.getMaxRequestsPerSecond() > 0 ? window(config.getMaxRequestsPerSecond(), TimeUnit.SECONDS.toNanos(1), 0) : null,
+                            window(config.getMaxRequestsPerMinute(), TimeUnit.MINUTES.toNanos(1), burst),
+                            window(config.getMaxRequestsPerHour(), TimeUnit.HOURS.toNanos(1), 0),
+                            window(config.getMaxRequestsPerDay(), TimeUnit.DAYS.toNanos(1), 0),
+                        };
+                        this.nanoClock = nanoClock;
+                        this.epoch = nanoClock.getAsLong();
+                        if (evictInBackground) {
+                            long interval = Math.max(1, config.getEvictionIntervalSeconds());
+                            this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                                Thread thread = new Thread(r, "rate-limiter-evictor");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                            evictor.scheduleWithFixedDelay(this::evictIdle, interval, interval, TimeUnit.SECONDS);
+                        } else {
+                            this.evictor = null;
+                        }
+                    }
                 
-                        LocalDateTime now = LocalDateTime.now();
-                        LocalDateTime windowStart = now.minus(1, timeUnit);
+                    private Window window(int limit, long lengthNanos, int burst) {
+                        int max = Math.max(1, algorithm == Algorithm.SLIDING_WINDOW ? Math.min(limit, MAX_SLIDING_WINDOW_LIMIT) : limit);
+                        // A burst only applies to the bucket algorithms; the sliding window admits up to the limit
+                        long capacity = burst > 0 && algorithm != Algorithm.SLIDING_WINDOW ? burst : max;
+                        return new Window(max, lengthNanos, capacity, Math.max(1, lengthNanos / max));
+                    }
+                
+                    public Algorithm getAlgorithm() {
+                        return algorithm;
+                    }
                 
-                        // Clean old entries
-                        data.cleanOldEntries(windowStart);
+                    public boolean isAllowed(String key) {
+                        return isAllowed(key, ChronoUnit.MINUTES);
+                    }
                 
-                        // Check if limit is exceeded
-                        if (data.getRequestCount(windowStart) >= maxRequests) {
-                            return false;
+                    @Override
+                    public boolean isAllowed(String key, ChronoUnit timeUnit) {
+                        int index = index(timeUnit);
+                        Window window = windows[index];
+                        if (window == null) {
+                            return true;
+                        }
+                        AtomicLongArray state = clients.get(key);
+                        if (state == null) {
+                            state = clients.computeIfAbsent(key, newClient);
                         }
+                        long now = nanoClock.getAsLong() - epoch;
+                        return switch (algorithm) {
+                            case TOKEN_BUCKET -> acquireToken(state, index, window, now);
+                            case GCRA -> acquireCell(state, index, window, now);
+                            case SLIDING_WINDOW -> acquireSlot(state, index, window, now);
+                        };
+                    }
                 
-                        // Add new request
-                        data.addRequest(now);
-                        return true;
+                    public boolean isAllowedPerSecond(String key) {
+                        return isAllowed(key, ChronoUnit.SECONDS);
                     }
                 
                     public boolean isAllowedPerMinute(String key) {
-                        return isAllowed(key, maxRequestsPerMinute, ChronoUnit.MINUTES);
+                        return isAllowed(key, ChronoUnit.MINUTES);
                     }
                 
                     public boolean isAllowedPerHour(String key) {
-                        return isAllowed(key, maxRequestsPerHour, ChronoUnit.HOURS);
+                        return isAllowed(key, ChronoUnit.HOURS);
                     }
                 
                     public boolean isAllowedPerDay(String key) {
-                        return isAllowed(key, maxRequestsPerDay, ChronoUnit.DAYS);
+                        return isAllowed(key, ChronoUnit.DAYS);
                     }
                 
+                    @Override
                     public int getRemainingRequests(String key, ChronoUnit timeUnit) {
-                        RateLimitData data = rateLimitMap.get(key);
-                        if (data == null) {
-                            return getMaxRequests(timeUnit);
+                        int index = index(timeUnit);
+                        Window window = windows[index];
+                        if (window == null) {
+                            return Integer.MAX_VALUE;
                         }
+                        AtomicLongArray state = clients.get(key);
+                        long current = state == null ? EMPTY : state.get(index);
+                        long now = nanoClock.getAsLong() - epoch;
+                        long remaining = switch (algorithm) {
+                            case TOKEN_BUCKET -> tokens(current, now / window.intervalNanos(), window);
+                            case GCRA -> (window.tolerance() - (tat(current, now) - now)) / window.intervalNanos();
+                            case SLIDING_WINDOW -> (long) Math.floor(window.limit() - estimate(roll(current, now / window.lengthNanos()), now, window));
+                        };
+                        return (int) Math.max(0, Math.min(window.capacity(), remaining));
+                    }
                 
-                        LocalDateTime now = LocalDateTime.now();
-                        LocalDateTime windowStart = now.minus(1, timeUnit);
-                        data.cleanOldEntries(windowStart);
+                    /**
+                     * Milliseconds until the next request for {@code key} could be admitted in the given window; 0 if one
+                     * would be admitted now. For the sliding window this is the start of the next window, an upper bound.
+                     */
+                    @Override
+                    public long getRetryAfterMillis(String key, ChronoUnit timeUnit) {
+                        if (getRemainingRequests(key, timeUnit) > 0) {
+                            return 0;
+                        }
+                        int index = index(timeUnit);
+                        Window window = windows[index];
+                        AtomicLongArray state = clients.get(key);
+                        if (state == null) {
+                            return 0;
+                        }
+                        long current = state.get(index);
+                        long now = nanoClock.getAsLong() - epoch;
+                        long waitNanos = switch (algorithm) {
+                            case TOKEN_BUCKET -> (now / window.intervalNanos() + 1) * window.intervalNanos() - now;
+                            case GCRA -> tat(current, now) + window.intervalNanos() - window.tolerance() - now;
+                            case SLIDING_WINDOW -> (now / window.lengthNanos() + 1) * window.lengthNanos() - now;
+                        };
+                        return TimeUnit.NANOSECONDS.toMillis(Math.max(0, waitNanos)) + 1;
+                    }
+                
+                    @Override
+                    public int getMaxRequests(ChronoUnit timeUnit) {
+                        Window window = windows[index(timeUnit)];
+                        return window == null ? 0 : window.limit();
+                    }
                 
-                        int currentCount = data.getRequestCount(windowStart);
-                        int maxRequests = getMaxRequests(timeUnit);
+                    /**
+                     * Drops clients whose every window has fully recovered. A request racing with the removal may be
+                     * counted against the dropped state, which at worst admits one extra request for an idle client.
+                     *
+                     * @return number of clients evicted
+                     */
+                    public int evictIdle() {
+                        long now = nanoClock.getAsLong() - epoch;
+                        int evicted = 0;
+                        for (Map.Entry<String, AtomicLongArray> entry : clients.entrySet()) {
+                            if (isIdle(entry.getValue(), now) && clients.remove(entry.getKey(), entry.getValue())) {
+                                evicted++;
+                            }
+                        }
+                        return evicted;
+                    }
                 
-                        return Math.max(0, maxRequests - currentCount);
+                    public int getTrackedClients() {
+                        return clients.size();
                     }
                 
-                    private int getMaxRequests(ChronoUnit timeUnit) {
-                        switch (timeUnit) {
-                            case MINUTES:
-                                return maxRequestsPerMinute;
-                            case HOURS:
-                                return maxRequestsPerHour;
-                            case DAYS:
-                                return maxRequestsPerDay;
-                            default:
-                                return maxRequestsPerMinute;
+                    @Override
+                    public void close() {
+                        if (evictor != null) {
+                            evictor.shutdownNow();
                         }
                     }
                 
-                    private static class RateLimitData {
-                        private final List<LocalDateTime> requests = new ArrayList<>();
+                    private AtomicLongArray newState() {
+                        AtomicLongArray state = new AtomicLongArray(windows.length);
+                        for (int i = 0; i < windows.length; i++) {
+                            state.set(i, EMPTY);
+                        }
+                        return state;
+                    }
                 
-                        public synchronized void addRequest(LocalDateTime timestamp) {
-                            requests.add(timestamp);
+                    private boolean isIdle(AtomicLongArray state, long now) {
+                        for (int i = 0; i < windows.length; i++) {
+                            long current = state.get(i);
+                            if (current == EMPTY) {
+                                continue;
+                            }
+                            Window window = windows[i];
+                            boolean idle = switch (algorithm) {
+                                case TOKEN_BUCKET -> tokens(current, now / window.intervalNanos(), window) == window.capacity();
+                                case GCRA -> current <= now;
+                                case SLIDING_WINDOW -> roll(current, now / window.lengthNanos()) == pack(now / window.lengthNanos(), 0, 0);
+                            };
+                            if (!idle) {
+                                return false;
+                            }
                         }
+                        return true;
+                    }
+                
+                    // Token bucket: refill tick (time / interval) at which the bucket is full again; the tokens are the
+                    // capacity minus the ticks still to go, so no tick is truncated however short the interval
                 
-                        public synchronized int getRequestCount(LocalDateTime windowStart) {
-                            return (int) requests.stream()
-                                    .filter(timestamp -> timestamp.isAfter(windowStart))
-                                    .count();
+                    private static boolean acquireToken(AtomicLongArray state, int index, Window window, long now) {
+                        long tick = now / window.intervalNanos();
+                        while (true) {
+                            long current = state.get(index);
+                            if (tokens(current, tick, window) == 0) {
+                                return false;
+                            }
+                            // Never move the full tick backwards when a racing thread already stored a later one
+                            long fullTick = current == EMPTY ? tick : Math.max(current, tick);
+                            if (state.compareAndSet(index, current, fullTick + 1)) {
+                                return true;
+                            }
                         }
+                    }
+                
+                    private static long tokens(long current, long tick, Window window) {
+                        if (current == EMPTY) {
+                            return window.capacity();
+                        }
+                        long ticksToFull = Math.max(0, current - tick);
+                        return window.capacity() - Math.min(window.capacity(), ticksToFull);
+                    }
+                
+                    // GCRA: theoretical arrival time in nanoseconds since the limiter was created
+                
+                    private static boolean acquireCell(AtomicLongArray state, int index, Window window, long now) {
+                        while (true) {
+                            long current = state.get(index);
+                            long next = tat(current, now) + window.intervalNanos();
+                            if (next - now > window.tolerance()) {
+                                return false;
+                            }
+                            if (state.compareAndSet(index, current, next)) {
+                                return true;
+                            }
+                        }
+                    }
+                
+                    private static long tat(long current, long now) {
+                        return current == EMPTY || current < now ? now : current;
+                    }
+                
+                    // Sliding window: previous count (21 bits), current count (21 bits), window index modulo 2^22 (22 bits)
                 
-                        public synchronized void cleanOldEntries(LocalDateTime windowStart) {
-                            requests.removeIf(timestamp -> timestamp.isBefore(windowStart));
+                    private static boolean acquireSlot(AtomicLongArray state, int index, Window window, long now) {
+                        long windowIndex = now / window.lengthNanos();
+                        while (true) {
+                            long current = state.get(index);
+                            long rolled = roll(current, windowIndex);
+                            if (estimate(rolled, now, window) + 1 > window.limit()) {
+                                return false;
+                            }
+                            if (state.compareAndSet(index, current, rolled + (1L << INDEX_BITS))) {
+                                return true;
+                            }
+                        }
+                    }
+                
+                    private static long roll(long current, long windowIndex) {
+                        if (current == EMPTY) {
+                            return pack(windowIndex, 0, 0);
+                        }
+                        long age = (windowIndex - current) & INDEX_MASK;
+                        if (age == 0) {
+                            return current;
+                        }
+                        return age == 1 ? pack(windowIndex, 0, (current >>> INDEX_BITS) & COUNT_MASK) : pack(windowIndex, 0, 0);
+                    }
+                
+                    private static double estimate(long rolled, long now, Window window) {
+                        long currentCount = (rolled >>> INDEX_BITS) & COUNT_MASK;
+                        long previousCount = rolled >>> (INDEX_BITS + COUNT_BITS);
+                        double elapsed = (double) (now % window.lengthNanos()) / window.lengthNanos();
+                        return previousCount * (1.0 - elapsed) + currentCount;
+                    }
+                
+                    private static long pack(long windowIndex, long currentCount, long previousCount) {
+                        return (previousCount << (INDEX_BITS + COUNT_BITS)) | (currentCount << INDEX_BITS) | (windowIndex & INDEX_MASK);
+                    }
+                
+                    private static int index(ChronoUnit timeUnit) {
+                        return switch (timeUnit) {
+                            case SECONDS -> 0;
+                            case HOURS -> 2;
+                            case DAYS -> 3;
+                            default -> 1;
+                        };
+                    }
+                
+                    private record Window(int limit, long lengthNanos, long capacity, long intervalNanos) {
+                        long tolerance() {
+                            return capacity * intervalNanos;
                         }
                     }
                 }
@@ -165,6 +404,404 @@ public class RateLimitChecker {
         Files.write(Paths.get(outputDir, "RateLimiter.java"), content.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Generate the rate limit backend SPI, the shared-store backend and an in-process store for it
+     */
+    private void generateRateLimitBackends(Map<String, Object> slaSpec, String outputDir) throws IOException {
+        String backend = """
+                package com.example.limits;
+                
+                import java.time.temporal.ChronoUnit;
+                import java.util.List;
+                
+                /**
+                 * Where request counts are kept. {@link RateLimiter} counts per JVM; {@link SharedStoreRateLimitBackend}
+                 * shares counts between nodes so the SLA limit holds for the whole cluster. Bind the one to use to this
+                 * interface, e.g. {@code bind(config.createRateLimiter()).to(RateLimitBackend.class)}.
+                 */
+                public interface RateLimitBackend extends AutoCloseable {
+                
+                    /** Windows a backend counts, shortest first. */
+                    List<ChronoUnit> WINDOWS = List.of(ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS);
+                
+                    /**
+                     * Counts a request by {@code key} against the window and reports whether it is within the limit.
+                     * Must not block on I/O.
+                     */
+                    boolean isAllowed(String key, ChronoUnit timeUnit);
+                
+                    int getRemainingRequests(String key, ChronoUnit timeUnit);
+                
+                    long getRetryAfterMillis(String key, ChronoUnit timeUnit);
+                
+                    /**
+                     * Limit of the window; 0 if the window is not limited.
+                     */
+                    int getMaxRequests(ChronoUnit timeUnit);
+                
+                    @Override
+                    void close();
+                }
+                """;
+        Files.write(Paths.get(outputDir, "RateLimitBackend.java"), backend.getBytes(StandardCharsets.UTF_8));
+
+        String store = """
+                package com.example.limits;
+                
+                import java.util.concurrent.CompletableFuture;
+                
+                /**
+                 * Minimal view of a store shared by all nodes (e.g. Redis {@code INCRBY} + {@code PEXPIRE}).
+                 */
+                public interface SharedStore {
+                
+                    /**
+                     * Atomically adds {@code delta} to the counter at {@code key}, creating it at 0 with a time-to-live of
+                     * {@code ttlMillis} if absent, and completes with the new value.
+                     */
+                    CompletableFuture<Long> incrementAsync(String key, long delta, long ttlMillis);
+                }
+                """;
+        Files.write(Paths.get(outputDir, "SharedStore.java"), store.getBytes(StandardCharsets.UTF_8));
+
+        String inProcessStore = """
+                package com.example.limits;
+                
+                import java.util.concurrent.CompletableFuture;
+                import java.util.concurrent.ConcurrentHashMap;
+                import java.util.concurrent.TimeUnit;
+                import java.util.concurrent.atomic.AtomicLong;
+                import java.util.function.LongSupplier;
+                
+                /**
+                 * {@link SharedStore} held in this JVM, for tests and single-node runs. Backends sharing one instance behave
+                 * like cluster nodes sharing a real store; a non-zero latency delays every reply so tests can check that no
+                 * request waits for the store.
+                 */
+                public class InProcessSharedStore implements SharedStore {
+                
+                    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+                    private final AtomicLong operations = new AtomicLong();
+                    private final long latencyMillis;
+                    private final LongSupplier clock;
+                
+                    public InProcessSharedStore() {
+                        this(0);
+                    }
+                
+                    public InProcessSharedStore(long latencyMillis) {
+                        this(latencyMillis, System::currentTimeMillis);
+                    }
+                
+                    public InProcessSharedStore(long latencyMillis, LongSupplier clock) {
+                        this.latencyMillis = latencyMillis;
+                        this.clock = clock;
+                    }
+                
+                    @Override
+                    public CompletableFuture<Long> incrementAsync(String key, long delta, long ttlMillis) {
+                        operations.incrementAndGet();
+                        long now = clock.getAsLong();
+                        // Add inside compute so an increment never lands on a counter that expiry has just replaced
+                        long total = counters.compute(key, (k, c) -> {
+                            Counter counter = c == null || c.expiresAt <= now ? new Counter(now + ttlMillis) : c;
+                            counter.value += delta;
+                            return counter;
+                        }).value;
+                        if (latencyMillis <= 0) {
+                            return CompletableFuture.completedFuture(total);
+                        }
+                        return CompletableFuture.supplyAsync(() -> total,
+                            CompletableFuture.delayedExecutor(latencyMillis, TimeUnit.MILLISECONDS));
+                    }
+                
+                    /**
+                     * Current value at {@code key}, 0 if absent or expired.
+                     */
+                    public long get(String key) {
+                        Counter counter = counters.get(key);
+                        return counter == null || counter.expiresAt <= clock.getAsLong() ? 0 : counter.value;
+                    }
+                
+                    /**
+                     * Number of increments received, i.e. store round trips made by all backends.
+                     */
+                    public long getOperationCount() {
+                        return operations.get();
+                    }
+                
+                    public int purgeExpired() {
+                        long now = clock.getAsLong();
+                        int before = counters.size();
+                        counters.values().removeIf(counter -> counter.expiresAt <= now);
+                        return before - counters.size();
+                    }
+                
+                    private static final class Counter {
+                        // Only written inside ConcurrentHashMap.compute for the counter's key
+                        private volatile long value;
+                        private final long expiresAt;
+                
+                        private Counter(long expiresAt) {
+                            this.expiresAt = expiresAt;
+                        }
+                    }
+                }
+                """;
+        Files.write(Paths.get(outputDir, "InProcessSharedStore.java"), inProcessStore.getBytes(StandardCharsets.UTF_8));
+
+        String sharedBackend = """
+                package com.example.limits;
+                
+                import java.time.temporal.ChronoUnit;
+                import java.util.Map;
+                import java.util.concurrent.ConcurrentHashMap;
+                import java.util.concurrent.Executors;
+                import java.util.concurrent.ScheduledExecutorService;
+                import java.util.concurrent.TimeUnit;
+                import java.util.concurrent.atomic.AtomicBoolean;
+                import java.util.concurrent.atomic.AtomicLong;
+                import java.util.concurrent.atomic.AtomicReferenceArray;
+                import java.util.function.Function;
+                import java.util.function.LongSupplier;
+                
+                /**
+                 * Rate limit backend whose counts live in a {@link SharedStore}, so a client gets the SLA limit once across
+                 * the cluster instead of once per node.
+                 *
+                 * <p>No request waits for the store. A node leases quota in chunks ({@code leaseFraction} of the window's
+                 * limit, one atomic increment per lease) and admits requests from its local lease; the next lease is fetched
+                 * asynchronously once half of the current one is used. Requests arriving before a lease has come back are
+                 * admitted on credit, at most {@code maxCreditRequests} per client and window, and the credit is paid out of
+                 * the next lease. Windows are fixed wall-clock seconds, minutes, hours and days, so every node agrees on them; the
+                 * configured {@link RateLimiter.Algorithm} and burst capacity do not apply.
+                 *
+                 * <p>Per window the cluster admits at most the limit plus {@code maxCreditRequests} per node. While the store
+                 * is unreachable a node keeps admitting from the leases it holds and denies once they are used up.
+                 */
+                public class SharedStoreRateLimitBackend implements RateLimitBackend {
+                
+                    private static final String[] WINDOW_NAMES = {"second", "minute", "hour", "day"};
+                    private static final long[] WINDOW_MILLIS = {1_000L, 60_000L, 3_600_000L, 86_400_000L};
+                
+                    private final SharedStore store;
+                    private final String keyPrefix;
+                    private final int[] limits;
+                    private final long[] leaseSizes = new long[WINDOW_NAMES.length];
+                    private final long[] maxCredit = new long[WINDOW_NAMES.length];
+                    private final LongSupplier clock;
+                    private final ConcurrentHashMap<String, AtomicReferenceArray<Quota>> clients = new ConcurrentHashMap<>();
+                    private final Function<String, AtomicReferenceArray<Quota>> newClient =
+                        key -> new AtomicReferenceArray<>(WINDOW_NAMES.length);
+                    private final ScheduledExecutorService evictor;
+                
+                    public SharedStoreRateLimitBackend(RateLimitConfig config, SharedStore store) {
+                        this(config, store, "ratelimit", 0.05, -1);
+                    }
+                
+                    /**
+                     * @param leaseFraction     share of a window's limit leased per store round trip
+                     * @param maxCreditRequests requests per client and window admitted before the first lease arrives;
+                     *                          negative means one lease's worth
+                     */
+                    public SharedStoreRateLimitBackend(RateLimitConfig config, SharedStore store, String keyPrefix,
+                                                       double leaseFraction, int maxCreditRequests) {
+                        this(config, store, keyPrefix, leaseFraction, maxCreditRequests, System::currentTimeMillis, true);
+                    }
+                
+                    /**
+                     * Without the background sweep, call {@link #evictIdle()} to drop clients with no current window.
+                     */
+                    SharedStoreRateLimitBackend(RateLimitConfig config, SharedStore store, String keyPrefix, double leaseFraction,
+                                                int maxCreditRequests, LongSupplier clock, boolean evictInBackground) {
+                        this.store = store;
+                        this.keyPrefix = keyPrefix;
+                        this.clock = clock;
+                        this.limits = new int[] {
+                            Math.max(0, config.getMaxRequestsPerSecond()),
+                            Math.max(1, config.getMaxRequestsPerMinute()),
+                            Math.max(1, config.getMaxRequestsPerHour()),
+                            Math.max(1, config.getMaxRequestsPerDay()),
+                        };
+                        for (int i = 0; i < limits.length; i++) {
+                            leaseSizes[i] = Math.max(1, Math.round(limits[i] * leaseFraction));
+                            maxCredit[i] = maxCreditRequests < 0 ? leaseSizes[i] : maxCreditRequests;
+                        }
+                        if (evictInBackground) {
+                            long interval = Math.max(1, config.getEvictionIntervalSeconds());
+                            this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                                Thread thread = new Thread(r, "rate-limit-backend-evictor");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                            evictor.scheduleWithFixedDelay(this::evictIdle, interval, interval, TimeUnit.SECONDS);
+                        } else {
+                            this.evictor = null;
+                        }
+                    }
+                
+                    @Override
+                    public boolean isAllowed(String key, ChronoUnit timeUnit) {
+                        int index = index(timeUnit);
+                        if (limits[index] == 0) {
+                            return true;
+                        }
+                        Quota quota = quota(key, index, clock.getAsLong() / WINDOW_MILLIS[index]);
+                        long left = quota.allowance.decrementAndGet();
+                        if (left >= 0) {
+                            if (left < leaseSizes[index] / 2) {
+                                fetchLease(key, index, quota);
+                            }
+                            return true;
+                        }
+                        if (!quota.exhausted && -left <= maxCredit[index]) {
+                            fetchLease(key, index, quota);
+                            return true;
+                        }
+                        quota.allowance.incrementAndGet();
+                        // Without credit the first request of a window is denied, but it still has to start the lease
+                        fetchLease(key, index, quota);
+                        return false;
+                    }
+                
+                    @Override
+                    public int getRemainingRequests(String key, ChronoUnit timeUnit) {
+                        int index = index(timeUnit);
+                        if (limits[index] == 0) {
+                            return Integer.MAX_VALUE;
+                        }
+                        Quota quota = currentQuota(key, index);
+                        if (quota == null) {
+                            return limits[index];
+                        }
+                        long leased = Math.max(0, quota.allowance.get());
+                        long remaining = quota.exhausted ? leased : limits[index] - quota.storeTotal + leased;
+                        return (int) Math.max(0, Math.min(limits[index], remaining));
+                    }
+                
+                    @Override
+                    public long getRetryAfterMillis(String key, ChronoUnit timeUnit) {
+                        if (getRemainingRequests(key, timeUnit) > 0) {
+                            return 0;
+                        }
+                        long window = WINDOW_MILLIS[index(timeUnit)];
+                        return window - clock.getAsLong() % window;
+                    }
+                
+                    @Override
+                    public int getMaxRequests(ChronoUnit timeUnit) {
+                        return limits[index(timeUnit)];
+                    }
+                
+                    /**
+                     * Drops clients with no quota for a current window; their leftover leases are of no further use.
+                     *
+                     * @return number of clients evicted
+                     */
+                    public int evictIdle() {
+                        int evicted = 0;
+                        for (Map.Entry<String, AtomicReferenceArray<Quota>> entry : clients.entrySet()) {
+                            boolean idle = true;
+                            for (int i = 0; i < WINDOW_NAMES.length && idle; i++) {
+                                Quota quota = entry.getValue().get(i);
+                                idle = quota == null || quota.window < clock.getAsLong() / WINDOW_MILLIS[i];
+                            }
+                            if (idle && clients.remove(entry.getKey(), entry.getValue())) {
+                                evicted++;
+                            }
+                        }
+                        return evicted;
+                    }
+                
+                    public int getTrackedClients() {
+                        return clients.size();
+                    }
+                
+                    @Override
+                    public void close() {
+                        if (evictor != null) {
+                            evictor.shutdownNow();
+                        }
+                    }
+                
+                    private Quota quota(String key, int index, long window) {
+                        AtomicReferenceArray<Quota> quotas = clients.get(key);
+                        if (quotas == null) {
+                            quotas = clients.computeIfAbsent(key, newClient);
+                        }
+                        while (true) {
+                            Quota quota = quotas.get(index);
+                            if (quota != null && quota.window >= window) {
+                                return quota;
+                            }
+                            Quota next = new Quota(window);
+                            if (quotas.compareAndSet(index, quota, next)) {
+                                return next;
+                            }
+                        }
+                    }
+                
+                    private Quota currentQuota(String key, int index) {
+                        AtomicReferenceArray<Quota> quotas = clients.get(key);
+                        Quota quota = quotas == null ? null : quotas.get(index);
+                        return quota == null || quota.window < clock.getAsLong() / WINDOW_MILLIS[index] ? null : quota;
+                    }
+                
+                    /**
+                     * Leases the next chunk plus whatever was admitted on credit. At most one fetch per quota is in flight.
+                     */
+                    private void fetchLease(String key, int index, Quota quota) {
+                        if (quota.exhausted || !quota.fetching.compareAndSet(false, true)) {
+                            return;
+                        }
+                        long want = leaseSizes[index] + Math.max(0, -quota.allowance.get());
+                        String storeKey = keyPrefix + ':' + WINDOW_NAMES[index] + ':' + key + ':' + quota.window;
+                        try {
+                            store.incrementAsync(storeKey, want, 2 * WINDOW_MILLIS[index]).whenComplete((total, error) -> {
+                                if (error == null && total != null) {
+                                    long granted = Math.max(0, Math.min(want, limits[index] - (total - want)));
+                                    quota.storeTotal = total;
+                                    quota.allowance.addAndGet(granted);
+                                    if (granted < want) {
+                                        quota.exhausted = true;
+                                    }
+                                }
+                                quota.fetching.set(false);
+                            });
+                        } catch (RuntimeException e) {
+                            quota.fetching.set(false);
+                        }
+                    }
+                
+                    private static int index(ChronoUnit timeUnit) {
+                        return switch (timeUnit) {
+                            case SECONDS -> 0;
+                            case HOURS -> 2;
+                            case DAYS -> 3;
+                            default -> 1;
+                        };
+                    }
+                
+                    /**
+                     * One client's quota for one window on this node.
+                     */
+                    private static final class Quota {
+                        private final long window;
+                        // Leased requests not yet used; negative while requests admitted on credit await a lease
+                        private final AtomicLong allowance = new AtomicLong();
+                        private final AtomicBoolean fetching = new AtomicBoolean();
+                        private volatile boolean exhausted;
+                        private volatile long storeTotal;
+                
+                        private Quota(long window) {
+                            this.window = window;
+                        }
+                    }
+                }
+                """;
+        Files.write(Paths.get(outputDir, "SharedStoreRateLimitBackend.java"), sharedBackend.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Generate rate limit interceptor
      */
@@ -186,16 +823,18 @@ public class RateLimitChecker {
                 public class RateLimitInterceptor implements ContainerRequestFilter {
                 
                     @Inject
-                    private RateLimiter rateLimiter;
+                    private RateLimitBackend rateLimiter;
                 
                     @Override
                     public void filter(ContainerRequestContext requestContext) throws IOException {
                         String clientKey = getClientKey(requestContext);
                 
-                        // Check rate limit
-                        if (!rateLimiter.isAllowedPerMinute(clientKey)) {
-                            handleRateLimitExceeded(requestContext, clientKey);
-                            return;
+                        // Check every limited window; windows checked before the denying one keep the request counted
+                        for (ChronoUnit window : RateLimitBackend.WINDOWS) {
+                            if (rateLimiter.getMaxRequests(window) > 0 && !rateLimiter.isAllowed(clientKey, window)) {
+                                handleRateLimitExceeded(requestContext, clientKey, window);
+                                return;
+                            }
                         }
                 
                         // Add rate limit headers
@@ -223,14 +862,16 @@ public class RateLimitChecker {
                         return "default-client";
                     }
                 
-                    private void handleRateLimitExceeded(ContainerRequestContext requestContext, String clientKey) {
-                        int remainingRequests = rateLimiter.getRemainingRequests(clientKey, ChronoUnit.MINUTES);
+                    private void handleRateLimitExceeded(ContainerRequestContext requestContext, String clientKey, ChronoUnit window) {
+                        int remainingRequests = rateLimiter.getRemainingRequests(clientKey, window);
+                        long retryAfterMillis = rateLimiter.getRetryAfterMillis(clientKey, window);
+                        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
                 
                         Response response = Response.status(Response.Status.TOO_MANY_REQUESTS)
                             .entity("Rate limit exceeded. Please try again later.")
-                            .header("Retry-After", "60")
+                            .header("Retry-After", String.valueOf(retryAfterSeconds))
                             .header("X-RateLimit-Remaining", String.valueOf(remainingRequests))
-                            .header("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() + 60000))
+                            .header("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() + retryAfterMillis))
                             .build();
                 
                         requestContext.abortWith(response);
@@ -239,7 +880,7 @@ public class RateLimitChecker {
                     private void addRateLimitHeaders(ContainerRequestContext requestContext, String clientKey) {
                         int remainingRequests = rateLimiter.getRemainingRequests(clientKey, ChronoUnit.MINUTES);
                         requestContext.getHeaders().add("X-RateLimit-Remaining", String.valueOf(remainingRequests));
-                        requestContext.getHeaders().add("X-RateLimit-Limit", "1000");
+                        requestContext.getHeaders().add("X-RateLimit-Limit", String.valueOf(rateLimiter.getMaxRequests(ChronoUnit.MINUTES)));
                         requestContext.getHeaders().add("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() + 60000));
                     }
                 }
@@ -252,7 +893,8 @@ public class RateLimitChecker {
      * Generate rate limit configuration
      */
     private void generateRateLimitConfig(Map<String, Object> slaSpec, String outputDir) throws IOException {
-        String content = """
+        RateLimits limits = RateLimits.fromSla(slaSpec);
+        String content = String.format("""
                 package com.example.limits;
                 
                 import jakarta.inject.Singleton;
@@ -260,25 +902,73 @@ public class RateLimitChecker {
                 @Singleton
                 public class RateLimitConfig {
                 
+                    // Defaults taken from the SLA spec (sla.enforcement.rate_limiting)
+                    public static final RateLimiter.Algorithm DEFAULT_ALGORITHM = RateLimiter.Algorithm.%s;
+                    public static final int DEFAULT_MAX_REQUESTS_PER_SECOND = %d;
+                    public static final int DEFAULT_MAX_REQUESTS_PER_MINUTE = %d;
+                    public static final int DEFAULT_MAX_REQUESTS_PER_HOUR = %d;
+                    public static final int DEFAULT_MAX_REQUESTS_PER_DAY = %d;
+                    public static final int DEFAULT_BURST_CAPACITY = %d;
+                    public static final long DEFAULT_EVICTION_INTERVAL_SECONDS = 60;
+                
+                    private final RateLimiter.Algorithm algorithm;
+                    private final int maxRequestsPerSecond;
                     private final int maxRequestsPerMinute;
                     private final int maxRequestsPerHour;
                     private final int maxRequestsPerDay;
+                    private final int burstCapacity;
+                    private final long evictionIntervalSeconds;
                 
                     public RateLimitConfig() {
-                        // Default values - these would be loaded from configuration
-                        this.maxRequestsPerMinute = 1000;
-                        this.maxRequestsPerHour = 10000;
-                        this.maxRequestsPerDay = 100000;
+                        this(DEFAULT_ALGORITHM, DEFAULT_MAX_REQUESTS_PER_SECOND, DEFAULT_MAX_REQUESTS_PER_MINUTE,
+                            DEFAULT_MAX_REQUESTS_PER_HOUR, DEFAULT_MAX_REQUESTS_PER_DAY, DEFAULT_BURST_CAPACITY,
+                            DEFAULT_EVICTION_INTERVAL_SECONDS);
                     }
                 
                     public RateLimitConfig(int maxRequestsPerMinute, int maxRequestsPerHour, int maxRequestsPerDay) {
+                        this(DEFAULT_ALGORITHM, maxRequestsPerMinute, maxRequestsPerHour, maxRequestsPerDay, 0,
+                            DEFAULT_EVICTION_INTERVAL_SECONDS);
+                    }
+                
+                    /**
+                     * @param burstCapacity requests a client may send at once within the per-minute limit
+                     *                      (token bucket and GCRA); 0 allows the whole per-minute limit as a burst
+                     */
+                    public RateLimitConfig(RateLimiter.Algorithm algorithm, int maxRequestsPerMinute, int maxRequestsPerHour,
+                                           int maxRequestsPerDay, int burstCapacity, long evictionIntervalSeconds) {
+                        this(algorithm, 0, maxRequestsPerMinute, maxRequestsPerHour, maxRequestsPerDay, burstCapacity,
+                            evictionIntervalSeconds);
+                    }
+                
+                    /**
+                     * @param maxRequestsPerSecond per-second limit; 0 leaves the per-second window unlimited
+                     */
+                    public RateLimitConfig(RateLimiter.Algorithm algorithm, int maxRequestsPerSecond, int maxRequestsPerMinute,
+                                           int maxRequestsPerHour, int maxRequestsPerDay, int burstCapacity,
+                                           long evictionIntervalSeconds) {
+                        this.algorithm = algorithm;
+                        this.maxRequestsPerSecond = maxRequestsPerSecond;
                         this.maxRequestsPerMinute = maxRequestsPerMinute;
                         this.maxRequestsPerHour = maxRequestsPerHour;
                         this.maxRequestsPerDay = maxRequestsPerDay;
+                        this.burstCapacity = burstCapacity;
+                        this.evictionIntervalSeconds = evictionIntervalSeconds;
                     }
                 
                     public RateLimiter createRateLimiter() {
-                        return new RateLimiter(maxRequestsPerMinute, maxRequestsPerHour, maxRequestsPerDay);
+                        return new RateLimiter(this);
+                    }
+                
+                    public SharedStoreRateLimitBackend createSharedStoreBackend(SharedStore store) {
+                        return new SharedStoreRateLimitBackend(this, store);
+                    }
+                
+                    public RateLimiter.Algorithm getAlgorithm() {
+                        return algorithm;
+                    }
+                
+                    public int getMaxRequestsPerSecond() {
+                        return maxRequestsPerSecond;
                     }
                 
                     public int getMaxRequestsPerMinute() {
@@ -292,8 +982,16 @@ public class RateLimitChecker {
                     public int getMaxRequestsPerDay() {
                         return maxRequestsPerDay;
                     }
+                
+                    public int getBurstCapacity() {
+                        return burstCapacity;
+                    }
+                
+                    public long getEvictionIntervalSeconds() {
+                        return evictionIntervalSeconds;
+                    }
                 }
-                """;
+                """, limits.algorithm(), limits.perSecond(), limits.perMinute(), limits.perHour(), limits.perDay(), limits.burst());
 
         Files.write(Paths.get(outputDir, "RateLimitConfig.java"), content.getBytes(StandardCharsets.UTF_8));
     }
@@ -315,7 +1013,7 @@ public class RateLimitChecker {
                 public class RateLimitService {
                 
                     @Inject
-                    private RateLimiter rateLimiter;
+                    private RateLimitBackend rateLimiter;
                 
                     public RateLimitInfo getRateLimitInfo(String clientKey) {
                         int remainingPerMinute = rateLimiter.getRemainingRequests(clientKey, ChronoUnit.MINUTES);
@@ -331,7 +1029,7 @@ public class RateLimitChecker {
                     }
                 
                     public boolean checkRateLimit(String clientKey, ChronoUnit timeUnit) {
-                        return rateLimiter.isAllowed(clientKey, getMaxRequests(timeUnit), timeUnit);
+                        return rateLimiter.isAllowed(clientKey, timeUnit);
                     }
                 
                     public Map<String, Object> getRateLimitStatus(String clientKey) {
@@ -344,17 +1042,8 @@ public class RateLimitChecker {
                         return status;
                     }
                 
-                    private int getMaxRequests(ChronoUnit timeUnit) {
-                        switch (timeUnit) {
-                            case MINUTES:
-                                return 1000;
-                            case HOURS:
-                                return 10000;
-                            case DAYS:
-                                return 100000;
-                            default:
-                                return 1000;
-                        }
+                    public int getMaxRequests(ChronoUnit timeUnit) {
+                        return rateLimiter.getMaxRequests(timeUnit);
                     }
                 
                     public static class RateLimitInfo {
@@ -391,4 +1080,64 @@ public class RateLimitChecker {
 
         Files.write(Paths.get(outputDir, "RateLimitService.java"), content.getBytes(StandardCharsets.UTF_8));
     }
+
+    /**
+     * Rate limits read from the SLA spec. {@code sla.enforcement.rate_limiting} may set {@code requests_per_second},
+     * {@code requests_per_minute}, {@code requests_per_hour}, {@code requests_per_day}, {@code burst_capacity}
+     * and {@code algorithm} ({@code token_bucket}, {@code gcra} or {@code sliding_window}). Without
+     * {@code requests_per_minute}, {@code sla.requirements.performance.throughput.requests_per_second} is
+     * used; anything else missing falls back to no per-second limit, 1000/min, 10000/h and 100000/day with a
+     * token bucket.
+     */
+    record RateLimits(String algorithm, int perSecond, int perMinute, int perHour, int perDay, int burst) {
+
+        static RateLimits fromSla(Map<String, Object> slaSpec) {
+            Map<String, Object> sla = slaSpec != null ? Util.asStringObjectMap(slaSpec.get("sla")) : null;
+            Map<String, Object> enforcement = sla != null ? Util.asStringObjectMap(sla.get("enforcement")) : null;
+            Map<String, Object> rateLimiting = enforcement != null ? Util.asStringObjectMap(enforcement.get("rate_limiting")) : null;
+            if (rateLimiting == null) {
+                rateLimiting = Map.of();
+            }
+
+            int perMinute = positiveInt(rateLimiting.get("requests_per_minute"), 0);
+            if (perMinute == 0) {
+                Map<String, Object> requirements = sla != null ? Util.asStringObjectMap(sla.get("requirements")) : null;
+                Map<String, Object> performance = requirements != null ? Util.asStringObjectMap(requirements.get("performance")) : null;
+                Map<String, Object> throughput = performance != null ? Util.asStringObjectMap(performance.get("throughput")) : null;
+                int perSecond = throughput != null ? positiveInt(throughput.get("requests_per_second"), 0) : 0;
+                perMinute = perSecond > 0 ? (int) Math.min(Integer.MAX_VALUE, perSecond * 60L) : 1000;
+            }
+            return new RateLimits(
+                    algorithm(rateLimiting.get("algorithm")),
+                    positiveInt(rateLimiting.get("requests_per_second"), 0),
+                    perMinute,
+                    positiveInt(rateLimiting.get("requests_per_hour"), 10000),
+                    positiveInt(rateLimiting.get("requests_per_day"), 100000),
+                    positiveInt(rateLimiting.get("burst_capacity"), 0));
+        }
+
+        private static String algorithm(Object value) {
+            String name = value != null ? value.toString().trim().toUpperCase(Locale.ROOT).replace('-', '_') : "";
+            return switch (name) {
+                case "GCRA", "SLIDING_WINDOW" -> name;
+                default -> "TOKEN_BUCKET";
+            };
+        }
+
+        private static int positiveInt(Object value, int defaultValue) {
+            long parsed;
+            if (value instanceof Number number) {
+                parsed = number.longValue();
+            } else if (value instanceof String text) {
+                try {
+                    parsed = Long.parseLong(text.trim());
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            } else {
+                return defaultValue;
+            }
+            return parsed > 0 ? (int) Math.min(Integer.MAX_VALUE, parsed) : defaultValue;
+        }
+    }
 }
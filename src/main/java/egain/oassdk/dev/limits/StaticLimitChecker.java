@@ -1,18 +1,33 @@
 package egain.oassdk.dev.limits;
 
+import egain.oassdk.Util;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.generators.common.OpenApiPathUtils;
+import egain.oassdk.generators.common.OpenApiSchemaUtils;
+import egain.oassdk.generators.java.JerseyNamingUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Generates static limit checkers based on OpenAPI specification
  */
 public class StaticLimitChecker {
 
+    static final String MAX_BODY_SIZE_EXTENSION = "x-max-body-size";
+
     /**
      * Generate static limit checkers
      *
@@ -27,20 +42,19 @@ public class StaticLimitChecker {
         try {
             Files.createDirectories(Paths.get(outputDir));
 
+            // Route matcher of the generated checkers, shared with the Jersey runtime
+            String routeIndex = readRuntimeResource("runtime/jersey/egain/ws/oas/RouteIndex.java")
+                    .replaceFirst("package egain\\.ws\\.oas;", "package com.example.limits;");
+            Files.write(Paths.get(outputDir, "RouteIndex.java"), routeIndex.getBytes(StandardCharsets.UTF_8));
+
             // Generate request size limit checker
             generateRequestSizeLimitChecker(spec, outputDir);
 
             // Generate response size limit checker
             generateResponseSizeLimitChecker(spec, outputDir);
 
-            // Generate field length limit checker
-            generateFieldLengthLimitChecker(spec, outputDir);
-
-            // Generate array size limit checker
-            generateArraySizeLimitChecker(spec, outputDir);
-
-            // Generate numeric range limit checker
-            generateNumericRangeLimitChecker(spec, outputDir);
+            // Generate field length, array size and numeric range limit checker
+            generateJsonLimitChecker(spec, outputDir);
 
             // Generate configuration
             generateStaticLimitConfig(spec, outputDir);
@@ -54,6 +68,7 @@ public class StaticLimitChecker {
      * Generate request size limit checker
      */
     private void generateRequestSizeLimitChecker(Map<String, Object> spec, String outputDir) throws IOException {
+        long defaultLimit = BodyLimit.defaultLimit(spec);
         String content = """
                 package com.example.limits;
                 
@@ -63,19 +78,34 @@ public class StaticLimitChecker {
                 import jakarta.ws.rs.core.Response;
                 import jakarta.ws.rs.ext.Provider;
                 import java.io.IOException;
+                import java.util.Locale;
                 
+                /**
+                 * Rejects oversize requests before their body is read.
+                 *
+                 * <p>The body limit is resolved per operation from the spec ({@code x-max-body-size}, or a bound derived
+                 * from {@code maxLength}/{@code maxItems}). A declared {@code Content-Length} above it is rejected here;
+                 * chunked and unknown-length bodies are counted as they stream by {@link RequestBodyLimitInterceptor},
+                 * which picks the resolved limit up from the request properties.
+                 */
                 @Provider
                 @Singleton
                 public class RequestSizeLimitChecker implements ContainerRequestFilter {
                 
-                    private static final long MAX_REQUEST_SIZE = 1024 * 1024; // 1MB
+                    /** Body limit of operations without one of their own. */
+                    public static final long MAX_REQUEST_SIZE = __MAX_REQUEST_SIZE__L;
                     private static final long MAX_HEADER_SIZE = 8 * 1024; // 8KB
+                    static final String MAX_BODY_SIZE_PROPERTY = "limits.maxBodySize";
+                
+                    // Body limit of every operation; the index matches literal segments before templated ones
+                    private static final RouteIndex<Long> BODY_LIMITS = new RouteIndex<Long>()__BODY_LIMITS__;
                 
                     @Override
                     public void filter(ContainerRequestContext requestContext) throws IOException {
-                        // Check request size
+                        // Check the declared request size; -1 (unknown or chunked) is enforced while streaming
+                        long maxBodySize = maxBodySize(requestContext.getMethod(), requestContext.getUriInfo().getPath());
                         int contentLength = requestContext.getLength();
-                        if (contentLength > MAX_REQUEST_SIZE) {
+                        if (contentLength > maxBodySize) {
                             requestContext.abortWith(
                                 Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE)
                                     .entity("Request size exceeds maximum allowed size")
@@ -83,6 +113,7 @@ public class StaticLimitChecker {
                             );
                             return;
                         }
+                        requestContext.setProperty(MAX_BODY_SIZE_PROPERTY, maxBodySize);
                 
                         // Check header size
                         long headerSize = getHeaderSize(requestContext);
@@ -95,6 +126,14 @@ public class StaticLimitChecker {
                         }
                     }
                 
+                    /**
+                     * Body limit of the operation serving {@code method} and {@code path}, or {@link #MAX_REQUEST_SIZE}.
+                     */
+                    public static long maxBodySize(String method, String path) {
+                        Long limit = method != null ? BODY_LIMITS.lookup(path, method.toUpperCase(Locale.ROOT)) : null;
+                        return limit != null ? limit : MAX_REQUEST_SIZE;
+                    }
+                
                     private long getHeaderSize(ContainerRequestContext requestContext) {
                         long size = 0;
                         for (String headerName : requestContext.getHeaders().keySet()) {
@@ -107,9 +146,116 @@ public class StaticLimitChecker {
                         return size;
                     }
                 }
-                """;
+                """
+                .replace("__MAX_REQUEST_SIZE__", String.valueOf(defaultLimit))
+                .replace("__BODY_LIMITS__", bodyLimitEntries(BodyLimit.fromSpec(spec, defaultLimit)));
 
         Files.write(Paths.get(outputDir, "RequestSizeLimitChecker.java"), content.getBytes(StandardCharsets.UTF_8));
+
+        String interceptor = """
+                package com.example.limits;
+                
+                import jakarta.inject.Singleton;
+                import jakarta.ws.rs.WebApplicationException;
+                import jakarta.ws.rs.core.Response;
+                import jakarta.ws.rs.ext.Provider;
+                import jakarta.ws.rs.ext.ReaderInterceptor;
+                import jakarta.ws.rs.ext.ReaderInterceptorContext;
+                import java.io.FilterInputStream;
+                import java.io.IOException;
+                import java.io.InputStream;
+                
+                /**
+                 * Counts request body bytes as the entity provider reads them and fails the request with 413 as soon as
+                 * the operation's limit is passed, so an oversize chunked upload is never fully read into memory.
+                 */
+                @Provider
+                @Singleton
+                public class RequestBodyLimitInterceptor implements ReaderInterceptor {
+                
+                    @Override
+                    public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
+                        Object limit = context.getProperty(RequestSizeLimitChecker.MAX_BODY_SIZE_PROPERTY);
+                        long maxBodySize = limit instanceof Long value ? value : RequestSizeLimitChecker.MAX_REQUEST_SIZE;
+                        context.setInputStream(new LimitedInputStream(context.getInputStream(), maxBodySize));
+                        return context.proceed();
+                    }
+                
+                    static final class LimitedInputStream extends FilterInputStream {
+                
+                        private final long maxBytes;
+                        private long count;
+                
+                        LimitedInputStream(InputStream in, long maxBytes) {
+                            super(in);
+                            this.maxBytes = maxBytes;
+                        }
+                
+                        @Override
+                        public int read() throws IOException {
+                            int b = super.read();
+                            if (b >= 0) {
+                                consumed(1);
+                            }
+                            return b;
+                        }
+                
+                        @Override
+                        public int read(byte[] buffer, int offset, int length) throws IOException {
+                            // Never read more than one byte past the limit
+                            long remaining = maxBytes - count + 1;
+                            int n = super.read(buffer, offset, (int) Math.min(length, Math.max(1, remaining)));
+                            if (n > 0) {
+                                consumed(n);
+                            }
+                            return n;
+                        }
+                
+                        @Override
+                        public long skip(long n) throws IOException {
+                            long skipped = super.skip(Math.min(n, Math.max(1, maxBytes - count + 1)));
+                            consumed(skipped);
+                            return skipped;
+                        }
+                
+                        @Override
+                        public boolean markSupported() {
+                            return false;
+                        }
+                
+                        private void consumed(long n) {
+                            count += n;
+                            if (count > maxBytes) {
+                                throw new WebApplicationException(
+                                    Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE)
+                                        .entity("Request size exceeds maximum allowed size")
+                                        .build()
+                                );
+                            }
+                        }
+                    }
+                }
+                """;
+
+        Files.write(Paths.get(outputDir, "RequestBodyLimitInterceptor.java"), interceptor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String bodyLimitEntries(List<BodyLimit> limits) {
+        StringBuilder content = new StringBuilder();
+        for (BodyLimit limit : limits) {
+            content.append("\n            .add(\"").append(JerseyNamingUtils.escapeJavaString(limit.template()))
+                    .append("\", \"").append(limit.method()).append("\", ").append(limit.maxBytes()).append("L)");
+        }
+        return content.toString();
+    }
+
+    private static String readRuntimeResource(String resourcePath) throws IOException {
+        try (InputStream in = StaticLimitChecker.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                throw new IOException("Missing runtime resource on classpath: " + resourcePath);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
     }
 
     /**
@@ -151,255 +297,244 @@ public class StaticLimitChecker {
     }
 
     /**
-     * Generate field length limit checker
+     * Generate the JSON limit checker: field length, array size and numeric range limits of request bodies
      */
-    private void generateFieldLengthLimitChecker(Map<String, Object> spec, String outputDir) throws IOException {
+    private void generateJsonLimitChecker(Map<String, Object> spec, String outputDir) throws IOException {
+        LimitTables tables = LimitTables.fromSpec(spec);
         String content = """
                 package com.example.limits;
                 
+                import com.fasterxml.jackson.core.JsonFactory;
+                import com.fasterxml.jackson.core.JsonParser;
+                import com.fasterxml.jackson.core.JsonToken;
                 import jakarta.inject.Singleton;
-                import com.fasterxml.jackson.databind.JsonNode;
-                import com.fasterxml.jackson.databind.ObjectMapper;
-                import java.util.Map;
+                import java.io.IOException;
+                import java.io.InputStream;
+                import java.math.BigDecimal;
                 import java.util.HashMap;
+                import java.util.Locale;
+                import java.util.Map;
                 
+                /**
+                 * Enforces the {@code maxLength}, {@code maxItems} and {@code minimum}/{@code maximum} limits of request
+                 * bodies in one pass over a streaming {@link JsonParser}.
+                 *
+                 * <p>Limits are compiled from the spec into a tree per operation that only holds constrained values, so
+                 * subtrees without limits are skipped without being materialized and memory stays bounded by the
+                 * nesting depth. Checking stops at the first violation; an array over its {@code maxItems} is not read
+                 * past the first extra element.
+                 */
                 @Singleton
-                public class FieldLengthLimitChecker {
+                public class JsonLimitChecker {
                 
-                    private final ObjectMapper objectMapper = new ObjectMapper();
-                    private final Map<String, Integer> fieldLengthLimits = new HashMap<>();
-                
-                    public FieldLengthLimitChecker() {
-                        initializeFieldLimits();
-                    }
+                    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+                    private static final Map<String, Node> SCHEMAS = new HashMap<>();
+                    // Body tree of every operation, null when it has no limits; literal segments match before templated ones
+                    private static final RouteIndex<Node> OPERATIONS;
                 
-                    private void initializeFieldLimits() {
-                        // Initialize field length limits based on OpenAPI spec
-                        // These would be generated from the OpenAPI specification
-                        fieldLengthLimits.put("name", 100);
-                        fieldLengthLimits.put("description", 500);
-                        fieldLengthLimits.put("email", 255);
-                        fieldLengthLimits.put("phone", 20);
-                        fieldLengthLimits.put("address", 1000);
+                    static {
+                __SCHEMAS__        OPERATIONS = new RouteIndex<Node>()__OPERATIONS__;
                     }
                 
-                    public boolean validateFieldLengths(String jsonString) {
-                        try {
-                            JsonNode jsonNode = objectMapper.readTree(jsonString);
-                            return validateFieldLengths(jsonNode, "");
-                        } catch (Exception e) {
-                            return false;
+                    /**
+                     * Check a request body against the limits of the operation serving {@code method} and {@code path}.
+                     *
+                     * @return the first violation, or null when the body is within its limits or the operation has none
+                     * @throws IOException if the body is not well-formed JSON
+                     */
+                    public Violation check(String method, String path, InputStream body) throws IOException {
+                        Node root = rootFor(method, path);
+                        if (root == null) {
+                            return null;
                         }
-                    }
-                
-                    private boolean validateFieldLengths(JsonNode jsonNode, String path) {
-                        if (jsonNode.isObject()) {
-                            jsonNode.fields().forEachRemaining(entry -> {
-                                String fieldName = entry.getKey();
-                                JsonNode fieldValue = entry.getValue();
-                                String currentPath = path.isEmpty() ? fieldName : path + "." + fieldName;
-                
-                                if (fieldValue.isTextual()) {
-                                    String textValue = fieldValue.asText();
-                                    Integer maxLength = fieldLengthLimits.get(fieldName);
-                                    if (maxLength != null && textValue.length() > maxLength) {
-                                        throw new RuntimeException("Field '" + currentPath + "' exceeds maximum length of " + maxLength);
-                                    }
-                                } else if (fieldValue.isObject()) {
-                                    validateFieldLengths(fieldValue, currentPath);
-                                } else if (fieldValue.isArray()) {
-                                    for (int i = 0; i < fieldValue.size(); i++) {
-                                        validateFieldLengths(fieldValue.get(i), currentPath + "[" + i + "]");
-                                    }
-                                }
-                            });
+                        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+                            return check(parser, root);
                         }
-                        return true;
                     }
                 
-                    public void addFieldLimit(String fieldName, int maxLength) {
-                        fieldLengthLimits.put(fieldName, maxLength);
+                    /**
+                     * Same as {@link #check(String, String, InputStream)} for a body already held as a string.
+                     */
+                    public Violation check(String method, String path, String body) throws IOException {
+                        Node root = rootFor(method, path);
+                        if (root == null) {
+                            return null;
+                        }
+                        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+                            return check(parser, root);
+                        }
                     }
                 
-                    public void removeFieldLimit(String fieldName) {
-                        fieldLengthLimits.remove(fieldName);
+                    private static Node rootFor(String method, String path) {
+                        return method != null ? OPERATIONS.lookup(path, method.toUpperCase(Locale.ROOT)) : null;
                     }
-                }
-                """;
-
-        Files.write(Paths.get(outputDir, "FieldLengthLimitChecker.java"), content.getBytes(StandardCharsets.UTF_8));
-    }
-
-    /**
-     * Generate array size limit checker
-     */
-    private void generateArraySizeLimitChecker(Map<String, Object> spec, String outputDir) throws IOException {
-        String content = """
-                package com.example.limits;
                 
-                import jakarta.inject.Singleton;
-                import com.fasterxml.jackson.databind.JsonNode;
-                import com.fasterxml.jackson.databind.ObjectMapper;
-                import java.util.Map;
-                import java.util.HashMap;
-                
-                @Singleton
-                public class ArraySizeLimitChecker {
-                
-                    private final ObjectMapper objectMapper = new ObjectMapper();
-                    private final Map<String, Integer> arraySizeLimits = new HashMap<>();
-                
-                    public ArraySizeLimitChecker() {
-                        initializeArrayLimits();
-                    }
-                
-                    private void initializeArrayLimits() {
-                        // Initialize array size limits based on OpenAPI spec
-                        // These would be generated from the OpenAPI specification
-                        arraySizeLimits.put("items", 1000);
-                        arraySizeLimits.put("tags", 50);
-                        arraySizeLimits.put("categories", 20);
-                        arraySizeLimits.put("users", 10000);
+                    private static Violation check(JsonParser parser, Node root) throws IOException {
+                        JsonToken token = parser.nextToken();
+                        return token == null ? null : value(parser, token, root);
                     }
                 
-                    public boolean validateArraySizes(String jsonString) {
-                        try {
-                            JsonNode jsonNode = objectMapper.readTree(jsonString);
-                            return validateArraySizes(jsonNode, "");
-                        } catch (Exception e) {
-                            return false;
+                    private static Violation value(JsonParser parser, JsonToken token, Node node) throws IOException {
+                        node = node.target();
+                        if (node == null) {
+                            parser.skipChildren();
+                            return null;
                         }
-                    }
-                
-                    private boolean validateArraySizes(JsonNode jsonNode, String path) {
-                        if (jsonNode.isArray()) {
-                            String arrayName = path.isEmpty() ? "array" : path;
-                            Integer maxSize = arraySizeLimits.get(arrayName);
-                            if (maxSize != null && jsonNode.size() > maxSize) {
-                                throw new RuntimeException("Array '" + arrayName + "' exceeds maximum size of " + maxSize);
+                        switch (token) {
+                            case START_OBJECT -> {
+                                if (node.properties == null) {
+                                    parser.skipChildren();
+                                    return null;
+                                }
+                                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                    Node property = node.properties.get(parser.currentName());
+                                    JsonToken valueToken = parser.nextToken();
+                                    if (property == null) {
+                                        parser.skipChildren();
+                                        continue;
+                                    }
+                                    Violation violation = value(parser, valueToken, property);
+                                    if (violation != null) {
+                                        return violation;
+                                    }
+                                }
+                                return null;
                             }
-                
-                            // Validate each element in the array
-                            for (int i = 0; i < jsonNode.size(); i++) {
-                                validateArraySizes(jsonNode.get(i), path + "[" + i + "]");
+                            case START_ARRAY -> {
+                                int count = 0;
+                                JsonToken element;
+                                while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+                                    if (node.maxItems >= 0 && ++count > node.maxItems) {
+                                        return violation(parser, "exceeds maximum size of " + node.maxItems);
+                                    }
+                                    if (node.items == null) {
+                                        parser.skipChildren();
+                                        continue;
+                                    }
+                                    Violation violation = value(parser, element, node.items);
+                                    if (violation != null) {
+                                        return violation;
+                                    }
+                                }
+                                return null;
+                            }
+                            case VALUE_STRING -> {
+                                // maxLength counts code points; only bodies longer in chars can be too long
+                                if (node.maxLength >= 0 && parser.getTextLength() > node.maxLength
+                                        && Character.codePointCount(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength()) > node.maxLength) {
+                                    return violation(parser, "exceeds maximum length of " + node.maxLength);
+                                }
+                                return null;
+                            }
+                            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                                if (node.minimum == null && node.maximum == null) {
+                                    return null;
+                                }
+                                BigDecimal number = token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER
+                                        ? BigDecimal.valueOf(parser.getLongValue())
+                                        : parser.getDecimalValue();
+                                if (node.minimum != null) {
+                                    int compared = number.compareTo(node.minimum);
+                                    if (compared < 0 || compared == 0 && node.exclusiveMinimum) {
+                                        return violation(parser, "is below minimum of " + node.minimum);
+                                    }
+                                }
+                                if (node.maximum != null) {
+                                    int compared = number.compareTo(node.maximum);
+                                    if (compared > 0 || compared == 0 && node.exclusiveMaximum) {
+                                        return violation(parser, "is above maximum of " + node.maximum);
+                                    }
+                                }
+                                return null;
+                            }
+                            default -> {
+                                return null;
                             }
-                        } else if (jsonNode.isObject()) {
-                            jsonNode.fields().forEachRemaining(entry -> {
-                                String fieldName = entry.getKey();
-                                JsonNode fieldValue = entry.getValue();
-                                String currentPath = path.isEmpty() ? fieldName : path + "." + fieldName;
-                                validateArraySizes(fieldValue, currentPath);
-                            });
                         }
-                        return true;
                     }
                 
-                    public void addArrayLimit(String arrayName, int maxSize) {
-                        arraySizeLimits.put(arrayName, maxSize);
+                    private static Violation violation(JsonParser parser, String message) {
+                        // The location is only rendered once something is wrong
+                        String pointer = parser.getParsingContext().pathAsPointer().toString();
+                        return new Violation(pointer.isEmpty() ? "/" : pointer, message);
                     }
                 
-                    public void removeArrayLimit(String arrayName) {
-                        arraySizeLimits.remove(arrayName);
-                    }
-                }
-                """;
-
-        Files.write(Paths.get(outputDir, "ArraySizeLimitChecker.java"), content.getBytes(StandardCharsets.UTF_8));
-    }
-
-    /**
-     * Generate numeric range limit checker
-     */
-    private void generateNumericRangeLimitChecker(Map<String, Object> spec, String outputDir) throws IOException {
-        String content = """
-                package com.example.limits;
+                    /**
+                     * A limit violation at a JSON Pointer into the body.
+                     */
+                    public record Violation(String pointer, String message) {
                 
-                import jakarta.inject.Singleton;
-                import com.fasterxml.jackson.databind.JsonNode;
-                import com.fasterxml.jackson.databind.ObjectMapper;
-                import java.util.Map;
-                import java.util.HashMap;
-                import java.math.BigDecimal;
-                
-                @Singleton
-                public class NumericRangeLimitChecker {
+                        @Override
+                        public String toString() {
+                            return "Value at '" + pointer + "' " + message;
+                        }
+                    }
                 
-                    private final ObjectMapper objectMapper = new ObjectMapper();
-                    private final Map<String, NumericRange> numericRanges = new HashMap<>();
+                    /**
+                     * Limits of one schema. Built once during class initialization and read-only afterwards.
+                     */
+                    private static final class Node {
+                        private String ref;
+                        private int maxLength = -1;
+                        private int maxItems = -1;
+                        private BigDecimal minimum;
+                        private boolean exclusiveMinimum;
+                        private BigDecimal maximum;
+                        private boolean exclusiveMaximum;
+                        private Map<String, Node> properties;
+                        private Node items;
                 
-                    public static class NumericRange {
-                        private final BigDecimal minimum;
-                        private final BigDecimal maximum;
+                        static Node ref(String schemaName) {
+                            Node node = new Node();
+                            node.ref = schemaName;
+                            return node;
+                        }
                 
-                        public NumericRange(BigDecimal minimum, BigDecimal maximum) {
-                            this.minimum = minimum;
-                            this.maximum = maximum;
+                        Node target() {
+                            return ref == null ? this : SCHEMAS.get(ref);
                         }
                 
-                        public boolean isInRange(BigDecimal value) {
-                            return (minimum == null || value.compareTo(minimum) >= 0) &&
-                                   (maximum == null || value.compareTo(maximum) <= 0);
+                        Node maxLength(int maxLength) {
+                            this.maxLength = maxLength;
+                            return this;
                         }
-                    }
                 
-                    public NumericRangeLimitChecker() {
-                        initializeNumericRanges();
-                    }
+                        Node maxItems(int maxItems) {
+                            this.maxItems = maxItems;
+                            return this;
+                        }
                 
-                    private void initializeNumericRanges() {
-                        // Initialize numeric ranges based on OpenAPI spec
-                        // These would be generated from the OpenAPI specification
-                        numericRanges.put("age", new NumericRange(BigDecimal.ZERO, new BigDecimal("150")));
-                        numericRanges.put("price", new NumericRange(BigDecimal.ZERO, new BigDecimal("1000000")));
-                        numericRanges.put("quantity", new NumericRange(BigDecimal.ZERO, new BigDecimal("10000")));
-                        numericRanges.put("rating", new NumericRange(BigDecimal.ZERO, new BigDecimal("5")));
-                    }
+                        Node minimum(String minimum, boolean exclusive) {
+                            this.minimum = new BigDecimal(minimum);
+                            this.exclusiveMinimum = exclusive;
+                            return this;
+                        }
                 
-                    public boolean validateNumericRanges(String jsonString) {
-                        try {
-                            JsonNode jsonNode = objectMapper.readTree(jsonString);
-                            return validateNumericRanges(jsonNode, "");
-                        } catch (Exception e) {
-                            return false;
+                        Node maximum(String maximum, boolean exclusive) {
+                            this.maximum = new BigDecimal(maximum);
+                            this.exclusiveMaximum = exclusive;
+                            return this;
                         }
-                    }
                 
-                    private boolean validateNumericRanges(JsonNode jsonNode, String path) {
-                        if (jsonNode.isNumber()) {
-                            String fieldName = path.isEmpty() ? "number" : path;
-                            NumericRange range = numericRanges.get(fieldName);
-                            if (range != null) {
-                                BigDecimal value = jsonNode.decimalValue();
-                                if (!range.isInRange(value)) {
-                                    throw new RuntimeException("Numeric field '" + fieldName + "' is out of range: " + value);
-                                }
-                            }
-                        } else if (jsonNode.isObject()) {
-                            jsonNode.fields().forEachRemaining(entry -> {
-                                String fieldName = entry.getKey();
-                                JsonNode fieldValue = entry.getValue();
-                                String currentPath = path.isEmpty() ? fieldName : path + "." + fieldName;
-                                validateNumericRanges(fieldValue, currentPath);
-                            });
-                        } else if (jsonNode.isArray()) {
-                            for (int i = 0; i < jsonNode.size(); i++) {
-                                validateNumericRanges(jsonNode.get(i), path + "[" + i + "]");
+                        Node property(String name, Node node) {
+                            if (properties == null) {
+                                properties = new HashMap<>();
                             }
+                            properties.put(name, node);
+                            return this;
                         }
-                        return true;
-                    }
                 
-                    public void addNumericRange(String fieldName, BigDecimal minimum, BigDecimal maximum) {
-                        numericRanges.put(fieldName, new NumericRange(minimum, maximum));
-                    }
-                
-                    public void removeNumericRange(String fieldName) {
-                        numericRanges.remove(fieldName);
+                        Node items(Node items) {
+                            this.items = items;
+                            return this;
+                        }
                     }
                 }
-                """;
+                """
+                .replace("__SCHEMAS__", tables.schemas())
+                .replace("__OPERATIONS__", tables.operations());
 
-        Files.write(Paths.get(outputDir, "NumericRangeLimitChecker.java"), content.getBytes(StandardCharsets.UTF_8));
+        Files.write(Paths.get(outputDir, "JsonLimitChecker.java"), content.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -415,41 +550,557 @@ public class StaticLimitChecker {
                 public class StaticLimitConfig {
                 
                     private final RequestSizeLimitChecker requestSizeLimitChecker;
+                    private final RequestBodyLimitInterceptor requestBodyLimitInterceptor;
                     private final ResponseSizeLimitChecker responseSizeLimitChecker;
-                    private final FieldLengthLimitChecker fieldLengthLimitChecker;
-                    private final ArraySizeLimitChecker arraySizeLimitChecker;
-                    private final NumericRangeLimitChecker numericRangeLimitChecker;
+                    private final JsonLimitChecker jsonLimitChecker;
                 
                     public StaticLimitConfig() {
                         this.requestSizeLimitChecker = new RequestSizeLimitChecker();
+                        this.requestBodyLimitInterceptor = new RequestBodyLimitInterceptor();
                         this.responseSizeLimitChecker = new ResponseSizeLimitChecker();
-                        this.fieldLengthLimitChecker = new FieldLengthLimitChecker();
-                        this.arraySizeLimitChecker = new ArraySizeLimitChecker();
-                        this.numericRangeLimitChecker = new NumericRangeLimitChecker();
+                        this.jsonLimitChecker = new JsonLimitChecker();
                     }
                 
                     public RequestSizeLimitChecker getRequestSizeLimitChecker() {
                         return requestSizeLimitChecker;
                     }
                 
-                    public ResponseSizeLimitChecker getResponseSizeLimitChecker() {
-                        return responseSizeLimitChecker;
-                    }
-                
-                    public FieldLengthLimitChecker getFieldLengthLimitChecker() {
-                        return fieldLengthLimitChecker;
+                    public RequestBodyLimitInterceptor getRequestBodyLimitInterceptor() {
+                        return requestBodyLimitInterceptor;
                     }
                 
-                    public ArraySizeLimitChecker getArraySizeLimitChecker() {
-                        return arraySizeLimitChecker;
+                    public ResponseSizeLimitChecker getResponseSizeLimitChecker() {
+                        return responseSizeLimitChecker;
                     }
                 
-                    public NumericRangeLimitChecker getNumericRangeLimitChecker() {
-                        return numericRangeLimitChecker;
+                    public JsonLimitChecker getJsonLimitChecker() {
+                        return jsonLimitChecker;
                     }
                 }
                 """;
 
         Files.write(Paths.get(outputDir, "StaticLimitConfig.java"), content.getBytes(StandardCharsets.UTF_8));
     }
+
+    /**
+     * Request body limit of one operation, registered under both its full path and its spec path. Every operation
+     * that may carry a body gets one, including those on the default, so that a literal route never falls through
+     * to the limit of a templated sibling.
+     *
+     * <p>An explicit {@code x-max-body-size} (bytes, or a size such as {@code "512KB"}) on the operation, its
+     * request body or the body schema wins. Otherwise a JSON body whose schema bounds every value through
+     * {@code maxLength}, {@code maxItems}, {@code enum} or closed objects ({@code additionalProperties: false})
+     * gets twice its largest compact encoding, leaving room for whitespace; anything unbounded keeps the default.
+     * A derived limit never exceeds the default.
+     */
+    record BodyLimit(String method, String template, long maxBytes) {
+
+        static final long DEFAULT_MAX_BODY_SIZE = 1024 * 1024; // 1MB
+        private static final long UNBOUNDED = -1;
+        static final String[] BODY_METHODS = {"post", "put", "patch", "delete"};
+
+        /** Root-level {@code x-max-body-size}, or 1MB. */
+        static long defaultLimit(Map<String, Object> spec) {
+            long limit = spec != null ? size(spec.get(MAX_BODY_SIZE_EXTENSION)) : UNBOUNDED;
+            return limit > 0 ? limit : DEFAULT_MAX_BODY_SIZE;
+        }
+
+        static List<BodyLimit> fromSpec(Map<String, Object> spec, long defaultLimit) {
+            Map<String, Object> paths = spec != null ? Util.asStringObjectMap(spec.get("paths")) : null;
+            if (paths == null) {
+                return List.of();
+            }
+            String basePath = OpenApiPathUtils.extractServerBasePath(spec);
+            List<BodyLimit> limits = new ArrayList<>();
+            for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+                Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+                if (pathItem == null) {
+                    continue;
+                }
+                String path = pathEntry.getKey().startsWith("/") ? pathEntry.getKey() : "/" + pathEntry.getKey();
+                String fullPath = OpenApiPathUtils.buildFullPath(basePath, path);
+                for (String method : BODY_METHODS) {
+                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    if (operation == null) {
+                        continue;
+                    }
+                    long limit = operationLimit(operation, spec, defaultLimit);
+                    String httpMethod = method.toUpperCase(Locale.ROOT);
+                    limits.add(new BodyLimit(httpMethod, fullPath, limit));
+                    if (!fullPath.equals(path)) {
+                        limits.add(new BodyLimit(httpMethod, path, limit));
+                    }
+                }
+            }
+            return limits;
+        }
+
+        private static long operationLimit(Map<String, Object> operation, Map<String, Object> spec, long defaultLimit) {
+            long explicit = size(operation.get(MAX_BODY_SIZE_EXTENSION));
+            if (explicit > 0) {
+                return explicit;
+            }
+            Map<String, Object> requestBody = Util.asStringObjectMap(operation.get("requestBody"));
+            if (requestBody != null && requestBody.containsKey("$ref")) {
+                requestBody = resolveComponent(spec, "requestBodies", (String) requestBody.get("$ref"));
+            }
+            if (requestBody == null) {
+                return defaultLimit;
+            }
+            explicit = size(requestBody.get(MAX_BODY_SIZE_EXTENSION));
+            if (explicit > 0) {
+                return explicit;
+            }
+            Map<String, Object> content = Util.asStringObjectMap(requestBody.get("content"));
+            if (content == null || content.isEmpty()) {
+                return defaultLimit;
+            }
+            // The operation accepts any of its media types, so its limit is the largest
+            long limit = 0;
+            for (Map.Entry<String, Object> mediaType : content.entrySet()) {
+                Map<String, Object> media = Util.asStringObjectMap(mediaType.getValue());
+                Map<String, Object> schema = media != null ? Util.asStringObjectMap(media.get("schema")) : null;
+                Map<String, Object> resolved = OpenApiSchemaUtils.resolveRefInSchema(schema, spec);
+                long mediaLimit = resolved != null ? size(resolved.get(MAX_BODY_SIZE_EXTENSION)) : UNBOUNDED;
+                if (mediaLimit <= 0) {
+                    long bound = mediaType.getKey().toLowerCase(Locale.ROOT).contains("json")
+                            ? jsonBound(schema, spec, Collections.newSetFromMap(new IdentityHashMap<>()))
+                            : UNBOUNDED;
+                    mediaLimit = bound < 0 || bound > defaultLimit / 2 ? defaultLimit : bound * 2;
+                }
+                limit = Math.max(limit, mediaLimit);
+            }
+            return limit;
+        }
+
+        /**
+         * Largest compact JSON encoding of a value of {@code schema}, or {@link #UNBOUNDED}. Strings count
+         * every character as a six byte unicode escape.
+         *
+         * @param visiting schemas being bounded, by identity; a schema reached again within itself is recursive
+         */
+        static long jsonBound(Map<String, Object> schema, Map<String, Object> spec, Set<Map<String, Object>> visiting) {
+            if (schema == null) {
+                return UNBOUNDED;
+            }
+            Map<String, Object> resolved = referencedSchema(schema, spec);
+            if (resolved == null || !visiting.add(resolved)) {
+                // Unresolvable or recursive: no finite bound
+                return UNBOUNDED;
+            }
+            try {
+                return boundOf(resolved, spec, visiting);
+            } finally {
+                visiting.remove(resolved);
+            }
+        }
+
+        private static long boundOf(Map<String, Object> schema, Map<String, Object> spec, Set<Map<String, Object>> visiting) {
+            List<Map<String, Object>> allOf = schemaList(schema.get("allOf"));
+            if (allOf != null) {
+                // Merged objects are no larger than their parts side by side
+                long total = 0;
+                for (Map<String, Object> part : allOf) {
+                    long bound = jsonBound(part, spec, visiting);
+                    if (bound < 0) {
+                        return UNBOUNDED;
+                    }
+                    total = saturatedAdd(total, bound);
+                }
+                return total;
+            }
+            List<Map<String, Object>> alternatives = schemaList(
+                    schema.containsKey("oneOf") ? schema.get("oneOf") : schema.get("anyOf"));
+            if (alternatives != null) {
+                long max = 0;
+                for (Map<String, Object> alternative : alternatives) {
+                    long bound = jsonBound(alternative, spec, visiting);
+                    if (bound < 0) {
+                        return UNBOUNDED;
+                    }
+                    max = Math.max(max, bound);
+                }
+                return max;
+            }
+            List<Object> enumValues = Util.asObjectList(schema.get("enum"));
+            if (enumValues != null && !enumValues.isEmpty()) {
+                long max = 0;
+                for (Object value : enumValues) {
+                    max = Math.max(max, value == null ? 4 : 2 + 6L * value.toString().length());
+                }
+                return max;
+            }
+            String type = schema.get("type") instanceof String value ? value : null;
+            if (type == null && schema.containsKey("properties")) {
+                type = "object";
+            }
+            if (type == null) {
+                return UNBOUNDED;
+            }
+            return switch (type) {
+                case "string" -> {
+                    long maxLength = size(schema.get("maxLength"));
+                    yield maxLength >= 0 ? saturatedAdd(2, saturatedMultiply(6, maxLength)) : UNBOUNDED;
+                }
+                case "integer" -> 20;
+                case "number" -> 32;
+                case "boolean" -> 5;
+                case "array" -> {
+                    long maxItems = size(schema.get("maxItems"));
+                    Object items = schema.get("items");
+                    long item = items != null ? jsonBound(schemaMap(items), spec, visiting) : UNBOUNDED;
+                    yield maxItems >= 0 && item >= 0 ? saturatedAdd(2, saturatedMultiply(maxItems, saturatedAdd(item, 1))) : UNBOUNDED;
+                }
+                case "object" -> {
+                    if (!Boolean.FALSE.equals(schema.get("additionalProperties"))) {
+                        yield UNBOUNDED;
+                    }
+                    Map<String, Object> properties = schemaMap(schema.get("properties"));
+                    long total = 2;
+                    if (properties != null) {
+                        for (Map.Entry<String, Object> property : properties.entrySet()) {
+                            long bound = jsonBound(schemaMap(property.getValue()), spec, visiting);
+                            if (bound < 0) {
+                                yield UNBOUNDED;
+                            }
+                            total = saturatedAdd(total, saturatedAdd(4 + 6L * property.getKey().length(), bound));
+                        }
+                    }
+                    yield total;
+                }
+                default -> UNBOUNDED;
+            };
+        }
+
+        /**
+         * The component schema a {@code $ref} names, or {@code schema} itself when it has none; null when the reference
+         * does not resolve. Maps are taken as the spec holds them, never copied, so that a schema reached again is the
+         * same object.
+         */
+        private static Map<String, Object> referencedSchema(Map<String, Object> schema, Map<String, Object> spec) {
+            if (!(schema.get("$ref") instanceof String ref)) {
+                return schema;
+            }
+            if (spec == null || !ref.contains("components/schemas/")) {
+                return null;
+            }
+            Map<String, Object> components = schemaMap(spec.get("components"));
+            Map<String, Object> schemas = components != null ? schemaMap(components.get("schemas")) : null;
+            return schemas != null ? schemaMap(schemas.get(ref.substring(ref.lastIndexOf('/') + 1))) : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Object> schemaMap(Object value) {
+            return value instanceof Map<?, ?> map ? (Map<String, Object>) map : null;
+        }
+
+        private static List<Map<String, Object>> schemaList(Object value) {
+            if (!(value instanceof List<?> list)) {
+                return null;
+            }
+            List<Map<String, Object>> schemas = new ArrayList<>(list.size());
+            for (Object item : list) {
+                schemas.add(schemaMap(item));
+            }
+            return schemas;
+        }
+
+        /** Sum of two non-negative sizes, capped at {@link Long#MAX_VALUE} rather than overflowing. */
+        private static long saturatedAdd(long a, long b) {
+            long sum = a + b;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        }
+
+        /** Product of two non-negative sizes, capped at {@link Long#MAX_VALUE} rather than overflowing. */
+        private static long saturatedMultiply(long a, long b) {
+            return Math.multiplyHigh(a, b) != 0 || a * b < 0 ? Long.MAX_VALUE : a * b;
+        }
+
+        static Map<String, Object> resolveComponent(Map<String, Object> spec, String section, String ref) {
+            String prefix = "#/components/" + section + "/";
+            if (ref == null || !ref.startsWith(prefix)) {
+                return null;
+            }
+            Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+            Map<String, Object> entries = components != null ? Util.asStringObjectMap(components.get(section)) : null;
+            return entries != null ? Util.asStringObjectMap(entries.get(ref.substring(prefix.length()))) : null;
+        }
+
+        /**
+         * Non-negative size from a number or a string such as {@code "512"}, {@code "64KB"} or {@code "2MB"};
+         * {@link #UNBOUNDED} when absent or malformed.
+         */
+        static long size(Object value) {
+            if (value instanceof Number number) {
+                return number.longValue() >= 0 ? number.longValue() : UNBOUNDED;
+            }
+            if (!(value instanceof String text)) {
+                return UNBOUNDED;
+            }
+            String normalized = text.trim().toUpperCase(Locale.ROOT);
+            long multiplier = 1;
+            if (normalized.endsWith("KB")) {
+                multiplier = 1024;
+            } else if (normalized.endsWith("MB")) {
+                multiplier = 1024 * 1024;
+            } else if (normalized.endsWith("GB")) {
+                multiplier = 1024L * 1024 * 1024;
+            }
+            if (multiplier > 1) {
+                normalized = normalized.substring(0, normalized.length() - 2).trim();
+            } else if (normalized.endsWith("B")) {
+                normalized = normalized.substring(0, normalized.length() - 1).trim();
+            }
+            try {
+                long parsed = Long.parseLong(normalized);
+                return parsed >= 0 ? saturatedMultiply(parsed, multiplier) : UNBOUNDED;
+            } catch (NumberFormatException e) {
+                return UNBOUNDED;
+            }
+        }
+    }
+
+    /**
+     * Limit trees of the generated JsonLimitChecker, rendered as Java source.
+     *
+     * <p>A schema becomes a {@code Node} expression holding only the limits that apply to it and the properties
+     * and items that carry limits themselves; component schemas with limits are emitted once and referenced by
+     * name, which also covers recursive schemas. {@code allOf} parts are merged; {@code oneOf}/{@code anyOf}
+     * alternatives are not enforced since the matching branch is unknown while streaming.
+     */
+    static final class LimitTables {
+
+        private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+        private final Map<String, Object> spec;
+        private final Map<String, Object> components;
+        private final Map<String, Boolean> limited = new LinkedHashMap<>();
+
+        private LimitTables(Map<String, Object> spec) {
+            this.spec = spec;
+            Map<String, Object> componentsSection = spec != null ? Util.asStringObjectMap(spec.get("components")) : null;
+            Map<String, Object> schemas = componentsSection != null ? Util.asStringObjectMap(componentsSection.get("schemas")) : null;
+            this.components = schemas != null ? schemas : Map.of();
+        }
+
+        static LimitTables fromSpec(Map<String, Object> spec) {
+            LimitTables tables = new LimitTables(spec);
+            tables.resolveLimitedComponents();
+            return tables;
+        }
+
+        /**
+         * {@code SCHEMAS.put(...)} statements for the component schemas that carry limits.
+         */
+        String schemas() {
+            StringBuilder content = new StringBuilder();
+            for (Map.Entry<String, Boolean> component : limited.entrySet()) {
+                if (component.getValue()) {
+                    content.append("        SCHEMAS.put(\"").append(JerseyNamingUtils.escapeJavaString(component.getKey()))
+                            .append("\", ").append(node(Util.asStringObjectMap(components.get(component.getKey()))))
+                            .append(");\n");
+                }
+            }
+            return content.toString();
+        }
+
+        /**
+         * Route index entries, under both the full path and the spec path, for every operation that may carry a body.
+         * Operations without limits map to {@code null}, so that a literal route never falls through to the tree of a
+         * templated sibling.
+         */
+        String operations() {
+            Map<String, Object> paths = spec != null ? Util.asStringObjectMap(spec.get("paths")) : null;
+            if (paths == null) {
+                return "";
+            }
+            String basePath = OpenApiPathUtils.extractServerBasePath(spec);
+            List<String[]> operations = new ArrayList<>();
+            for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+                Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+                if (pathItem == null) {
+                    continue;
+                }
+                String path = pathEntry.getKey().startsWith("/") ? pathEntry.getKey() : "/" + pathEntry.getKey();
+                String fullPath = OpenApiPathUtils.buildFullPath(basePath, path);
+                for (String method : BodyLimit.BODY_METHODS) {
+                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    if (operation == null) {
+                        continue;
+                    }
+                    String body = bodyNode(operation);
+                    body = body != null ? body : "null";
+                    String httpMethod = method.toUpperCase(Locale.ROOT);
+                    operations.add(new String[]{httpMethod, fullPath, body});
+                    if (!fullPath.equals(path)) {
+                        operations.add(new String[]{httpMethod, path, body});
+                    }
+                }
+            }
+            StringBuilder content = new StringBuilder();
+            for (String[] operation : operations) {
+                content.append("\n                .add(\"").append(JerseyNamingUtils.escapeJavaString(operation[1]))
+                        .append("\", \"").append(operation[0]).append("\", ").append(operation[2]).append(")");
+            }
+            return content.toString();
+        }
+
+        private String bodyNode(Map<String, Object> operation) {
+            Map<String, Object> requestBody = Util.asStringObjectMap(operation.get("requestBody"));
+            if (requestBody != null && requestBody.containsKey("$ref")) {
+                requestBody = BodyLimit.resolveComponent(spec, "requestBodies", (String) requestBody.get("$ref"));
+            }
+            Map<String, Object> content = requestBody != null ? Util.asStringObjectMap(requestBody.get("content")) : null;
+            if (content == null) {
+                return null;
+            }
+            for (Map.Entry<String, Object> mediaType : content.entrySet()) {
+                Map<String, Object> media = Util.asStringObjectMap(mediaType.getValue());
+                if (media != null && mediaType.getKey().toLowerCase(Locale.ROOT).contains("json")) {
+                    return node(Util.asStringObjectMap(media.get("schema")));
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Marks each component schema that carries limits directly or through the schemas it references. Iterates
+         * to a fixed point so that reference cycles settle.
+         */
+        private void resolveLimitedComponents() {
+            for (String name : components.keySet()) {
+                limited.put(name, false);
+            }
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (Map.Entry<String, Boolean> component : limited.entrySet()) {
+                    if (!component.getValue() && hasLimits(Util.asStringObjectMap(components.get(component.getKey())))) {
+                        component.setValue(true);
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        private boolean hasLimits(Map<String, Object> schema) {
+            return schema != null && node(schema) != null;
+        }
+
+        /**
+         * Java expression building the limits of {@code schema}, or null when nothing in it is limited.
+         */
+        private String node(Map<String, Object> schema) {
+            if (schema == null) {
+                return null;
+            }
+            Object ref = schema.get("$ref");
+            if (ref instanceof String refValue) {
+                String name = refValue.startsWith(SCHEMA_REF_PREFIX) ? refValue.substring(SCHEMA_REF_PREFIX.length()) : null;
+                return name != null && Boolean.TRUE.equals(limited.get(name))
+                        ? "Node.ref(\"" + JerseyNamingUtils.escapeJavaString(name) + "\")"
+                        : null;
+            }
+            Map<String, Object> effective = schema;
+            List<Map<String, Object>> allOf = Util.asStringObjectMapList(schema.get("allOf"));
+            if (allOf != null) {
+                effective = new LinkedHashMap<>(schema);
+                for (Map<String, Object> part : allOf) {
+                    mergeLimits(effective, OpenApiSchemaUtils.resolveRefInSchema(part, spec));
+                }
+            }
+
+            StringBuilder node = new StringBuilder("new Node()");
+            boolean any = false;
+            long maxLength = BodyLimit.size(effective.get("maxLength"));
+            if (maxLength >= 0) {
+                node.append(".maxLength(").append(Math.min(Integer.MAX_VALUE, maxLength)).append(")");
+                any = true;
+            }
+            long maxItems = BodyLimit.size(effective.get("maxItems"));
+            if (maxItems >= 0) {
+                node.append(".maxItems(").append(Math.min(Integer.MAX_VALUE, maxItems)).append(")");
+                any = true;
+            }
+            any |= appendBound(node, "minimum", effective.get("minimum"), effective.get("exclusiveMinimum"));
+            any |= appendBound(node, "maximum", effective.get("maximum"), effective.get("exclusiveMaximum"));
+            Map<String, Object> properties = Util.asStringObjectMap(effective.get("properties"));
+            if (properties != null) {
+                for (Map.Entry<String, Object> property : properties.entrySet()) {
+                    String child = node(Util.asStringObjectMap(property.getValue()));
+                    if (child != null) {
+                        node.append(".property(\"").append(JerseyNamingUtils.escapeJavaString(property.getKey()))
+                                .append("\", ").append(child).append(")");
+                        any = true;
+                    }
+                }
+            }
+            String items = node(Util.asStringObjectMap(effective.get("items")));
+            if (items != null) {
+                node.append(".items(").append(items).append(")");
+                any = true;
+            }
+            return any ? node.toString() : null;
+        }
+
+        /**
+         * Appends {@code .minimum(...)}/{@code .maximum(...)}. Handles OpenAPI 3.0 boolean exclusive flags and 3.1
+         * numeric {@code exclusiveMinimum}/{@code exclusiveMaximum}; when a schema has both an inclusive and a numeric
+         * exclusive bound, both apply, so the stricter one is kept.
+         */
+        private static boolean appendBound(StringBuilder node, String kind, Object bound, Object exclusive) {
+            String value = decimalText(bound);
+            boolean exclusiveBound = Boolean.TRUE.equals(exclusive);
+            String exclusiveValue = exclusive instanceof Number ? decimalText(exclusive) : null;
+            if (exclusiveValue != null) {
+                int order = value == null ? 0 : new BigDecimal(exclusiveValue).compareTo(new BigDecimal(value));
+                exclusiveBound = "minimum".equals(kind) ? order >= 0 : order <= 0;
+                value = exclusiveBound ? exclusiveValue : value;
+            }
+            if (value == null) {
+                return false;
+            }
+            node.append('.').append(kind).append("(\"").append(value).append("\", ").append(exclusiveBound).append(")");
+            return true;
+        }
+
+        /**
+         * {@code value} as written in the spec, or null when it is not a number or numeric string.
+         */
+        private static String decimalText(Object value) {
+            if (!(value instanceof Number) && !(value instanceof String)) {
+                return null;
+            }
+            String text = value.toString().trim();
+            try {
+                new BigDecimal(text);
+                return text;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Adds the limits, items and properties of an {@code allOf} part that {@code merged} does not define yet.
+         */
+        private static void mergeLimits(Map<String, Object> merged, Map<String, Object> from) {
+            if (from == null) {
+                return;
+            }
+            for (String key : new String[]{"maxLength", "maxItems", "minimum", "maximum", "exclusiveMinimum", "exclusiveMaximum", "items"}) {
+                if (from.containsKey(key) && !merged.containsKey(key)) {
+                    merged.put(key, from.get(key));
+                }
+            }
+            Map<String, Object> fromProperties = Util.asStringObjectMap(from.get("properties"));
+            if (fromProperties != null) {
+                Map<String, Object> properties = Util.asStringObjectMap(merged.get("properties"));
+                properties = properties != null ? properties : new LinkedHashMap<>();
+                for (Map.Entry<String, Object> property : fromProperties.entrySet()) {
+                    properties.putIfAbsent(property.getKey(), property.getValue());
+                }
+                merged.put("properties", properties);
+            }
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package egain.oassdk.dev.validators;
 
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.generators.java.JerseyNamingUtils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -191,219 +192,287 @@ public class APIValidator {
     }
 
     /**
-     * Generate schema validators
+     * Generate schema validators: one compiled validator per component schema, dispatched by SchemaValidator
      */
     private void generateSchemaValidators(Map<String, Object> spec, String outputDir) throws IOException {
+        SchemaValidatorCompiler compiler = new SchemaValidatorCompiler(spec);
+        StringBuilder cases = new StringBuilder();
+        for (Map.Entry<String, String> schema : compiler.classNames().entrySet()) {
+            cases.append("            case \"").append(JerseyNamingUtils.escapeJavaString(schema.getKey())).append("\" -> ")
+                    .append(schema.getValue()).append(".validate(parser);\n");
+            Files.write(Paths.get(outputDir, schema.getValue() + ".java"),
+                    compiler.compile(schema.getKey()).getBytes(StandardCharsets.UTF_8));
+        }
+
         String schemaValidatorContent = """
                 package com.example.validators;
                 
                 import jakarta.inject.Singleton;
-                import com.fasterxml.jackson.databind.ObjectMapper;
+                import com.fasterxml.jackson.core.JsonFactory;
+                import com.fasterxml.jackson.core.JsonParser;
+                import com.fasterxml.jackson.core.JsonToken;
+                import com.fasterxml.jackson.core.util.JsonParserDelegate;
                 import com.fasterxml.jackson.databind.JsonNode;
-                import java.util.regex.Pattern;
+                import com.fasterxml.jackson.databind.ObjectMapper;
+                import com.fasterxml.jackson.databind.util.TokenBuffer;
+                import java.io.IOException;
+                import java.io.InputStream;
+                import java.io.Serializable;
                 import java.math.BigDecimal;
-                
+                import java.util.BitSet;
+                
+                /**
+                 * Validates JSON against the component schemas of the OpenAPI specification.
+                 *
+                 * <p>Each schema has a validator class compiled from the spec ({@code <Schema>SchemaValidator}) that
+                 * reads a streaming {@link JsonParser}: constraints are constants, patterns are precompiled and
+                 * {@code $ref}s are direct calls. {@link #readValidated} validates and binds a request body from one
+                 * tokenization of its bytes.
+                 */
                 @Singleton
                 public class SchemaValidator {
                 
-                    private final ObjectMapper objectMapper = new ObjectMapper();
+                    private static final JsonFactory JSON_FACTORY = new JsonFactory();
                 
                     /**
-                     * Validate JSON against OpenAPI schema
+                     * Validate a JSON document against a component schema.
+                     *
+                     * @return the first violation, or null when the document is valid
+                     * @throws IOException if the document is not well-formed JSON
+                     * @throws IllegalArgumentException if the spec has no schema called {@code schemaName}
                      */
-                    public boolean validateSchema(JsonNode jsonNode, Map<String, Object> schema) {
-                        try {
-                            return validateSchemaNode(jsonNode, schema);
-                        } catch (Exception e) {
-                            return false;
+                    public Violation validate(String schemaName, InputStream json) throws IOException {
+                        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+                            return validateDocument(schemaName, parser);
                         }
                     }
                 
-                    private boolean validateSchemaNode(JsonNode jsonNode, Map<String, Object> schema) {
-                        String type = (String) schema.get("type");
-                
-                        switch (type) {
-                            case "string":
-                                return validateString(jsonNode, schema);
-                            case "number":
-                                return validateNumber(jsonNode, schema);
-                            case "integer":
-                                return validateInteger(jsonNode, schema);
-                            case "boolean":
-                                return validateBoolean(jsonNode, schema);
-                            case "array":
-                                return validateArray(jsonNode, schema);
-                            case "object":
-                                return validateObject(jsonNode, schema);
-                            default:
-                                return true;
+                    public Violation validate(String schemaName, String json) throws IOException {
+                        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+                            return validateDocument(schemaName, parser);
                         }
                     }
                 
-                    private boolean validateString(JsonNode jsonNode, Map<String, Object> schema) {
-                        if (!jsonNode.isTextual()) {
-                            return false;
+                    public Violation validate(String schemaName, JsonNode jsonNode) throws IOException {
+                        try (JsonParser parser = jsonNode.traverse()) {
+                            return validateDocument(schemaName, parser);
                         }
+                    }
                 
-                        String value = jsonNode.asText();
-                
-                        // Validate min/max length
-                        if (schema.containsKey("minLength")) {
-                            int minLength = (Integer) schema.get("minLength");
-                            if (value.length() < minLength) {
-                                return false;
+                    /**
+                     * Validate a request body and bind it to {@code type}. The body is tokenized once: the tokens the
+                     * validator reads are recorded and replayed to {@code mapper}, so nothing is bound from an invalid
+                     * body and valid ones are not parsed twice.
+                     *
+                     * @throws ViolationException if the body does not match the schema
+                     */
+                    public <T> T readValidated(ObjectMapper mapper, String schemaName, InputStream body, Class<T> type) throws IOException {
+                        try (JsonParser source = mapper.createParser(body)) {
+                            TokenBuffer tokens = new TokenBuffer(source);
+                            JsonParser recording = new RecordingParser(source, tokens);
+                            if (recording.nextToken() == null) {
+                                return null;
                             }
-                        }
-                
-                        if (schema.containsKey("maxLength")) {
-                            int maxLength = (Integer) schema.get("maxLength");
-                            if (value.length() > maxLength) {
-                                return false;
+                            Violation violation = validate(schemaName, recording);
+                            if (violation != null) {
+                                throw new ViolationException(violation);
                             }
-                        }
-                
-                        // Validate pattern
-                        if (schema.containsKey("pattern")) {
-                            String pattern = (String) schema.get("pattern");
-                            if (!Pattern.matches(pattern, value)) {
-                                return false;
+                            try (JsonParser replay = tokens.asParser(mapper)) {
+                                return mapper.readValue(replay, type);
                             }
                         }
+                    }
                 
-                        // Validate enum
-                        if (schema.containsKey("enum")) {
-                            List<String> enumValues = Util.asStringList(schema.get("enum"));
-                            if (!enumValues.contains(value)) {
-                                return false;
-                            }
-                        }
+                    private static Violation validateDocument(String schemaName, JsonParser parser) throws IOException {
+                        return parser.nextToken() == null ? null : validate(schemaName, parser);
+                    }
                 
-                        return true;
+                    static Violation validate(String schemaName, JsonParser parser) throws IOException {
+                        return switch (schemaName) {
+                __SCHEMA_CASES__            default -> throw new IllegalArgumentException("No schema named '" + schemaName + "'");
+                        };
                     }
                 
-                    private boolean validateNumber(JsonNode jsonNode, Map<String, Object> schema) {
-                        if (!jsonNode.isNumber()) {
-                            return false;
-                        }
+                    // Support for the compiled validators
                 
-                        BigDecimal value = jsonNode.decimalValue();
+                    static Violation violation(JsonParser parser, String message) {
+                        // The location is only rendered once something is wrong
+                        String pointer = parser.getParsingContext().pathAsPointer().toString();
+                        return new Violation(pointer.isEmpty() ? "/" : pointer, message);
+                    }
                 
-                        // Validate minimum
-                        if (schema.containsKey("minimum")) {
-                            BigDecimal minimum = new BigDecimal(schema.get("minimum").toString());
-                            if (value.compareTo(minimum) < 0) {
-                                return false;
+                    static Violation missingProperty(JsonParser parser, long seen, String[] required) {
+                        for (int i = 0; i < required.length; i++) {
+                            if ((seen & (1L << i)) == 0) {
+                                return violation(parser, "is missing required property '" + required[i] + "'");
                             }
                         }
+                        return null;
+                    }
                 
-                        // Validate maximum
-                        if (schema.containsKey("maximum")) {
-                            BigDecimal maximum = new BigDecimal(schema.get("maximum").toString());
-                            if (value.compareTo(maximum) > 0) {
-                                return false;
-                            }
-                        }
+                    static Violation missingProperty(JsonParser parser, BitSet seen, String[] required) {
+                        int missing = seen.nextClearBit(0);
+                        return missing < required.length ? violation(parser, "is missing required property '" + required[missing] + "'") : null;
+                    }
                 
-                        return true;
+                    static int codePointLength(JsonParser parser) throws IOException {
+                        return Character.codePointCount(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
                     }
                 
-                    private boolean validateInteger(JsonNode jsonNode, Map<String, Object> schema) {
-                        if (!jsonNode.isInt()) {
-                            return false;
+                    /**
+                     * Integer value of the current token, clamped to the long range.
+                     */
+                    static long longValue(JsonParser parser) throws IOException {
+                        if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                            return parser.getBigIntegerValue().signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
                         }
+                        return parser.getLongValue();
+                    }
                 
-                        int value = jsonNode.asInt();
-                
-                        // Validate minimum
-                        if (schema.containsKey("minimum")) {
-                            int minimum = (Integer) schema.get("minimum");
-                            if (value < minimum) {
-                                return false;
+                    /**
+                     * Whether the current number equals one of {@code values}, compared by value.
+                     */
+                    static boolean isOneOf(JsonParser parser, BigDecimal[] values) throws IOException {
+                        BigDecimal value = parser.getDecimalValue();
+                        for (BigDecimal candidate : values) {
+                            if (value.compareTo(candidate) == 0) {
+                                return true;
                             }
                         }
+                        return false;
+                    }
                 
-                        // Validate maximum
-                        if (schema.containsKey("maximum")) {
-                            int maximum = (Integer) schema.get("maximum");
-                            if (value > maximum) {
-                                return false;
+                    static Violation any(JsonParser parser) throws IOException {
+                        parser.skipChildren();
+                        return null;
+                    }
+                
+                    /**
+                     * Number of {@code alternatives} the current value matches. The value is buffered once and
+                     * replayed to each alternative.
+                     */
+                    static int countMatches(JsonParser parser, Check... alternatives) throws IOException {
+                        return countMatches(buffer(parser), alternatives);
+                    }
+                
+                    static int countMatches(TokenBuffer value, Check... alternatives) throws IOException {
+                        int matches = 0;
+                        for (Check alternative : alternatives) {
+                            try (JsonParser replay = value.asParser()) {
+                                replay.nextToken();
+                                if (alternative.validate(replay) == null) {
+                                    matches++;
+                                }
                             }
                         }
-                
-                        return true;
+                        return matches;
                     }
                 
-                    private boolean validateBoolean(JsonNode jsonNode, Map<String, Object> schema) {
-                        return jsonNode.isBoolean();
+                    /**
+                     * Copy of the current value, so that it can be checked more than once. Replays of the copy start
+                     * at their own root: pointers are relative to the value.
+                     */
+                    static TokenBuffer buffer(JsonParser parser) throws IOException {
+                        TokenBuffer value = new TokenBuffer(parser.getCodec(), false);
+                        value.copyCurrentStructure(parser);
+                        return value;
                     }
                 
-                    private boolean validateArray(JsonNode jsonNode, Map<String, Object> schema) {
-                        if (!jsonNode.isArray()) {
-                            return false;
+                    /**
+                     * Check a value {@linkplain #buffer buffered} from {@code parser}; the violation points into the
+                     * document {@code parser} reads.
+                     */
+                    static Violation replay(JsonParser parser, TokenBuffer value, Check check) throws IOException {
+                        Violation violation;
+                        try (JsonParser replay = value.asParser()) {
+                            replay.nextToken();
+                            violation = check.validate(replay);
                         }
-                
-                        // Validate min/max items
-                        if (schema.containsKey("minItems")) {
-                            int minItems = (Integer) schema.get("minItems");
-                            if (jsonNode.size() < minItems) {
-                                return false;
-                            }
+                        if (violation == null) {
+                            return null;
                         }
+                        String pointer = parser.getParsingContext().pathAsPointer().toString()
+                                + (violation.pointer().equals("/") ? "" : violation.pointer());
+                        return new Violation(pointer.isEmpty() ? "/" : pointer, violation.message());
+                    }
                 
-                        if (schema.containsKey("maxItems")) {
-                            int maxItems = (Integer) schema.get("maxItems");
-                            if (jsonNode.size() > maxItems) {
-                                return false;
-                            }
+                    @FunctionalInterface
+                    interface Check {
+                        Violation validate(JsonParser parser) throws IOException;
+                    }
+                
+                    /**
+                     * A schema violation at a JSON Pointer into the document.
+                     */
+                    public record Violation(String pointer, String message) implements Serializable {
+                
+                        @Override
+                        public String toString() {
+                            return "Value at '" + pointer + "' " + message;
                         }
+                    }
                 
-                        // Validate items
-                        if (schema.containsKey("items")) {
-                            Map<String, Object> itemsSchema = Util.asStringObjectMap(schema.get("items"));
-                            for (JsonNode item : jsonNode) {
-                                if (!validateSchemaNode(item, itemsSchema)) {
-                                    return false;
-                                }
-                            }
+                    public static class ViolationException extends IOException {
+                
+                        private static final long serialVersionUID = 1L;
+                
+                        private final Violation violation;
+                
+                        public ViolationException(Violation violation) {
+                            super(violation.toString());
+                            this.violation = violation;
                         }
                 
-                        return true;
+                        public Violation getViolation() {
+                            return violation;
+                        }
                     }
                 
-                    private boolean validateObject(JsonNode jsonNode, Map<String, Object> schema) {
-                        if (!jsonNode.isObject()) {
-                            return false;
+                    /**
+                     * Copies every token it returns, including skipped ones, into a {@link TokenBuffer}.
+                     */
+                    private static final class RecordingParser extends JsonParserDelegate {
+                
+                        private final TokenBuffer tokens;
+                
+                        RecordingParser(JsonParser source, TokenBuffer tokens) {
+                            super(source);
+                            this.tokens = tokens;
                         }
                 
-                        // Validate required properties
-                        if (schema.containsKey("required")) {
-                            List<String> required = Util.asStringList(schema.get("required"));
-                            for (String requiredField : required) {
-                                if (!jsonNode.has(requiredField)) {
-                                    return false;
-                                }
+                        @Override
+                        public JsonToken nextToken() throws IOException {
+                            JsonToken token = delegate.nextToken();
+                            if (token != null) {
+                                tokens.copyCurrentEvent(delegate);
                             }
+                            return token;
                         }
                 
-                        // Validate properties
-                        if (schema.containsKey("properties")) {
-                            Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
-                            for (Map.Entry<String, Object> property : properties.entrySet()) {
-                                String propertyName = property.getKey();
-                                Map<String, Object> propertySchema = Util.asStringObjectMap(property.getValue());
-                
-                                if (jsonNode.has(propertyName)) {
-                                    if (!validateSchemaNode(jsonNode.get(propertyName), propertySchema)) {
-                                        return false;
-                                    }
+                        @Override
+                        public JsonParser skipChildren() throws IOException {
+                            JsonToken token = currentToken();
+                            if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+                                return this;
+                            }
+                            int depth = 1;
+                            while (depth > 0) {
+                                JsonToken next = nextToken();
+                                if (next == null) {
+                                    break;
+                                }
+                                if (next.isStructStart()) {
+                                    depth++;
+                                } else if (next.isStructEnd()) {
+                                    depth--;
                                 }
                             }
+                            return this;
                         }
-                
-                        return true;
                     }
                 }
-                """;
+                """
+                .replace("__SCHEMA_CASES__", cases.toString());
 
         Files.write(Paths.get(outputDir, "SchemaValidator.java"), schemaValidatorContent.getBytes(StandardCharsets.UTF_8));
     }
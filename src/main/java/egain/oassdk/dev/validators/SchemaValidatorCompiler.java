@@ -0,0 +1,771 @@
+package egain.oassdk.dev.validators;
+
+import egain.oassdk.Util;
+import egain.oassdk.generators.common.OpenApiSchemaUtils;
+import egain.oassdk.generators.java.JerseyNamingUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles each component schema of a spec into a validator class of its own.
+ *
+ * <p>Constraints become constants of the generated class (patterns are compiled once, enums become sets,
+ * bounds are parsed once), every inline subschema becomes a method and a {@code $ref} becomes a direct call
+ * to the referenced schema's validator, so recursive schemas recurse through plain static calls. The
+ * generated validators read a Jackson {@code JsonParser} positioned on the value to check and stop at the
+ * first violation. {@code allOf} parts are merged; {@code oneOf}/{@code anyOf} values are buffered and
+ * replayed against each alternative.
+ */
+final class SchemaValidatorCompiler {
+
+    static final String CLASS_SUFFIX = "SchemaValidator";
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final Set<String> TYPES = Set.of("string", "integer", "number", "boolean", "array", "object");
+
+    private final Map<String, Object> spec;
+    private final Map<String, Object> components;
+    private final Map<String, String> classNames = new LinkedHashMap<>();
+
+    SchemaValidatorCompiler(Map<String, Object> spec) {
+        this.spec = spec;
+        Map<String, Object> componentsSection = spec != null ? Util.asStringObjectMap(spec.get("components")) : null;
+        Map<String, Object> schemas = componentsSection != null ? Util.asStringObjectMap(componentsSection.get("schemas")) : null;
+        this.components = schemas != null ? schemas : Map.of();
+        Set<String> taken = new HashSet<>();
+        for (String name : components.keySet()) {
+            String className = JerseyNamingUtils.toJavaClassName(name) + CLASS_SUFFIX;
+            String unique = className;
+            for (int i = 2; !taken.add(unique); i++) {
+                unique = className + i;
+            }
+            classNames.put(name, unique);
+        }
+    }
+
+    /**
+     * Schema name to generated validator class name, in spec order.
+     */
+    Map<String, String> classNames() {
+        return classNames;
+    }
+
+    /**
+     * Source of the validator class of component {@code schemaName}.
+     */
+    String compile(String schemaName) {
+        return new ClassWriter(classNames.get(schemaName)).write(Util.asStringObjectMap(components.get(schemaName)));
+    }
+
+    private final class ClassWriter {
+
+        private final String className;
+        private final StringBuilder constants = new StringBuilder();
+        private final StringBuilder methods = new StringBuilder();
+        private final Set<String> names = new HashSet<>();
+        private boolean usesPattern;
+        private boolean usesSet;
+        private boolean usesBigDecimal;
+        private boolean usesBitSet;
+
+        ClassWriter(String className) {
+            this.className = className;
+        }
+
+        String write(Map<String, Object> schema) {
+            StringBuilder entry = new StringBuilder();
+            String target = refTarget(schema);
+            if (target != null) {
+                entry.append("        return ").append(target).append(".validate(parser);\n");
+            } else {
+                body(entry, schema, "");
+            }
+
+            StringBuilder content = new StringBuilder();
+            content.append("package com.example.validators;\n\n");
+            content.append("import com.fasterxml.jackson.core.JsonParser;\n");
+            content.append("import com.fasterxml.jackson.core.JsonToken;\n");
+            content.append("import java.io.IOException;\n");
+            if (usesBigDecimal) {
+                content.append("import java.math.BigDecimal;\n");
+            }
+            if (usesBitSet) {
+                content.append("import java.util.BitSet;\n");
+            }
+            if (usesSet) {
+                content.append("import java.util.Set;\n");
+            }
+            if (usesPattern) {
+                content.append("import java.util.regex.Pattern;\n");
+            }
+            content.append("\n/**\n * Validator compiled from a component schema of the OpenAPI specification.\n */\n");
+            content.append("public final class ").append(className).append(" {\n\n");
+            if (!constants.isEmpty()) {
+                content.append(constants).append("\n");
+            }
+            content.append("    private ").append(className).append("() {\n    }\n\n");
+            content.append("    /**\n     * Validate the value starting at the parser's current token; the parser is left on the value's last token.\n");
+            content.append("     *\n     * @return the first violation, or null when the value is valid\n     */\n");
+            content.append("    public static SchemaValidator.Violation validate(JsonParser parser) throws IOException {\n");
+            content.append(entry);
+            content.append("    }\n");
+            content.append(methods);
+            content.append("}\n");
+            return content.toString();
+        }
+
+        /**
+         * Method reference validating {@code schema}, or null when the schema accepts any value.
+         */
+        private String checkRef(Map<String, Object> schema, String base) {
+            if (schema == null) {
+                return null;
+            }
+            String target = refTarget(schema);
+            if (target != null) {
+                return target + "::validate";
+            }
+            if (schema.containsKey("$ref") || !constrains(schema)) {
+                return null;
+            }
+            String method = uniqueName("validate" + (base.isEmpty() ? "Value" : base));
+            // Methods of nested schemas are emitted while this body is written; keep this one ahead of them
+            int position = methods.length();
+            StringBuilder code = new StringBuilder();
+            code.append("\n    private static SchemaValidator.Violation ").append(method)
+                    .append("(JsonParser parser) throws IOException {\n");
+            body(code, schema, base);
+            code.append("    }\n");
+            methods.insert(position, code);
+            return className + "::" + method;
+        }
+
+        private String call(String checkRef) {
+            String local = className + "::";
+            return (checkRef.startsWith(local) ? checkRef.substring(local.length()) : checkRef.replace("::", ".")) + "(parser)";
+        }
+
+        private void body(StringBuilder b, Map<String, Object> schema, String base) {
+            Map<String, Object> effective = effective(schema);
+            List<String> types = types(effective);
+            String type = types.size() == 1 ? types.get(0) : null;
+            List<Map<String, Object>> alternatives = Util.asStringObjectMapList(
+                    effective.containsKey("oneOf") ? effective.get("oneOf") : effective.get("anyOf"));
+            boolean composed = alternatives != null && !alternatives.isEmpty();
+            String token = composed || types.isEmpty() ? "parser.currentToken()" : "token";
+            if (token.equals("token")) {
+                b.append("        JsonToken token = parser.currentToken();\n");
+            }
+            if (nullable(effective)) {
+                b.append("        if (").append(token).append(" == JsonToken.VALUE_NULL) {\n            return null;\n        }\n");
+            }
+
+            if (composed) {
+                composedBody(b, effective, alternatives, base);
+                return;
+            }
+            if (types.isEmpty()) {
+                List<Object> enumValues = effective.get("enum") instanceof List<?> ? Util.asObjectList(effective.get("enum")) : null;
+                if (enumValues != null) {
+                    untypedEnumBody(b, enumValues, base);
+                } else {
+                    b.append("        parser.skipChildren();\n        return null;\n");
+                }
+                return;
+            }
+            if (type == null) {
+                typesBody(b, effective, types, base);
+                return;
+            }
+            switch (type) {
+                case "string" -> stringBody(b, effective, base);
+                case "integer" -> numberBody(b, effective, base, true);
+                case "number" -> numberBody(b, effective, base, false);
+                case "boolean" -> {
+                    b.append("        if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {\n");
+                    b.append("            return SchemaValidator.violation(parser, \"must be a boolean\");\n        }\n");
+                    b.append("        return null;\n");
+                }
+                case "array" -> arrayBody(b, effective, base);
+                case "object" -> objectBody(b, effective, base);
+                default -> throw new IllegalStateException("Unexpected type " + type);
+            }
+        }
+
+        /**
+         * {@code oneOf}/{@code anyOf}. The keywords beside it are checked as a schema of their own against the same
+         * buffered value, then the value is replayed to each alternative.
+         */
+        private void composedBody(StringBuilder b, Map<String, Object> schema, List<Map<String, Object>> alternatives,
+                                  String base) {
+            boolean oneOf = schema.containsKey("oneOf");
+            List<String> refs = new ArrayList<>();
+            for (int i = 0; i < alternatives.size(); i++) {
+                String ref = checkRef(alternatives.get(i), base + "Option" + (i + 1));
+                refs.add(ref != null ? ref : "SchemaValidator::any");
+            }
+            Map<String, Object> siblings = new LinkedHashMap<>(schema);
+            siblings.remove(oneOf ? "oneOf" : "anyOf");
+            String siblingRef = checkRef(siblings, base + "Base");
+            if (siblingRef != null) {
+                b.append("        var value = SchemaValidator.buffer(parser);\n");
+                b.append("        SchemaValidator.Violation violation = SchemaValidator.replay(parser, value, ").append(siblingRef).append(");\n");
+                b.append("        if (violation != null) {\n            return violation;\n        }\n");
+                b.append("        int matches = SchemaValidator.countMatches(value, ").append(String.join(", ", refs)).append(");\n");
+            } else {
+                b.append("        int matches = SchemaValidator.countMatches(parser, ").append(String.join(", ", refs)).append(");\n");
+            }
+            if (oneOf) {
+                b.append("        if (matches != 1) {\n            return SchemaValidator.violation(parser, \"must match exactly one of ")
+                        .append(refs.size()).append(" schemas, matched \" + matches);\n        }\n");
+            } else {
+                b.append("        if (matches == 0) {\n            return SchemaValidator.violation(parser, \"must match at least one of ")
+                        .append(refs.size()).append(" schemas\");\n        }\n");
+            }
+            b.append("        return null;\n");
+        }
+
+        /**
+         * A 3.1 {@code type} list: the value's token picks the type, checked against the schema narrowed to it.
+         */
+        private void typesBody(StringBuilder b, Map<String, Object> schema, List<String> types, String base) {
+            b.append("        return switch (token) {\n");
+            for (String type : types) {
+                List<String> tokens = switch (type) {
+                    case "string" -> List.of("VALUE_STRING");
+                    case "integer" -> List.of("VALUE_NUMBER_INT");
+                    case "number" -> types.contains("integer") ? List.of("VALUE_NUMBER_FLOAT") : List.of("VALUE_NUMBER_INT", "VALUE_NUMBER_FLOAT");
+                    case "boolean" -> List.of("VALUE_TRUE", "VALUE_FALSE");
+                    case "array" -> List.of("START_ARRAY");
+                    case "object" -> List.of("START_OBJECT");
+                    default -> throw new IllegalStateException("Unexpected type " + type);
+                };
+                Map<String, Object> narrowed = new LinkedHashMap<>(schema);
+                narrowed.put("type", type);
+                narrowed.remove("nullable");
+                String ref = checkRef(narrowed, base + JerseyNamingUtils.toJavaClassName(type));
+                b.append("            case ").append(String.join(", ", tokens)).append(" -> ").append(call(ref)).append(";\n");
+            }
+            b.append("            default -> SchemaValidator.violation(parser, \"must be of type ").append(String.join(" or ", types))
+                    .append("\");\n        };\n");
+        }
+
+        private void stringBody(StringBuilder b, Map<String, Object> schema, String base) {
+            b.append("        if (token != JsonToken.VALUE_STRING) {\n");
+            b.append("            return SchemaValidator.violation(parser, \"must be a string\");\n        }\n");
+            long minLength = nonNegative(schema.get("minLength"));
+            long maxLength = nonNegative(schema.get("maxLength"));
+            if (minLength > 0 || maxLength >= 0) {
+                b.append("        int length = SchemaValidator.codePointLength(parser);\n");
+                if (minLength > 0) {
+                    b.append("        if (length < ").append(minLength).append(") {\n")
+                            .append("            return SchemaValidator.violation(parser, \"must be at least ").append(minLength)
+                            .append(" characters long\");\n        }\n");
+                }
+                if (maxLength >= 0) {
+                    b.append("        if (length > ").append(maxLength).append(") {\n")
+                            .append("            return SchemaValidator.violation(parser, \"must be at most ").append(maxLength)
+                            .append(" characters long\");\n        }\n");
+                }
+            }
+            String pattern = schema.get("pattern") instanceof String value ? value : null;
+            List<Object> enumValues = schema.get("enum") instanceof List<?> ? Util.asObjectList(schema.get("enum")) : null;
+            if (pattern != null || enumValues != null) {
+                b.append("        String value = parser.getText();\n");
+            }
+            if (pattern != null) {
+                usesPattern = true;
+                String constant = constant(base, "PATTERN");
+                constants.append("    private static final Pattern ").append(constant).append(" = Pattern.compile(\"")
+                        .append(JerseyNamingUtils.escapeJavaString(pattern)).append("\");\n");
+                // JSON Schema patterns are unanchored
+                b.append("        if (!").append(constant).append(".matcher(value).find()) {\n")
+                        .append("            return SchemaValidator.violation(parser, \"must match pattern ")
+                        .append(JerseyNamingUtils.escapeJavaString(pattern)).append("\");\n        }\n");
+            }
+            if (enumValues != null) {
+                enumCheck(b, enumValues, base, "value");
+            }
+            b.append("        return null;\n");
+        }
+
+        private void numberBody(StringBuilder b, Map<String, Object> schema, String base, boolean integer) {
+            if (integer) {
+                b.append("        if (token != JsonToken.VALUE_NUMBER_INT) {\n");
+                b.append("            return SchemaValidator.violation(parser, \"must be an integer\");\n        }\n");
+            } else {
+                b.append("        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {\n");
+                b.append("            return SchemaValidator.violation(parser, \"must be a number\");\n        }\n");
+            }
+            Bound minimum = Bound.of(schema.get("minimum"), schema.get("exclusiveMinimum"), 1);
+            Bound maximum = Bound.of(schema.get("maximum"), schema.get("exclusiveMaximum"), -1);
+            if (minimum != null || maximum != null) {
+                boolean longs = integer && (minimum == null || minimum.fitsLong()) && (maximum == null || maximum.fitsLong());
+                if (longs) {
+                    b.append("        long value = SchemaValidator.longValue(parser);\n");
+                } else {
+                    usesBigDecimal = true;
+                    b.append("        BigDecimal value = parser.getDecimalValue();\n");
+                }
+                if (minimum != null) {
+                    String operand = longs ? minimum.value().toBigIntegerExact() + "L" : decimalConstant(base, "MINIMUM", minimum.value());
+                    String comparison = longs ? "value " + (minimum.exclusive() ? "<=" : "<") + " " + operand
+                            : "value.compareTo(" + operand + ") " + (minimum.exclusive() ? "<=" : "<") + " 0";
+                    b.append("        if (").append(comparison).append(") {\n")
+                            .append("            return SchemaValidator.violation(parser, \"must be ")
+                            .append(minimum.exclusive() ? "greater than " : "at least ").append(minimum.value().toPlainString())
+                            .append("\");\n        }\n");
+                }
+                if (maximum != null) {
+                    String operand = longs ? maximum.value().toBigIntegerExact() + "L" : decimalConstant(base, "MAXIMUM", maximum.value());
+                    String comparison = longs ? "value " + (maximum.exclusive() ? ">=" : ">") + " " + operand
+                            : "value.compareTo(" + operand + ") " + (maximum.exclusive() ? ">=" : ">") + " 0";
+                    b.append("        if (").append(comparison).append(") {\n")
+                            .append("            return SchemaValidator.violation(parser, \"must be ")
+                            .append(maximum.exclusive() ? "less than " : "at most ").append(maximum.value().toPlainString())
+                            .append("\");\n        }\n");
+                }
+            }
+            List<Object> enumValues = schema.get("enum") instanceof List<?> ? Util.asObjectList(schema.get("enum")) : null;
+            if (enumValues != null) {
+                numericEnumCheck(b, enumValues, base);
+            }
+            b.append("        return null;\n");
+        }
+
+        private void enumCheck(StringBuilder b, List<Object> enumValues, String base, String value) {
+            String constant = stringsConstant(base, "VALUES", enumValues);
+            b.append("        if (!").append(constant).append(".contains(").append(value).append(")) {\n")
+                    .append("            return SchemaValidator.violation(parser, \"must be one of \" + ").append(constant)
+                    .append(");\n        }\n");
+        }
+
+        /**
+         * Numbers are compared by value: {@code 2}, {@code 2.0} and {@code 2e0} are the same number.
+         */
+        private void numericEnumCheck(StringBuilder b, List<Object> enumValues, String base) {
+            List<String> literals = new ArrayList<>();
+            String constant = decimalsConstant(base, "VALUES", enumValues, literals);
+            b.append("        if (!SchemaValidator.isOneOf(parser, ").append(constant).append(")) {\n")
+                    .append("            return SchemaValidator.violation(parser, \"must be one of ").append(literals)
+                    .append("\");\n        }\n");
+        }
+
+        /**
+         * An {@code enum} without a {@code type}: the value's token picks the strings, numbers or literals to compare
+         * it with. Objects and arrays are not compared member by member; one passes when the enum lists one.
+         */
+        private void untypedEnumBody(StringBuilder b, List<Object> enumValues, String base) {
+            List<Object> strings = new ArrayList<>();
+            List<Object> numbers = new ArrayList<>();
+            boolean containers = false;
+            for (Object enumValue : enumValues) {
+                if (enumValue instanceof String) {
+                    strings.add(enumValue);
+                } else if (enumValue instanceof Number) {
+                    numbers.add(enumValue);
+                } else if (enumValue instanceof Map<?, ?> || enumValue instanceof List<?>) {
+                    containers = true;
+                }
+            }
+            String stringCheck = strings.isEmpty() ? "false" : stringsConstant(base, "VALUES", strings) + ".contains(parser.getText())";
+            String numberCheck = numbers.isEmpty() ? "false"
+                    : "SchemaValidator.isOneOf(parser, " + decimalsConstant(base, "NUMBER_VALUES", numbers, new ArrayList<>()) + ")";
+            b.append("        boolean allowed = switch (parser.currentToken()) {\n")
+                    .append("            case VALUE_STRING -> ").append(stringCheck).append(";\n")
+                    .append("            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> ").append(numberCheck).append(";\n")
+                    .append("            case VALUE_TRUE -> ").append(enumValues.contains(Boolean.TRUE)).append(";\n")
+                    .append("            case VALUE_FALSE -> ").append(enumValues.contains(Boolean.FALSE)).append(";\n")
+                    .append("            case VALUE_NULL -> ").append(enumValues.contains(null)).append(";\n")
+                    .append("            default -> ").append(containers).append(";\n")
+                    .append("        };\n");
+            b.append("        if (!allowed) {\n")
+                    .append("            return SchemaValidator.violation(parser, \"must be one of ")
+                    .append(JerseyNamingUtils.escapeJavaString(String.valueOf(enumValues))).append("\");\n        }\n");
+            b.append("        parser.skipChildren();\n        return null;\n");
+        }
+
+        private String stringsConstant(String base, String kind, List<Object> enumValues) {
+            usesSet = true;
+            String constant = constant(base, kind);
+            List<String> literals = new ArrayList<>();
+            for (Object enumValue : enumValues) {
+                if (enumValue != null && !literals.contains(enumValue.toString())) {
+                    literals.add(enumValue.toString());
+                }
+            }
+            constants.append("    private static final Set<String> ").append(constant).append(" = Set.of(");
+            for (int i = 0; i < literals.size(); i++) {
+                constants.append(i > 0 ? ", " : "").append('"').append(JerseyNamingUtils.escapeJavaString(literals.get(i))).append('"');
+            }
+            constants.append(");\n");
+            return constant;
+        }
+
+        /**
+         * Constant holding the distinct numbers of {@code enumValues}.
+         *
+         * @param literals receives the distinct values, for messages
+         */
+        private String decimalsConstant(String base, String kind, List<Object> enumValues, List<String> literals) {
+            usesBigDecimal = true;
+            String constant = constant(base, kind);
+            List<BigDecimal> values = new ArrayList<>();
+            for (Object enumValue : enumValues) {
+                BigDecimal value = enumValue instanceof Number ? decimal(enumValue) : null;
+                if (value != null && values.stream().noneMatch(v -> v.compareTo(value) == 0)) {
+                    values.add(value);
+                    literals.add(value.toPlainString());
+                }
+            }
+            constants.append("    private static final BigDecimal[] ").append(constant).append(" = {");
+            for (int i = 0; i < literals.size(); i++) {
+                constants.append(i > 0 ? ", " : "").append("new BigDecimal(\"").append(literals.get(i)).append("\")");
+            }
+            constants.append("};\n");
+            return constant;
+        }
+
+        private void arrayBody(StringBuilder b, Map<String, Object> schema, String base) {
+            b.append("        if (token != JsonToken.START_ARRAY) {\n");
+            b.append("            return SchemaValidator.violation(parser, \"must be an array\");\n        }\n");
+            long minItems = nonNegative(schema.get("minItems"));
+            long maxItems = nonNegative(schema.get("maxItems"));
+            String items = checkRef(Util.asStringObjectMap(schema.get("items")), base + "Item");
+            boolean counted = minItems > 0 || maxItems >= 0;
+            if (counted) {
+                b.append("        int count = 0;\n");
+            }
+            b.append("        while (parser.nextToken() != JsonToken.END_ARRAY) {\n");
+            if (counted) {
+                b.append("            count++;\n");
+            }
+            if (maxItems >= 0) {
+                b.append("            if (count > ").append(maxItems).append(") {\n")
+                        .append("                return SchemaValidator.violation(parser, \"must have at most ").append(maxItems)
+                        .append(maxItems == 1 ? " item" : " items").append("\");\n            }\n");
+            }
+            if (items != null) {
+                b.append("            SchemaValidator.Violation violation = ").append(call(items)).append(";\n")
+                        .append("            if (violation != null) {\n                return violation;\n            }\n");
+            } else {
+                b.append("            parser.skipChildren();\n");
+            }
+            b.append("        }\n");
+            if (minItems > 0) {
+                b.append("        if (count < ").append(minItems).append(") {\n")
+                        .append("            return SchemaValidator.violation(parser, \"must have at least ").append(minItems)
+                        .append(minItems == 1 ? " item" : " items").append("\");\n        }\n");
+            }
+            b.append("        return null;\n");
+        }
+
+        private void objectBody(StringBuilder b, Map<String, Object> schema, String base) {
+            b.append("        if (token != JsonToken.START_OBJECT) {\n");
+            b.append("            return SchemaValidator.violation(parser, \"must be an object\");\n        }\n");
+            Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+            properties = properties != null ? properties : Map.of();
+            List<String> required = new ArrayList<>();
+            List<String> requiredList = Util.asStringList(schema.get("required"));
+            if (requiredList != null) {
+                for (String name : requiredList) {
+                    if (!required.contains(name)) {
+                        required.add(name);
+                    }
+                }
+            }
+            // One bit per required property: a long, or a BitSet past 64 properties
+            boolean wide = required.size() > Long.SIZE;
+            Object additional = schema.get("additionalProperties");
+            String additionalRef = additional instanceof Map<?, ?> ? checkRef(Util.asStringObjectMap(additional), base + "Value") : null;
+            boolean closed = Boolean.FALSE.equals(additional);
+
+            Map<String, String> cases = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                String ref = checkRef(Util.asStringObjectMap(property.getValue()), base + JerseyNamingUtils.toJavaClassName(property.getKey()));
+                int bit = required.indexOf(property.getKey());
+                if (bit < 0 && ref != null) {
+                    cases.put(property.getKey(), call(ref) + ";");
+                } else {
+                    cases.put(property.getKey(), block(bit >= 0 ? mark(bit, wide) : null,
+                            ref != null ? "yield " + call(ref) + ";" : "parser.skipChildren();",
+                            ref != null ? null : "yield null;"));
+                }
+            }
+            for (int bit = 0; bit < required.size(); bit++) {
+                if (!cases.containsKey(required.get(bit))) {
+                    cases.put(required.get(bit), block(mark(bit, wide), "parser.skipChildren();", "yield null;"));
+                }
+            }
+            String fallback = closed
+                    ? "SchemaValidator.violation(parser, \"is not an allowed property\");"
+                    : additionalRef != null
+                    ? call(additionalRef) + ";"
+                    : block(null, "parser.skipChildren();", "yield null;");
+            if (cases.isEmpty() && !closed && additionalRef == null) {
+                b.append("        parser.skipChildren();\n        return null;\n");
+                return;
+            }
+
+            if (!required.isEmpty()) {
+                String constant = constant(base, "REQUIRED");
+                constants.append("    private static final String[] ").append(constant).append(" = {");
+                for (int i = 0; i < required.size(); i++) {
+                    constants.append(i > 0 ? ", " : "").append('"').append(JerseyNamingUtils.escapeJavaString(required.get(i))).append('"');
+                }
+                constants.append("};\n");
+                if (wide) {
+                    usesBitSet = true;
+                    b.append("        BitSet seen = new BitSet(").append(required.size()).append(");\n");
+                } else {
+                    b.append("        long seen = 0L;\n");
+                }
+                b.append("        while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+                appendSwitch(b, cases, fallback);
+                b.append("        }\n");
+                String incomplete = wide ? "seen.cardinality() != " + required.size()
+                        : "seen != " + (required.size() == Long.SIZE ? "-1L" : "0x" + Long.toHexString((1L << required.size()) - 1) + "L");
+                b.append("        if (").append(incomplete).append(") {\n")
+                        .append("            return SchemaValidator.missingProperty(parser, seen, ").append(constant).append(");\n        }\n");
+            } else {
+                b.append("        while (parser.nextToken() == JsonToken.FIELD_NAME) {\n");
+                appendSwitch(b, cases, fallback);
+                b.append("        }\n");
+            }
+            b.append("        return null;\n");
+        }
+
+        private void appendSwitch(StringBuilder b, Map<String, String> cases, String fallback) {
+            if (cases.isEmpty()) {
+                // Only additional properties: the fallback is a single expression
+                b.append("            parser.nextToken();\n");
+                b.append("            SchemaValidator.Violation violation = ").append(fallback).append("\n");
+                b.append("            if (violation != null) {\n                return violation;\n            }\n");
+                return;
+            }
+            b.append("            String field = parser.currentName();\n");
+            b.append("            parser.nextToken();\n");
+            b.append("            SchemaValidator.Violation violation = switch (field) {\n");
+            for (Map.Entry<String, String> entry : cases.entrySet()) {
+                b.append("                case \"").append(JerseyNamingUtils.escapeJavaString(entry.getKey())).append("\" -> ")
+                        .append(entry.getValue()).append("\n");
+            }
+            b.append("                default -> ").append(fallback).append("\n");
+            b.append("            };\n");
+            b.append("            if (violation != null) {\n                return violation;\n            }\n");
+        }
+
+        private String decimalConstant(String base, String kind, BigDecimal value) {
+            String constant = constant(base, kind);
+            constants.append("    private static final BigDecimal ").append(constant).append(" = new BigDecimal(\"")
+                    .append(value.toString()).append("\");\n");
+            return constant;
+        }
+
+        private String constant(String base, String kind) {
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < base.length(); i++) {
+                char c = base.charAt(i);
+                if (Character.isUpperCase(c) && i > 0) {
+                    name.append('_');
+                }
+                name.append(Character.toUpperCase(c));
+            }
+            return uniqueName((name.isEmpty() ? "" : name + "_") + kind);
+        }
+
+        private String uniqueName(String name) {
+            String unique = name;
+            for (int i = 2; !names.add(unique); i++) {
+                unique = name + i;
+            }
+            return unique;
+        }
+    }
+
+    private static String block(String... lines) {
+        StringBuilder block = new StringBuilder("{\n");
+        for (String line : lines) {
+            if (line != null) {
+                block.append("                    ").append(line).append("\n");
+            }
+        }
+        return block.append("                }").toString();
+    }
+
+    private static String mark(int bit, boolean wide) {
+        return wide ? "seen.set(" + bit + ");" : "seen |= 0x" + Long.toHexString(1L << bit) + "L;";
+    }
+
+    /**
+     * Validator class of the component {@code schema} refers to, or null when it is not a resolvable component $ref.
+     */
+    private String refTarget(Map<String, Object> schema) {
+        Object ref = schema != null ? schema.get("$ref") : null;
+        if (ref instanceof String value && value.startsWith(SCHEMA_REF_PREFIX)) {
+            return classNames.get(value.substring(SCHEMA_REF_PREFIX.length()));
+        }
+        return null;
+    }
+
+    /**
+     * {@code schema} with its {@code allOf} parts merged in.
+     */
+    private Map<String, Object> effective(Map<String, Object> schema) {
+        return effective(schema, new HashSet<>());
+    }
+
+    /**
+     * @param merging {@code $ref}s of the parts being merged; a part referring back to one of them is already merged
+     */
+    private Map<String, Object> effective(Map<String, Object> schema, Set<String> merging) {
+        List<Map<String, Object>> allOf = Util.asStringObjectMapList(schema.get("allOf"));
+        if (allOf == null) {
+            return schema;
+        }
+        Map<String, Object> merged = new LinkedHashMap<>(schema);
+        merged.remove("allOf");
+        for (Map<String, Object> part : allOf) {
+            String ref = part != null && part.get("$ref") instanceof String value ? value : null;
+            if (part == null || (ref != null && !merging.add(ref))) {
+                continue;
+            }
+            Map<String, Object> resolved;
+            try {
+                resolved = effective(OpenApiSchemaUtils.resolveRefInSchema(part, spec), merging);
+            } finally {
+                if (ref != null) {
+                    merging.remove(ref);
+                }
+            }
+            for (Map.Entry<String, Object> entry : resolved.entrySet()) {
+                switch (entry.getKey()) {
+                    case "properties" -> {
+                        Map<String, Object> properties = Util.asStringObjectMap(merged.get("properties"));
+                        properties = properties != null ? properties : new LinkedHashMap<>();
+                        for (Map.Entry<String, Object> property : Util.asStringObjectMap(entry.getValue()).entrySet()) {
+                            properties.putIfAbsent(property.getKey(), property.getValue());
+                        }
+                        merged.put("properties", properties);
+                    }
+                    case "required" -> {
+                        List<String> required = Util.asStringList(merged.get("required"));
+                        required = required != null ? new ArrayList<>(required) : new ArrayList<>();
+                        for (String name : Util.asStringList(entry.getValue())) {
+                            if (!required.contains(name)) {
+                                required.add(name);
+                            }
+                        }
+                        merged.put("required", required);
+                    }
+                    default -> merged.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The JSON types {@code schema} allows besides null, or an empty list when it allows any value or a type the
+     * validators do not check.
+     */
+    private static List<String> types(Map<String, Object> schema) {
+        Object type = schema.get("type");
+        if (type instanceof String value) {
+            return TYPES.contains(value) ? List.of(value) : List.of();
+        }
+        List<Object> typeList = type instanceof List<?> ? Util.asObjectList(type) : null;
+        if (typeList != null) {
+            List<String> types = new ArrayList<>();
+            for (Object value : typeList) {
+                if ("null".equals(value)) {
+                    continue;
+                }
+                if (!(value instanceof String name) || !TYPES.contains(name)) {
+                    return List.of();
+                }
+                if (!types.contains(name)) {
+                    types.add(name);
+                }
+            }
+            if (!types.isEmpty()) {
+                return types;
+            }
+        }
+        if (schema.containsKey("properties") || schema.containsKey("required") || schema.containsKey("additionalProperties")) {
+            return List.of("object");
+        }
+        return schema.containsKey("items") ? List.of("array") : List.of();
+    }
+
+    private static boolean nullable(Map<String, Object> schema) {
+        if (Boolean.TRUE.equals(schema.get("nullable"))) {
+            return true;
+        }
+        List<Object> types = schema.get("type") instanceof List<?> ? Util.asObjectList(schema.get("type")) : null;
+        return types != null && types.contains("null");
+    }
+
+    /**
+     * Whether {@code schema} rejects anything at all; unconstrained values are skipped instead of validated.
+     */
+    private boolean constrains(Map<String, Object> schema) {
+        Map<String, Object> effective = effective(schema);
+        return !types(effective).isEmpty() || effective.containsKey("oneOf") || effective.containsKey("anyOf")
+                || effective.get("enum") instanceof List<?>;
+    }
+
+    private static long nonNegative(Object value) {
+        if (value instanceof Number number && number.longValue() >= 0) {
+            return Math.min(Integer.MAX_VALUE, number.longValue());
+        }
+        return -1;
+    }
+
+    /**
+     * {@code value} as a decimal, or null when it is not a number or numeric string.
+     */
+    private static BigDecimal decimal(Object value) {
+        if (!(value instanceof Number) && !(value instanceof String)) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A minimum or maximum, from OpenAPI 3.0 ({@code exclusiveMinimum: true}) or 3.1 ({@code exclusiveMinimum: 5}).
+     */
+    private record Bound(BigDecimal value, boolean exclusive) {
+
+        /**
+         * @param direction 1 for a minimum, -1 for a maximum; a 3.1 schema may have both an inclusive and an
+         *                  exclusive bound, and the stricter one is kept
+         */
+        static Bound of(Object bound, Object exclusive, int direction) {
+            BigDecimal value = decimal(bound);
+            BigDecimal exclusiveValue = exclusive instanceof Number ? decimal(exclusive) : null;
+            if (exclusiveValue != null && (value == null || exclusiveValue.compareTo(value) * direction >= 0)) {
+                return new Bound(exclusiveValue, true);
+            }
+            return value != null ? new Bound(value, Boolean.TRUE.equals(exclusive)) : null;
+        }
+
+        boolean fitsLong() {
+            try {
+                value.longValueExact();
+                return true;
+            } catch (ArithmeticException e) {
+                return false;
+            }
+        }
+    }
+}
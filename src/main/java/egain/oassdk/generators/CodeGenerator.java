@@ -2,6 +2,7 @@ package egain.oassdk.generators;
 
 import egain.oassdk.config.GeneratorConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.model.OpenApiDocument;
 
 import java.util.Map;
 
@@ -21,6 +22,20 @@ public interface CodeGenerator {
      */
     void generate(Map<String, Object> spec, String outputDir, GeneratorConfig config, String packageName) throws GenerationException;
 
+    /**
+     * Generate code from an indexed OpenAPI specification. Generators that look up operations or component schemas
+     * override this to use the document's indexes; by default it generates from {@link OpenApiDocument#spec()}.
+     *
+     * @param document    Indexed, parsed OpenAPI specification
+     * @param outputDir   Output directory for generated code
+     * @param config      Generator configuration
+     * @param packageName Package/namespace name
+     * @throws GenerationException if generation fails
+     */
+    default void generateFromDocument(OpenApiDocument document, String outputDir, GeneratorConfig config, String packageName) throws GenerationException {
+        generate(document.spec(), outputDir, config, packageName);
+    }
+
     /**
      * Generate code from OpenAPI specification with default package name
      *
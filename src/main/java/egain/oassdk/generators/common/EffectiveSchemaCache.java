@@ -0,0 +1,126 @@
+package egain.oassdk.generators.common;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Effective schemas of one spec, as computed by {@link OpenApiSchemaUtils#resolveCompositionToEffectiveSchema},
+ * keyed by the identity of the schema they were computed for.
+ *
+ * <p>Generators ask for the effective schema of the same schemas many times per run; with this cache each
+ * composition is merged once. Specs are held weakly and by identity, so a spec's cache goes away with the spec. A
+ * cache is also dropped when the spec's {@code components.schemas} map is replaced or changes size, as when a
+ * generator adds schemas. Edits inside existing schemas are not detected: callers that make them must
+ * {@linkplain OpenApiSchemaUtils#clearCompositionCache clear} the cache.
+ *
+ * <p>This class is thread-safe.
+ */
+final class EffectiveSchemaCache {
+
+    private static final ReferenceQueue<Object> COLLECTED = new ReferenceQueue<>();
+    private static final ConcurrentMap<SpecKey, EffectiveSchemaCache> CACHES = new ConcurrentHashMap<>();
+
+    private final Map<String, Object> schemas;
+    private final int schemaCount;
+    private final Map<Object, Map<String, Object>> effective = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private EffectiveSchemaCache(Map<String, Object> schemas) {
+        this.schemas = schemas;
+        this.schemaCount = schemas != null ? schemas.size() : 0;
+    }
+
+    /**
+     * The cache of {@code spec}, or null when {@code spec} is null.
+     */
+    static EffectiveSchemaCache of(Map<String, Object> spec) {
+        if (spec == null) {
+            return null;
+        }
+        purge();
+        Map<String, Object> schemas = componentSchemas(spec);
+        EffectiveSchemaCache cache = CACHES.get(new SpecKey(spec, null));
+        if (cache != null && cache.isCurrent(schemas)) {
+            return cache;
+        }
+        return CACHES.compute(new SpecKey(spec, COLLECTED),
+                (key, current) -> current != null && current.isCurrent(schemas) ? current
+                        : new EffectiveSchemaCache(schemas));
+    }
+
+    /**
+     * Drop the cache of {@code spec}.
+     */
+    static void clear(Map<String, Object> spec) {
+        if (spec != null) {
+            CACHES.remove(new SpecKey(spec, null));
+        }
+    }
+
+    /**
+     * Drop every cache.
+     */
+    static void clearAll() {
+        CACHES.clear();
+    }
+
+    /** The effective schema of {@code schema}, or null when it has not been computed. */
+    Map<String, Object> get(Map<String, Object> schema) {
+        return effective.get(schema);
+    }
+
+    /**
+     * Record the effective schema of {@code schema}. When another thread recorded one first, that one is kept and
+     * returned, so every caller sees the same instance.
+     */
+    Map<String, Object> put(Map<String, Object> schema, Map<String, Object> effectiveSchema) {
+        Map<String, Object> existing = effective.putIfAbsent(schema, effectiveSchema);
+        return existing != null ? existing : effectiveSchema;
+    }
+
+    private boolean isCurrent(Map<String, Object> currentSchemas) {
+        return schemas == currentSchemas && schemaCount == (currentSchemas != null ? currentSchemas.size() : 0);
+    }
+
+    /** The spec's {@code components.schemas} map itself: a view would be a new object on every call. */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> componentSchemas(Map<String, Object> spec) {
+        return spec.get("components") instanceof Map<?, ?> components
+                && components.get("schemas") instanceof Map<?, ?> schemas ? (Map<String, Object>) schemas : null;
+    }
+
+    private static void purge() {
+        for (Object key; (key = COLLECTED.poll()) != null; ) {
+            CACHES.remove(key);
+        }
+    }
+
+    /** A weak reference to a spec that compares by the spec's identity. */
+    private static final class SpecKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        SpecKey(Object spec, ReferenceQueue<Object> queue) {
+            super(spec, queue);
+            this.hash = System.identityHashCode(spec);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            Object spec = get();
+            return spec != null && o instanceof SpecKey other && other.get() == spec;
+        }
+    }
+}
@@ -62,7 +62,7 @@ public final class OpenApiOneOfXor {
         Map<String, Object> node = resolveSchemaDeref(schema, spec, depth);
 
         if (node.containsKey("allOf")) {
-            List<Map<String, Object>> parts = Util.asStringObjectMapList(node.get("allOf"));
+            List<Map<String, Object>> parts = Util.asStringObjectMapListView(node.get("allOf"));
             if (parts != null) {
                 for (Map<String, Object> sub : parts) {
                     SimpleOneOfXorInfo found = findSimpleOneOfXorInfo(sub, spec, visited, depth + 1);
@@ -75,7 +75,7 @@ public final class OpenApiOneOfXor {
         }
 
         if (node.containsKey("oneOf")) {
-            List<Map<String, Object>> variants = Util.asStringObjectMapList(node.get("oneOf"));
+            List<Map<String, Object>> variants = Util.asStringObjectMapListView(node.get("oneOf"));
             if (variants != null && variants.size() == 2) {
                 String r0 = singleRequiredPropertyName(variants.get(0), spec);
                 String r1 = singleRequiredPropertyName(variants.get(1), spec);
@@ -132,11 +132,11 @@ public final class OpenApiOneOfXor {
             return false;
         }
         Map<String, Object> node = resolveSchemaDeref(branch, spec, 0);
-        Map<String, Object> props = Util.asStringObjectMap(node.get("properties"));
+        Map<String, Object> props = Util.asStringObjectMapView(node.get("properties"));
         if (props == null) {
             return false;
         }
-        Map<String, Object> propSchema = Util.asStringObjectMap(props.get(soleRequiredProp));
+        Map<String, Object> propSchema = Util.asStringObjectMapView(props.get(soleRequiredProp));
         if (propSchema == null) {
             return false;
         }
@@ -145,11 +145,11 @@ public final class OpenApiOneOfXor {
         if (effective == null) {
             return false;
         }
-        List<String> req = Util.asStringList(effective.get("required"));
+        List<String> req = Util.asStringListView(effective.get("required"));
         if (req == null || !req.contains("id")) {
             return false;
         }
-        Map<String, Object> innerProps = Util.asStringObjectMap(effective.get("properties"));
+        Map<String, Object> innerProps = Util.asStringObjectMapView(effective.get("properties"));
         return innerProps != null && innerProps.containsKey("id");
     }
 
@@ -158,11 +158,11 @@ public final class OpenApiOneOfXor {
             return null;
         }
         Map<String, Object> node = resolveSchemaDeref(branch, spec, 0);
-        List<String> req = Util.asStringList(node.get("required"));
+        List<String> req = Util.asStringListView(node.get("required"));
         if (req == null || req.size() != 1) {
             return null;
         }
-        Map<String, Object> props = Util.asStringObjectMap(node.get("properties"));
+        Map<String, Object> props = Util.asStringObjectMapView(node.get("properties"));
         if (props == null || props.isEmpty()) {
             return null;
         }
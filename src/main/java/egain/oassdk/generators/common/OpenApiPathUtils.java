@@ -47,7 +47,7 @@ public final class OpenApiPathUtils {
     }
 
     public static String extractServerBasePath(Map<String, Object> spec) {
-        List<Map<String, Object>> servers = Util.asStringObjectMapList(spec.get("servers"));
+        List<Map<String, Object>> servers = Util.asStringObjectMapListView(spec.get("servers"));
         if (servers != null && !servers.isEmpty()) {
             Map<String, Object> firstServer = servers.getFirst();
             String url = (String) firstServer.get("url");
@@ -86,14 +86,14 @@ public final class OpenApiPathUtils {
      */
     public static Map<String, List<PathOperation>> groupOperationsByParentPath(Map<String, Object> spec) {
         Map<String, List<PathOperation>> pathGroups = new LinkedHashMap<>();
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return pathGroups;
         }
 
         for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
             String path = pathEntry.getKey();
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
             if (pathItem == null) {
                 continue;
             }
@@ -103,7 +103,7 @@ public final class OpenApiPathUtils {
 
             for (String method : Constants.HTTP_METHODS) {
                 if (pathItem.containsKey(method)) {
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     if (operation != null) {
                         operations.add(new PathOperation(path, method, operation));
                     }
@@ -114,17 +114,17 @@ public final class OpenApiPathUtils {
     }
 
     public static String getApiTitle(Map<String, Object> spec) {
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         return info != null ? (String) info.get("title") : "API";
     }
 
     public static String getApiDescription(Map<String, Object> spec) {
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         return info != null ? (String) info.get("description") : "Generated API";
     }
 
     public static String getApiVersion(Map<String, Object> spec) {
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         String version = info != null ? (String) info.get("version") : null;
         return (version != null && !version.isBlank()) ? version : "1.0.0";
     }
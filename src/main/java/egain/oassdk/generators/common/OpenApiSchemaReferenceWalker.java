@@ -32,44 +32,44 @@ public final class OpenApiSchemaReferenceWalker {
 
     public static Set<String> collectReferencedSchemas(Map<String, Object> spec) {
         Set<String> referencedSchemas = new HashSet<>();
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return referencedSchemas;
         }
 
         for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
             if (pathItem == null) {
                 continue;
             }
 
             for (String method : Constants.HTTP_METHODS) {
                 if (pathItem.containsKey(method)) {
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     if (operation == null) {
                         continue;
                     }
 
-                    List<Map<String, Object>> parameters = Util.asStringObjectMapList(operation.get("parameters"));
+                    List<Map<String, Object>> parameters = Util.asStringObjectMapListView(operation.get("parameters"));
                     if (parameters != null) {
                         for (Map<String, Object> param : parameters) {
                             collectSchemasFromSchemaObject(param.get("schema"), referencedSchemas, spec);
                         }
                     }
 
-                    List<Map<String, Object>> pathParams = Util.asStringObjectMapList(pathItem.get("parameters"));
+                    List<Map<String, Object>> pathParams = Util.asStringObjectMapListView(pathItem.get("parameters"));
                     if (pathParams != null) {
                         for (Map<String, Object> param : pathParams) {
                             collectSchemasFromSchemaObject(param.get("schema"), referencedSchemas, spec);
                         }
                     }
 
-                    Map<String, Object> requestBody = Util.asStringObjectMap(operation.get("requestBody"));
+                    Map<String, Object> requestBody = Util.asStringObjectMapView(operation.get("requestBody"));
                     if (requestBody != null) {
-                        Map<String, Object> content = Util.asStringObjectMap(requestBody.get("content"));
+                        Map<String, Object> content = Util.asStringObjectMapView(requestBody.get("content"));
                         if (content != null) {
                             for (Object mediaTypeObj : content.values()) {
-                                Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                                Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                                 if (mediaType != null) {
                                     collectSchemasFromSchemaObject(mediaType.get("schema"), referencedSchemas, spec);
                                 }
@@ -77,15 +77,15 @@ public final class OpenApiSchemaReferenceWalker {
                         }
                     }
 
-                    Map<String, Object> responses = Util.asStringObjectMap(operation.get("responses"));
+                    Map<String, Object> responses = Util.asStringObjectMapView(operation.get("responses"));
                     if (responses != null) {
                         for (Object responseObj : responses.values()) {
-                            Map<String, Object> response = Util.asStringObjectMap(responseObj);
+                            Map<String, Object> response = Util.asStringObjectMapView(responseObj);
                             if (response != null && response.containsKey("content")) {
-                                Map<String, Object> content = Util.asStringObjectMap(response.get("content"));
+                                Map<String, Object> content = Util.asStringObjectMapView(response.get("content"));
                                 if (content != null) {
                                     for (Object mediaTypeObj : content.values()) {
-                                        Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                                        Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                                         if (mediaType != null) {
                                             collectSchemasFromSchemaObject(mediaType.get("schema"), referencedSchemas, spec);
                                         }
@@ -106,7 +106,7 @@ public final class OpenApiSchemaReferenceWalker {
             return;
         }
 
-        Map<String, Object> schema = Util.asStringObjectMap(schemaObj);
+        Map<String, Object> schema = Util.asStringObjectMapView(schemaObj);
         if (schema == null) {
             return;
         }
@@ -152,11 +152,11 @@ public final class OpenApiSchemaReferenceWalker {
         }
         referencedSchemas.add(schemaName);
 
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
         if (components != null) {
-            Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+            Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
             if (schemas != null) {
-                Map<String, Object> referencedSchema = Util.asStringObjectMap(schemas.get(schemaName));
+                Map<String, Object> referencedSchema = Util.asStringObjectMapView(schemas.get(schemaName));
                 if (referencedSchema != null) {
                     collectSchemasFromSchemaObject(referencedSchema, referencedSchemas, spec);
                 }
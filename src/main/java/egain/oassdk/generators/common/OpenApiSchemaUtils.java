@@ -12,12 +12,20 @@ import java.util.*;
  */
 public final class OpenApiSchemaUtils {
 
-    /** Max depth when resolving allOf/oneOf/anyOf to prevent infinite recursion */
+    /**
+     * Max depth of depth-bounded walks through allOf/oneOf/anyOf. {@link #resolveCompositionToEffectiveSchema}
+     * detects cycles instead and resolves compositions of any depth.
+     */
     public static final int MAX_COMPOSITION_RESOLVE_DEPTH = 10;
 
-    /** Max recursion depth for mergeSchemaProperties to prevent StackOverflow on large specs. */
+    /**
+     * Max depth of depth-bounded walks that merge schema properties. {@link #mergeSchemaProperties} detects cycles
+     * instead and merges compositions of any depth.
+     */
     public static final int MAX_MERGE_SCHEMA_DEPTH = 15;
 
+    private static final Class<?> MAP_VIEW_CLASS = Util.asStringObjectMapView(new HashMap<>()).getClass();
+
     /** Schema constraint keys back-filled from an earlier allOf branch when a later overlay omits them. */
     private static final String[] COMPOSITION_CONSTRAINT_KEYS = {
             "type", "format", "pattern", "minLength", "maxLength", "minItems", "maxItems", "enum", "description"
@@ -35,89 +43,239 @@ public final class OpenApiSchemaUtils {
      * Resolve allOf/oneOf/anyOf to a single effective schema for type/validation/XSD.
      * allOf: merged schema from all branches; oneOf/anyOf: first branch (Java has no union type).
      * Resolves $ref in sub-schemas when spec is non-null.
+     * <p>
+     * Effective schemas are memoized per spec, by schema identity, so a chain of compositions is merged once
+     * however often it is asked for; see {@link #clearCompositionCache}. The returned map is shared and must not
+     * be modified. A composition that refers back to a schema still being resolved keeps that reference
+     * unresolved.
      *
      * @param schema the schema that may contain allOf, oneOf, or anyOf
      * @param spec   the full OpenAPI spec (nullable); when non-null, $ref in composition are resolved
-     * @return effective schema map, or the original schema if no composition or depth exceeded
+     * @return effective schema map, or the original schema if no composition
      */
     public static Map<String, Object> resolveCompositionToEffectiveSchema(Map<String, Object> schema, Map<String, Object> spec) {
-        return resolveCompositionToEffectiveSchema(schema, spec, 0);
+        if (schema == null || !isComposition(schema)) {
+            return schema;
+        }
+        Map<String, Object> effective = new CompositionResolver(spec).resolve(schema, !isMapView(schema));
+        if (effective == schema || effective instanceof EffectiveSchema) {
+            return effective;
+        }
+        // A schema of the spec itself: hand out a distinct view, as for a resolved $ref
+        return Util.asStringObjectMapView(effective);
     }
 
+    /**
+     * @deprecated composition cycles are detected, so {@code depth} is no longer needed and is ignored; use
+     * {@link #resolveCompositionToEffectiveSchema(Map, Map)}
+     */
+    @Deprecated
     public static Map<String, Object> resolveCompositionToEffectiveSchema(Map<String, Object> schema, Map<String, Object> spec, int depth) {
-        if (schema == null || depth > MAX_COMPOSITION_RESOLVE_DEPTH) {
-            return schema;
+        return resolveCompositionToEffectiveSchema(schema, spec);
+    }
+
+    /**
+     * Drop the effective schemas memoized for {@code spec}. Additions to {@code components.schemas} are noticed
+     * on their own; call this after editing schemas of {@code spec} in place.
+     */
+    public static void clearCompositionCache(Map<String, Object> spec) {
+        EffectiveSchemaCache.clear(spec);
+    }
+
+    /**
+     * Drop the effective schemas memoized for every spec.
+     */
+    public static void clearCompositionCache() {
+        EffectiveSchemaCache.clearAll();
+    }
+
+    private static boolean isComposition(Map<String, Object> schema) {
+        return schema.containsKey("allOf") || schema.containsKey("oneOf") || schema.containsKey("anyOf");
+    }
+
+    /**
+     * True for an unmodifiable view such as {@link Util#asStringObjectMapView} returns: views are created per
+     * lookup, so memoizing by their identity would only fill the cache.
+     */
+    private static boolean isMapView(Map<String, Object> schema) {
+        return schema.getClass() == MAP_VIEW_CLASS;
+    }
+
+    /**
+     * The schemas of a composition list as the spec holds them, not views: the effective schema cache and the
+     * visited sets of {@link #mergeSchemaProperties} go by their identity.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> schemaList(Object value) {
+        if (value == null) {
+            return null;
         }
-        if (schema.containsKey("allOf")) {
-            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapList(schema.get("allOf"));
-            if (allOfSchemas == null || allOfSchemas.isEmpty()) {
+        if (!(value instanceof List<?> raw)) {
+            throw new IllegalArgumentException("Expected a List, got: " + value.getClass().getName());
+        }
+        for (Object item : raw) {
+            if (item != null && !(item instanceof Map<?, ?>)) {
+                throw new IllegalArgumentException("Expected a Map, got: " + item.getClass().getName());
+            }
+        }
+        return (List<Map<String, Object>>) raw;
+    }
+
+    /** A merged effective schema; unmodifiable, as it is shared by everyone who asks for it. */
+    private static final class EffectiveSchema extends AbstractMap<String, Object> {
+
+        private final Map<String, Object> merged;
+
+        EffectiveSchema(Map<String, Object> merged) {
+            merged.computeIfPresent("properties", (key, value) -> Util.asStringObjectMapView(value));
+            merged.computeIfPresent("required", (key, value) -> Util.asStringListView(value));
+            this.merged = merged;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return merged.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return merged.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return merged.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.unmodifiableMap(merged).entrySet();
+        }
+    }
+
+    /**
+     * One resolution of a composition. Schemas being resolved are kept on a stack; a schema that is reached again
+     * while on it is a cycle, and is left unresolved at that point. An effective schema is memoized only when no
+     * cycle was cut below a schema deeper in the stack than itself: otherwise it depends on where the resolution
+     * started.
+     */
+    private static final class CompositionResolver {
+
+        private final Map<String, Object> spec;
+        private final EffectiveSchemaCache cache;
+        // Schemas being resolved, with their position on the stack
+        private final Map<Object, Integer> inProgress = new IdentityHashMap<>();
+        // Lowest stack position a cycle in the current subtree led back to
+        private int lowestCycle = Integer.MAX_VALUE;
+
+        CompositionResolver(Map<String, Object> spec) {
+            this.spec = spec;
+            this.cache = EffectiveSchemaCache.of(spec);
+        }
+
+        Map<String, Object> resolve(Map<String, Object> schema, boolean memoize) {
+            if (schema == null || !isComposition(schema)) {
                 return schema;
             }
-            String singleRefSchemaName = null;
-            int refCount = 0;
-            Map<String, Object> merged = new LinkedHashMap<>();
-            List<Map<String, Object>> refBranches = new ArrayList<>();
-            List<Map<String, Object>> overlayBranches = new ArrayList<>();
-            partitionAllOfBranches(allOfSchemas, refBranches, overlayBranches);
-            List<Map<String, Object>> mergeOrder = new ArrayList<>(refBranches.size() + overlayBranches.size());
-            mergeOrder.addAll(refBranches);
-            mergeOrder.addAll(overlayBranches);
-            for (Map<String, Object> sub : mergeOrder) {
-                if (sub == null) continue;
-                String refName = getSchemaNameFromRef(sub);
-                if (refName == null) {
-                    String ref = (String) sub.get("x-resolved-ref");
-                    if (ref == null) ref = (String) sub.get("$ref");
-                    if (ref != null && ref.contains("components/schemas/")) {
-                        refName = ref.substring(ref.lastIndexOf("/") + 1);
-                    }
-                }
-                if (refName != null) {
-                    refCount++;
-                    if (singleRefSchemaName == null) singleRefSchemaName = refName;
-                }
-                Map<String, Object> resolved = resolveRefInSchema(sub, spec);
-                resolved = resolveCompositionToEffectiveSchema(resolved, spec, depth + 1);
-                if (resolved != null) {
-                    mergeIntoEffectiveSchema(merged, resolved);
+            if (cache != null) {
+                Map<String, Object> cached = cache.get(schema);
+                if (cached != null) {
+                    return cached;
                 }
             }
-            if (singleRefSchemaName != null && !merged.isEmpty()) {
-                Set<String> distinctRefNames = new LinkedHashSet<>();
-                for (Map<String, Object> sub : allOfSchemas) {
+            Integer onStack = inProgress.get(schema);
+            if (onStack != null) {
+                lowestCycle = Math.min(lowestCycle, onStack);
+                return schema;
+            }
+            int position = inProgress.size();
+            inProgress.put(schema, position);
+            int outerCycle = lowestCycle;
+            lowestCycle = Integer.MAX_VALUE;
+            Map<String, Object> effective;
+            try {
+                effective = merge(schema);
+            } finally {
+                inProgress.remove(schema);
+            }
+            if (cache != null && memoize && lowestCycle >= position) {
+                effective = cache.put(schema, effective);
+            }
+            lowestCycle = Math.min(outerCycle, lowestCycle);
+            return effective;
+        }
+
+        private Map<String, Object> merge(Map<String, Object> schema) {
+            if (schema.containsKey("allOf")) {
+                List<Map<String, Object>> allOfSchemas = schemaList(schema.get("allOf"));
+                if (allOfSchemas == null || allOfSchemas.isEmpty()) {
+                    return schema;
+                }
+                String singleRefSchemaName = null;
+                int refCount = 0;
+                Map<String, Object> merged = new LinkedHashMap<>();
+                List<Map<String, Object>> refBranches = new ArrayList<>();
+                List<Map<String, Object>> overlayBranches = new ArrayList<>();
+                partitionAllOfBranches(allOfSchemas, refBranches, overlayBranches);
+                List<Map<String, Object>> mergeOrder = new ArrayList<>(refBranches.size() + overlayBranches.size());
+                mergeOrder.addAll(refBranches);
+                mergeOrder.addAll(overlayBranches);
+                for (Map<String, Object> sub : mergeOrder) {
                     if (sub == null) continue;
-                    String refName = getSchemaNameFromRef(sub);
-                    if (refName == null) {
-                        String ref = (String) sub.get("x-resolved-ref");
-                        if (ref == null) ref = (String) sub.get("$ref");
-                        if (ref != null && ref.contains("components/schemas/")) {
-                            refName = ref.substring(ref.lastIndexOf("/") + 1);
-                        }
-                    }
+                    String refName = refNameOf(sub);
                     if (refName != null) {
-                        distinctRefNames.add(refName);
+                        refCount++;
+                        if (singleRefSchemaName == null) singleRefSchemaName = refName;
+                    }
+                    Map<String, Object> resolved = resolve(referencedSchema(sub), true);
+                    if (resolved != null) {
+                        mergeIntoEffectiveSchema(merged, resolved);
                     }
                 }
-                if ((refCount == 1 || distinctRefNames.size() == 1)
-                        && !allOfHasPropertyOverlayBranches(allOfSchemas)) {
-                    merged.put("x-java-type-ref", singleRefSchemaName);
+                if (singleRefSchemaName != null && !merged.isEmpty()) {
+                    Set<String> distinctRefNames = new LinkedHashSet<>();
+                    for (Map<String, Object> sub : allOfSchemas) {
+                        if (sub == null) continue;
+                        String refName = refNameOf(sub);
+                        if (refName != null) {
+                            distinctRefNames.add(refName);
+                        }
+                    }
+                    if ((refCount == 1 || distinctRefNames.size() == 1)
+                            && !allOfHasPropertyOverlayBranches(allOfSchemas)) {
+                        merged.put("x-java-type-ref", singleRefSchemaName);
+                    }
                 }
+                return merged.isEmpty() ? schema : new EffectiveSchema(merged);
             }
-            return merged.isEmpty() ? schema : merged;
-        }
-        if (schema.containsKey("oneOf") || schema.containsKey("anyOf")) {
-            List<Map<String, Object>> schemas = Util.asStringObjectMapList(
+            List<Map<String, Object>> schemas = schemaList(
                     schema.containsKey("oneOf") ? schema.get("oneOf") : schema.get("anyOf"));
             if (schemas != null && !schemas.isEmpty()) {
                 Map<String, Object> first = schemas.get(0);
                 if (first != null) {
-                    first = resolveRefInSchema(first, spec);
-                    return resolveCompositionToEffectiveSchema(first, spec, depth + 1);
+                    return resolve(referencedSchema(first), true);
                 }
             }
             return schema;
         }
-        return schema;
+
+        /** The component a schema refers to by {@code $ref}, as the spec holds it; the schema itself otherwise. */
+        private Map<String, Object> referencedSchema(Map<String, Object> schema) {
+            Map<String, Object> component = spec != null ? componentSchemaForRef(schema, spec) : null;
+            return component != null ? component : schema;
+        }
+
+        private static String refNameOf(Map<String, Object> sub) {
+            String refName = getSchemaNameFromRef(sub);
+            if (refName == null) {
+                String ref = (String) sub.get("x-resolved-ref");
+                if (ref == null) ref = (String) sub.get("$ref");
+                if (ref != null && ref.contains("components/schemas/")) {
+                    refName = ref.substring(ref.lastIndexOf("/") + 1);
+                }
+            }
+            return refName;
+        }
     }
 
     // ---------------------------------------------------------------------------
@@ -126,12 +284,17 @@ public final class OpenApiSchemaUtils {
 
     /** Resolve $ref in a schema using spec (components/schemas). Returns resolved map or original if no ref/spec. */
     public static Map<String, Object> resolveRefInSchema(Map<String, Object> schema, Map<String, Object> spec) {
-        if (schema == null || spec == null || !schema.containsKey("$ref")) {
+        if (schema == null || spec == null) {
             return schema;
         }
-        String ref = (String) schema.get("$ref");
-        if (ref == null || !ref.contains("components/schemas/")) {
-            return schema;
+        Map<String, Object> resolved = componentSchemaForRef(schema, spec);
+        return resolved != null ? Util.asStringObjectMapView(resolved) : schema;
+    }
+
+    /** The component schema a schema's {@code $ref} names, as the spec holds it; null when there is none. */
+    private static Map<String, Object> componentSchemaForRef(Map<String, Object> schema, Map<String, Object> spec) {
+        if (!(schema.get("$ref") instanceof String ref) || !ref.contains("components/schemas/")) {
+            return null;
         }
         String schemaName = ref.contains("#/components/schemas/")
                 ? ref.substring(ref.lastIndexOf("/") + 1)
@@ -139,12 +302,17 @@ public final class OpenApiSchemaUtils {
         if (schemaName.contains("/")) {
             schemaName = schemaName.substring(schemaName.lastIndexOf("/") + 1);
         }
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-        if (components == null) return schema;
-        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
-        if (schemas == null || !schemas.containsKey(schemaName)) return schema;
-        Map<String, Object> resolved = Util.asStringObjectMap(schemas.get(schemaName));
-        return resolved != null ? resolved : schema;
+        return componentSchemaNamed(schemaName, spec);
+    }
+
+    /** The component schema named {@code schemaName}, as the spec holds it; null when there is none. */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> componentSchemaNamed(String schemaName, Map<String, Object> spec) {
+        if (spec == null || !(spec.get("components") instanceof Map<?, ?> components)
+                || !(components.get("schemas") instanceof Map<?, ?> schemas)) {
+            return null;
+        }
+        return schemas.get(schemaName) instanceof Map<?, ?> resolved ? (Map<String, Object>) resolved : null;
     }
 
     // ---------------------------------------------------------------------------
@@ -160,7 +328,7 @@ public final class OpenApiSchemaUtils {
             }
         }
         if (from.containsKey("properties")) {
-            Map<String, Object> fromProps = Util.asStringObjectMap(from.get("properties"));
+            Map<String, Object> fromProps = Util.asStringObjectMapView(from.get("properties"));
             if (fromProps != null && !fromProps.isEmpty()) {
                 Map<String, Object> mergedProps = Util.asStringObjectMap(merged.get("properties"));
                 if (mergedProps == null) {
@@ -171,7 +339,7 @@ public final class OpenApiSchemaUtils {
             }
         }
         if (from.containsKey("required")) {
-            List<String> fromReq = Util.asStringList(from.get("required"));
+            List<String> fromReq = Util.asStringListView(from.get("required"));
             if (fromReq != null && !fromReq.isEmpty()) {
                 List<String> mergedReq = Util.asStringList(merged.get("required"));
                 if (mergedReq == null) {
@@ -230,7 +398,7 @@ public final class OpenApiSchemaUtils {
         if (propertySchema == null) {
             return null;
         }
-        Map<String, Object> direct = Util.asStringObjectMap(propertySchema.get("properties"));
+        Map<String, Object> direct = Util.asStringObjectMapView(propertySchema.get("properties"));
         if (direct != null && !direct.isEmpty()) {
             return direct;
         }
@@ -239,7 +407,7 @@ public final class OpenApiSchemaUtils {
         }
         Map<String, Object> resolved = resolveRefInSchema(propertySchema, spec);
         Map<String, Object> effective = resolveCompositionToEffectiveSchema(resolved, spec);
-        return effective != null ? Util.asStringObjectMap(effective.get("properties")) : null;
+        return effective != null ? Util.asStringObjectMapView(effective.get("properties")) : null;
     }
 
     /**
@@ -257,7 +425,7 @@ public final class OpenApiSchemaUtils {
             return true;
         }
         if (schema.containsKey("allOf")) {
-            List<Map<String, Object>> allOf = Util.asStringObjectMapList(schema.get("allOf"));
+            List<Map<String, Object>> allOf = Util.asStringObjectMapListView(schema.get("allOf"));
             if (allOf != null) {
                 for (Map<String, Object> branch : allOf) {
                     if (branch == null) {
@@ -283,8 +451,8 @@ public final class OpenApiSchemaUtils {
                                                    Map<String, Object> earlier,
                                                    Map<String, Object> later,
                                                    Map<String, Object> spec) {
-        List<Map<String, Object>> earlierAllOf = Util.asStringObjectMapList(earlier.get("allOf"));
-        List<Map<String, Object>> laterAllOf = Util.asStringObjectMapList(later.get("allOf"));
+        List<Map<String, Object>> earlierAllOf = Util.asStringObjectMapListView(earlier.get("allOf"));
+        List<Map<String, Object>> laterAllOf = Util.asStringObjectMapListView(later.get("allOf"));
         if (earlierAllOf != null && !earlierAllOf.isEmpty()
                 && laterAllOf != null && !laterAllOf.isEmpty()) {
             List<Map<String, Object>> mergedAllOf = mergePropertyLevelAllOf(earlierAllOf, laterAllOf, earlier, later);
@@ -307,7 +475,7 @@ public final class OpenApiSchemaUtils {
         } else if (isSchemaFlagTrue(earlier, "writeOnly")) {
             out.put("writeOnly", true);
         }
-        Map<String, Object> laterProps = Util.asStringObjectMap(later.get("properties"));
+        Map<String, Object> laterProps = Util.asStringObjectMapView(later.get("properties"));
         if (laterProps == null || laterProps.isEmpty()) {
             return;
         }
@@ -318,8 +486,8 @@ public final class OpenApiSchemaUtils {
         }
         for (Map.Entry<String, Object> pe : laterProps.entrySet()) {
             String pk = pe.getKey();
-            Map<String, Object> overlaySub = Util.asStringObjectMap(pe.getValue());
-            Map<String, Object> baseSub = Util.asStringObjectMap(baseProps.get(pk));
+            Map<String, Object> overlaySub = Util.asStringObjectMapView(pe.getValue());
+            Map<String, Object> baseSub = Util.asStringObjectMapView(baseProps.get(pk));
             if (baseSub != null && overlaySub != null) {
                 baseProps.put(pk, mergePropertyDefinitionsForComposition(baseSub, overlaySub, spec));
             } else {
@@ -333,8 +501,8 @@ public final class OpenApiSchemaUtils {
                                                           Map<String, Object> earlier,
                                                           Map<String, Object> later,
                                                           Map<String, Object> spec) {
-        List<Map<String, Object>> earlierAllOf = Util.asStringObjectMapList(earlier.get("allOf"));
-        List<Map<String, Object>> laterAllOf = Util.asStringObjectMapList(later.get("allOf"));
+        List<Map<String, Object>> earlierAllOf = Util.asStringObjectMapListView(earlier.get("allOf"));
+        List<Map<String, Object>> laterAllOf = Util.asStringObjectMapListView(later.get("allOf"));
         if (earlierAllOf != null && !earlierAllOf.isEmpty()
                 && laterAllOf != null && !laterAllOf.isEmpty()) {
             List<Map<String, Object>> mergedAllOf = mergePropertyLevelAllOf(earlierAllOf, laterAllOf, earlier, later);
@@ -353,10 +521,10 @@ public final class OpenApiSchemaUtils {
         if (!later.containsKey("writeOnly") && isSchemaFlagTrue(earlier, "writeOnly")) {
             out.put("writeOnly", true);
         }
-        Map<String, Object> laterProps = Util.asStringObjectMap(later.get("properties"));
+        Map<String, Object> laterProps = Util.asStringObjectMapView(later.get("properties"));
         Map<String, Object> earlierProps = resolveEffectivePropertyProperties(earlier, spec);
         if (earlierProps == null || earlierProps.isEmpty()) {
-            earlierProps = Util.asStringObjectMap(earlier.get("properties"));
+            earlierProps = Util.asStringObjectMapView(earlier.get("properties"));
         }
         if (laterProps != null && !laterProps.isEmpty()) {
             Map<String, Object> mergedProps = new LinkedHashMap<>(laterProps);
@@ -366,8 +534,8 @@ public final class OpenApiSchemaUtils {
                     if (!mergedProps.containsKey(pk)) {
                         continue;
                     }
-                    Map<String, Object> eSub = Util.asStringObjectMap(pe.getValue());
-                    Map<String, Object> lSub = Util.asStringObjectMap(mergedProps.get(pk));
+                    Map<String, Object> eSub = Util.asStringObjectMapView(pe.getValue());
+                    Map<String, Object> lSub = Util.asStringObjectMapView(mergedProps.get(pk));
                     if (eSub != null && lSub != null) {
                         mergedProps.put(pk, mergePropertyDefinitionsForComposition(eSub, lSub, spec));
                     }
@@ -397,13 +565,13 @@ public final class OpenApiSchemaUtils {
         for (Map.Entry<String, Object> e : properties.entrySet()) {
             String name = e.getKey();
             Object incomingObj = e.getValue();
-            Map<String, Object> incoming = Util.asStringObjectMap(incomingObj);
+            Map<String, Object> incoming = Util.asStringObjectMapView(incomingObj);
             if (!allProperties.containsKey(name)) {
                 allProperties.put(name, incomingObj);
                 continue;
             }
             Object existingObj = allProperties.get(name);
-            Map<String, Object> existing = Util.asStringObjectMap(existingObj);
+            Map<String, Object> existing = Util.asStringObjectMapView(existingObj);
             if (existing == null || incoming == null) {
                 allProperties.put(name, incomingObj);
             } else {
@@ -430,17 +598,13 @@ public final class OpenApiSchemaUtils {
     }
 
     /**
-     * Merge schema properties with cycle detection and depth limit to prevent StackOverflow.
+     * Merge schema properties with cycle detection. Every schema is merged at most once per {@code visited} set, so
+     * compositions of any depth terminate; {@code depth} is the current nesting, kept for callers that track it.
      */
     public static void mergeSchemaProperties(Map<String, Object> schema, Map<String, Object> allProperties,
                                        List<String> allRequired, Map<String, Object> spec,
                                        Map<Object, Boolean> visited, int depth) {
         if (schema == null) return;
-        if (depth > MAX_MERGE_SCHEMA_DEPTH) {
-            java.util.logging.Logger.getLogger(OpenApiSchemaUtils.class.getName())
-                    .warning("Recursion depth limit reached in mergeSchemaProperties: " + depth);
-            return;
-        }
 
         // Cycle detection - prevent infinite recursion
         if (visited.containsKey(schema)) {
@@ -455,11 +619,11 @@ public final class OpenApiSchemaUtils {
         // still be present. If properties exist, use them and ignore $ref.
         if (schema.containsKey("properties")) {
             // Schema has properties - use them directly (even if $ref also exists)
-            Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+            Map<String, Object> properties = Util.asStringObjectMapView(schema.get("properties"));
             mergePropertiesIntoAll(allProperties, properties, spec);
             // Merge required fields
             if (schema.containsKey("required")) {
-                List<String> required = Util.asStringList(schema.get("required"));
+                List<String> required = Util.asStringListView(schema.get("required"));
                 if (required != null) {
                     for (String field : required) {
                         if (!allRequired.contains(field)) {
@@ -481,29 +645,17 @@ public final class OpenApiSchemaUtils {
                 if (ref.startsWith("#/components/schemas/")) {
                     // Internal schema reference
                     String schemaName = ref.substring(ref.lastIndexOf("/") + 1);
-                    Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-                    if (components != null) {
-                        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
-                        if (schemas != null && schemas.containsKey(schemaName)) {
-                            Map<String, Object> referencedSchema = Util.asStringObjectMap(schemas.get(schemaName));
-                            if (referencedSchema != null) {
-                                mergeSchemaProperties(referencedSchema, allProperties, allRequired, spec, visited, depth + 1);
-                            }
-                        }
+                    Map<String, Object> referencedSchema = componentSchemaNamed(schemaName, spec);
+                    if (referencedSchema != null) {
+                        mergeSchemaProperties(referencedSchema, allProperties, allRequired, spec, visited, depth + 1);
                     }
                 } else if (ref.contains("#/components/schemas/")) {
                     // External file with schema path
                     String schemaPath = ref.substring(ref.indexOf("#/components/schemas/") + "#/components/schemas/".length());
                     String schemaName = schemaPath.contains("/") ? schemaPath.substring(schemaPath.lastIndexOf("/") + 1) : schemaPath;
-                    Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-                    if (components != null) {
-                        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
-                        if (schemas != null && schemas.containsKey(schemaName)) {
-                            Map<String, Object> referencedSchema = Util.asStringObjectMap(schemas.get(schemaName));
-                            if (referencedSchema != null) {
-                                mergeSchemaProperties(referencedSchema, allProperties, allRequired, spec, visited, depth + 1);
-                            }
-                        }
+                    Map<String, Object> referencedSchema = componentSchemaNamed(schemaName, spec);
+                    if (referencedSchema != null) {
+                        mergeSchemaProperties(referencedSchema, allProperties, allRequired, spec, visited, depth + 1);
                     }
                 } else {
                     // External file reference without schema path (e.g., ../../../models/v4/User.yaml)
@@ -515,11 +667,11 @@ public final class OpenApiSchemaUtils {
 
         // Merge direct properties (this handles schemas that were resolved and have properties)
         if (schema.containsKey("properties")) {
-            Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+            Map<String, Object> properties = Util.asStringObjectMapView(schema.get("properties"));
             mergePropertiesIntoAll(allProperties, properties, spec);
             // Merge required fields
             if (schema.containsKey("required")) {
-                List<String> required = Util.asStringList(schema.get("required"));
+                List<String> required = Util.asStringListView(schema.get("required"));
                 if (required != null) {
                     for (String field : required) {
                         if (!allRequired.contains(field)) {
@@ -537,14 +689,14 @@ public final class OpenApiSchemaUtils {
 
         // Handle allOf — $ref base branches first, then overlay branches (e.g. auth_v4 Identity)
         if (schema.containsKey("allOf")) {
-            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapList(schema.get("allOf"));
+            List<Map<String, Object>> allOfSchemas = schemaList(schema.get("allOf"));
             mergeAllOfBranchesIntoProperties(allOfSchemas, allProperties, allRequired, spec, visited, depth + 1);
             return;
         }
 
         // Handle oneOf/anyOf
         if (schema.containsKey("oneOf") || schema.containsKey("anyOf")) {
-            List<Map<String, Object>> schemas = Util.asStringObjectMapList(
+            List<Map<String, Object>> schemas = schemaList(
                     schema.containsKey("oneOf") ? schema.get("oneOf") : schema.get("anyOf"));
             if (schemas != null) {
                 for (Map<String, Object> subSchema : schemas) {
@@ -558,13 +710,13 @@ public final class OpenApiSchemaUtils {
 
         // Merge direct properties
         if (schema.containsKey("properties")) {
-            Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+            Map<String, Object> properties = Util.asStringObjectMapView(schema.get("properties"));
             mergePropertiesIntoAll(allProperties, properties, spec);
         }
 
         // Merge required fields
         if (schema.containsKey("required")) {
-            List<String> required = Util.asStringList(schema.get("required"));
+            List<String> required = Util.asStringListView(schema.get("required"));
             if (required != null) {
                 for (String field : required) {
                     if (!allRequired.contains(field)) {
@@ -610,7 +762,7 @@ public final class OpenApiSchemaUtils {
         List<Map<String, Object>> overlayBranches = new ArrayList<>();
         partitionAllOfBranches(allOfSchemas, refBranches, overlayBranches);
         for (Map<String, Object> branch : overlayBranches) {
-            Map<String, Object> props = Util.asStringObjectMap(branch.get("properties"));
+            Map<String, Object> props = Util.asStringObjectMapView(branch.get("properties"));
             if (props != null && !props.isEmpty() && overlayPropertiesAreSemantic(props)) {
                 return true;
             }
@@ -621,7 +773,7 @@ public final class OpenApiSchemaUtils {
     /** True when any property in an overlay {@code properties} map redefines type or overrides readOnly to false. */
     private static boolean overlayPropertiesAreSemantic(Map<String, Object> props) {
         for (Object val : props.values()) {
-            if (isSemanticPropertyOverlay(Util.asStringObjectMap(val))) {
+            if (isSemanticPropertyOverlay(Util.asStringObjectMapView(val))) {
                 return true;
             }
         }
@@ -644,7 +796,7 @@ public final class OpenApiSchemaUtils {
         if (Boolean.FALSE.equals(propSchema.get("readOnly"))) {
             return true;
         }
-        Map<String, Object> nested = Util.asStringObjectMap(propSchema.get("properties"));
+        Map<String, Object> nested = Util.asStringObjectMapView(propSchema.get("properties"));
         return nested != null && !nested.isEmpty() && overlayPropertiesAreSemantic(nested);
     }
 
@@ -656,8 +808,8 @@ public final class OpenApiSchemaUtils {
         if (schema == null || spec == null) {
             return null;
         }
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-        Map<String, Object> schemas = components != null ? Util.asStringObjectMap(components.get("schemas")) : null;
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
+        Map<String, Object> schemas = components != null ? Util.asStringObjectMapView(components.get("schemas")) : null;
         if (schemas == null) {
             return null;
         }
@@ -911,14 +1063,14 @@ public final class OpenApiSchemaUtils {
      */
     public static ObjectWithSingleArrayInfo getObjectWithSingleArrayInfo(Map<String, Object> schema, Map<String, Object> spec) {
         if (schema == null || spec == null) return null;
-        Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+        Map<String, Object> properties = Util.asStringObjectMapView(schema.get("properties"));
         if (properties == null || properties.size() != 1) return null;
         Map.Entry<String, Object> single = properties.entrySet().iterator().next();
-        Map<String, Object> nested = Util.asStringObjectMap(single.getValue());
+        Map<String, Object> nested = Util.asStringObjectMapView(single.getValue());
         if (nested == null || !"array".equals(nested.get("type"))) return null;
         Object itemsObj = nested.get("items");
         if (itemsObj == null || !(itemsObj instanceof Map)) return null;
-        Map<String, Object> items = Util.asStringObjectMap(itemsObj);
+        Map<String, Object> items = Util.asStringObjectMapView(itemsObj);
         if (items == null) return null;
         String itemSchemaName = getSchemaNameFromRef(items);
         if (itemSchemaName == null && items.containsKey("$ref")) {
@@ -932,8 +1084,8 @@ public final class OpenApiSchemaUtils {
             if (ref != null && (ref.endsWith(".yaml") || ref.endsWith(".yml") || ref.endsWith(".json"))) {
                 String externalSchemaName = deriveSchemaNameFromExternalRef(ref);
                 if (externalSchemaName != null) {
-                    Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-                    Map<String, Object> schemas = components != null ? Util.asStringObjectMap(components.get("schemas")) : null;
+                    Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
+                    Map<String, Object> schemas = components != null ? Util.asStringObjectMapView(components.get("schemas")) : null;
                     if (schemas != null && schemas.containsKey(externalSchemaName)) {
                         itemSchemaName = externalSchemaName;
                     }
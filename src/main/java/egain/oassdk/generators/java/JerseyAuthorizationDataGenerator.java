@@ -86,20 +86,20 @@ class JerseyAuthorizationDataGenerator {
             return;
         }
         Map<String, Object> infoDefaults = loadInfoDefaults(spec);
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
         if (components == null) {
             return;
         }
-        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+        Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
         if (schemas == null) {
             return;
         }
         for (Map.Entry<String, Object> entry : schemas.entrySet()) {
-            Map<String, Object> schema = Util.asStringObjectMap(entry.getValue());
+            Map<String, Object> schema = Util.asStringObjectMapView(entry.getValue());
             if (schema == null || !schema.containsKey(EXTENSION_KEY)) {
                 continue;
             }
-            Map<String, Object> rawExt = Util.asStringObjectMap(schema.get(EXTENSION_KEY));
+            Map<String, Object> rawExt = Util.asStringObjectMapView(schema.get(EXTENSION_KEY));
             if (rawExt == null) {
                 continue;
             }
@@ -112,11 +112,11 @@ class JerseyAuthorizationDataGenerator {
     }
 
     private static Map<String, Object> loadInfoDefaults(Map<String, Object> spec) {
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         if (info == null) {
             return Map.of();
         }
-        Map<String, Object> d = Util.asStringObjectMap(info.get(INFO_DEFAULTS_KEY));
+        Map<String, Object> d = Util.asStringObjectMapView(info.get(INFO_DEFAULTS_KEY));
         return d != null ? d : Map.of();
     }
 
@@ -152,7 +152,7 @@ class JerseyAuthorizationDataGenerator {
                     + "': extends is required (or set GeneratorConfig.defaultAuthorizationDataExtends / info."
                     + INFO_DEFAULTS_KEY + ")");
         }
-        List<Map<String, Object>> fieldMaps = Util.asStringObjectMapList(ext.get("fields"));
+        List<Map<String, Object>> fieldMaps = Util.asStringObjectMapListView(ext.get("fields"));
         if (fieldMaps == null || fieldMaps.isEmpty()) {
             throw new GenerationException("x-egain-authorization-data on schema '" + schemaName + "': fields must be non-empty");
         }
@@ -170,9 +170,9 @@ class JerseyAuthorizationDataGenerator {
         }
         Map<String, FieldSpec> fieldByName = fields.stream().collect(Collectors.toMap(f -> f.name, f -> f, (a, b) -> a, LinkedHashMap::new));
 
-        List<String> importList = Util.asStringList(ext.get("imports"));
+        List<String> importList = Util.asStringListView(ext.get("imports"));
 
-        List<Map<String, Object>> ctorMaps = Util.asStringObjectMapList(ext.get("constructors"));
+        List<Map<String, Object>> ctorMaps = Util.asStringObjectMapListView(ext.get("constructors"));
         if (ctorMaps == null || ctorMaps.isEmpty()) {
             throw new GenerationException("x-egain-authorization-data on schema '" + schemaName + "': constructors must be non-empty");
         }
@@ -206,7 +206,7 @@ class JerseyAuthorizationDataGenerator {
                 }
                 out.add(new ParamSpec(s, s));
             } else if (item instanceof Map) {
-                Map<String, Object> m = Util.asStringObjectMap(item);
+                Map<String, Object> m = Util.asStringObjectMapView(item);
                 if (m == null) {
                     continue;
                 }
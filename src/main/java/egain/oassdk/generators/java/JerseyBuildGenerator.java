@@ -12,6 +12,7 @@ import java.util.Map;
  *   <li>CorsFilter configuration</li>
  *   <li>GenericExceptionMapper</li>
  *   <li>pom.xml and web.xml</li>
+ *   <li>JMH validation benchmarks (built only by the pom's {@code benchmark} profile)</li>
  * </ul>
  *
  * <p>The fixed boilerplate for each artifact is stored verbatim under
@@ -97,6 +98,15 @@ class JerseyBuildGenerator {
         JerseyGenerationContext.writeFile(outputDir + "/src/main/webapp/WEB-INF/web.xml", generateWebXml(packageName));
     }
 
+    /**
+     * Copy the JMH validation benchmarks into {@code src/jmh/java}. That directory is only added to the
+     * test sources by the generated pom's {@code benchmark} profile, so default builds never need JMH.
+     */
+    public void generateBenchmarks(String outputDir) throws IOException {
+        String content = JerseyGenerationContext.readRuntimeResource("runtime/jersey/bench/ValidationBenchmark.java");
+        JerseyGenerationContext.writeFile(outputDir + "/src/jmh/java/egain/ws/oas/bench/ValidationBenchmark.java", content);
+    }
+
     /**
      * Generate Maven pom.xml content.
      */
@@ -0,0 +1,153 @@
+package egain.oassdk.generators.java;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded asynchronous writer for parallel generation.
+ *
+ * <p>Tasks run with a {@linkplain #sink(int) sink} of this writer, so {@link JerseyGenerationContext#writeFile}
+ * hands their files to it instead of writing them inline. Files are written in batches by a single background
+ * thread; the queue is bounded, so rendering threads block rather than buffer the whole output when the disk falls
+ * behind.
+ *
+ * <p>Every write is stamped with its task's position in the sequential task order and its position within the task.
+ * When two writes target the same path, the one that comes last in sequential order is kept regardless of the order
+ * in which they arrive, so the output is identical to a sequential run. A write whose content hash matches the bytes
+ * already on disk (found unchanged by incremental generation, or written earlier in this run) is skipped.
+ */
+final class JerseyFileWriter implements AutoCloseable {
+
+    private static final PendingFile END = new PendingFile(null, null, Long.MAX_VALUE, null, false);
+
+    private final BlockingQueue<PendingFile> queue;
+    private final int batchSize;
+    private final Thread thread;
+    // Only touched by the writer thread
+    private final Map<Path, Written> written = new HashMap<>();
+    private final Set<Path> createdDirectories = new HashSet<>();
+    private volatile IOException failure;
+
+    JerseyFileWriter(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = capacity;
+        this.thread = new Thread(this::drain, "jersey-file-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * A sink that queues the files of one task on this writer. Not thread-safe: one per task.
+     *
+     * @param order the task's position in sequential generation order
+     */
+    JerseyGenerationContext.FileSink sink(int order) {
+        long base = (long) order << 32;
+        int[] writes = {0};
+        return new JerseyGenerationContext.FileSink() {
+            @Override
+            public void write(Path path, String content) throws IOException {
+                submit(new PendingFile(path.toAbsolutePath().normalize(), content, base | writes[0]++, null, false));
+            }
+
+            @Override
+            public void write(Path path, String content, String hash, boolean onDisk) throws IOException {
+                submit(new PendingFile(path.toAbsolutePath().normalize(), content, base | writes[0]++, hash, onDisk));
+            }
+        };
+    }
+
+    private void submit(PendingFile file) throws IOException {
+        IOException failed = failure;
+        if (failed != null) {
+            throw new IOException("Earlier generated file could not be written: " + failed.getMessage(), failed);
+        }
+        try {
+            queue.put(file);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while queueing " + file.path);
+        }
+    }
+
+    private void drain() {
+        List<PendingFile> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                for (PendingFile file : batch) {
+                    if (file == END) {
+                        return;
+                    }
+                    if (failure == null) {
+                        write(file);
+                    }
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(PendingFile file) {
+        Written previous = written.get(file.path);
+        if (previous != null && previous.order > file.order) {
+            return;
+        }
+        written.put(file.path, new Written(file.order, file.hash));
+        String hashOnDisk = previous != null ? previous.hash : file.onDisk ? file.hash : null;
+        if (file.hash != null && file.hash.equals(hashOnDisk)) {
+            // These bytes are already on disk, recorded by the manifest or written earlier in this run
+            return;
+        }
+        try {
+            Path parent = file.path.getParent();
+            if (parent != null && createdDirectories.add(parent)) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file.path, file.content);
+        } catch (IOException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            failure = new IOException("Failed to write " + file.path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Wait until every queued file is written.
+     *
+     * @throws IOException the first write failure, if any
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            queue.put(END);
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing generated files");
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private record PendingFile(Path path, String content, long order, String hash, boolean onDisk) {
+    }
+
+    /** The latest write to a path in this run; {@code hash} is null when it was not supplied. */
+    private record Written(long order, String hash) {
+    }
+}
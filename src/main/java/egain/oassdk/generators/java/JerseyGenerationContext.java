@@ -2,6 +2,9 @@ package egain.oassdk.generators.java;
 
 import egain.oassdk.Util;
 import egain.oassdk.config.GeneratorConfig;
+import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.model.OpenApiDocument;
+import egain.oassdk.generators.common.OpenApiSchemaUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,6 +25,8 @@ import java.util.Map;
 public final class JerseyGenerationContext {
 
     final Map<String, Object> spec;
+    /** Index of {@link #spec}; null when the spec is. */
+    final OpenApiDocument document;
     final String outputDir;
     final GeneratorConfig config;
     final String packageName;
@@ -37,7 +42,19 @@ public final class JerseyGenerationContext {
     final String servletNs;     // "javax.servlet" or "jakarta.servlet"
 
     public JerseyGenerationContext(Map<String, Object> spec, String outputDir, GeneratorConfig config, String packageName) {
+        this(spec, spec != null ? OpenApiDocument.of(spec) : null, outputDir, config, packageName);
+    }
+
+    /**
+     * @param document index of {@code spec}, when the caller already has one
+     */
+    public JerseyGenerationContext(Map<String, Object> spec, OpenApiDocument document, String outputDir,
+                                   GeneratorConfig config, String packageName) {
+        if (document != null && document.spec() != spec) {
+            throw new IllegalArgumentException("document does not index spec");
+        }
         this.spec = spec;
+        this.document = document;
         this.outputDir = outputDir;
         this.config = config;
         this.packageName = packageName;
@@ -52,6 +69,47 @@ public final class JerseyGenerationContext {
         this.servletNs = base + ".servlet";
     }
 
+    /**
+     * Name of the {@code components.schemas} entry that is {@code schema} itself, or null. Looked up in the
+     * document index for this context's spec; any other spec is scanned.
+     */
+    String componentSchemaNameOf(Object schema, Map<String, Object> spec) {
+        if (schema == null || spec == null) {
+            return null;
+        }
+        if (document != null && spec == this.spec) {
+            return document.schemaNameOf(schema);
+        }
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
+        Map<String, Object> schemas = components != null ? Util.asStringObjectMapView(components.get("schemas")) : null;
+        if (schemas != null) {
+            for (Map.Entry<String, Object> entry : schemas.entrySet()) {
+                if (entry.getValue() == schema) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@link OpenApiSchemaUtils#findComponentSchemaName}, using the document index for this context's spec.
+     */
+    String findComponentSchemaName(Map<String, Object> schema, Map<String, Object> spec) {
+        if (schema == null || spec == null || document == null || spec != this.spec) {
+            return OpenApiSchemaUtils.findComponentSchemaName(schema, spec);
+        }
+        if (document.schemaNames().isEmpty()) {
+            return null;
+        }
+        String name = document.schemaNameOf(schema);
+        if (name != null) {
+            return name;
+        }
+        String refName = OpenApiSchemaUtils.getSchemaNameFromRef(schema);
+        return refName != null && document.schema(refName) != null ? refName : null;
+    }
+
     /**
      * Mutable map of inlined anonymous schema objects to generated simple class names.
      */
@@ -82,10 +140,59 @@ public final class JerseyGenerationContext {
     }
 
     /**
-     * Write content to a file, creating parent directories as needed.
+     * Where {@link #writeFile} sends files while a task runs on this thread (parallel or incremental generation);
+     * unset means files are written directly.
+     */
+    private static final ThreadLocal<FileSink> FILE_SINK = new ThreadLocal<>();
+
+    /**
+     * Receives the files written by one generation task.
+     */
+    @FunctionalInterface
+    interface FileSink {
+        void write(Path path, String content) throws IOException;
+
+        /**
+         * Like {@link #write}, with the SHA-256 of the content and whether incremental generation found that content
+         * already on disk. A sink may skip any write that would leave the file's bytes as they are.
+         */
+        default void write(Path path, String content, String hash, boolean onDisk) throws IOException {
+            write(path, content);
+        }
+    }
+
+    /**
+     * Run a task with {@link #writeFile} routed to {@code sink} on the current thread.
+     */
+    static void runWithSink(FileSink sink, JerseyGenerationTask task) throws IOException, GenerationException {
+        FileSink previous = FILE_SINK.get();
+        FILE_SINK.set(sink);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                FILE_SINK.remove();
+            } else {
+                FILE_SINK.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Write content to a file, creating parent directories as needed. While a task runs with a
+     * {@linkplain #runWithSink sink}, the file is handed to the sink instead.
      */
     public static void writeFile(String filePath, String content) throws IOException {
         Path path = Paths.get(filePath);
+        FileSink sink = FILE_SINK.get();
+        if (sink != null) {
+            sink.write(path, content);
+        } else {
+            writeDirectly(path, content);
+        }
+    }
+
+    static void writeDirectly(Path path, String content) throws IOException {
         Path parent = path.getParent();
         if (parent != null) {
             Files.createDirectories(parent);
@@ -98,7 +205,7 @@ public final class JerseyGenerationContext {
      */
     static String getAPITitle(Map<String, Object> spec) {
         if (spec == null) return "API";
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         return info != null ? (String) info.get("title") : "API";
     }
 
@@ -106,7 +213,7 @@ public final class JerseyGenerationContext {
      * Extract API description from spec info block.
      */
     static String getAPIDescription(Map<String, Object> spec) {
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         return info != null ? (String) info.get("description") : "Generated API";
     }
 
@@ -114,7 +221,7 @@ public final class JerseyGenerationContext {
      * Extract API version from spec info block.
      */
     static String getAPIVersion(Map<String, Object> spec) {
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         return info != null ? (String) info.get("version") : "1.0.0";
     }
 
@@ -152,6 +259,13 @@ public final class JerseyGenerationContext {
         return modelsOnly || (config != null && config.isUseBoxedPrimitives());
     }
 
+    /**
+     * When true, generated parameter validation collects every error instead of failing fast on the first.
+     */
+    boolean isCollectAllValidationErrors() {
+        return config != null && config.isCollectAllValidationErrors();
+    }
+
     /**
      * Helper to check if observability generation is enabled.
      */
@@ -159,6 +273,21 @@ public final class JerseyGenerationContext {
         return config != null && config.getObservabilityConfig() != null && config.getObservabilityConfig().isEnabled();
     }
 
+    /**
+     * Build full path from server base path and relative path.
+     */
+    static String buildFullPath(String serverBasePath, String relativePath) {
+        String normalizedRelative = relativePath.startsWith("/") ? relativePath : "/" + relativePath;
+        if (serverBasePath != null && !serverBasePath.isEmpty()) {
+            if (serverBasePath.endsWith("/")) {
+                return serverBasePath + normalizedRelative.substring(1);
+            } else {
+                return serverBasePath + normalizedRelative;
+            }
+        }
+        return normalizedRelative;
+    }
+
     /**
      * Extract base path from server URL (path portion after domain).
      * Examples:
@@ -170,7 +299,7 @@ public final class JerseyGenerationContext {
             return null;
         }
 
-        List<Map<String, Object>> servers = Util.asStringObjectMapList(spec.get("servers"));
+        List<Map<String, Object>> servers = Util.asStringObjectMapListView(spec.get("servers"));
         if (servers == null || servers.isEmpty()) {
             return null;
         }
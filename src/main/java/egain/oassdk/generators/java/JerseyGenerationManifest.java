@@ -0,0 +1,381 @@
+package egain.oassdk.generators.java;
+
+import egain.oassdk.Util;
+import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.logging.LoggerConfig;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Manifest of an incremental Jersey generation, kept in the output directory as {@value #FILE_NAME}.
+ *
+ * <p>For every generation task it records a fingerprint of the task's inputs and the files it wrote; for every file,
+ * the SHA-256 of its content plus the size and modification time it had on disk. On the next run:
+ * <ul>
+ *   <li>a task whose fingerprint is unchanged, and whose files are still on disk as recorded, is not run;</li>
+ *   <li>a task that does run skips every write whose content hash matches what is already on disk: the recorded
+ *       file if it is untouched, or what an earlier task wrote to the same path in this run. Unchanged files keep
+ *       their modification time and do not trigger downstream recompilation.</li>
+ * </ul>
+ *
+ * <p>A task's fingerprint covers its {@linkplain JerseyGenerationTask#input() input} (following any
+ * {@code #/components/schemas} references left in it), the generator configuration and the set of tasks. Because
+ * resolved specs inline referenced schemas, editing a schema re-runs the models and resources that embed it and
+ * nothing else; adding or removing a schema or path re-runs everything, with unchanged files still left alone.
+ * Files whose task disappears are dropped from the manifest but not deleted, as in a full regeneration.
+ */
+final class JerseyGenerationManifest {
+
+    static final String FILE_NAME = ".oas-sdk-manifest";
+
+    private static final Logger logger = LoggerConfig.getLogger(JerseyGenerationManifest.class);
+    // Followed by file lines "F <sha256> <size> <modified> <path>" and task lines "T <fingerprint> <key>\t<path>..."
+    private static final String HEADER = "# oas-sdk jersey generation manifest v1";
+    private static final String COMPONENT_SCHEMA_PREFIX = "#/components/schemas/";
+
+    private final Path root;
+    private final Map<String, FileEntry> previousFiles;
+    private final Map<String, TaskEntry> previousTasks;
+    private final Map<String, String> fingerprints = new HashMap<>();
+    private final Set<String> upToDate = new HashSet<>();
+    // Filled while tasks run; a path written by several tasks keeps the entry of the sequentially-last one
+    private final ConcurrentMap<String, Output> files = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TaskEntry> tasks = new ConcurrentHashMap<>();
+    // Hash of the content each file was given by its latest write in this run (sequential mode)
+    private final ConcurrentMap<String, String> writtenThisRun = new ConcurrentHashMap<>();
+    private final AtomicInteger tasksSkipped = new AtomicInteger();
+    private final AtomicInteger filesWritten = new AtomicInteger();
+    private final AtomicInteger filesUnchanged = new AtomicInteger();
+
+    private JerseyGenerationManifest(Path root, Map<String, FileEntry> previousFiles, Map<String, TaskEntry> previousTasks) {
+        this.root = root;
+        this.previousFiles = previousFiles;
+        this.previousTasks = previousTasks;
+    }
+
+    /**
+     * Load the manifest of {@code outputDir}. A missing or unreadable manifest yields an empty one, so every task
+     * runs and every file is written.
+     */
+    static JerseyGenerationManifest load(Path outputDir) {
+        Path root = outputDir.toAbsolutePath().normalize();
+        Map<String, FileEntry> previousFiles = new HashMap<>();
+        Map<String, TaskEntry> previousTasks = new HashMap<>();
+        try {
+            List<String> lines = Files.readAllLines(root.resolve(FILE_NAME), StandardCharsets.UTF_8);
+            if (!lines.isEmpty() && HEADER.equals(lines.getFirst())) {
+                for (String line : lines.subList(1, lines.size())) {
+                    if (line.startsWith("F ")) {
+                        String[] parts = line.split(" ", 5);
+                        previousFiles.put(parts[4], new FileEntry(parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+                    } else if (line.startsWith("T ")) {
+                        String[] parts = line.split(" ", 3);
+                        String[] keyAndFiles = parts[2].split("\t");
+                        List<String> taskFiles = List.of(keyAndFiles).subList(1, keyAndFiles.length);
+                        previousTasks.put(keyAndFiles[0], new TaskEntry(parts[1], taskFiles));
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // First incremental run
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring unreadable generation manifest in " + root + ": " + e.getMessage());
+            previousFiles.clear();
+            previousTasks.clear();
+        }
+        return new JerseyGenerationManifest(root, previousFiles, previousTasks);
+    }
+
+    /**
+     * Fingerprint every task and decide which ones can be skipped, before any of them runs.
+     *
+     * <p>A task is skipped when its fingerprint is unchanged and its files are still on disk as recorded. Some files
+     * are written by more than one task (the last write wins); if any of those tasks has to run, they all do, so the
+     * file ends up with the same content as in a full run.
+     *
+     * @param spec     the spec the tasks read, used to follow references left in their inputs
+     * @param settings everything besides the inputs that shapes the output (generator version, configuration)
+     */
+    void fingerprint(List<JerseyGenerationTask> taskList, Map<String, Object> spec, List<Object> settings) {
+        Digest global = new Digest(spec);
+        global.add(settings);
+        List<String> keys = new ArrayList<>(taskList.size());
+        for (JerseyGenerationTask task : taskList) {
+            keys.add(task.key());
+        }
+        Collections.sort(keys);
+        global.add(keys);
+        String globalFingerprint = global.finish();
+
+        // Most sub-generators take the whole spec as input; hash each distinct input once
+        Map<Object, String> inputDigests = new IdentityHashMap<>();
+        Deque<String> stale = new ArrayDeque<>();
+        for (JerseyGenerationTask task : taskList) {
+            String inputDigest = inputDigests.get(task.input());
+            if (inputDigest == null) {
+                Digest digest = new Digest(spec);
+                digest.add(task.input());
+                inputDigest = digest.finish();
+                if (task.input() != null) {
+                    inputDigests.put(task.input(), inputDigest);
+                }
+            }
+            Digest digest = new Digest(null);
+            digest.add(List.of(globalFingerprint, task.key(), inputDigest));
+            String fingerprint = digest.finish();
+            fingerprints.put(task.key(), fingerprint);
+
+            TaskEntry previous = previousTasks.get(task.key());
+            if (previous != null && previous.fingerprint().equals(fingerprint) && onDisk(previous.files())) {
+                upToDate.add(task.key());
+            } else {
+                stale.add(task.key());
+            }
+        }
+
+        Map<String, List<String>> writers = new HashMap<>();
+        for (Map.Entry<String, TaskEntry> entry : previousTasks.entrySet()) {
+            for (String file : entry.getValue().files()) {
+                writers.computeIfAbsent(file, f -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        while (!stale.isEmpty()) {
+            TaskEntry previous = previousTasks.get(stale.poll());
+            if (previous == null) {
+                continue;
+            }
+            for (String file : previous.files()) {
+                for (String writer : writers.get(file)) {
+                    if (upToDate.remove(writer)) {
+                        stale.add(writer);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Run a task unless it is up to date, recording the files it writes.
+     *
+     * @param order      the task's position in sequential generation order
+     * @param downstream where files go; null writes them directly
+     */
+    void run(JerseyGenerationTask task, int order, JerseyGenerationContext.FileSink downstream)
+            throws IOException, GenerationException {
+        if (upToDate.contains(task.key())) {
+            TaskEntry previous = previousTasks.get(task.key());
+            for (String file : previous.files()) {
+                FileEntry recorded = previousFiles.get(file);
+                record(file, new Output(order, recorded.hash(), recorded.size()));
+            }
+            tasks.put(task.key(), previous);
+            tasksSkipped.incrementAndGet();
+            return;
+        }
+
+        List<String> written = new ArrayList<>();
+        JerseyGenerationContext.runWithSink((path, content) -> {
+            Path absolute = path.toAbsolutePath().normalize();
+            String file = root.relativize(absolute).toString();
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            String hash = sha256(bytes);
+            written.add(file);
+            record(file, new Output(order, hash, bytes.length));
+            FileEntry recorded = previousFiles.get(file);
+            boolean onDisk = recorded != null && recorded.hash().equals(hash) && recorded.matches(absolute);
+            if (downstream != null) {
+                countWrite(onDisk);
+                downstream.write(path, content, hash, onDisk);
+                return;
+            }
+            // Sequentially, compare with what an earlier task wrote in this run, if any, else with the recorded file
+            String previousHash = writtenThisRun.put(file, hash);
+            boolean unchanged = previousHash != null ? previousHash.equals(hash) : onDisk;
+            countWrite(unchanged);
+            if (!unchanged) {
+                JerseyGenerationContext.writeDirectly(path, content);
+            }
+        }, task);
+        tasks.put(task.key(), new TaskEntry(fingerprints.get(task.key()), List.copyOf(written)));
+    }
+
+    /**
+     * Write the manifest. Call once every file has reached the disk, so their modification times can be recorded.
+     */
+    void save() throws IOException {
+        Path manifest = root.resolve(FILE_NAME);
+        Path temp = root.resolve(FILE_NAME + ".tmp");
+        Files.createDirectories(root);
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            out.write(HEADER);
+            out.newLine();
+            for (Map.Entry<String, Output> entry : new TreeMap<>(files).entrySet()) {
+                Output file = entry.getValue();
+                long modified = Files.getLastModifiedTime(root.resolve(entry.getKey())).toMillis();
+                out.write("F " + file.hash() + " " + file.size() + " " + modified + " " + entry.getKey());
+                out.newLine();
+            }
+            for (Map.Entry<String, TaskEntry> entry : new TreeMap<>(tasks).entrySet()) {
+                out.write("T " + entry.getValue().fingerprint() + " " + entry.getKey());
+                for (String file : entry.getValue().files()) {
+                    out.write("\t" + file);
+                }
+                out.newLine();
+            }
+        }
+        Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING);
+        logger.info("Incremental generation: " + tasksSkipped.get() + " of " + fingerprints.size()
+                + " tasks up to date, " + filesWritten.get() + " files written, " + filesUnchanged.get() + " unchanged");
+    }
+
+    private void countWrite(boolean unchanged) {
+        if (unchanged) {
+            filesUnchanged.incrementAndGet();
+        } else {
+            filesWritten.incrementAndGet();
+        }
+    }
+
+    private void record(String file, Output output) {
+        files.merge(file, output, (current, next) -> next.order() > current.order() ? next : current);
+    }
+
+    private boolean onDisk(List<String> taskFiles) {
+        for (String file : taskFiles) {
+            FileEntry recorded = previousFiles.get(file);
+            if (recorded == null || !recorded.matches(root.resolve(file))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(newSha256().digest(bytes));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record FileEntry(String hash, long size, long modified) {
+
+        /** Whether the file is still as this entry recorded it (checked by size and modification time). */
+        boolean matches(Path path) {
+            try {
+                return Files.size(path) == size && Files.getLastModifiedTime(path).toMillis() == modified;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+
+    private record TaskEntry(String fingerprint, List<String> files) {
+    }
+
+    /** A file produced in this run, by the task at position {@code order}. */
+    private record Output(long order, String hash, long size) {
+    }
+
+    /**
+     * SHA-256 over a spec fragment. Maps are hashed in iteration order, which is also the order generators see.
+     * {@code #/components/schemas} references still present in the fragment (e.g. recursive schemas the parser left
+     * unresolved) are followed once each, so the fingerprint covers the referenced schemas too.
+     */
+    private static final class Digest {
+        private final MessageDigest sha = newSha256();
+        private final Map<String, Object> schemas;
+        private final Set<Object> open = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<String> followedRefs = new HashSet<>();
+
+        Digest(Map<String, Object> spec) {
+            Map<String, Object> components = spec != null ? Util.asStringObjectMapView(spec.get("components")) : null;
+            Map<String, Object> componentSchemas = components != null ? Util.asStringObjectMapView(components.get("schemas")) : null;
+            this.schemas = componentSchemas != null ? componentSchemas : Map.of();
+        }
+
+        void add(Object value) {
+            if (value == null) {
+                tag('N');
+            } else if (value instanceof Map<?, ?> map) {
+                if (!open.add(map)) {
+                    tag('C');
+                    return;
+                }
+                tag('M');
+                count(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    add(entry.getKey());
+                    add(entry.getValue());
+                }
+                Object ref = map.get("$ref");
+                if (ref instanceof String refString && refString.startsWith(COMPONENT_SCHEMA_PREFIX)) {
+                    String name = refString.substring(COMPONENT_SCHEMA_PREFIX.length());
+                    if (followedRefs.add(name)) {
+                        add(schemas.get(name));
+                    }
+                }
+                open.remove(map);
+            } else if (value instanceof Iterable<?> iterable) {
+                tag('L');
+                for (Object item : iterable) {
+                    add(item);
+                }
+                tag('E');
+            } else {
+                tag('V');
+                string(value.getClass().getName());
+                string(value.toString());
+            }
+        }
+
+        String finish() {
+            return HexFormat.of().formatHex(sha.digest());
+        }
+
+        private void tag(char tag) {
+            sha.update((byte) tag);
+        }
+
+        private void count(int count) {
+            sha.update((byte) (count >>> 24));
+            sha.update((byte) (count >>> 16));
+            sha.update((byte) (count >>> 8));
+            sha.update((byte) count);
+        }
+
+        private void string(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            count(bytes.length);
+            sha.update(bytes);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package egain.oassdk.generators.java;
+
+import egain.oassdk.core.exceptions.GenerationException;
+
+import java.io.IOException;
+
+/**
+ * One independent unit of Jersey generation (a sub-generator, a model class, a resource class).
+ * {@link JerseyGenerator} lists these in sequential order and either runs them in that order or hands them to a
+ * worker pool; tasks only read the spec and the generation context, so they may run concurrently.
+ *
+ * @param key    stable name of the task across runs, e.g. {@code model:Pet} or {@code resource:/pets}
+ * @param input  the part of the spec the output depends on; incremental generation skips the task while it is
+ *               unchanged
+ * @param action writes the task's files through {@link JerseyGenerationContext#writeFile}
+ */
+record JerseyGenerationTask(String key, Object input, Action action) {
+
+    void run() throws IOException, GenerationException {
+        action.run();
+    }
+
+    @FunctionalInterface
+    interface Action {
+        void run() throws IOException, GenerationException;
+    }
+}
@@ -3,6 +3,7 @@ package egain.oassdk.generators.java;
 import egain.oassdk.config.GeneratorConfig;
 import egain.oassdk.core.exceptions.GenerationException;
 import egain.oassdk.core.logging.LoggerConfig;
+import egain.oassdk.core.model.OpenApiDocument;
 import egain.oassdk.generators.CodeGenerator;
 import egain.oassdk.generators.ConfigurableGenerator;
 
@@ -10,6 +11,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 /**
@@ -22,8 +26,10 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
 
     private GeneratorConfig config;
     private boolean isModelsOnly = false;
+    /** Generated files queued ahead of the writer thread during parallel generation. */
+    private static final int WRITE_QUEUE_CAPACITY = 256;
+
     private final Map<Object, String> inlinedSchemas = new IdentityHashMap<>();
-    private final ThreadLocal<Map<String, Object>> currentSpecForResolution = new ThreadLocal<>();
 
     // -----------------------------------------------------------------------
     //  CodeGenerator / ConfigurableGenerator interface
@@ -43,20 +49,33 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
 
     @Override
     public void generate(Map<String, Object> spec, String outputDir, GeneratorConfig config, String packageName) throws GenerationException {
+        generate(spec, null, outputDir, config, packageName);
+    }
+
+    @Override
+    public void generateFromDocument(OpenApiDocument document, String outputDir, GeneratorConfig config, String packageName) throws GenerationException {
+        generate(document.spec(), document, outputDir, config, packageName);
+    }
+
+    /**
+     * @param document index of {@code spec}, or null to build one
+     */
+    private void generate(Map<String, Object> spec, OpenApiDocument document, String outputDir, GeneratorConfig config,
+                          String packageName) throws GenerationException {
         if (outputDir == null) {
             throw new IllegalArgumentException("Output directory cannot be null");
         }
         this.config = config;
 
         try {
-            currentSpecForResolution.set(spec);
             this.isModelsOnly = config != null && config.isModelsOnly();
 
             if (!isModelsOnly) {
                 createDirectoryStructure(outputDir, packageName);
             }
 
-            JerseyGenerationContext ctx = new JerseyGenerationContext(spec, outputDir, config, packageName);
+            JerseyGenerationContext ctx = new JerseyGenerationContext(spec,
+                    document != null || spec == null ? document : OpenApiDocument.of(spec), outputDir, config, packageName);
             JerseyTypeUtils typeUtils = new JerseyTypeUtils(ctx);
             JerseySchemaCollector schemaCollector = new JerseySchemaCollector(ctx);
             JerseyModelGenerator modelGenerator = new JerseyModelGenerator(ctx, typeUtils, schemaCollector);
@@ -64,46 +83,140 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
             schemaCollector.collectInlinedSchemas(spec);
             this.inlinedSchemas.putAll(ctx.getInlinedSchemas());
 
-            modelGenerator.generateModels(spec, outputDir, packageName);
+            // Planning the models completes the inlined-schema map; everything below only reads shared state.
+            List<JerseyGenerationTask> tasks = new ArrayList<>(modelGenerator.modelTasks(spec, outputDir, packageName));
             this.inlinedSchemas.putAll(ctx.getInlinedSchemas());
 
             if (config != null && config.isAuthorizationDataGenerationEnabled()) {
-                new JerseyAuthorizationDataGenerator().generate(spec, outputDir, config);
+                tasks.add(new JerseyGenerationTask("authorizationData", spec,
+                        () -> new JerseyAuthorizationDataGenerator().generate(spec, outputDir, config)));
             }
 
-            new JerseyQueryParamValidatorGenerator(ctx).generate();
+            tasks.add(new JerseyGenerationTask("queryParamValidators", spec,
+                    () -> new JerseyQueryParamValidatorGenerator(ctx).generate()));
 
-            JerseyValidationGenerator validationGenerator = new JerseyValidationGenerator(ctx);
             // Runtime support classes (RequestInfo, Validations) and fixed-package parameter
             // validators are always emitted, regardless of models-only mode.
-            validationGenerator.generateSupportClasses();
+            tasks.add(new JerseyGenerationTask("validationSupport", spec,
+                    () -> new JerseyValidationGenerator(ctx).generateSupportClasses()));
 
             // The egain.framework.validation runtime framework (ValidatorAction, Validator,
             // ValidationError, builders, L10NResource) is likewise always emitted.
-            new JerseyValidationFrameworkGenerator(ctx).generate();
+            tasks.add(new JerseyGenerationTask("validationFramework", spec,
+                    () -> new JerseyValidationFrameworkGenerator(ctx).generate()));
 
             if (!isModelsOnly) {
                 JerseyBuildGenerator buildGenerator = new JerseyBuildGenerator(ctx);
-                buildGenerator.generateMainApplicationClass(spec, outputDir, packageName);
+                tasks.add(new JerseyGenerationTask("mainApplication", spec,
+                        () -> buildGenerator.generateMainApplicationClass(spec, outputDir, packageName)));
 
-                new JerseyResourceGenerator(ctx, this::getJavaType).generate();
+                tasks.addAll(new JerseyResourceGenerator(ctx, schema -> getJavaType(ctx, schema)).resourceTasks());
                 // Standalone builds have no eGain platform on the classpath, so emit local stubs for
                 // the authorization types (Actor/ActorType/OAuthScope) the resources reference.
-                new JerseyAuthorizationFrameworkGenerator(ctx).generate();
+                tasks.add(new JerseyGenerationTask("authorizationFramework", spec,
+                        () -> new JerseyAuthorizationFrameworkGenerator(ctx).generate()));
 
-                buildGenerator.generateServices(outputDir, packageName);
-                buildGenerator.generateConfiguration(outputDir, packageName);
-                buildGenerator.generateExceptionMappers(outputDir, packageName);
-                buildGenerator.generateBuildFiles(spec, outputDir, packageName);
+                tasks.add(new JerseyGenerationTask("build", spec, () -> {
+                    buildGenerator.generateServices(outputDir, packageName);
+                    buildGenerator.generateConfiguration(outputDir, packageName);
+                    buildGenerator.generateExceptionMappers(outputDir, packageName);
+                    buildGenerator.generateBuildFiles(spec, outputDir, packageName);
+                    buildGenerator.generateBenchmarks(outputDir);
+                }));
 
-                new JerseyObservabilityGenerator(ctx).generate();
+                tasks.add(new JerseyGenerationTask("observability", spec,
+                        () -> new JerseyObservabilityGenerator(ctx).generate()));
+            }
+
+            JerseyGenerationManifest manifest = null;
+            if (config != null && config.isIncrementalGeneration()) {
+                tasks = withUniqueKeys(tasks);
+                manifest = JerseyGenerationManifest.load(Paths.get(outputDir));
+                manifest.fingerprint(tasks, spec, Arrays.asList(getName(), getVersion(),
+                        JerseyGenerator.class.getPackage().getImplementationVersion(), config.toString(), packageName));
+            }
+
+            if (config != null && config.isParallelGeneration()) {
+                runParallel(tasks, manifest);
+            } else {
+                for (int i = 0; i < tasks.size(); i++) {
+                    runTask(tasks.get(i), i, null, manifest);
+                }
+            }
+            if (manifest != null) {
+                manifest.save();
             }
 
         } catch (Exception e) {
             logger.log(java.util.logging.Level.SEVERE, "Failed to generate Jersey application: " + e.getMessage(), e);
             throw new GenerationException("Failed to generate Jersey application: " + e.getMessage(), e);
+        }
+    }
+
+    // -----------------------------------------------------------------------
+    //  Task execution (sequential, parallel, incremental)
+    // -----------------------------------------------------------------------
+
+    /**
+     * Run one task, writing through {@code sink} when given and skipping unchanged work when a manifest is given.
+     */
+    private static void runTask(JerseyGenerationTask task, int order, JerseyGenerationContext.FileSink sink,
+                                JerseyGenerationManifest manifest) throws IOException, GenerationException {
+        if (manifest != null) {
+            manifest.run(task, order, sink);
+        } else if (sink != null) {
+            JerseyGenerationContext.runWithSink(sink, task);
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * The manifest tracks tasks by key. Keys only collide when two schemas map to the same class name, in which case
+     * the later task is numbered.
+     */
+    private static List<JerseyGenerationTask> withUniqueKeys(List<JerseyGenerationTask> tasks) {
+        Map<String, Integer> seen = new HashMap<>();
+        List<JerseyGenerationTask> unique = new ArrayList<>(tasks.size());
+        for (JerseyGenerationTask task : tasks) {
+            int count = seen.merge(task.key(), 1, Integer::sum);
+            unique.add(count == 1 ? task : new JerseyGenerationTask(task.key() + "#" + count, task.input(), task.action()));
+        }
+        return unique;
+    }
+
+    /**
+     * Run the tasks on a fork-join pool, with files written by a {@link JerseyFileWriter}. Each task writes under its
+     * index in {@code tasks}, so the files on disk match a sequential run. When tasks fail, the failure of the
+     * earliest task is reported, as it would have been sequentially.
+     */
+    private static void runParallel(List<JerseyGenerationTask> tasks, JerseyGenerationManifest manifest) throws Exception {
+        int parallelism = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), tasks.size()));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Exception failure = null;
+        try (JerseyFileWriter writer = new JerseyFileWriter(WRITE_QUEUE_CAPACITY)) {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                int order = i;
+                futures.add(pool.submit(() -> {
+                    runTask(tasks.get(order), order, writer.sink(order), manifest);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception cause ? cause : e;
+                    }
+                }
+            }
         } finally {
-            currentSpecForResolution.remove();
+            pool.shutdownNow();
+        }
+        if (failure != null) {
+            throw failure;
         }
     }
 
@@ -134,15 +247,14 @@ public class JerseyGenerator implements CodeGenerator, ConfigurableGenerator {
     }
 
     // -----------------------------------------------------------------------
-    //  Type resolution delegate (passed as this::getJavaType to sub-generators)
+    //  Type resolution delegate (passed to sub-generators as a resolver bound to the spec)
     // -----------------------------------------------------------------------
 
-    private String getJavaType(Map<String, Object> schema) {
+    private String getJavaType(JerseyGenerationContext ctx, Map<String, Object> schema) {
         if (schema == null) {
             return "Object";
         }
-        Map<String, Object> spec = currentSpecForResolution.get();
-        JerseyGenerationContext tempCtx = new JerseyGenerationContext(spec, null, config, null);
+        JerseyGenerationContext tempCtx = new JerseyGenerationContext(ctx.spec, ctx.document, null, config, null);
         tempCtx.getInlinedSchemas().putAll(this.inlinedSchemas);
         return new JerseyTypeUtils(tempCtx).getJavaType(schema);
     }
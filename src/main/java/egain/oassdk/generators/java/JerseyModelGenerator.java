@@ -1,6 +1,7 @@
 package egain.oassdk.generators.java;
 
 import egain.oassdk.Util;
+import egain.oassdk.core.exceptions.GenerationException;
 
 import java.io.IOException;
 import java.util.*;
@@ -75,12 +76,25 @@ class JerseyModelGenerator {
      * Generates only schemas that are referenced (directly or transitively) from paths or components.
      * Skips schemas that are only used via allOf/oneOf/anyOf in other schemas.
      */
-    void generateModels(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-        if (components == null) return;
+    void generateModels(Map<String, Object> spec, String outputDir, String packageName) throws IOException, GenerationException {
+        for (JerseyGenerationTask task : modelTasks(spec, outputDir, packageName)) {
+            task.run();
+        }
+    }
+
+    /**
+     * Decide which models to generate and return one task per model class, plus a final task for the shared
+     * ObjectFactory and jaxb.index, in generation order. Collecting inline schemas happens here, so
+     * {@link JerseyGenerationContext#getInlinedSchemas()} is complete once this returns; the tasks only read shared
+     * state and each uses its own {@link JerseyTypeUtils}, so they may run concurrently.
+     */
+    List<JerseyGenerationTask> modelTasks(Map<String, Object> spec, String outputDir, String packageName) {
+        List<JerseyGenerationTask> tasks = new ArrayList<>();
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
+        if (components == null) return tasks;
 
-        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
-        if (schemas == null) return;
+        Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
+        if (schemas == null) return tasks;
 
         String packagePath = packageName != null ? packageName : "com.example.api";
 
@@ -117,7 +131,7 @@ class JerseyModelGenerator {
         // Generate only referenced top-level schemas
         for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
             String schemaName = schemaEntry.getKey();
-            Map<String, Object> schema = Util.asStringObjectMap(schemaEntry.getValue());
+            Map<String, Object> schema = Util.asStringObjectMapView(schemaEntry.getValue());
             if (schema == null) continue;
 
             // Skip schemas not referenced from paths or components
@@ -166,11 +180,8 @@ class JerseyModelGenerator {
             String javaClassName = JerseyNamingUtils.toJavaClassName(schemaName);
 
             generatedTopLevelClassNames.add(javaClassName);
-            generateModel(javaClassName, schema, outputDir, packagePath, spec);
-            if (ctx.modelsOnly) {
-                generateObjectFactory(javaClassName, outputDir, packagePath);
-                generateJaxbIndex(javaClassName, outputDir, packagePath);
-            }
+            tasks.add(new JerseyGenerationTask("model:" + javaClassName, schema,
+                    () -> forTask().generateModelFiles(javaClassName, schema, outputDir, packagePath, spec)));
         }
 
         // Generate models for in-lined schemas
@@ -178,20 +189,36 @@ class JerseyModelGenerator {
             Object schemaObj = entry.getKey();
             String modelName = entry.getValue();
 
-            Map<String, Object> schema = Util.asStringObjectMap(schemaObj);
+            Map<String, Object> schema = Util.asStringObjectMapView(schemaObj);
             if (schema != null) {
-                generateModel(modelName, schema, outputDir, packagePath, spec);
-                if (ctx.modelsOnly) {
-                    generateObjectFactory(modelName, outputDir, packagePath);
-                    generateJaxbIndex(modelName, outputDir, packagePath);
-                }
+                tasks.add(new JerseyGenerationTask("model:" + modelName, schema,
+                        () -> forTask().generateModelFiles(modelName, schema, outputDir, packagePath, spec)));
             }
         }
 
         // When not models-only: single shared ObjectFactory and jaxb.index for all models
         if (!ctx.modelsOnly) {
-            generateObjectFactory(generatedTopLevelClassNames, outputDir, packagePath);
-            generateJaxbIndex(generatedTopLevelClassNames, outputDir, packagePath);
+            tasks.add(new JerseyGenerationTask("model-index", new TreeSet<>(generatedTopLevelClassNames), () -> {
+                generateObjectFactory(generatedTopLevelClassNames, outputDir, packagePath);
+                generateJaxbIndex(generatedTopLevelClassNames, outputDir, packagePath);
+            }));
+        }
+        return tasks;
+    }
+
+    /**
+     * A generator for one model task. {@link JerseyTypeUtils} keeps recursion guards, so it is not shared.
+     */
+    private JerseyModelGenerator forTask() {
+        return new JerseyModelGenerator(ctx, new JerseyTypeUtils(ctx), schemaCollector);
+    }
+
+    private void generateModelFiles(String className, Map<String, Object> schema, String outputDir, String packagePath,
+                                    Map<String, Object> spec) throws IOException {
+        generateModel(className, schema, outputDir, packagePath, spec);
+        if (ctx.modelsOnly) {
+            generateObjectFactory(className, outputDir, packagePath);
+            generateJaxbIndex(className, outputDir, packagePath);
         }
     }
 
@@ -215,7 +242,7 @@ class JerseyModelGenerator {
         if (isArrayType) {
             Object itemsObj = schema.get("items");
             if (itemsObj != null) {
-                Map<String, Object> itemsSchema = Util.asStringObjectMap(itemsObj);
+                Map<String, Object> itemsSchema = Util.asStringObjectMapView(itemsObj);
                 if (itemsSchema != null) {
                     allProperties.put("items", itemsSchema);
                     allRequired.add("items");
@@ -223,10 +250,10 @@ class JerseyModelGenerator {
             }
         } else {
             if (schema.containsKey("allOf")) {
-                List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapList(schema.get("allOf"));
+                List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapListView(schema.get("allOf"));
                 JerseySchemaUtils.mergeAllOfBranchesIntoProperties(allOfSchemas, allProperties, allRequired, spec);
             } else if (schema.containsKey("oneOf") || schema.containsKey("anyOf")) {
-                List<Map<String, Object>> schemas = Util.asStringObjectMapList(
+                List<Map<String, Object>> schemas = Util.asStringObjectMapListView(
                         schema.containsKey("oneOf") ? schema.get("oneOf") : schema.get("anyOf"));
                 for (Map<String, Object> subSchema : schemas) {
                     JerseySchemaUtils.mergeSchemaProperties(subSchema, allProperties, allRequired, spec);
@@ -263,7 +290,7 @@ class JerseyModelGenerator {
         Set<String> innerClasses = new HashSet<>();
         for (Map.Entry<String, Object> property : allProperties.entrySet()) {
             String fieldName = property.getKey();
-            Map<String, Object> fieldSchema = Util.asStringObjectMap(property.getValue());
+            Map<String, Object> fieldSchema = Util.asStringObjectMapView(property.getValue());
             // Only generate inline inner class for true inline objects; object-with-single-array uses wrapper inner class
             if (typeUtils.isInlineObjectProperty(fieldSchema, spec) && !JerseySchemaUtils.isObjectWithSingleArrayOfRef(fieldSchema, spec)) {
                 String innerClassName = schemaName + "_" + typeUtils.getInnerClassNameForInlineProperty(fieldName, fieldSchema);
@@ -288,10 +315,10 @@ class JerseyModelGenerator {
             for (Map.Entry<String, Map<String, Object>> innerClassEntry : innerClassesToGenerate) {
                 String innerClassName2 = typeUtils.getInnerClassNameForInlineProperty(innerClassEntry.getKey(), innerClassEntry.getValue());
                 Map<String, Object> innerClassSchema = innerClassEntry.getValue();
-                Map<String, Object> innerProps = Util.asStringObjectMap(innerClassSchema.get("properties"));
+                Map<String, Object> innerProps = Util.asStringObjectMapView(innerClassSchema.get("properties"));
                 if (innerProps != null) {
                     for (Map.Entry<String, Object> innerProp : innerProps.entrySet()) {
-                        String innerFieldType = typeUtils.getFieldTypeForModelProperty(innerClassName2, innerProp.getKey(), Util.asStringObjectMap(innerProp.getValue()), false, spec);
+                        String innerFieldType = typeUtils.getFieldTypeForModelProperty(innerClassName2, innerProp.getKey(), Util.asStringObjectMapView(innerProp.getValue()), false, spec);
                         if(innerFieldType!=null && !innerFieldType.contains(".") && !innerFieldType.equals(innerClassName2) && !innerFieldType.equals(schemaName))
                         {
                             typeUtils.addModelImportTypes(innerFieldType, schemaName, modelImports);
@@ -362,8 +389,8 @@ class JerseyModelGenerator {
         if (oneOfXorPair != null && oneOfXorPair.length == 2 && oneOfXorInfo != null) {
             String xorJson0 = oneOfXorPair[0];
             String xorJson1 = oneOfXorPair[1];
-            Map<String, Object> xorSchema0 = Util.asStringObjectMap(allProperties.get(xorJson0));
-            Map<String, Object> xorSchema1 = Util.asStringObjectMap(allProperties.get(xorJson1));
+            Map<String, Object> xorSchema0 = Util.asStringObjectMapView(allProperties.get(xorJson0));
+            Map<String, Object> xorSchema1 = Util.asStringObjectMapView(allProperties.get(xorJson1));
             String xorType0 = typeUtils.getFieldTypeForModelProperty(schemaName, xorJson0, xorSchema0, isArrayType, spec);
             String xorType1 = typeUtils.getFieldTypeForModelProperty(schemaName, xorJson1, xorSchema1, isArrayType, spec);
             if (!JerseyTypeUtils.isJavaPrimitiveType(xorType0) && !JerseyTypeUtils.isJavaPrimitiveType(xorType1)) {
@@ -392,7 +419,7 @@ class JerseyModelGenerator {
         // Generate fields
         for (Map.Entry<String, Object> property : allProperties.entrySet()) {
             String fieldName = property.getKey();
-            Map<String, Object> fieldSchema = Util.asStringObjectMap(property.getValue());
+            Map<String, Object> fieldSchema = Util.asStringObjectMapView(property.getValue());
 
             content.append("    ");
 
@@ -455,7 +482,7 @@ class JerseyModelGenerator {
         // Generate getters and setters
         for (Map.Entry<String, Object> property : allProperties.entrySet()) {
             String fieldName = property.getKey();
-            Map<String, Object> fieldSchema = Util.asStringObjectMap(property.getValue());
+            Map<String, Object> fieldSchema = Util.asStringObjectMapView(property.getValue());
             String fieldType = typeUtils.getFieldTypeForModelProperty(schemaName, fieldName, fieldSchema, isArrayType, spec);
 
             String javaFieldName = JerseyNamingUtils.toModelFieldName(fieldName);
@@ -571,7 +598,7 @@ class JerseyModelGenerator {
             content.append("        }\n");
             content.append("        switch (name) {\n");
             for (String fieldName : fieldNames) {
-                Map<String, Object> fieldSchema = Util.asStringObjectMap(allProperties.get(fieldName));
+                Map<String, Object> fieldSchema = Util.asStringObjectMapView(allProperties.get(fieldName));
                 String fieldType = typeUtils.getFieldTypeForModelProperty(schemaName, fieldName, fieldSchema, isArrayType, spec);
                 String methodPrefix = fieldType.equals("boolean") || fieldType.equals("Boolean") ? "is" : "get";
                 String javaFieldName = JerseyNamingUtils.toModelFieldName(fieldName);
@@ -630,7 +657,7 @@ class JerseyModelGenerator {
             for (String fieldName : fieldNames) {
                 String javaFieldName = JerseyNamingUtils.toModelFieldName(fieldName);
                 String capitalizedFieldName = JerseyNamingUtils.getCapitalizedPropertyNameForAccessor(javaFieldName);
-                Map<String, Object> fieldSchema = Util.asStringObjectMap(allProperties.get(fieldName));
+                Map<String, Object> fieldSchema = Util.asStringObjectMapView(allProperties.get(fieldName));
                 String fieldType;
 
                 if (isArrayType && "items".equals(fieldName)) {
@@ -643,21 +670,6 @@ class JerseyModelGenerator {
                                 itemType = JerseyNamingUtils.toJavaClassName(schemaRef);
                             }
                         }
-                        if (itemType == null || itemType.isEmpty()) {
-                            Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-                            if (components != null) {
-                                Map<String, Object> schemas2 = Util.asStringObjectMap(components.get("schemas"));
-                                if (schemas2 != null) {
-                                    for (Map.Entry<String, Object> schemaEntry : schemas2.entrySet()) {
-                                        Map<String, Object> candidateSchema = Util.asStringObjectMap(schemaEntry.getValue());
-                                        if (candidateSchema == fieldSchema) {
-                                            itemType = JerseyNamingUtils.toJavaClassName(schemaEntry.getKey());
-                                            break;
-                                        }
-                                    }
-                                }
-                            }
-                        }
                         if (itemType == null || itemType.isEmpty()) {
                             itemType = typeUtils.getJavaType(fieldSchema);
                             if ("Object".equals(itemType) && fieldSchema.containsKey("$ref")) {
@@ -735,14 +747,14 @@ class JerseyModelGenerator {
         if (!nestedIdRequired) {
             return;
         }
-        Map<String, Object> xorSchema = Util.asStringObjectMap(allProperties.get(xorJsonName));
+        Map<String, Object> xorSchema = Util.asStringObjectMapView(allProperties.get(xorJsonName));
         if (xorSchema == null) {
             return;
         }
         Map<String, Object> resolvedXor = JerseySchemaUtils.resolveRefInSchema(xorSchema, spec);
         Map<String, Object> effectiveXor = JerseySchemaUtils.resolveCompositionToEffectiveSchema(resolvedXor, spec);
-        Map<String, Object> innerProps = Util.asStringObjectMap(effectiveXor != null ? effectiveXor.get("properties") : null);
-        Map<String, Object> idSchema = Util.asStringObjectMap(innerProps != null ? innerProps.get("id") : null);
+        Map<String, Object> innerProps = Util.asStringObjectMapView(effectiveXor != null ? effectiveXor.get("properties") : null);
+        Map<String, Object> idSchema = Util.asStringObjectMapView(innerProps != null ? innerProps.get("id") : null);
         if (idSchema == null) {
             return;
         }
@@ -911,9 +923,9 @@ class JerseyModelGenerator {
         Map<String, Object> allProperties = new LinkedHashMap<>();
         List<String> allRequired = new ArrayList<>();
         if (innerSchema.containsKey("allOf")) {
-            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapList(innerSchema.get("allOf"));
+            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapListView(innerSchema.get("allOf"));
             JerseySchemaUtils.mergeAllOfBranchesIntoProperties(allOfSchemas, allProperties, allRequired, spec);
-            List<String> envelopeRequired = Util.asStringList(innerSchema.get("required"));
+            List<String> envelopeRequired = Util.asStringListView(innerSchema.get("required"));
             if (envelopeRequired != null) {
                 for (String r : envelopeRequired) {
                     if (!allRequired.contains(r)) {
@@ -921,12 +933,12 @@ class JerseyModelGenerator {
                     }
                 }
             }
-            Map<String, Object> envelopeProps = Util.asStringObjectMap(innerSchema.get("properties"));
+            Map<String, Object> envelopeProps = Util.asStringObjectMapView(innerSchema.get("properties"));
             if (envelopeProps != null && !envelopeProps.isEmpty()) {
                 JerseySchemaUtils.mergePropertiesIntoAll(allProperties, envelopeProps, spec);
             }
         } else if (innerSchema.containsKey("oneOf") || innerSchema.containsKey("anyOf")) {
-            List<Map<String, Object>> schemasList = Util.asStringObjectMapList(
+            List<Map<String, Object>> schemasList = Util.asStringObjectMapListView(
                     innerSchema.containsKey("oneOf") ? innerSchema.get("oneOf") : innerSchema.get("anyOf"));
             if (schemasList != null) {
                 for (Map<String, Object> subSchema : schemasList) {
@@ -945,7 +957,7 @@ class JerseyModelGenerator {
 
         List<Map.Entry<String, Map<String, Object>>> nestedInners = new ArrayList<>();
         for (Map.Entry<String, Object> prop : allProperties.entrySet()) {
-            Map<String, Object> propSchema = Util.asStringObjectMap(prop.getValue());
+            Map<String, Object> propSchema = Util.asStringObjectMapView(prop.getValue());
             if (typeUtils.isInlineObjectProperty(propSchema, spec)) {
                 nestedInners.add(new AbstractMap.SimpleEntry<>(prop.getKey(), propSchema));
             }
@@ -967,7 +979,7 @@ class JerseyModelGenerator {
 
         for (Map.Entry<String, Object> property : allProperties.entrySet()) {
             String fieldName = property.getKey();
-            Map<String, Object> fieldSchema = Util.asStringObjectMap(property.getValue());
+            Map<String, Object> fieldSchema = Util.asStringObjectMapView(property.getValue());
             String fieldType = typeUtils.getFieldTypeForModelProperty(fullEnclosing, fieldName, fieldSchema, false, spec);
             String javaFieldName = JerseyNamingUtils.toModelFieldName(fieldName);
             content.append(indentBody);
@@ -991,7 +1003,7 @@ class JerseyModelGenerator {
 
         for (Map.Entry<String, Object> property : allProperties.entrySet()) {
             String fieldName = property.getKey();
-            Map<String, Object> fieldSchema = Util.asStringObjectMap(property.getValue());
+            Map<String, Object> fieldSchema = Util.asStringObjectMapView(property.getValue());
             String fieldType = typeUtils.getFieldTypeForModelProperty(fullEnclosing, fieldName, fieldSchema, false, spec);
             String javaFieldName = JerseyNamingUtils.toModelFieldName(fieldName);
             String capitalizedFieldName = JerseyNamingUtils.getCapitalizedPropertyNameForAccessor(javaFieldName);
@@ -1074,7 +1086,7 @@ class JerseyModelGenerator {
         appendJaxbBeanOverride(content, indentBody);
         content.append(indentBody).append("public Object getAttribute(String name) {\n");
         for (String fn : fieldNames) {
-            Map<String, Object> fs = Util.asStringObjectMap(allProperties.get(fn));
+            Map<String, Object> fs = Util.asStringObjectMapView(allProperties.get(fn));
             String fieldType = typeUtils.getFieldTypeForModelProperty(fullEnclosing, fn, fs, false, spec);
             String methodPrefix = fieldType.equals("boolean") || fieldType.equals("Boolean") ? "is" : "get";
             String cap = JerseyNamingUtils.getCapitalizedPropertyNameForAccessor(JerseyNamingUtils.toModelFieldName(fn));
@@ -1106,7 +1118,7 @@ class JerseyModelGenerator {
         for (String fn : fieldNames) {
             String jf = JerseyNamingUtils.toModelFieldName(fn);
             String cap = JerseyNamingUtils.getCapitalizedPropertyNameForAccessor(jf);
-            String ft = typeUtils.getFieldTypeForModelProperty(fullEnclosing, fn, Util.asStringObjectMap(allProperties.get(fn)), false, spec);
+            String ft = typeUtils.getFieldTypeForModelProperty(fullEnclosing, fn, Util.asStringObjectMapView(allProperties.get(fn)), false, spec);
             if (ft.startsWith("List<")) {
                 String it = ft.substring(5, ft.length() - 1);
                 content.append(indentBody).append("    if (\"").append(fn).append("\".equals(name)) { get").append(cap).append(
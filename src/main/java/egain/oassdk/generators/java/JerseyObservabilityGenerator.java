@@ -1,22 +1,31 @@
 package egain.oassdk.generators.java;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import egain.oassdk.Util;
+import egain.oassdk.config.ObservabilityConfig;
 import egain.oassdk.core.logging.LoggerConfig;
 
 /**
  * Copies the observability instrumentation classes (MetricsFilter, TracingFilter, MetricsEndpoint,
  * ObservabilityBootstrap) into the generated application when observability is enabled.
  *
- * <p>These classes are fixed and spec-independent, so they are stored verbatim under
- * {@code src/main/resources/runtime/jersey/observability} and copied with only the package and
- * javax/jakarta namespace placeholders substituted.
+ * <p>These classes are stored verbatim under {@code src/main/resources/runtime/jersey/observability}
+ * and copied with the package and javax/jakarta namespace placeholders substituted. The only
+ * spec-dependent parts are the route templates MetricsFilter and TracingFilter name requests by;
+ * the latency SLO buckets and the sampling/batch export settings come from ObservabilityConfig.
  */
 class JerseyObservabilityGenerator {
 
     private static final Logger logger = LoggerConfig.getLogger(JerseyObservabilityGenerator.class);
 
+    private static final String[] HTTP_METHODS = {"get", "put", "post", "delete", "options", "head", "patch"};
+
     private static final String[] OBSERVABILITY_CLASSES = {
             "MetricsFilter", "TracingFilter", "MetricsEndpoint", "ObservabilityBootstrap",
     };
@@ -34,7 +43,7 @@ class JerseyObservabilityGenerator {
         generateObservability(ctx.outputDir, ctx.packageName, ctx.spec);
     }
 
-    private void generateObservability(String outputDir, String packageName, java.util.Map<String, Object> spec) throws IOException {
+    private void generateObservability(String outputDir, String packageName, Map<String, Object> spec) throws IOException {
         if (!ctx.isObservabilityEnabled()) {
             return;
         }
@@ -52,10 +61,65 @@ class JerseyObservabilityGenerator {
                     .readRuntimeResource("runtime/jersey/observability/" + className + ".java")
                     .replace("__WS_NS__", ctx.getWsNs())
                     .replace("__INJECT_NS__", ctx.injectNs)
-                    .replace("__PACKAGE__", packagePath);
+                    .replace("__PACKAGE__", packagePath)
+                    .replace("__ROUTE_REGISTRATIONS__", routeRegistrations(spec))
+                    .replace("__SLO_BUCKETS_MS__", sloBuckets());
+            content = applyTracingSettings(content);
             JerseyGenerationContext.writeFile(obsDir + "/" + className + ".java", content);
         }
 
         logger.info("Generated observability instrumentation for service: " + serviceName);
     }
+
+    /**
+     * One {@code register(template, METHOD);} line per operation, using the full path (server base path
+     * included) as served by the generated resources.
+     */
+    private static String routeRegistrations(Map<String, Object> spec) {
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
+        if (paths == null) {
+            return "";
+        }
+        String serverBasePath = JerseyGenerationContext.extractServerBasePath(spec);
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
+            if (pathItem == null) continue;
+            String fullPath = JerseyGenerationContext.buildFullPath(serverBasePath, pathEntry.getKey());
+            for (String method : HTTP_METHODS) {
+                if (pathItem.containsKey(method)) {
+                    content.append("        register(\"")
+                            .append(JerseyNamingUtils.escapeJavaString(fullPath))
+                            .append("\", \"").append(method.toUpperCase(Locale.ROOT)).append("\");\n");
+                }
+            }
+        }
+        return content.toString();
+    }
+
+    private String sloBuckets() {
+        List<Long> buckets = ctx.config.getObservabilityConfig().getSloBucketsMs();
+        return buckets.stream().filter(b -> b != null && b > 0).distinct().sorted()
+                .map(b -> b + "L").collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Substitute the sampler and batch span processor settings into ObservabilityBootstrap. The ratio is
+     * clamped to [0, 1] and the export batch is capped at the queue size, which the OpenTelemetry SDK rejects
+     * otherwise.
+     */
+    private String applyTracingSettings(String content) {
+        ObservabilityConfig obs = ctx.config.getObservabilityConfig();
+        double ratio = obs.getSamplingRatio();
+        ratio = Double.isNaN(ratio) ? 1.0 : Math.max(0.0, Math.min(1.0, ratio));
+        int queueSize = Math.max(1, obs.getBatchMaxQueueSize());
+        int batchSize = Math.max(1, Math.min(queueSize, obs.getBatchMaxExportBatchSize()));
+        return content
+                .replace("__SAMPLING_RATIO__", Double.toString(ratio))
+                .replace("__PARENT_BASED_SAMPLING__", Boolean.toString(obs.isParentBasedSampling()))
+                .replace("__BATCH_MAX_QUEUE_SIZE__", Integer.toString(queueSize))
+                .replace("__BATCH_MAX_EXPORT_BATCH_SIZE__", Integer.toString(batchSize))
+                .replace("__BATCH_SCHEDULE_DELAY_MS__", Long.toString(Math.max(0, obs.getBatchScheduleDelayMs())))
+                .replace("__BATCH_EXPORT_TIMEOUT_MS__", Long.toString(Math.max(0, obs.getBatchExportTimeoutMs())));
+    }
 }
@@ -3,7 +3,10 @@ package egain.oassdk.generators.java;
 import egain.oassdk.Util;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import static egain.oassdk.generators.java.JerseyNamingUtils.escapePatternForJavaStringLiteral;
 import static egain.oassdk.generators.java.JerseyNamingUtils.toJavaMethodName;
@@ -19,6 +22,9 @@ class JerseyQueryParamValidatorGenerator {
     // Counter for argument lists in validator methods
     private int argCounter = 0;
 
+    // Escaped regex literal -> name of the static Pattern constant emitted in QueryParamValidators
+    private final Map<String, String> patternConstants = new LinkedHashMap<>();
+
     JerseyQueryParamValidatorGenerator(JerseyGenerationContext ctx) {
         this.ctx = ctx;
     }
@@ -31,7 +37,7 @@ class JerseyQueryParamValidatorGenerator {
     }
 
     private void generateQueryParamValidators(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) return;
 
         // Extract server base path for full path construction
@@ -44,22 +50,22 @@ class JerseyQueryParamValidatorGenerator {
         // Iterate through all paths and operations
         for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
             String path = pathEntry.getKey();
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
 
             if (pathItem == null) continue;
 
             // Build full path with server base path
-            String fullPath = buildFullPath(serverBasePath, path);
+            String fullPath = JerseyGenerationContext.buildFullPath(serverBasePath, path);
 
             // Process each HTTP method
             String[] methods = {"get", "post", "put", "delete", "patch"};
             for (String method : methods) {
                 if (pathItem.containsKey(method)) {
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     if (operation == null) continue;
 
                     // Extract parameters
-                    List<Map<String, Object>> params = Util.asStringObjectMapList(operation.get("parameters"));
+                    List<Map<String, Object>> params = Util.asStringObjectMapListView(operation.get("parameters"));
                     if (params == null) {
                         params = new ArrayList<>();
                     }
@@ -69,10 +75,8 @@ class JerseyQueryParamValidatorGenerator {
                     String methodName = generateValidatorMethodName(operationId, method, path, packageName, methodNameCounters);
 
                     // Generate validator method content
+                    // Blank if no query/path parameters to validate; the operation is still routed
                     String validatorMethod = generateValidatorMethod(methodName, params);
-					if(validatorMethod.isBlank())
-						continue; // skip if no query/path parameters to validate
-
                     validators.add(new EndpointValidator(fullPath, method.toUpperCase(Locale.ROOT), methodName, validatorMethod));
                 }
             }
@@ -85,21 +89,6 @@ class JerseyQueryParamValidatorGenerator {
         generateValidationMapHelperFile(outputDir, validators, packageName);
     }
 
-    /**
-     * Build full path from server base path and relative path.
-     */
-    private String buildFullPath(String serverBasePath, String relativePath) {
-        String normalizedRelative = relativePath.startsWith("/") ? relativePath : "/" + relativePath;
-        if (serverBasePath != null && !serverBasePath.isEmpty()) {
-            if (serverBasePath.endsWith("/")) {
-                return serverBasePath + normalizedRelative.substring(1);
-            } else {
-                return serverBasePath + normalizedRelative;
-            }
-        }
-        return normalizedRelative;
-    }
-
     /**
      * Generate validator method name from operation ID, HTTP method, and path.
      */
@@ -153,7 +142,7 @@ class JerseyQueryParamValidatorGenerator {
         for (Map<String, Object> param : params) {
             String name = (String) param.get("name");
             String in = (String) param.get("in");
-            Map<String, Object> schema = Util.asStringObjectMap(param.get("schema"));
+            Map<String, Object> schema = Util.asStringObjectMapView(param.get("schema"));
             boolean isRequired = param.containsKey("required") ? (Boolean) param.get("required") : false;
 
             if (name == null || in == null) continue;
@@ -233,8 +222,8 @@ class JerseyQueryParamValidatorGenerator {
                 String errorCode = "L10N_INVALID_VALUE_FOR_" + errorPrefix + "_INVALID_PATTERN";
                 sb.append("    List<String> arguments").append(getNextArgCounter()).append(" = List.of(\"").append(paramName)
                         .append("\", \"").append(escapePatternForJavaStringLiteral(pattern)).append("\");\n");
-                sb.append("    v.add(new PatternValidator(\"").append(paramName).append("\", \"").append(escapePatternForJavaStringLiteral(pattern))
-                        .append("\", \"").append(errorCode).append("\", arguments").append(getCurrentArgCounter())
+                sb.append("    v.add(new PatternValidator(\"").append(paramName).append("\", ").append(patternArgument(pattern))
+                        .append(", \"").append(errorCode).append("\", arguments").append(getCurrentArgCounter())
                         .append(", Collections.emptyList(), \"").append(paramType).append("\",false));\n");
             }
 
@@ -341,8 +330,9 @@ class JerseyQueryParamValidatorGenerator {
                 String errorCode = "L10N_INVALID_VALUE_FOR_" + errorPrefix + "_MORE_THAN_MAX";
                 sb.append("    List<String> arguments").append(getNextArgCounter()).append(" = List.of(\"").append(paramName)
                         .append("\", \"").append(maximum).append("\");\n");
-                sb.append("    v.add(new NumericMaxValidator(\"").append(paramName).append("\", \"").append(maximum)
-                        .append("\", \"").append(errorCode).append("\", arguments").append(getCurrentArgCounter())
+                sb.append("    v.add(new NumericMaxValidator(\"").append(paramName).append("\", ")
+                        .append(numericBoundArgument(maximum, schema.get("format")))
+                        .append(", \"").append(errorCode).append("\", arguments").append(getCurrentArgCounter())
                         .append(", Collections.emptyList(), \"").append(paramType).append("\",false,false));\n");
             }
 
@@ -352,8 +342,9 @@ class JerseyQueryParamValidatorGenerator {
                 String errorCode = "L10N_INVALID_VALUE_FOR_" + errorPrefix + "_LESS_THAN_MIN";
                 sb.append("    List<String> arguments").append(getNextArgCounter()).append(" = List.of(\"").append(paramName)
                         .append("\", \"").append(minimum).append("\");\n");
-                sb.append("    v.add(new NumericMinValidator(\"").append(paramName).append("\", \"").append(minimum)
-                        .append("\", \"").append(errorCode).append("\", arguments").append(getCurrentArgCounter())
+                sb.append("    v.add(new NumericMinValidator(\"").append(paramName).append("\", ")
+                        .append(numericBoundArgument(minimum, schema.get("format")))
+                        .append(", \"").append(errorCode).append("\", arguments").append(getCurrentArgCounter())
                         .append(", Collections.emptyList(), \"").append(paramType).append("\",false,false));\n");
             }
         }
@@ -383,7 +374,7 @@ class JerseyQueryParamValidatorGenerator {
             }
 
             if (schema.containsKey("items")) {
-                Map<String, Object> itemsSchema = Util.asStringObjectMap(schema.get("items"));
+                Map<String, Object> itemsSchema = Util.asStringObjectMapView(schema.get("items"));
                 if (itemsSchema != null) {
 					// Enum on items: validate each array element against allowed values
                     List<?> enumValues = itemsSchema.get("enum") instanceof List<?> list ? list : null;
@@ -407,8 +398,8 @@ class JerseyQueryParamValidatorGenerator {
 						String errorCode = "L10N_INVALID_VALUE_FOR_" + errorPrefix + "_INVALID_PATTERN";
 						sb.append("    List<String> arguments").append(getNextArgCounter()).append(" = List.of(\"").append(paramName)
 										.append("\", \"").append(escapePatternForJavaStringLiteral(pattern)).append("\");\n");
-						sb.append("    v.add(new PatternValidator(\"").append(paramName).append("\", \"").append(escapePatternForJavaStringLiteral(pattern))
-										.append("\", \"").append(errorCode).append("\", arguments").append(getCurrentArgCounter())
+						sb.append("    v.add(new PatternValidator(\"").append(paramName).append("\", ").append(patternArgument(pattern))
+										.append(", \"").append(errorCode).append("\", arguments").append(getCurrentArgCounter())
 										.append(", Collections.emptyList(), \"").append(paramType).append("\",true));\n");
 					}
                 }
@@ -426,6 +417,45 @@ class JerseyQueryParamValidatorGenerator {
         }
     }
 
+    /**
+     * Returns the PatternValidator regex argument: a shared static {@code Pattern} constant compiled once
+     * when QueryParamValidators is initialised. Regexes that {@link Pattern} rejects are passed as a
+     * string literal instead so a single bad spec pattern fails only its own validator, not the class.
+     */
+    private String patternArgument(String pattern) {
+        String literal = escapePatternForJavaStringLiteral(pattern);
+        try {
+            Pattern.compile(pattern);
+        } catch (PatternSyntaxException e) {
+            return "\"" + literal + "\"";
+        }
+        return patternConstants.computeIfAbsent(literal, k -> "PATTERN_" + (patternConstants.size() + 1));
+    }
+
+    /**
+     * Returns the NumericMin/MaxValidator bound argument as a pre-parsed literal: {@code long} for integral
+     * bounds, {@code double} otherwise, and {@code BigDecimal} only for {@code format: decimal}. Bounds that
+     * are not plain numbers are passed as a string literal and parsed once by the validator.
+     */
+    private String numericBoundArgument(Object bound, Object format) {
+        String text = String.valueOf(bound);
+        BigDecimal value;
+        try {
+            value = new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+        }
+        if ("decimal".equals(format)) {
+            return "new java.math.BigDecimal(\"" + value.toPlainString() + "\")";
+        }
+        try {
+            return value.longValueExact() + "L";
+        } catch (ArithmeticException e) {
+            double d = value.doubleValue();
+            return Double.isFinite(d) ? Double.toString(d) : "\"" + text + "\"";
+        }
+    }
+
     private int getNextArgCounter() {
         return ++argCounter;
     }
@@ -461,12 +491,24 @@ class JerseyQueryParamValidatorGenerator {
         content.append("import ").append(validationPackage).append(".RequiredHeaderValidator;\n");
         content.append("import java.lang.String;\n");
         content.append("import java.util.Collections;\n");
-        content.append("import java.util.List;\n\n");
+        content.append("import java.util.List;\n");
+        content.append("import java.util.regex.Pattern;\n\n");
         content.append("public class QueryParamValidators {\n");
 
+        // Schema patterns compiled once at class initialisation and shared by every validator chain
+        for (Map.Entry<String, String> constant : patternConstants.entrySet()) {
+            content.append("  private static final Pattern ").append(constant.getValue())
+                    .append(" = Pattern.compile(\"").append(constant.getKey()).append("\");\n");
+        }
+        if (!patternConstants.isEmpty()) {
+            content.append("\n");
+        }
+
         // Generate all validator methods
         for (EndpointValidator validator : validators) {
-            content.append(validator.validatorMethod).append("\n");
+            if (validator.hasValidator()) {
+                content.append(validator.validatorMethod).append("\n");
+            }
         }
 
         content.append("}\n");
@@ -485,20 +527,26 @@ class JerseyQueryParamValidatorGenerator {
         StringBuilder content = new StringBuilder();
         content.append("package ").append(validatorPackage).append(";\n\n");
         content.append("import egain.framework.validation.ValidationBuilder;\n");
+        content.append("import egain.framework.validation.ValidationError;\n");
+        content.append("import egain.framework.validation.Validator;\n");
         content.append("import egain.ws.oas.RequestInfo;\n");
+        content.append("import egain.ws.oas.RouteIndex;\n");
         content.append("import egain.ws.oas.Validations.ParameterValidatorMapKey;\n");
+        content.append("import java.util.HashMap;\n");
+        content.append("import java.util.List;\n");
         content.append("import java.util.Map;\n");
         content.append("import java.util.function.Supplier;\n\n");
         content.append("public class ValidationMapHelper {\n");
         content.append("  public static final Map<ParameterValidatorMapKey, Supplier<ValidationBuilder<RequestInfo>>> validationsListMap = Map.<ParameterValidatorMapKey, Supplier<ValidationBuilder<RequestInfo>>> ofEntries(\n");
 
         // Generate map entries
-        for (int i = 0; i < validators.size(); i++) {
-            EndpointValidator validator = validators.get(i);
+        List<EndpointValidator> validated = validators.stream().filter(EndpointValidator::hasValidator).toList();
+        for (int i = 0; i < validated.size(); i++) {
+            EndpointValidator validator = validated.get(i);
             content.append("    Map.entry(new ParameterValidatorMapKey(\"").append(validator.path)
                     .append("\", \"").append(validator.httpMethod).append("\"), QueryParamValidators::")
                     .append(validator.methodName);
-            if (i < validators.size() - 1) {
+            if (i < validated.size() - 1) {
                 content.append("),\n");
             } else {
                 content.append(")\n");
@@ -506,24 +554,116 @@ class JerseyQueryParamValidatorGenerator {
         }
 
         content.append("  );\n\n");
+        content.append("  // Validator chains are immutable, so each endpoint's chain is built once and shared by all requests\n");
+        content.append("  private static final Map<ParameterValidatorMapKey, Validator<RequestInfo>> validators = buildValidators();\n\n");
+        content.append("  private static Map<ParameterValidatorMapKey, Validator<RequestInfo>> buildValidators() {\n");
+        content.append("    Map<ParameterValidatorMapKey, Validator<RequestInfo>> built = new HashMap<>();\n");
+        content.append("    for (Map.Entry<ParameterValidatorMapKey, Supplier<ValidationBuilder<RequestInfo>>> entry : validationsListMap.entrySet()) {\n");
+        content.append("      built.put(entry.getKey(), entry.getValue().get().build());\n");
+        content.append("    }\n");
+        content.append("    return Map.copyOf(built);\n");
+        content.append("  }\n\n");
+        content.append("  // Resolves concrete request paths (e.g. /v1/folders/123) to their templated endpoint in O(path segments)\n");
+        content.append("  private static final RouteIndex<Validator<RequestInfo>> routes = buildRoutes();\n\n");
+        content.append("  // Every operation is indexed, in spec order, so that a literal path (e.g. /v1/folders/search) is not matched\n");
+        content.append("  // by a templated sibling (/v1/folders/{id}); operations without parameter validation map to null\n");
+        content.append("  private static RouteIndex<Validator<RequestInfo>> buildRoutes() {\n");
+        content.append("    RouteIndex<Validator<RequestInfo>> index = new RouteIndex<>();\n");
+        for (EndpointValidator validator : validators) {
+            content.append("    addRoute(index, \"").append(validator.path).append("\", \"").append(validator.httpMethod).append("\");\n");
+        }
+        content.append("    return index;\n");
+        content.append("  }\n\n");
+        content.append("  private static void addRoute(RouteIndex<Validator<RequestInfo>> index, String path, String httpMethod) {\n");
+        content.append("    index.add(path, httpMethod, validators.get(new ParameterValidatorMapKey(path, httpMethod)));\n");
+        content.append("  }\n\n");
+        content.append("  /**\n");
+        content.append("   * Match a concrete request path against the templated endpoint paths\n");
+        content.append("   * \n");
+        content.append("   * @param path The concrete (or templated) request path\n");
+        content.append("   * @param httpMethod The HTTP method (GET, POST, PUT, DELETE, PATCH)\n");
+        content.append("   * @return the matched template, its Validator (null if the endpoint has no parameter validation) and the extracted\n");
+        content.append("   *         path parameters, or null if no endpoint matches\n");
+        content.append("   */\n");
+        content.append("  public static RouteIndex.Match<Validator<RequestInfo>> match(String path, String httpMethod) {\n");
+        content.append("    return routes.match(path, httpMethod);\n");
+        content.append("  }\n\n");
+        content.append("  /**\n");
+        content.append("   * Get the prebuilt validator for a given path and HTTP method\n");
+        content.append("   * \n");
+        content.append("   * @param path The templated or concrete request path\n");
+        content.append("   * @param httpMethod The HTTP method (GET, POST, PUT, DELETE, PATCH)\n");
+        content.append("   * @return the shared Validator, or null if no validation is registered for the endpoint\n");
+        content.append("   */\n");
+        content.append("  public static Validator<RequestInfo> getValidator(String path, String httpMethod) {\n");
+        content.append("    Validator<RequestInfo> validator = validators.get(new ParameterValidatorMapKey(path, httpMethod));\n");
+        content.append("    if (validator == null) {\n");
+        content.append("      RouteIndex.Match<Validator<RequestInfo>> match = routes.match(path, httpMethod);\n");
+        content.append("      validator = match != null ? match.value() : null;\n");
+        content.append("    }\n");
+        content.append("    return validator;\n");
+        content.append("  }\n\n");
         content.append("  /**\n");
         content.append("   * Validate request parameters for a given path and HTTP method\n");
         content.append("   * This method can be called from resources or at the beginning of business logic\n");
         content.append("   * \n");
-        content.append("   * @param path The request path\n");
+        content.append("   * @param path The templated or concrete request path\n");
         content.append("   * @param httpMethod The HTTP method (GET, POST, PUT, DELETE, PATCH)\n");
-        content.append("   * @param requestInfo The RequestInfo object containing path, query, and header parameters\n");
+        content.append("   * @param requestInfo The RequestInfo object containing path, query, and header parameters; for a concrete path\n");
+        content.append("   *        without path parameters, the ones extracted from the path are validated instead\n");
         content.append("   * @return ValidationError if validation fails, null if validation passes\n");
         content.append("   */\n");
         content.append("  public static egain.framework.validation.ValidationError validate(\n");
         content.append("      String path, String httpMethod, egain.ws.oas.RequestInfo requestInfo) {\n");
-        content.append("    ParameterValidatorMapKey key = new ParameterValidatorMapKey(path, httpMethod);\n");
-        content.append("    Supplier<ValidationBuilder<RequestInfo>> supplier = validationsListMap.get(key);\n");
-        content.append("    if (supplier != null) {\n");
-        content.append("      ValidationBuilder<RequestInfo> validationBuilder = supplier.get();\n");
-        content.append("      return validationBuilder.build().validate(requestInfo).stream().findFirst().orElse(null);\n");
+        content.append("    Validator<RequestInfo> validator = validators.get(new ParameterValidatorMapKey(path, httpMethod));\n");
+        content.append("    if (validator == null) {\n");
+        content.append("      RouteIndex.Match<Validator<RequestInfo>> match = routes.match(path, httpMethod);\n");
+        content.append("      if (match == null || match.value() == null) {\n");
+        content.append("        return null;\n");
+        content.append("      }\n");
+        content.append("      validator = match.value();\n");
+        content.append("      requestInfo = bindPathParameters(match, requestInfo);\n");
+        content.append("    }\n");
+        content.append("    return validator.validateFirst(requestInfo);\n");
+        content.append("  }\n\n");
+        content.append("  // A concrete path already carries its path parameters; use them when the caller's RequestInfo has none\n");
+        content.append("  private static RequestInfo bindPathParameters(RouteIndex.Match<Validator<RequestInfo>> match, RequestInfo requestInfo) {\n");
+        content.append("    if (requestInfo != null && !requestInfo.pathParameters().isEmpty()) {\n");
+        content.append("      return requestInfo;\n");
+        content.append("    }\n");
+        content.append("    return RequestInfo.of(match, requestInfo);\n");
+        content.append("  }\n\n");
+
+        // Error collection mode is fixed at generation time (GeneratorConfig.collectAllValidationErrors)
+        boolean collectAll = ctx.isCollectAllValidationErrors();
+        content.append("  /** True when validateRequest reports every error; false when it stops at the first. */\n");
+        content.append("  public static final boolean COLLECT_ALL_ERRORS = ").append(collectAll).append(";\n\n");
+        content.append("  /**\n");
+        content.append("   * Validate request parameters in the generated error collection mode\n");
+        content.append("   * \n");
+        content.append("   * @param path The templated or concrete request path\n");
+        content.append("   * @param httpMethod The HTTP method (GET, POST, PUT, DELETE, PATCH)\n");
+        content.append("   * @param requestInfo The RequestInfo object containing path, query, and header parameters; for a concrete path\n");
+        content.append("   *        without path parameters, the ones extracted from the path are validated instead\n");
+        content.append(collectAll
+                ? "   * @return every ValidationError, or an empty list if validation passes\n"
+                : "   * @return a list holding the first ValidationError, or an empty list if validation passes\n");
+        content.append("   */\n");
+        content.append("  public static List<ValidationError> validateRequest(String path, String httpMethod, RequestInfo requestInfo) {\n");
+        content.append("    Validator<RequestInfo> validator = validators.get(new ParameterValidatorMapKey(path, httpMethod));\n");
+        content.append("    if (validator == null) {\n");
+        content.append("      RouteIndex.Match<Validator<RequestInfo>> match = routes.match(path, httpMethod);\n");
+        content.append("      if (match == null || match.value() == null) {\n");
+        content.append("        return List.of();\n");
+        content.append("      }\n");
+        content.append("      validator = match.value();\n");
+        content.append("      requestInfo = bindPathParameters(match, requestInfo);\n");
         content.append("    }\n");
-        content.append("    return null;\n");
+        if (collectAll) {
+            content.append("    return validator.validateAll(requestInfo);\n");
+        } else {
+            content.append("    return validator.validate(requestInfo);\n");
+        }
         content.append("  }\n");
         content.append("}\n");
 
@@ -546,5 +686,9 @@ class JerseyQueryParamValidatorGenerator {
             this.methodName = methodName;
             this.validatorMethod = validatorMethod;
         }
+
+        boolean hasValidator() {
+            return !validatorMethod.isBlank();
+        }
     }
 }
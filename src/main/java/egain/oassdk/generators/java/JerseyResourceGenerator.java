@@ -33,15 +33,25 @@ class JerseyResourceGenerator {
      * Generate resource classes for all operations in the spec.
      */
     void generate() throws IOException, GenerationException {
-        generateResources(ctx.spec, ctx.outputDir, ctx.packageName);
+        for (JerseyGenerationTask task : resourceTasks()) {
+            task.run();
+        }
+    }
+
+    /**
+     * One task per resource class, in generation order. The tasks share no mutable state.
+     */
+    List<JerseyGenerationTask> resourceTasks() {
+        return resourceTasks(ctx.spec, ctx.outputDir, ctx.packageName);
     }
 
     /**
-     * Group paths by parent and generate one resource class per parent path.
+     * Group paths by parent; each parent path becomes one resource class.
      */
-    private void generateResources(Map<String, Object> spec, String outputDir, String packageName) throws IOException, GenerationException {
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
-        if (paths == null) return;
+    private List<JerseyGenerationTask> resourceTasks(Map<String, Object> spec, String outputDir, String packageName) {
+        List<JerseyGenerationTask> tasks = new ArrayList<>();
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
+        if (paths == null) return tasks;
 
         String packagePath = packageName != null ? packageName : "com.example.api";
 
@@ -50,7 +60,7 @@ class JerseyResourceGenerator {
 
         for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
             String path = pathEntry.getKey();
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
 
             if (pathItem == null) continue;
 
@@ -64,7 +74,7 @@ class JerseyResourceGenerator {
             String[] methods = {"get", "post", "put", "delete", "patch"};
             for (String method : methods) {
                 if (pathItem.containsKey(method)) {
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     if (operation != null) {
                         operations.add(new PathOperation(path, method, operation));
                     }
@@ -72,17 +82,35 @@ class JerseyResourceGenerator {
             }
         }
 
+        // Besides its operations, a resource reads servers, security and shared components, but not the schemas:
+        // those it uses are already inlined into the resolved operations.
+        Map<String, Object> specContext = new LinkedHashMap<>(spec);
+        specContext.remove("paths");
+        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        if (components != null) {
+            components.remove("schemas");
+            specContext.put("components", components);
+        }
+
         // Generate one resource per parent path
         for (Map.Entry<String, List<PathOperation>> groupEntry : pathGroups.entrySet()) {
             String parentPath = groupEntry.getKey();
             List<PathOperation> operations = groupEntry.getValue();
 
-            try {
-                generateResourceForParentPath(parentPath, operations, outputDir, packagePath, spec);
-            } catch (GenerationException e) {
-                throw new GenerationException("Failed to generate resource for path " + parentPath + ": " + e.getMessage(), e);
+            List<Object> input = new ArrayList<>(operations.size() + 1);
+            input.add(specContext);
+            for (PathOperation pathOp : operations) {
+                input.add(List.of(pathOp.path, pathOp.method, pathOp.operation));
             }
+            tasks.add(new JerseyGenerationTask("resource:" + parentPath, input, () -> {
+                try {
+                    generateResourceForParentPath(parentPath, operations, outputDir, packagePath, spec);
+                } catch (GenerationException e) {
+                    throw new GenerationException("Failed to generate resource for path " + parentPath + ": " + e.getMessage(), e);
+                }
+            }));
         }
+        return tasks;
     }
 
     /**
@@ -188,7 +216,7 @@ class JerseyResourceGenerator {
         Map<String, String> securitySchemeToActorType = securitySchemeToActorTypeMap();
 
         if (operation != null && operation.containsKey("security")) {
-            List<Map<String, Object>> securityList = Util.asStringObjectMapList(operation.get("security"));
+            List<Map<String, Object>> securityList = Util.asStringObjectMapListView(operation.get("security"));
             if (securityList != null) {
                 for (Map<String, Object> securityMap : securityList) {
                     if (securityMap != null) {
@@ -288,18 +316,18 @@ class JerseyResourceGenerator {
         if (spec == null) {
             return scopes;
         }
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return scopes;
         }
         String[] methods = {"get", "post", "put", "delete", "patch"};
         for (Object pathItemObj : paths.values()) {
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathItemObj);
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathItemObj);
             if (pathItem == null) {
                 continue;
             }
             for (String method : methods) {
-                collectScopesFromOperation(Util.asStringObjectMap(pathItem.get(method)), scopes);
+                collectScopesFromOperation(Util.asStringObjectMapView(pathItem.get(method)), scopes);
             }
         }
         return scopes;
@@ -313,7 +341,7 @@ class JerseyResourceGenerator {
         if (operation == null || !operation.containsKey("security")) {
             return;
         }
-        List<Map<String, Object>> securityList = Util.asStringObjectMapList(operation.get("security"));
+        List<Map<String, Object>> securityList = Util.asStringObjectMapListView(operation.get("security"));
         if (securityList == null) {
             return;
         }
@@ -384,14 +412,14 @@ class JerseyResourceGenerator {
         if (operation == null) {
             return;
         }
-        Map<String, Object> requestBody = Util.asStringObjectMap(operation.get("requestBody"));
+        Map<String, Object> requestBody = Util.asStringObjectMapView(operation.get("requestBody"));
         if (requestBody != null) {
             extractContentMediaTypeKeys(requestBody, out);
         }
-        Map<String, Object> responses = Util.asStringObjectMap(operation.get("responses"));
+        Map<String, Object> responses = Util.asStringObjectMapView(operation.get("responses"));
         if (responses != null) {
             for (Object respObj : responses.values()) {
-                Map<String, Object> resp = Util.asStringObjectMap(respObj);
+                Map<String, Object> resp = Util.asStringObjectMapView(respObj);
                 if (resp == null) {
                     continue;
                 }
@@ -404,7 +432,7 @@ class JerseyResourceGenerator {
     }
 
     private static void extractContentMediaTypeKeys(Map<String, Object> holder, Set<String> out) {
-        Map<String, Object> content = Util.asStringObjectMap(holder.get("content"));
+        Map<String, Object> content = Util.asStringObjectMapView(holder.get("content"));
         if (content != null) {
             out.addAll(content.keySet());
         }
@@ -416,15 +444,15 @@ class JerseyResourceGenerator {
             return resp;
         }
         String name = ref.substring("#/components/responses/".length());
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
         if (components == null) {
             return resp;
         }
-        Map<String, Object> responses = Util.asStringObjectMap(components.get("responses"));
+        Map<String, Object> responses = Util.asStringObjectMapView(components.get("responses"));
         if (responses == null) {
             return resp;
         }
-        Map<String, Object> resolved = Util.asStringObjectMap(responses.get(name));
+        Map<String, Object> resolved = Util.asStringObjectMapView(responses.get(name));
         return resolved != null ? resolved : resp;
     }
 
@@ -519,7 +547,7 @@ class JerseyResourceGenerator {
 
         boolean hasRequestBody = false;
         if (method.equalsIgnoreCase("post") || method.equalsIgnoreCase("put") || method.equalsIgnoreCase("patch")) {
-            Map<String, Object> requestBody = Util.asStringObjectMap(operation.get("requestBody"));
+            Map<String, Object> requestBody = Util.asStringObjectMapView(operation.get("requestBody"));
             hasRequestBody = requestBody != null;
         }
         if ((method.equalsIgnoreCase("get") || method.equalsIgnoreCase("delete") || method.equalsIgnoreCase("head")) && !hasRequestBody) {
@@ -528,7 +556,7 @@ class JerseyResourceGenerator {
 
         content.append(generateActorAnnotationForOperation(operation));
 
-        List<Map<String, Object>> params = Util.asStringObjectMapList(operation.get("parameters"));
+        List<Map<String, Object>> params = Util.asStringObjectMapListView(operation.get("parameters"));
         List<String> parameterList = new ArrayList<>();
         boolean needsList = false;
 
@@ -540,7 +568,7 @@ class JerseyResourceGenerator {
             for (Map<String, Object> param : params) {
                 String name = (String) param.get("name");
                 String in = (String) param.get("in");
-                Map<String, Object> schema = Util.asStringObjectMap(param.get("schema"));
+                Map<String, Object> schema = Util.asStringObjectMapView(param.get("schema"));
 
                 if ("header".equals(in)) {
                     continue;
@@ -601,7 +629,7 @@ class JerseyResourceGenerator {
     }
 
     private String findResourceClassNameExtension(String parentPath, Map<String, Object> spec) {
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return null;
         }
@@ -611,7 +639,7 @@ class JerseyResourceGenerator {
             if (!p.equals(norm) && !p.startsWith(norm + "/")) {
                 continue;
             }
-            Map<String, Object> item = Util.asStringObjectMap(e.getValue());
+            Map<String, Object> item = Util.asStringObjectMapView(e.getValue());
             if (item == null) {
                 continue;
             }
@@ -31,7 +31,7 @@ public final class JerseySchemaCollector {
      * Collect in-lined schemas from response bodies and assign names to them.
      */
     public void collectInlinedSchemas(Map<String, Object> spec) {
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return;
         }
@@ -40,32 +40,32 @@ public final class JerseySchemaCollector {
 
         // Iterate through all paths and operations
         for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
             if (pathItem == null) continue;
 
             String[] methods = {"get", "post", "put", "delete", "patch", "head", "options", "trace"};
             for (String method : methods) {
                 if (pathItem.containsKey(method)) {
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     if (operation == null) continue;
 
                     // Collect from responses
                     if (operation.containsKey("responses")) {
-                        Map<String, Object> responses = Util.asStringObjectMap(operation.get("responses"));
+                        Map<String, Object> responses = Util.asStringObjectMapView(operation.get("responses"));
                         if (responses != null) {
                             for (Map.Entry<String, Object> responseEntry : responses.entrySet()) {
                                 Object responseObj = responseEntry.getValue();
 
-                                Map<String, Object> response = Util.asStringObjectMap(responseObj);
+                                Map<String, Object> response = Util.asStringObjectMapView(responseObj);
                                 if (response != null && response.containsKey("content")) {
-                                    Map<String, Object> content = Util.asStringObjectMap(response.get("content"));
+                                    Map<String, Object> content = Util.asStringObjectMapView(response.get("content"));
                                     if (content != null) {
                                         for (Object mediaTypeObj : content.values()) {
-                                            Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                                            Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                                             if (mediaType != null) {
                                                 Object schemaObj = mediaType.get("schema");
 
-                                                Map<String, Object> schema = Util.asStringObjectMap(schemaObj);
+                                                Map<String, Object> schema = Util.asStringObjectMapView(schemaObj);
                                                 if (schema != null) {
                                                     // Check if it's an in-lined schema (not a $ref)
                                                     if (!schema.containsKey("$ref")) {
@@ -116,7 +116,7 @@ public final class JerseySchemaCollector {
             if (referencedSchemaNames != null && !referencedSchemaNames.contains(schemaEntry.getKey())) {
                 continue;
             }
-            Map<String, Object> schema = Util.asStringObjectMap(schemaEntry.getValue());
+            Map<String, Object> schema = Util.asStringObjectMapView(schemaEntry.getValue());
             if (schema == null) continue;
 
             // Check properties in this schema (but don't register the schema itself as inline)
@@ -155,11 +155,11 @@ public final class JerseySchemaCollector {
             String ref = (String) schema.get("$ref");
             if (ref != null && ref.startsWith("#/components/schemas/")) {
                 String schemaName = ref.substring(ref.lastIndexOf("/") + 1);
-                Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+                Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
                 if (components != null) {
-                    Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+                    Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
                     if (schemas != null && schemas.containsKey(schemaName)) {
-                        Map<String, Object> referencedSchema = Util.asStringObjectMap(schemas.get(schemaName));
+                        Map<String, Object> referencedSchema = Util.asStringObjectMapView(schemas.get(schemaName));
                         if (referencedSchema != null) {
                             // Don't recurse into top-level schemas - they're already being processed
                             if (!topLevelSchemaObjects.contains(referencedSchema)) {
@@ -176,7 +176,7 @@ public final class JerseySchemaCollector {
 
         // Check allOf, oneOf, anyOf - process sub-schemas but mark them as being in composition context
         if (schema.containsKey("allOf")) {
-            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapList(schema.get("allOf"));
+            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapListView(schema.get("allOf"));
             if (allOfSchemas != null) {
                 for (Map<String, Object> subSchema : allOfSchemas) {
                     if (subSchema != null) {
@@ -187,7 +187,7 @@ public final class JerseySchemaCollector {
         }
 
         if (schema.containsKey("oneOf") || schema.containsKey("anyOf")) {
-            List<Map<String, Object>> schemasList = Util.asStringObjectMapList(
+            List<Map<String, Object>> schemasList = Util.asStringObjectMapListView(
                     schema.containsKey("oneOf") ? schema.get("oneOf") : schema.get("anyOf"));
             if (schemasList != null) {
                 for (Map<String, Object> subSchema : schemasList) {
@@ -210,13 +210,13 @@ public final class JerseySchemaCollector {
 
         // Recursively check properties
         if (schema.containsKey("properties")) {
-            Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+            Map<String, Object> properties = Util.asStringObjectMapView(schema.get("properties"));
             if (properties != null) {
                 for (Map.Entry<String, Object> propertyEntry : properties.entrySet()) {
                     String propertyName = propertyEntry.getKey();
                     Object propertyValue = propertyEntry.getValue();
 
-                    Map<String, Object> propertySchema = Util.asStringObjectMap(propertyValue);
+                    Map<String, Object> propertySchema = Util.asStringObjectMapView(propertyValue);
                     if (propertySchema != null) {
                         collectInlineSchemasFromSchemaProperties(propertySchema, propertyName, spec, visited, topLevelSchemaObjects, isInCompositionContext, depth + 1);
                     }
@@ -227,7 +227,7 @@ public final class JerseySchemaCollector {
         // Check array items
         if ("array".equals(type) && schema.containsKey("items")) {
             Object itemsObj = schema.get("items");
-            Map<String, Object> itemsMap = Util.asStringObjectMap(itemsObj);
+            Map<String, Object> itemsMap = Util.asStringObjectMapView(itemsObj);
             if (itemsMap != null) {
                 collectInlineSchemasFromSchemaProperties(itemsMap, null, spec, visited, topLevelSchemaObjects, isInCompositionContext, depth + 1);
             }
@@ -281,7 +281,7 @@ public final class JerseySchemaCollector {
 
         // Try to generate a meaningful name from the schema properties
         if (schema.containsKey("properties")) {
-            Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+            Map<String, Object> properties = Util.asStringObjectMapView(schema.get("properties"));
 
             // If we have a single property, use it
             if (properties!=null && properties.size() == 1) {
@@ -311,7 +311,7 @@ public final class JerseySchemaCollector {
 
         for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
             String schemaName = schemaEntry.getKey();
-            Map<String, Object> schema = Util.asStringObjectMap(schemaEntry.getValue());
+            Map<String, Object> schema = Util.asStringObjectMapView(schemaEntry.getValue());
             if (schema == null) continue;
 
             boolean usedInComposition = false;
@@ -319,12 +319,12 @@ public final class JerseySchemaCollector {
             for (Map.Entry<String, Object> otherEntry : schemas.entrySet()) {
                 if (otherEntry.getKey().equals(schemaName)) continue;
 
-                Map<String, Object> otherSchema = Util.asStringObjectMap(otherEntry.getValue());
+                Map<String, Object> otherSchema = Util.asStringObjectMapView(otherEntry.getValue());
                 if (otherSchema == null) continue;
 
                 // Check allOf
                 if (otherSchema.containsKey("allOf")) {
-                    List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapList(otherSchema.get("allOf"));
+                    List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapListView(otherSchema.get("allOf"));
                     for (Map<String, Object> subSchema : allOfSchemas) {
                         if (JerseySchemaUtils.isSchemaReference(subSchema, schemaName)) {
                             usedInComposition = true;
@@ -335,7 +335,7 @@ public final class JerseySchemaCollector {
 
                 // Check oneOf
                 if (otherSchema.containsKey("oneOf")) {
-                    List<Map<String, Object>> oneOfSchemas = Util.asStringObjectMapList(otherSchema.get("oneOf"));
+                    List<Map<String, Object>> oneOfSchemas = Util.asStringObjectMapListView(otherSchema.get("oneOf"));
                     if (oneOfSchemas != null) {
                         for (Map<String, Object> subSchema : oneOfSchemas) {
                             if (JerseySchemaUtils.isSchemaReference(subSchema, schemaName)) {
@@ -348,7 +348,7 @@ public final class JerseySchemaCollector {
 
                 // Check anyOf
                 if (otherSchema.containsKey("anyOf")) {
-                    List<Map<String, Object>> anyOfSchemas = Util.asStringObjectMapList(otherSchema.get("anyOf"));
+                    List<Map<String, Object>> anyOfSchemas = Util.asStringObjectMapListView(otherSchema.get("anyOf"));
                     if (anyOfSchemas != null) {
                         for (Map<String, Object> subSchema : anyOfSchemas) {
                             if (JerseySchemaUtils.isSchemaReference(subSchema, schemaName)) {
@@ -382,7 +382,7 @@ public final class JerseySchemaCollector {
     Set<String> collectAllReferencedSchemaNames(Map<String, Object> spec) {
         Set<String> referencedSchemas = new HashSet<>();
         Map<Object, Boolean> globalVisitedSchemas = new IdentityHashMap<>();
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
 
         // Helper to collect from a single schema object with StackOverflow protection
         java.util.function.Consumer<Object> collectFromSchema = schemaObj -> {
@@ -392,7 +392,7 @@ public final class JerseySchemaCollector {
             } catch (StackOverflowError e) {
                 logger.warning("StackOverflow in collectAllReferencedSchemaNames, skipping deep recursion");
                 if (schemaObj instanceof Map) {
-                    Map<String, Object> m = Util.asStringObjectMap(schemaObj);
+                    Map<String, Object> m = Util.asStringObjectMapView(schemaObj);
                     if (m != null && m.containsKey("$ref")) {
                         String ref = (String) m.get("$ref");
                         if (ref != null && ref.startsWith("#/components/schemas/")) {
@@ -408,7 +408,7 @@ public final class JerseySchemaCollector {
 
         // Components: schemas
         if (components != null) {
-            Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+            Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
             if (schemas != null) {
                 for (Object schemaObj : schemas.values()) {
                     collectFromSchema.accept(schemaObj);
@@ -418,19 +418,19 @@ public final class JerseySchemaCollector {
 
         // Components: responses
         if (components != null) {
-            Map<String, Object> responses = Util.asStringObjectMap(components.get("responses"));
+            Map<String, Object> responses = Util.asStringObjectMapView(components.get("responses"));
             if (responses != null) {
                 for (Map.Entry<String, Object> responseEntry : responses.entrySet()) {
-                    Map<String, Object> response = Util.asStringObjectMap(responseEntry.getValue());
+                    Map<String, Object> response = Util.asStringObjectMapView(responseEntry.getValue());
                     if (response == null) continue;
                     Set<String> visitedResponseNames = new HashSet<>();
                     response = resolveResponseReference(response, components, visitedResponseNames);
                     if (response == null) continue;
                     if (response.containsKey("content")) {
-                        Map<String, Object> content = Util.asStringObjectMap(response.get("content"));
+                        Map<String, Object> content = Util.asStringObjectMapView(response.get("content"));
                         if (content != null) {
                             for (Object mediaTypeObj : content.values()) {
-                                Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                                Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                                 if (mediaType != null && mediaType.containsKey("schema")) {
                                     collectFromSchema.accept(mediaType.get("schema"));
                                 }
@@ -440,15 +440,15 @@ public final class JerseySchemaCollector {
                 }
             }
             // Components: requestBodies
-            Map<String, Object> requestBodies = Util.asStringObjectMap(components.get("requestBodies"));
+            Map<String, Object> requestBodies = Util.asStringObjectMapView(components.get("requestBodies"));
             if (requestBodies != null) {
                 for (Object rbObj : requestBodies.values()) {
-                    Map<String, Object> rb = Util.asStringObjectMap(rbObj);
+                    Map<String, Object> rb = Util.asStringObjectMapView(rbObj);
                     if (rb == null || !rb.containsKey("content")) continue;
-                    Map<String, Object> content = Util.asStringObjectMap(rb.get("content"));
+                    Map<String, Object> content = Util.asStringObjectMapView(rb.get("content"));
                     if (content != null) {
                         for (Object mediaTypeObj : content.values()) {
-                            Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                            Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                             if (mediaType != null && mediaType.containsKey("schema")) {
                                 collectFromSchema.accept(mediaType.get("schema"));
                             }
@@ -457,10 +457,10 @@ public final class JerseySchemaCollector {
                 }
             }
             // Components: parameters
-            Map<String, Object> parameters = Util.asStringObjectMap(components.get("parameters"));
+            Map<String, Object> parameters = Util.asStringObjectMapView(components.get("parameters"));
             if (parameters != null) {
                 for (Object paramObj : parameters.values()) {
-                    Map<String, Object> param = Util.asStringObjectMap(paramObj);
+                    Map<String, Object> param = Util.asStringObjectMapView(paramObj);
                     if (param != null && param.containsKey("schema")) {
                         collectFromSchema.accept(param.get("schema"));
                     }
@@ -469,14 +469,14 @@ public final class JerseySchemaCollector {
         }
 
         // Paths: each operation's responses, requestBody, parameters
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths != null) {
             for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
-                Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+                Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
                 if (pathItem == null) continue;
                 // Path-level parameters
                 if (pathItem.containsKey("parameters")) {
-                    List<Map<String, Object>> params = Util.asStringObjectMapList(pathItem.get("parameters"));
+                    List<Map<String, Object>> params = Util.asStringObjectMapListView(pathItem.get("parameters"));
                     if (params != null) {
                         for (Map<String, Object> param : params) {
                             if (param != null && param.containsKey("schema")) {
@@ -487,23 +487,23 @@ public final class JerseySchemaCollector {
                 }
                 for (String method : new String[]{"get", "post", "put", "patch", "delete", "head", "options", "trace"}) {
                     if (!pathItem.containsKey(method)) continue;
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     if (operation == null) continue;
                     // Operation responses
                     if (operation.containsKey("responses")) {
-                        Map<String, Object> operationResponses = Util.asStringObjectMap(operation.get("responses"));
+                        Map<String, Object> operationResponses = Util.asStringObjectMapView(operation.get("responses"));
                         if (operationResponses != null) {
                             for (Map.Entry<String, Object> responseEntry : operationResponses.entrySet()) {
-                                Map<String, Object> response = Util.asStringObjectMap(responseEntry.getValue());
+                                Map<String, Object> response = Util.asStringObjectMapView(responseEntry.getValue());
                                 if (response == null) continue;
                                 Set<String> visitedResponseNames = new HashSet<>();
                                 response = resolveResponseReference(response, components, visitedResponseNames);
                                 if (response == null) continue;
                                 if (response.containsKey("content")) {
-                                    Map<String, Object> content = Util.asStringObjectMap(response.get("content"));
+                                    Map<String, Object> content = Util.asStringObjectMapView(response.get("content"));
                                     if (content != null) {
                                         for (Object mediaTypeObj : content.values()) {
-                                            Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                                            Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                                             if (mediaType != null && mediaType.containsKey("schema")) {
                                                 collectFromSchema.accept(mediaType.get("schema"));
                                             }
@@ -515,12 +515,12 @@ public final class JerseySchemaCollector {
                     }
                     // Operation requestBody
                     if (operation.containsKey("requestBody")) {
-                        Map<String, Object> requestBody = Util.asStringObjectMap(operation.get("requestBody"));
+                        Map<String, Object> requestBody = Util.asStringObjectMapView(operation.get("requestBody"));
                         if (requestBody != null && requestBody.containsKey("content")) {
-                            Map<String, Object> content = Util.asStringObjectMap(requestBody.get("content"));
+                            Map<String, Object> content = Util.asStringObjectMapView(requestBody.get("content"));
                             if (content != null) {
                                 for (Object mediaTypeObj : content.values()) {
-                                    Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                                    Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                                     if (mediaType != null && mediaType.containsKey("schema")) {
                                         collectFromSchema.accept(mediaType.get("schema"));
                                     }
@@ -530,7 +530,7 @@ public final class JerseySchemaCollector {
                     }
                     // Operation parameters
                     if (operation.containsKey("parameters")) {
-                        List<Map<String, Object>> params = Util.asStringObjectMapList(operation.get("parameters"));
+                        List<Map<String, Object>> params = Util.asStringObjectMapListView(operation.get("parameters"));
                         if (params != null) {
                             for (Map<String, Object> param : params) {
                                 if (param != null && param.containsKey("schema")) {
@@ -578,9 +578,9 @@ public final class JerseySchemaCollector {
             return;
         }
 
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
         if (components != null) {
-            Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+            Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
             if (schemas != null && schemas.size() > 500 && depth > 3) {
                 logger.warning("Early bailout for very large spec at depth: " + depth);
                 return;
@@ -599,18 +599,11 @@ public final class JerseySchemaCollector {
         // Must run before the visited short-circuit: the same instance may be reached first from
         // iterating all schemas (no x-resolved-ref on the root object) and later from property/item
         // traversal; a second visit hits visited and would otherwise skip x-resolved-ref handling.
-        // Util.asStringObjectMap copies break identity checks later in this method.
-        Map<String, Object> compsForReg = Util.asStringObjectMap(spec.get("components"));
-        if (compsForReg != null) {
-            Map<String, Object> schemasForReg = Util.asStringObjectMap(compsForReg.get("schemas"));
-            if (schemasForReg != null) {
-                for (Map.Entry<String, Object> e : schemasForReg.entrySet()) {
-                    if (e.getValue() == schemaObj) {
-                        referencedSchemas.add(e.getKey());
-                        break;
-                    }
-                }
-            }
+        // Util.asStringObjectMapView views, like copies, are distinct objects: identity checks later in this
+        // method only match the spec's own maps.
+        String componentName = ctx.componentSchemaNameOf(schemaObj, spec);
+        if (componentName != null) {
+            referencedSchemas.add(componentName);
         }
 
         // Cycle detection
@@ -619,7 +612,7 @@ public final class JerseySchemaCollector {
         }
         visited.put(schemaObj, Boolean.TRUE);
 
-        Map<String, Object> schema = Util.asStringObjectMap(schemaObj);
+        Map<String, Object> schema = Util.asStringObjectMapView(schemaObj);
         if (schema == null) {
             return;
         }
@@ -629,11 +622,11 @@ public final class JerseySchemaCollector {
         if (resolvedRefSchemaName != null) {
             if (!referencedSchemas.contains(resolvedRefSchemaName)) {
                 referencedSchemas.add(resolvedRefSchemaName);
-                components = Util.asStringObjectMap(spec.get("components"));
+                components = Util.asStringObjectMapView(spec.get("components"));
                 if (components != null) {
-                    Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+                    Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
                     if (schemas != null && schemas.containsKey(resolvedRefSchemaName) && depth < 15) {
-                        Map<String, Object> referencedSchema = Util.asStringObjectMap(schemas.get(resolvedRefSchemaName));
+                        Map<String, Object> referencedSchema = Util.asStringObjectMapView(schemas.get(resolvedRefSchemaName));
                         if (referencedSchema != null && !visited.containsKey(referencedSchema)) {
                             visited.put(referencedSchema, Boolean.TRUE);
                             if (referencedSchema.containsKey("type") && "array".equals(referencedSchema.get("type"))) {
@@ -658,11 +651,11 @@ public final class JerseySchemaCollector {
                 String schemaName = ref.substring(ref.lastIndexOf("/") + 1);
                 if (!referencedSchemas.contains(schemaName)) {
                     referencedSchemas.add(schemaName);
-                    components = Util.asStringObjectMap(spec.get("components"));
+                    components = Util.asStringObjectMapView(spec.get("components"));
                     if (components != null) {
-                        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+                        Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
                         if (schemas != null && schemas.containsKey(schemaName)) {
-                            Map<String, Object> referencedSchema = Util.asStringObjectMap(schemas.get(schemaName));
+                            Map<String, Object> referencedSchema = Util.asStringObjectMapView(schemas.get(schemaName));
                             if (referencedSchema != null) {
                                 if (visited.containsKey(referencedSchema)) {
                                     return;
@@ -687,13 +680,13 @@ public final class JerseySchemaCollector {
             if (ref != null && depth < 15) {
                 String derivedName = JerseySchemaUtils.deriveSchemaNameFromExternalRef(ref);
                 if (derivedName != null) {
-                    components = Util.asStringObjectMap(spec.get("components"));
+                    components = Util.asStringObjectMapView(spec.get("components"));
                     if (components != null) {
-                        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+                        Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
                         if (schemas != null && schemas.containsKey(derivedName)) {
                             if (!referencedSchemas.contains(derivedName)) {
                                 referencedSchemas.add(derivedName);
-                                Map<String, Object> referencedSchema = Util.asStringObjectMap(schemas.get(derivedName));
+                                Map<String, Object> referencedSchema = Util.asStringObjectMapView(schemas.get(derivedName));
                                 if (referencedSchema != null && !visited.containsKey(referencedSchema)) {
                                     visited.put(referencedSchema, Boolean.TRUE);
                                     if (referencedSchema.containsKey("type") && "array".equals(referencedSchema.get("type"))) {
@@ -715,58 +708,48 @@ public final class JerseySchemaCollector {
 
         // Identity match: parser may resolve $ref in place
         if (depth < 15) {
-            Map<String, Object> componentsForIdentity = Util.asStringObjectMap(spec.get("components"));
-            if (componentsForIdentity != null) {
-                Map<String, Object> schemasMap = Util.asStringObjectMap(componentsForIdentity.get("schemas"));
-                if (schemasMap != null) {
-                    for (Map.Entry<String, Object> schemaEntry : schemasMap.entrySet()) {
-                        if (schemaEntry.getValue() == schemaObj) {
-                            String schemaName = schemaEntry.getKey();
-                            if (!referencedSchemas.contains(schemaName)) {
-                                referencedSchemas.add(schemaName);
-                                if (visited.containsKey(schema)) {
-                                    return;
-                                }
-                                visited.put(schema, Boolean.TRUE);
-                                if (schema.containsKey("type") && "array".equals(schema.get("type"))) {
-                                    Object items = schema.get("items");
-                                    if (items != null) {
-                                        collectSchemasFromSchemaObject(items, referencedSchemas, spec, visited, depth + 1);
-                                    }
-                                } else {
-                                    collectSchemasFromSchemaObject(schema, referencedSchemas, spec, visited, depth + 1);
-                                }
-                            }
-                            return;
+            String schemaName = ctx.componentSchemaNameOf(schemaObj, spec);
+            if (schemaName != null) {
+                if (!referencedSchemas.contains(schemaName)) {
+                    referencedSchemas.add(schemaName);
+                    if (visited.containsKey(schema)) {
+                        return;
+                    }
+                    visited.put(schema, Boolean.TRUE);
+                    if (schema.containsKey("type") && "array".equals(schema.get("type"))) {
+                        Object items = schema.get("items");
+                        if (items != null) {
+                            collectSchemasFromSchemaObject(items, referencedSchemas, spec, visited, depth + 1);
                         }
+                    } else {
+                        collectSchemasFromSchemaObject(schema, referencedSchemas, spec, visited, depth + 1);
                     }
                 }
+                return;
             }
         }
 
         // Resolved array type schema - find its name by matching structure
         if (!schema.containsKey("$ref") && schema.containsKey("type") && "array".equals(schema.get("type"))) {
-            components = Util.asStringObjectMap(spec.get("components"));
+            components = Util.asStringObjectMapView(spec.get("components"));
             if (components != null) {
-                Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+                Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
                 if (schemas != null) {
-                    for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
-                        if (schemaEntry.getValue() == schemaObj) {
-                            String schemaName = schemaEntry.getKey();
-                            if (!referencedSchemas.contains(schemaName)) {
-                                referencedSchemas.add(schemaName);
-                                Object itemsObj = schema.get("items");
-                                if (itemsObj != null) {
-                                    visited.put(schema, Boolean.TRUE);
-                                    collectSchemasFromSchemaObject(itemsObj, referencedSchemas, spec, visited, depth + 1);
-                                }
+                    String arrayName = ctx.componentSchemaNameOf(schemaObj, spec);
+                    if (arrayName != null) {
+                        if (!referencedSchemas.contains(arrayName)) {
+                            referencedSchemas.add(arrayName);
+                            Object itemsObj = schema.get("items");
+                            if (itemsObj != null) {
+                                visited.put(schema, Boolean.TRUE);
+                                collectSchemasFromSchemaObject(itemsObj, referencedSchemas, spec, visited, depth + 1);
                             }
-                            return;
                         }
+                        return;
                     }
                     Object itemsObj = schema.get("items");
                     if (itemsObj != null) {
-                        Map<String, Object> itemsMap = Util.asStringObjectMap(itemsObj);
+                        Map<String, Object> itemsMap = Util.asStringObjectMapView(itemsObj);
                         String itemsRef = null;
                         if (itemsMap != null && itemsMap.containsKey("$ref")) {
                             itemsRef = (String) itemsMap.get("$ref");
@@ -774,13 +757,13 @@ public final class JerseySchemaCollector {
 
                         if (itemsRef != null) {
                             for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
-                                Map<String, Object> candidateSchema = Util.asStringObjectMap(schemaEntry.getValue());
+                                Map<String, Object> candidateSchema = Util.asStringObjectMapView(schemaEntry.getValue());
                                 if (candidateSchema != null &&
                                     candidateSchema.containsKey("type") &&
                                     "array".equals(candidateSchema.get("type"))) {
                                     Object candidateItems = candidateSchema.get("items");
                                     if (candidateItems != null) {
-                                        Map<String, Object> candidateItemsMap = Util.asStringObjectMap(candidateItems);
+                                        Map<String, Object> candidateItemsMap = Util.asStringObjectMapView(candidateItems);
                                         if (candidateItemsMap != null) {
                                             String candidateItemsRef = (String) candidateItemsMap.get("$ref");
                                             if (itemsRef.equals(candidateItemsRef)) {
@@ -836,7 +819,7 @@ public final class JerseySchemaCollector {
         if (schema.containsKey("properties") && depth < 10) {
             Object propsObj = schema.get("properties");
             if (propsObj instanceof Map<?, ?>) {
-                Map<String, Object> properties = Util.asStringObjectMap(propsObj);
+                Map<String, Object> properties = Util.asStringObjectMapView(propsObj);
                 int propertyCount = 0;
                 int maxProperties = 100;
                 for (Object propSchema : properties.values()) {
@@ -871,11 +854,11 @@ public final class JerseySchemaCollector {
 
         referencedSchemas.add(schemaName);
 
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
         if (components != null) {
-            Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+            Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
             if (schemas != null && schemas.containsKey(schemaName)) {
-                Map<String, Object> referencedSchema = Util.asStringObjectMap(schemas.get(schemaName));
+                Map<String, Object> referencedSchema = Util.asStringObjectMapView(schemas.get(schemaName));
                 if (referencedSchema != null) {
                     visited.put(referencedSchema, Boolean.TRUE);
                     collectSchemasFromSchemaObject(referencedSchema, referencedSchemas, spec, visited);
@@ -895,7 +878,7 @@ public final class JerseySchemaCollector {
     Set<String> collectSchemasReferencedInResponses(Map<String, Object> spec) {
         Set<String> referencedSchemas = new HashSet<>();
 
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
 
         // Build a cache/index of array schemas by their items $ref for efficient lookup
         Map<String, String> arraySchemaByItemsRef = new HashMap<>();
@@ -903,16 +886,16 @@ public final class JerseySchemaCollector {
         Map<String, Integer> arraySchemaCountByItemsType = new HashMap<>();
 
         if (components != null) {
-            Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+            Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
             if (schemas != null) {
                 for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
-                    Map<String, Object> candidateSchema = Util.asStringObjectMap(schemaEntry.getValue());
+                    Map<String, Object> candidateSchema = Util.asStringObjectMapView(schemaEntry.getValue());
                     if (candidateSchema != null &&
                         candidateSchema.containsKey("type") &&
                         "array".equals(candidateSchema.get("type"))) {
                         Object items = candidateSchema.get("items");
                         if (items != null) {
-                            Map<String, Object> itemsMap = Util.asStringObjectMap(items);
+                            Map<String, Object> itemsMap = Util.asStringObjectMapView(items);
                             if (itemsMap != null) {
                                 String itemsRef = (String) itemsMap.get("$ref");
                                 String itemsType = (String) itemsMap.get("type");
@@ -944,7 +927,7 @@ public final class JerseySchemaCollector {
             } catch (StackOverflowError e) {
                 logger.warning("StackOverflow in collectSchemasFromSchemaObject, skipping deep recursion");
                 if (schemaObj instanceof Map) {
-                    Map<String, Object> sm = Util.asStringObjectMap(schemaObj);
+                    Map<String, Object> sm = Util.asStringObjectMapView(schemaObj);
                     if (sm != null && sm.containsKey("$ref")) {
                         String ref = (String) sm.get("$ref");
                         if (ref != null && ref.startsWith("#/components/schemas/")) {
@@ -960,16 +943,16 @@ public final class JerseySchemaCollector {
             }
 
             // Also check if this schema object itself is an array type that needs to be added
-            Map<String, Object> schemaMap = Util.asStringObjectMap(schemaObj);
+            Map<String, Object> schemaMap = Util.asStringObjectMapView(schemaObj);
             if (schemaMap != null) {
                 if (schemaMap.containsKey("$ref")) {
                     String ref = (String) schemaMap.get("$ref");
                     if (ref != null && ref.startsWith("#/components/schemas/")) {
                         String refSchemaName = ref.substring(ref.lastIndexOf("/") + 1);
                         Map<String, Object> schemas = comps != null ?
-                            Util.asStringObjectMap(comps.get("schemas")) : null;
+                            Util.asStringObjectMapView(comps.get("schemas")) : null;
                         if (schemas != null && schemas.containsKey(refSchemaName)) {
-                            Map<String, Object> refSchema = Util.asStringObjectMap(schemas.get(refSchemaName));
+                            Map<String, Object> refSchema = Util.asStringObjectMapView(schemas.get(refSchemaName));
                             if (refSchema != null && refSchema.containsKey("type") &&
                                 "array".equals(refSchema.get("type"))) {
                                 referencedSchemas.add(refSchemaName);
@@ -980,11 +963,11 @@ public final class JerseySchemaCollector {
                            schemaMap.containsKey("type") &&
                            "array".equals(schemaMap.get("type"))) {
                     Map<String, Object> schemas = comps != null ?
-                        Util.asStringObjectMap(comps.get("schemas")) : null;
+                        Util.asStringObjectMapView(comps.get("schemas")) : null;
                     if (schemas != null) {
                         boolean found = false;
                         for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
-                            Map<String, Object> candidateSchema = Util.asStringObjectMap(schemaEntry.getValue());
+                            Map<String, Object> candidateSchema = Util.asStringObjectMapView(schemaEntry.getValue());
                             if (candidateSchema == schemaMap) {
                                 String schemaName = schemaEntry.getKey();
                                 if (!referencedSchemas.contains(schemaName)) {
@@ -1000,7 +983,7 @@ public final class JerseySchemaCollector {
                             String responseItemsRef = null;
                             String responseItemsType = null;
                             if (responseItems != null) {
-                                Map<String, Object> responseItemsMap = Util.asStringObjectMap(responseItems);
+                                Map<String, Object> responseItemsMap = Util.asStringObjectMapView(responseItems);
                                 if (responseItemsMap != null) {
                                     responseItemsRef = (String) responseItemsMap.get("$ref");
                                     responseItemsType = (String) responseItemsMap.get("type");
@@ -1029,19 +1012,19 @@ public final class JerseySchemaCollector {
 
         // Collect from components/responses
         if (components != null) {
-            Map<String, Object> responses = Util.asStringObjectMap(components.get("responses"));
+            Map<String, Object> responses = Util.asStringObjectMapView(components.get("responses"));
             if (responses != null) {
                 for (Map.Entry<String, Object> responseEntry : responses.entrySet()) {
-                    Map<String, Object> response = Util.asStringObjectMap(responseEntry.getValue());
+                    Map<String, Object> response = Util.asStringObjectMapView(responseEntry.getValue());
                     if (response == null) continue;
                     Set<String> visitedResponseNames = new HashSet<>();
                     response = resolveResponseReference(response, components, visitedResponseNames);
                     if (response == null) continue;
                     if (response.containsKey("content")) {
-                        Map<String, Object> content = Util.asStringObjectMap(response.get("content"));
+                        Map<String, Object> content = Util.asStringObjectMapView(response.get("content"));
                         if (content != null) {
                             for (Object mediaTypeObj : content.values()) {
-                                Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                                Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                                 if (mediaType != null && mediaType.containsKey("schema")) {
                                     processResponseSchema.accept(mediaType.get("schema"), components);
                                 }
@@ -1053,29 +1036,29 @@ public final class JerseySchemaCollector {
         }
 
         // Also collect from paths/responses
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths != null) {
             for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
-                Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+                Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
                 if (pathItem == null) continue;
 
                 for (String method : new String[]{"get", "post", "put", "patch", "delete", "head", "options", "trace"}) {
                     if (pathItem.containsKey(method)) {
-                        Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                        Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                         if (operation != null && operation.containsKey("responses")) {
-                            Map<String, Object> operationResponses = Util.asStringObjectMap(operation.get("responses"));
+                            Map<String, Object> operationResponses = Util.asStringObjectMapView(operation.get("responses"));
                             if (operationResponses != null) {
                                 for (Map.Entry<String, Object> responseEntry : operationResponses.entrySet()) {
-                                    Map<String, Object> response = Util.asStringObjectMap(responseEntry.getValue());
+                                    Map<String, Object> response = Util.asStringObjectMapView(responseEntry.getValue());
                                     if (response == null) continue;
                                     Set<String> visitedResponseNames = new HashSet<>();
                                     response = resolveResponseReference(response, components, visitedResponseNames);
                                     if (response == null) continue;
                                     if (response.containsKey("content")) {
-                                        Map<String, Object> content = Util.asStringObjectMap(response.get("content"));
+                                        Map<String, Object> content = Util.asStringObjectMapView(response.get("content"));
                                         if (content != null) {
                                             for (Object mediaTypeObj : content.values()) {
-                                                Map<String, Object> mediaType = Util.asStringObjectMap(mediaTypeObj);
+                                                Map<String, Object> mediaType = Util.asStringObjectMapView(mediaTypeObj);
                                                 if (mediaType != null && mediaType.containsKey("schema")) {
                                                     processResponseSchema.accept(mediaType.get("schema"), components);
                                                 }
@@ -1119,9 +1102,9 @@ public final class JerseySchemaCollector {
         visitedResponseNames.add(responseName);
 
         if (components != null) {
-            Map<String, Object> componentResponses = Util.asStringObjectMap(components.get("responses"));
+            Map<String, Object> componentResponses = Util.asStringObjectMapView(components.get("responses"));
             if (componentResponses != null && componentResponses.containsKey(responseName)) {
-                Map<String, Object> resolvedResponse = Util.asStringObjectMap(componentResponses.get(responseName));
+                Map<String, Object> resolvedResponse = Util.asStringObjectMapView(componentResponses.get(responseName));
                 if (resolvedResponse != null && resolvedResponse.containsKey("$ref")) {
                     return resolveResponseReference(resolvedResponse, components, visitedResponseNames);
                 }
@@ -37,8 +37,12 @@ public final class JerseySchemaUtils {
         return OpenApiSchemaUtils.resolveCompositionToEffectiveSchema(schema, spec);
     }
 
+    /**
+     * @deprecated see {@link OpenApiSchemaUtils#resolveCompositionToEffectiveSchema(Map, Map, int)}
+     */
+    @Deprecated
     public static Map<String, Object> resolveCompositionToEffectiveSchema(Map<String, Object> schema, Map<String, Object> spec, int depth) {
-        return OpenApiSchemaUtils.resolveCompositionToEffectiveSchema(schema, spec, depth);
+        return OpenApiSchemaUtils.resolveCompositionToEffectiveSchema(schema, spec);
     }
 
     public static Map<String, Object> resolveRefInSchema(Map<String, Object> schema, Map<String, Object> spec) {
@@ -76,7 +76,7 @@ public final class JerseyTypeUtils {
 
         // When allOf has exactly one ref branch (e.g. L10NString + enum constraints), use that ref's type
         if (schema.containsKey("allOf")) {
-            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapList(schema.get("allOf"));
+            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapListView(schema.get("allOf"));
             if (allOfSchemas != null) {
                 int refCount = 0;
                 String singleRefSchemaName = null;
@@ -147,8 +147,8 @@ public final class JerseyTypeUtils {
             if (externalSchemaName != null) {
                 Map<String, Object> spec = ctx.spec;
                 if (spec != null) {
-                    Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-                    Map<String, Object> schemas = components != null ? Util.asStringObjectMap(components.get("schemas")) : null;
+                    Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
+                    Map<String, Object> schemas = components != null ? Util.asStringObjectMapView(components.get("schemas")) : null;
                     if (schemas != null && schemas.containsKey(externalSchemaName)) {
                         return JerseyNamingUtils.toJavaClassName(externalSchemaName);
                     }
@@ -196,7 +196,7 @@ public final class JerseyTypeUtils {
 
                     // Handle items as Map
                     if (itemsObj instanceof Map) {
-                        Map<String, Object> items = Util.asStringObjectMap(itemsObj);
+                        Map<String, Object> items = Util.asStringObjectMapView(itemsObj);
 
                         // First priority: x-resolved-ref (parser sets this when external $ref was resolved, e.g. items from User.yaml)
                         String resolvedSchemaName = JerseySchemaUtils.getSchemaNameFromRef(items);
@@ -231,8 +231,8 @@ public final class JerseyTypeUtils {
                                     if (externalSchemaName2 != null) {
                                         Map<String, Object> spec2 = ctx.spec;
                                         if (spec2 != null) {
-                                            Map<String, Object> components = Util.asStringObjectMap(spec2.get("components"));
-                                            Map<String, Object> schemas = components != null ? Util.asStringObjectMap(components.get("schemas")) : null;
+                                            Map<String, Object> components = Util.asStringObjectMapView(spec2.get("components"));
+                                            Map<String, Object> schemas = components != null ? Util.asStringObjectMapView(components.get("schemas")) : null;
                                             if (schemas != null && schemas.containsKey(externalSchemaName2)) {
                                                 fallbackName = externalSchemaName2;
                                             }
@@ -291,7 +291,7 @@ public final class JerseyTypeUtils {
         if (!shouldUseNamedComponentType(schema)) {
             return null;
         }
-        return JerseySchemaUtils.findComponentSchemaName(schema, ctx.spec);
+        return ctx.findComponentSchemaName(schema, ctx.spec);
     }
 
     /** Skip named-component resolution for allOf schemas that should alias to a single base ref. */
@@ -299,7 +299,7 @@ public final class JerseyTypeUtils {
         if (schema == null || !schema.containsKey("allOf")) {
             return true;
         }
-        List<Map<String, Object>> allOf = Util.asStringObjectMapList(schema.get("allOf"));
+        List<Map<String, Object>> allOf = Util.asStringObjectMapListView(schema.get("allOf"));
         return allOf != null && JerseySchemaUtils.allOfHasPropertyOverlayBranches(allOf);
     }
 
@@ -326,32 +326,23 @@ public final class JerseyTypeUtils {
                     }
                 }
                 if (itemType == null || itemType.isEmpty()) {
-                    Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+                    Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
                     if (components != null) {
-                        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
-                        if (schemas != null && fieldSchema != null) {
+                        Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
+                        if (schemas != null) {
+                            Object fieldTypeObj = fieldSchema.get("type");
+                            Object fieldProperties = fieldSchema.get("properties");
                             for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
-                                Map<String, Object> candidateSchema = Util.asStringObjectMap(schemaEntry.getValue());
-                                if (candidateSchema == fieldSchema) {
-                                    itemType = JerseyNamingUtils.toJavaClassName(schemaEntry.getKey());
-                                    break;
-                                }
-                            }
-                            if (itemType == null || itemType.isEmpty()) {
-                                Object fieldTypeObj = fieldSchema.get("type");
-                                Object fieldProperties = fieldSchema.get("properties");
-                                for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
-                                    Map<String, Object> candidateSchema = Util.asStringObjectMap(schemaEntry.getValue());
-                                    if (candidateSchema != null) {
-                                        Object candidateType = candidateSchema.get("type");
-                                        if (fieldTypeObj != null && fieldTypeObj.equals(candidateType)) {
-                                            Map<String, Object> candidateProperties = Util.asStringObjectMap(candidateSchema.get("properties"));
-                                            int fieldPropsCount = (fieldProperties != null) ? ((Map<?, ?>) fieldProperties).size() : 0;
-                                            int candidatePropsCount = (candidateProperties != null) ? candidateProperties.size() : 0;
-                                            if (fieldPropsCount == candidatePropsCount && fieldPropsCount > 0) {
-                                                itemType = JerseyNamingUtils.toJavaClassName(schemaEntry.getKey());
-                                                break;
-                                            }
+                                Map<String, Object> candidateSchema = Util.asStringObjectMapView(schemaEntry.getValue());
+                                if (candidateSchema != null) {
+                                    Object candidateType = candidateSchema.get("type");
+                                    if (fieldTypeObj != null && fieldTypeObj.equals(candidateType)) {
+                                        Map<String, Object> candidateProperties = Util.asStringObjectMapView(candidateSchema.get("properties"));
+                                        int fieldPropsCount = (fieldProperties != null) ? ((Map<?, ?>) fieldProperties).size() : 0;
+                                        int candidatePropsCount = (candidateProperties != null) ? candidateProperties.size() : 0;
+                                        if (fieldPropsCount == candidatePropsCount && fieldPropsCount > 0) {
+                                            itemType = JerseyNamingUtils.toJavaClassName(schemaEntry.getKey());
+                                            break;
                                         }
                                     }
                                 }
@@ -394,22 +385,6 @@ public final class JerseyTypeUtils {
                         itemType = JerseyNamingUtils.toJavaClassName(schemaRef);
                     }
                 }
-                // If $ref was resolved by parser, match the resolved schema to its name
-                if (itemType == null || itemType.isEmpty()) {
-                    Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-                    if (components != null) {
-                        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
-                        if (schemas != null) {
-                            for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
-                                Map<String, Object> candidateSchema = Util.asStringObjectMap(schemaEntry.getValue());
-                                if (candidateSchema == fieldSchema) {
-                                    itemType = JerseyNamingUtils.toJavaClassName(schemaEntry.getKey());
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                }
                 // Fallback to getJavaType
                 if (itemType == null || itemType.isEmpty()) {
                     itemType = getJavaType(fieldSchema);
@@ -569,7 +544,7 @@ public final class JerseyTypeUtils {
             if (!"array".equals(fieldSchema.get("type")) && !fieldSchema.containsKey("items")) {
                 return fieldType;
             }
-            itemsSchema = Util.asStringObjectMap(fieldSchema.get("items"));
+            itemsSchema = Util.asStringObjectMapView(fieldSchema.get("items"));
             if (itemsSchema == null) {
                 return fieldType;
             }
@@ -739,21 +714,13 @@ public final class JerseyTypeUtils {
         if (JerseySchemaUtils.getSchemaNameFromRef(fieldSchema) != null) return false;
         if (fieldSchema.containsKey("$ref")) return false;
         // Not a top-level schema: schema must not be the same object as any component schema
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
-        if (components != null) {
-            Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
-            if (schemas != null) {
-                for (Object schemaObj : schemas.values()) {
-                    if (schemaObj == fieldSchema) return false;
-                }
-            }
-        }
+        if (ctx.componentSchemaNameOf(fieldSchema, spec) != null) return false;
         // Inline allOf overlay (e.g. IdentityPayload oneOf branch user/group with BasicUser ref + readOnly:false on id)
         if (fieldSchema.containsKey("allOf")) {
-            if (JerseySchemaUtils.findComponentSchemaName(fieldSchema, spec) != null) {
+            if (ctx.findComponentSchemaName(fieldSchema, spec) != null) {
                 return false;
             }
-            List<Map<String, Object>> allOf = Util.asStringObjectMapList(fieldSchema.get("allOf"));
+            List<Map<String, Object>> allOf = Util.asStringObjectMapListView(fieldSchema.get("allOf"));
             if (allOf != null && !allOf.isEmpty()
                     && JerseySchemaUtils.allOfHasPropertyOverlayBranches(allOf)) {
                 return true;
@@ -761,7 +728,7 @@ public final class JerseyTypeUtils {
             // Fall through: envelope may still have type + properties alongside ref-only allOf
         }
         if (!"object".equals(fieldSchema.get("type"))) return false;
-        Map<String, Object> props = Util.asStringObjectMap(fieldSchema.get("properties"));
+        Map<String, Object> props = Util.asStringObjectMapView(fieldSchema.get("properties"));
         if (props == null || props.isEmpty()) return false;
         return true;
     }
@@ -63,7 +63,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -84,19 +83,18 @@ class JerseyValidationGenerator {
                     {
                         this.headerName = headerName;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                     }
 
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        if (val.headerParameters() == null || !val.headerParameters().containsKey(headerName))
+                        if (!val.headerParameters().containsKey(headerName))
                         {
                             return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
                         }
-                        List<String> values = new ArrayList<>(val.headerParameters().get(headerName));
-                        String first = (values != null && !values.isEmpty()) ? values.get(0) : "";
+                        String first = val.getFirstHeader(headerName);
                         if (first == null || first.isEmpty())
                         {
                             return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
@@ -116,7 +114,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -143,8 +140,8 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.requiredParameter = requiredParameter;
                         this.isArray = isArray;
@@ -170,14 +167,15 @@ class JerseyValidationGenerator {
     }
 
     /**
-     * Generate PatternValidator class
+     * Generate PatternValidator class. The regex is compiled once when the validator is constructed
+     * (or supplied precompiled by QueryParamValidators), never per request.
      */
     private void generatePatternValidator(String outputDir, String packageName) throws IOException {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
+                import java.util.regex.Pattern;
 
                 import egain.framework.validation.ValidationError;
                 import egain.framework.validation.ValidationErrorHelper;
@@ -190,6 +188,7 @@ class JerseyValidationGenerator {
                 {
                     private final String parameterName;
                     private final String val;
+                    private final Pattern pattern;
                     private final String l10nKey;
                     private final List<String> arguments;
                     private final List<String> localizedArgs;
@@ -198,12 +197,20 @@ class JerseyValidationGenerator {
 
                     public PatternValidator(String parameterName, String val, String l10nKey, List<String> arguments,
                         List<String> localizedArguments, String nameSpace, boolean isArray)
+                    {
+                        this(parameterName, Validations.compilePattern(val), l10nKey, arguments, localizedArguments,
+                            nameSpace, isArray);
+                    }
+
+                    public PatternValidator(String parameterName, Pattern pattern, String l10nKey, List<String> arguments,
+                        List<String> localizedArguments, String nameSpace, boolean isArray)
                     {
                         this.parameterName = parameterName;
-                        this.val = val;
+                        this.val = pattern.pattern();
+                        this.pattern = pattern;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -211,8 +218,8 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
                         if (input != null)
                         {
                             if (isArray)
@@ -220,7 +227,7 @@ class JerseyValidationGenerator {
                                 String[] items = input.split(",");
                                 for (String item : items)
                                 {
-                                    if (!Validations.matchesPattern.apply(item, this.val))
+                                    if (!pattern.matcher(item).matches())
                                     {
                                         return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
                                     }
@@ -228,7 +235,7 @@ class JerseyValidationGenerator {
                             }
                             else
                             {
-                                if (!Validations.matchesPattern.apply(input, this.val))
+                                if (!pattern.matcher(input).matches())
                                 {
                                     return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
                                 }
@@ -249,7 +256,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -257,7 +263,6 @@ class JerseyValidationGenerator {
                 import egain.framework.validation.ValidatorAction;
 
                 import egain.ws.oas.RequestInfo;
-                import egain.ws.oas.Validations;
 
                 public class MaxLengthValidator implements ValidatorAction<RequestInfo>
                 {
@@ -275,8 +280,8 @@ class JerseyValidationGenerator {
                         this.parameterName = parameterName;
                         this.maxLength = maxLength;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -284,8 +289,8 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
                         if (input != null)
                         {
                             try {
@@ -327,7 +332,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -335,7 +339,6 @@ class JerseyValidationGenerator {
                 import egain.framework.validation.ValidatorAction;
 
                 import egain.ws.oas.RequestInfo;
-                import egain.ws.oas.Validations;
 
                 public class MinLengthValidator implements ValidatorAction<RequestInfo>
                 {
@@ -353,8 +356,8 @@ class JerseyValidationGenerator {
                         this.parameterName = parameterName;
                         this.minLength = minLength;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -362,8 +365,8 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
                         if (input != null)
                         {
                             try {
@@ -405,7 +408,7 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
+                import java.math.BigDecimal;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -414,69 +417,93 @@ class JerseyValidationGenerator {
 
                 import egain.ws.oas.RequestInfo;
                 import egain.ws.oas.Validations;
+                import egain.ws.oas.Validations.NumericBound;
 
                 public class NumericMaxValidator implements ValidatorAction<RequestInfo>
                 {
                     private final String parameterName;
-					private final String val;
-					private final String l10nKey;
-					private final List<String> arguments;
-					private final List<String> localizedArgs;
-					private final String nameSpace;
-					private final boolean isExclusive;
-					private final boolean isArray;
-
-					public NumericMaxValidator(String parameterName, String val, String l10nKey, List<String> arguments,
-						List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
-					{
-						this.parameterName = parameterName;
-						this.val = val;
-						this.l10nKey = l10nKey;
-						this.arguments = new ArrayList<>(arguments);
-						this.localizedArgs = new ArrayList<>(localizedArgs);
-						this.nameSpace = nameSpace;
-						this.isExclusive = isExclusive;
-						this.isArray = isArray;
-					}
-
-					@Override
-					public ValidationError call(RequestInfo val)
-					{
-						String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-							: Validations.getPathParameterValue.apply(val, parameterName);
-						if (input == null)
-						{
-							return null;
-						}
-
-						if (isArray)
-						{
-							String[] items = input.split(",");
-							for (String item : items)
-							{
-								if (isExclusive && Validations.isGreaterThanOrEqualTo.apply(item, this.val))
-								{
-									return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-								}
-								else if (!isExclusive && Validations.isGreaterThan.apply(item, this.val))
-								{
-									return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-								}
-							}
-						}
-						else
-						{
-							if (isExclusive && Validations.isGreaterThanOrEqualTo.apply(input, this.val))
-							{
-								return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-							}
-							else if (!isExclusive && Validations.isGreaterThan.apply(input, this.val))
-							{
-								return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-							}
-						}
-						return null;
-					}
+                    private final NumericBound max;
+                    private final String l10nKey;
+                    private final List<String> arguments;
+                    private final List<String> localizedArgs;
+                    private final String nameSpace;
+                    private final boolean isExclusive;
+                    private final boolean isArray;
+
+                    public NumericMaxValidator(String parameterName, NumericBound max, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this.parameterName = parameterName;
+                        this.max = max;
+                        this.l10nKey = l10nKey;
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArgs);
+                        this.nameSpace = nameSpace;
+                        this.isExclusive = isExclusive;
+                        this.isArray = isArray;
+                    }
+
+                    public NumericMaxValidator(String parameterName, long max, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this(parameterName, NumericBound.of(max), l10nKey, arguments, localizedArgs, nameSpace, isExclusive, isArray);
+                    }
+
+                    public NumericMaxValidator(String parameterName, double max, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this(parameterName, NumericBound.of(max), l10nKey, arguments, localizedArgs, nameSpace, isExclusive, isArray);
+                    }
+
+                    public NumericMaxValidator(String parameterName, BigDecimal max, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this(parameterName, NumericBound.of(max), l10nKey, arguments, localizedArgs, nameSpace, isExclusive, isArray);
+                    }
+
+                    public NumericMaxValidator(String parameterName, String val, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this(parameterName, NumericBound.parse(val), l10nKey, arguments, localizedArgs, nameSpace, isExclusive, isArray);
+                    }
+
+                    @Override
+                    public ValidationError call(RequestInfo val)
+                    {
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
+                        if (input == null)
+                        {
+                            return null;
+                        }
+
+                        if (isArray)
+                        {
+                            int start = 0;
+                            while (start <= input.length())
+                            {
+                                int comma = input.indexOf(',', start);
+                                int end = comma < 0 ? input.length() : comma;
+                                if (exceedsMax(input, start, end))
+                                {
+                                    return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                                }
+                                start = end + 1;
+                            }
+                        }
+                        else if (exceedsMax(input, 0, input.length()))
+                        {
+                            return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                        }
+                        return null;
+                    }
+
+                    // Non-numeric input is left to the format validators
+                    private boolean exceedsMax(String input, int begin, int end)
+                    {
+                        int comparison = max.compareTo(input, begin, end);
+                        return comparison != Validations.NOT_A_NUMBER && (isExclusive ? comparison >= 0 : comparison > 0);
+                    }
                 }
                 """, packageName);
 
@@ -490,7 +517,7 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
+                import java.math.BigDecimal;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -499,69 +526,93 @@ class JerseyValidationGenerator {
 
                 import egain.ws.oas.RequestInfo;
                 import egain.ws.oas.Validations;
+                import egain.ws.oas.Validations.NumericBound;
 
                 public class NumericMinValidator implements ValidatorAction<RequestInfo>
                 {
                     private final String parameterName;
-					private final String val;
-					private final String l10nKey;
-					private final List<String> arguments;
-					private final List<String> localizedArgs;
-					private final String nameSpace;
-					private final boolean isExclusive;
-					private final boolean isArray;
-
-					public NumericMinValidator(String parameterName, String val, String l10nKey, List<String> arguments,
-						List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
-					{
-						this.parameterName = parameterName;
-						this.val = val;
-						this.l10nKey = l10nKey;
-						this.arguments = new ArrayList<>(arguments);
-						this.localizedArgs = new ArrayList<>(localizedArgs);
-						this.nameSpace = nameSpace;
-						this.isExclusive = isExclusive;
-						this.isArray = isArray;
-					}
-
-					@Override
-					public ValidationError call(RequestInfo val)
-					{
-						String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-							: Validations.getPathParameterValue.apply(val, parameterName);
-						if (input == null)
-						{
-							return null;
-						}
-
-						if (isArray)
-						{
-							String[] items = input.split(",");
-							for (String item : items)
-							{
-								if (isExclusive && Validations.isLessThanOrEqualTo.apply(item, this.val))
-								{
-									return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-								}
-								else if (!isExclusive && Validations.isLessThan.apply(item, this.val))
-								{
-									return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-								}
-							}
-						}
-						else
-						{
-							if (isExclusive && Validations.isLessThanOrEqualTo.apply(input, this.val))
-							{
-								return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-							}
-							else if (!isExclusive && Validations.isLessThan.apply(input, this.val))
-							{
-								return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-							}
-						}
-						return null;
-					}
+                    private final NumericBound min;
+                    private final String l10nKey;
+                    private final List<String> arguments;
+                    private final List<String> localizedArgs;
+                    private final String nameSpace;
+                    private final boolean isExclusive;
+                    private final boolean isArray;
+
+                    public NumericMinValidator(String parameterName, NumericBound min, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this.parameterName = parameterName;
+                        this.min = min;
+                        this.l10nKey = l10nKey;
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArgs);
+                        this.nameSpace = nameSpace;
+                        this.isExclusive = isExclusive;
+                        this.isArray = isArray;
+                    }
+
+                    public NumericMinValidator(String parameterName, long min, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this(parameterName, NumericBound.of(min), l10nKey, arguments, localizedArgs, nameSpace, isExclusive, isArray);
+                    }
+
+                    public NumericMinValidator(String parameterName, double min, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this(parameterName, NumericBound.of(min), l10nKey, arguments, localizedArgs, nameSpace, isExclusive, isArray);
+                    }
+
+                    public NumericMinValidator(String parameterName, BigDecimal min, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this(parameterName, NumericBound.of(min), l10nKey, arguments, localizedArgs, nameSpace, isExclusive, isArray);
+                    }
+
+                    public NumericMinValidator(String parameterName, String val, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isExclusive, boolean isArray)
+                    {
+                        this(parameterName, NumericBound.parse(val), l10nKey, arguments, localizedArgs, nameSpace, isExclusive, isArray);
+                    }
+
+                    @Override
+                    public ValidationError call(RequestInfo val)
+                    {
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
+                        if (input == null)
+                        {
+                            return null;
+                        }
+
+                        if (isArray)
+                        {
+                            int start = 0;
+                            while (start <= input.length())
+                            {
+                                int comma = input.indexOf(',', start);
+                                int end = comma < 0 ? input.length() : comma;
+                                if (belowMin(input, start, end))
+                                {
+                                    return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                                }
+                                start = end + 1;
+                            }
+                        }
+                        else if (belowMin(input, 0, input.length()))
+                        {
+                            return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
+                        }
+                        return null;
+                    }
+
+                    // Non-numeric input is left to the format validators
+                    private boolean belowMin(String input, int begin, int end)
+                    {
+                        int comparison = min.compareTo(input, begin, end);
+                        return comparison != Validations.NOT_A_NUMBER && (isExclusive ? comparison <= 0 : comparison < 0);
+                    }
                 }
                 """, packageName);
 
@@ -575,7 +626,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -583,12 +633,11 @@ class JerseyValidationGenerator {
                 import egain.framework.validation.ValidatorAction;
 
                 import egain.ws.oas.RequestInfo;
-                import egain.ws.oas.Validations;
 
                 public class NumericMultipleOfValidator implements ValidatorAction<RequestInfo>
                 {
                     private final String parameterName;
-                    private final String multipleOf;
+                    private final double multiple;
                     private final String l10nKey;
                     private final List<String> arguments;
                     private final List<String> localizedArgs;
@@ -599,10 +648,10 @@ class JerseyValidationGenerator {
                         List<String> localizedArguments, String nameSpace, boolean isArray)
                     {
                         this.parameterName = parameterName;
-                        this.multipleOf = multipleOf;
+                        this.multiple = parseMultiple(multipleOf);
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -610,12 +659,11 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
-                        if (input != null)
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
+                        if (input != null && !Double.isNaN(multiple))
                         {
                             try {
-                                double multiple = Double.parseDouble(multipleOf);
                                 if (isArray)
                                 {
                                     String[] items = input.split(",");
@@ -642,6 +690,16 @@ class JerseyValidationGenerator {
                         }
                         return null;
                     }
+
+                    // Parsed once; an invalid multipleOf disables the check, as it did when parsed per request
+                    private static double parseMultiple(String multipleOf)
+                    {
+                        try {
+                            return Double.parseDouble(multipleOf);
+                        } catch (NumberFormatException | NullPointerException e) {
+                            return Double.NaN;
+                        }
+                    }
                 }
                 """, packageName);
 
@@ -657,21 +715,21 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.Arrays;
                 import java.util.List;
+                import java.util.Set;
 
                 import egain.framework.validation.ValidationError;
                 import egain.framework.validation.ValidationErrorHelper;
                 import egain.framework.validation.ValidatorAction;
 
                 import egain.ws.oas.RequestInfo;
-                import egain.ws.oas.Validations;
 
                 public class EnumValidator implements ValidatorAction<RequestInfo>
                 {
                     private final String parameterName;
                     private final String enumValues;
+                    private final Set<String> allowedValues;
                     private final String l10nKey;
                     private final List<String> arguments;
                     private final List<String> localizedArgs;
@@ -683,9 +741,10 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.enumValues = enumValues;
+                        this.allowedValues = Set.copyOf(Arrays.asList(enumValues.split(",")));
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -693,31 +752,43 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
                         if (input != null)
                         {
-                            List<String> allowedValues = Arrays.asList(enumValues.split(","));
-                            if (isArray)
+                            boolean allowed = isArray ? allItemsAllowed(input) : allowedValues.contains(input.trim());
+                            if (!allowed)
                             {
-                                String[] items = input.split(",");
-                                for (String item : items)
-                                {
-                                    if (!allowedValues.contains(item.trim()))
-                                    {
-                                        return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-                                    }
-                                }
+                                return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
                             }
-                            else
+                        }
+                        return null;
+                    }
+
+                    // Walks the comma separated items in place; trailing empty items are ignored, as with splitting on ","
+                    private boolean allItemsAllowed(String input)
+                    {
+                        int end = input.length();
+                        while (end > 0 && input.charAt(end - 1) == ',')
+                        {
+                            end--;
+                        }
+                        if (end == 0)
+                        {
+                            return input.isEmpty() ? allowedValues.contains("") : true;
+                        }
+                        int start = 0;
+                        while (start <= end)
+                        {
+                            int comma = input.indexOf(',', start);
+                            int itemEnd = comma < 0 || comma > end ? end : comma;
+                            if (!allowedValues.contains(input.substring(start, itemEnd).trim()))
                             {
-                                if (!allowedValues.contains(input.trim()))
-                                {
-                                    return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
-                                }
+                                return false;
                             }
+                            start = itemEnd + 1;
                         }
-                        return null;
+                        return true;
                     }
                 }
                 """, packageName);
@@ -732,7 +803,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
                 import java.util.Locale;
 
@@ -741,7 +811,6 @@ class JerseyValidationGenerator {
                 import egain.framework.validation.ValidatorAction;
 
                 import egain.ws.oas.RequestInfo;
-                import egain.ws.oas.Validations;
 
                 public class BooleanValidator implements ValidatorAction<RequestInfo>
                 {
@@ -757,8 +826,8 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -766,8 +835,8 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
                         if (input != null)
                         {
                             if (isArray)
@@ -806,7 +875,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
                 import java.util.regex.Pattern;
 
@@ -815,7 +883,6 @@ class JerseyValidationGenerator {
                 import egain.framework.validation.ValidatorAction;
 
                 import egain.ws.oas.RequestInfo;
-                import egain.ws.oas.Validations;
 
                 public class FormatValidator implements ValidatorAction<RequestInfo>
                 {
@@ -840,8 +907,8 @@ class JerseyValidationGenerator {
                         this.parameterName = parameterName;
                         this.format = format;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -849,8 +916,8 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
                         if (input != null)
                         {
                             Pattern pattern = getPatternForFormat(format);
@@ -972,7 +1039,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -990,9 +1056,9 @@ class JerseyValidationGenerator {
                     public AllowedParameterValidator(List<String> allowedParameters, String l10nKey,
                         List<String> localizedArguments)
                     {
-                        this.allowedParameters = allowedParameters;
+                        this.allowedParameters = List.copyOf(allowedParameters);
                         this.l10nKey = l10nKey;
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                     }
 
                     @Override
@@ -1021,7 +1087,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -1034,39 +1099,39 @@ class JerseyValidationGenerator {
                 public class ArrayMaxItemsValidators implements ValidatorAction<RequestInfo>
                 {
                     private final String parameterName;
-					private final String val;
-					private final String l10nKey;
-					private final List<String> arguments;
-					private final List<String> localizedArgs;
-					private final String nameSpace;
-					private final boolean isArray;
-
-					public ArrayMaxItemsValidators(String parameterName, String val, String l10nKey, List<String> arguments,
-						List<String> localizedArgs, String nameSpace, boolean isArray)
-					{
-						this.parameterName = parameterName;
-						this.val = val;
-						this.l10nKey = l10nKey;
-						this.arguments = new ArrayList<>(arguments);
-						this.localizedArgs = new ArrayList<>(localizedArgs);
-						this.nameSpace = nameSpace;
-						this.isArray = isArray;
-					}
-
-					@Override
-					public ValidationError call(RequestInfo val)
-					{
-						String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-										: Validations.getPathParameterValue.apply(val, parameterName);
-						if (input != null && !Validations.hasMaxItems.apply(input.split(","),
-										this.val))
-						{
-							return ValidationErrorHelper.createValidationError("", l10nKey,
-											arguments,
-											localizedArgs);
-						}
-						return null;
-					}
+                    private final String val;
+                    private final String l10nKey;
+                    private final List<String> arguments;
+                    private final List<String> localizedArgs;
+                    private final String nameSpace;
+                    private final boolean isArray;
+
+                    public ArrayMaxItemsValidators(String parameterName, String val, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isArray)
+                    {
+                        this.parameterName = parameterName;
+                        this.val = val;
+                        this.l10nKey = l10nKey;
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArgs);
+                        this.nameSpace = nameSpace;
+                        this.isArray = isArray;
+                    }
+
+                    @Override
+                    public ValidationError call(RequestInfo val)
+                    {
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                                        : val.getFirstPathParameter(parameterName);
+                        if (input != null && !Validations.hasMaxItems.apply(input.split(","),
+                                        this.val))
+                        {
+                            return ValidationErrorHelper.createValidationError("", l10nKey,
+                                            arguments,
+                                            localizedArgs);
+                        }
+                        return null;
+                    }
                 }
                 """, packageName);
 
@@ -1080,7 +1145,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -1093,39 +1157,39 @@ class JerseyValidationGenerator {
                 public class ArrayMinItemsValidator implements ValidatorAction<RequestInfo>
                 {
                     private final String parameterName;
-					private final String val;
-					private final String l10nKey;
-					private final List<String> arguments;
-					private final List<String> localizedArgs;
-					private final String nameSpace;
-					private final boolean isArray;
-
-					public ArrayMinItemsValidator(String parameterName, String val, String l10nKey, List<String> arguments,
-						List<String> localizedArgs, String nameSpace, boolean isArray)
-					{
-						this.parameterName = parameterName;
-						this.val = val;
-						this.l10nKey = l10nKey;
-						this.arguments = new ArrayList<>(arguments);
-						this.localizedArgs = new ArrayList<>(localizedArgs);
-						this.nameSpace = nameSpace;
-						this.isArray = isArray;
-					}
-
-					@Override
-					public ValidationError call(RequestInfo val)
-					{
-						String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-										: Validations.getPathParameterValue.apply(val, parameterName);
-						if (input != null && !Validations.hasMinItems.apply(input.split(","),
-										this.val))
-						{
-							return ValidationErrorHelper.createValidationError("", l10nKey,
-											arguments,
-											localizedArgs);
-						}
-						return null;
-					}
+                    private final String val;
+                    private final String l10nKey;
+                    private final List<String> arguments;
+                    private final List<String> localizedArgs;
+                    private final String nameSpace;
+                    private final boolean isArray;
+
+                    public ArrayMinItemsValidator(String parameterName, String val, String l10nKey, List<String> arguments,
+                        List<String> localizedArgs, String nameSpace, boolean isArray)
+                    {
+                        this.parameterName = parameterName;
+                        this.val = val;
+                        this.l10nKey = l10nKey;
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArgs);
+                        this.nameSpace = nameSpace;
+                        this.isArray = isArray;
+                    }
+
+                    @Override
+                    public ValidationError call(RequestInfo val)
+                    {
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                                        : val.getFirstPathParameter(parameterName);
+                        if (input != null && !Validations.hasMinItems.apply(input.split(","),
+                                        this.val))
+                        {
+                            return ValidationErrorHelper.createValidationError("", l10nKey,
+                                            arguments,
+                                            localizedArgs);
+                        }
+                        return null;
+                    }
                 }
                 """, packageName);
 
@@ -1139,7 +1203,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.HashSet;
                 import java.util.List;
                 import java.util.Set;
@@ -1149,7 +1212,6 @@ class JerseyValidationGenerator {
                 import egain.framework.validation.ValidatorAction;
 
                 import egain.ws.oas.RequestInfo;
-                import egain.ws.oas.Validations;
 
                 public class ArrayUniqueItemsValidators implements ValidatorAction<RequestInfo>
                 {
@@ -1165,8 +1227,8 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -1174,8 +1236,8 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
                         if (input != null)
                         {
                             String[] items = input.split(",");
@@ -1205,7 +1267,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -1228,8 +1289,8 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -1253,7 +1314,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -1261,7 +1321,6 @@ class JerseyValidationGenerator {
                 import egain.framework.validation.ValidatorAction;
 
                 import egain.ws.oas.RequestInfo;
-                import egain.ws.oas.Validations;
 
                 public class IsAllowEmptyValueValidator implements ValidatorAction<RequestInfo>
                 {
@@ -1277,8 +1336,8 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -1286,8 +1345,8 @@ class JerseyValidationGenerator {
                     @Override
                     public ValidationError call(RequestInfo val)
                     {
-                        String input = this.nameSpace.equalsIgnoreCase("query") ? Validations.getQueryParameterValue.apply(val, parameterName)
-                            : Validations.getPathParameterValue.apply(val, parameterName);
+                        String input = this.nameSpace.equalsIgnoreCase("query") ? val.getFirstQueryParameter(parameterName)
+                            : val.getFirstPathParameter(parameterName);
                         if (input != null && input.trim().isEmpty())
                         {
                             return ValidationErrorHelper.createValidationError("", l10nKey, arguments, localizedArgs);
@@ -1307,7 +1366,6 @@ class JerseyValidationGenerator {
         String content = String.format("""
                 package %s;
 
-                import java.util.ArrayList;
                 import java.util.List;
 
                 import egain.framework.validation.ValidationError;
@@ -1330,8 +1388,8 @@ class JerseyValidationGenerator {
                     {
                         this.parameterName = parameterName;
                         this.l10nKey = l10nKey;
-                        this.arguments = new ArrayList<>(arguments);
-                        this.localizedArgs = new ArrayList<>(localizedArguments);
+                        this.arguments = List.copyOf(arguments);
+                        this.localizedArgs = List.copyOf(localizedArguments);
                         this.nameSpace = nameSpace;
                         this.isArray = isArray;
                     }
@@ -1349,7 +1407,7 @@ class JerseyValidationGenerator {
     }
 
     /**
-     * Generate the runtime support classes (RequestInfo, Validations) and parameter validators into
+     * Generate the runtime support classes (RequestInfo, Validations, RouteIndex) and parameter validators into
      * the fixed {@code egain.ws.oas} package tree.
      *
      * <p>These are emitted regardless of the {@code modelsOnly} flag — the orchestrator calls this
@@ -1372,6 +1430,10 @@ class JerseyValidationGenerator {
                 .readRuntimeResource("runtime/jersey/egain/ws/oas/Validations.java");
         writeFile(supportDir + "/Validations.java", validations);
 
+        String routeIndex = JerseyGenerationContext
+                .readRuntimeResource("runtime/jersey/egain/ws/oas/RouteIndex.java");
+        writeFile(supportDir + "/RouteIndex.java", routeIndex);
+
         generateValidationClasses(sourceRoot);
     }
 
@@ -90,17 +90,17 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
      * Collect inline schemas from responses
      */
     private void collectInlinedSchemas(Map<String, Object> spec) {
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) return;
 
         for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
             if (pathItem == null) continue;
 
             String[] methods = {"get", "post", "put", "delete", "patch"};
             for (String method : methods) {
                 if (pathItem.containsKey(method)) {
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     collectInlinedSchemasFromOperation(operation);
                 }
             }
@@ -113,21 +113,21 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
     private void collectInlinedSchemasFromOperation(Map<String, Object> operation) {
         if (operation == null) return;
 
-        Map<String, Object> responses = Util.asStringObjectMap(operation.get("responses"));
+        Map<String, Object> responses = Util.asStringObjectMapView(operation.get("responses"));
         if (responses == null) return;
 
         for (Map.Entry<String, Object> responseEntry : responses.entrySet()) {
-            Map<String, Object> response = Util.asStringObjectMap(responseEntry.getValue());
+            Map<String, Object> response = Util.asStringObjectMapView(responseEntry.getValue());
             if (response == null) continue;
 
-            Map<String, Object> content = Util.asStringObjectMap(response.get("content"));
+            Map<String, Object> content = Util.asStringObjectMapView(response.get("content"));
             if (content == null) continue;
 
             for (Map.Entry<String, Object> contentEntry : content.entrySet()) {
-                Map<String, Object> mediaType = Util.asStringObjectMap(contentEntry.getValue());
+                Map<String, Object> mediaType = Util.asStringObjectMapView(contentEntry.getValue());
                 if (mediaType == null) continue;
 
-                Map<String, Object> schema = Util.asStringObjectMap(mediaType.get("schema"));
+                Map<String, Object> schema = Util.asStringObjectMapView(mediaType.get("schema"));
                 if (isInlineSchema(schema)) {
                     String schemaName = generateInlineSchemaName(operation, responseEntry.getKey());
                     inlinedSchemas.put(schema, schemaName);
@@ -158,7 +158,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
      * Generate Express routes
      */
     private void generateRoutes(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) return;
 
         // Extract server base path
@@ -169,7 +169,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
 
         for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
             String path = pathEntry.getKey();
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
 
             if (pathItem == null) continue;
 
@@ -179,7 +179,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
             String[] methods = {"get", "post", "put", "delete", "patch"};
             for (String method : methods) {
                 if (pathItem.containsKey(method)) {
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     groupedPaths.get(parentPath).add(new PathOperation(path, method, operation));
                 }
             }
@@ -195,7 +195,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
      * Extract server base path from OpenAPI spec
      */
     private String extractServerBasePath(Map<String, Object> spec) {
-        List<Map<String, Object>> servers = Util.asStringObjectMapList(spec.get("servers"));
+        List<Map<String, Object>> servers = Util.asStringObjectMapListView(spec.get("servers"));
         if (servers != null && !servers.isEmpty()) {
             Map<String, Object> firstServer = servers.getFirst();
             String url = (String) firstServer.get("url");
@@ -297,7 +297,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
         String expressPath = relativePath.isEmpty() ? "/" : convertToExpressPath(relativePath);
 
         // Extract parameters
-        List<Map<String, Object>> params = Util.asStringObjectMapList(operation.get("parameters"));
+        List<Map<String, Object>> params = Util.asStringObjectMapListView(operation.get("parameters"));
         List<String> queryParams = new ArrayList<>();
 
         if (params != null) {
@@ -379,7 +379,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
         }
 
         SecurityInfo info = new SecurityInfo(true);
-        List<Map<String, Object>> securityList = Util.asStringObjectMapList(operation.get("security"));
+        List<Map<String, Object>> securityList = Util.asStringObjectMapListView(operation.get("security"));
 
         if (securityList != null) {
             for (Map<String, Object> securityMap : securityList) {
@@ -426,17 +426,17 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
         content.append("const validators = {\n");
 
         // Generate validators for each operation
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths != null) {
             boolean first = true;
             for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
-                Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+                Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
                 if (pathItem == null) continue;
 
                 String[] methods = {"get", "post", "put", "delete", "patch"};
                 for (String method : methods) {
                     if (pathItem.containsKey(method)) {
-                        Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                        Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                         String operationId = (String) operation.get("operationId");
                         String functionName = operationId != null ? toCamelCase(operationId) : method + "Handler";
 
@@ -460,7 +460,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
      * Generate validator function for an operation
      */
     private void generateValidatorFunction(Map<String, Object> operation, StringBuilder content) {
-        List<Map<String, Object>> params = Util.asStringObjectMapList(operation.get("parameters"));
+        List<Map<String, Object>> params = Util.asStringObjectMapListView(operation.get("parameters"));
 
         content.append("[\n");
 
@@ -469,7 +469,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
             for (Map<String, Object> param : params) {
                 String name = (String) param.get("name");
                 String in = (String) param.get("in");
-                Map<String, Object> schema = Util.asStringObjectMap(param.get("schema"));
+                Map<String, Object> schema = Util.asStringObjectMapView(param.get("schema"));
                 boolean required = param.containsKey("required") ? (Boolean) param.get("required") : false;
 
                 if (name == null || in == null || schema == null) continue;
@@ -526,10 +526,10 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
      * Generate models
      */
     private void generateModels(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
         if (components == null) return;
 
-        Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+        Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
         if (schemas == null) return;
 
         String basePath = outputDir + "/" + (packageName != null ? packageName.replace(".", "/") : "api");
@@ -537,14 +537,14 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
         // Generate model file for each schema
         for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
             String schemaName = schemaEntry.getKey();
-            Map<String, Object> schema = Util.asStringObjectMap(schemaEntry.getValue());
+            Map<String, Object> schema = Util.asStringObjectMapView(schemaEntry.getValue());
 
             generateModelFile(schemaName, schema, basePath);
         }
 
         // Generate inline schemas
         for (Map.Entry<Object, String> entry : inlinedSchemas.entrySet()) {
-            Map<String, Object> schema = Util.asStringObjectMap(entry.getKey());
+            Map<String, Object> schema = Util.asStringObjectMapView(entry.getKey());
             String schemaName = entry.getValue();
             generateModelFile(schemaName, schema, basePath);
         }
@@ -561,7 +561,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
         content.append("class ").append(schemaName).append(" {\n");
         content.append("  constructor(data = {}) {\n");
 
-        Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+        Map<String, Object> properties = Util.asStringObjectMapView(schema.get("properties"));
         if (properties != null) {
             for (String propName : properties.keySet()) {
                 content.append("    this.").append(propName).append(" = data.").append(propName).append(";\n");
@@ -602,7 +602,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
         // Determine service name for observability
         String obsServiceName = "express-api";
         if (spec != null) {
-            Map<String, Object> obsInfo = Util.asStringObjectMap(spec.get("info"));
+            Map<String, Object> obsInfo = Util.asStringObjectMapView(spec.get("info"));
             if (obsInfo != null && obsInfo.get("title") != null) {
                 obsServiceName = toKebabCase((String) obsInfo.get("title"));
             }
@@ -683,7 +683,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
         String serverBasePath = extractServerBasePath(spec);
 
         // Determine service name from spec
-        Map<String, Object> appInfo = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> appInfo = Util.asStringObjectMapView(spec.get("info"));
         String serviceName = appInfo != null && appInfo.get("title") != null
                 ? toKebabCase((String) appInfo.get("title"))
                 : "express-api";
@@ -711,7 +711,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
         content.append("// Routes\n");
 
         // Import and register routes
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths != null) {
             Set<String> parentPaths = new LinkedHashSet<>();
             for (String path : paths.keySet()) {
@@ -758,7 +758,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
     private void generatePackageJson(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
         String basePath = outputDir + "/" + (packageName != null ? packageName.replace(".", "/") : "api");
 
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         String title = info != null ? (String) info.get("title") : "API";
         String version = info != null ? (String) info.get("version") : "1.0.0";
         String description = info != null ? (String) info.get("description") : "Generated Express.js API";
@@ -807,7 +807,7 @@ public class ExpressGenerator implements CodeGenerator, ConfigurableGenerator {
     private void generateReadme(Map<String, Object> spec, String outputDir, String packageName) throws IOException {
         String basePath = outputDir + "/" + (packageName != null ? packageName.replace(".", "/") : "api");
 
-        Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+        Map<String, Object> info = Util.asStringObjectMapView(spec.get("info"));
         String title = info != null ? (String) info.get("title") : "API";
         String description = info != null ? (String) info.get("description") : "Generated Express.js API";
 
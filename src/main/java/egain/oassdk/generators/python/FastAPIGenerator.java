@@ -118,7 +118,7 @@ public class FastAPIGenerator implements CodeGenerator, ConfigurableGenerator {
         content.append("from ").append(pkg).append(".exceptions.handlers import setup_exception_handlers\n");
 
         String serverBasePath = OpenApiPathUtils.extractServerBasePath(spec);
-        Map<String, Object> pathsForImport = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> pathsForImport = Util.asStringObjectMapView(spec.get("paths"));
         Set<String> importedRouters = new LinkedHashSet<>();
         if (pathsForImport != null) {
             for (String path : pathsForImport.keySet()) {
@@ -176,7 +176,7 @@ public class FastAPIGenerator implements CodeGenerator, ConfigurableGenerator {
         content.append("setup_exception_handlers(app)\n\n");
 
         content.append("# Include routers\n");
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths != null) {
             Set<String> includedRouters = new LinkedHashSet<>();
             for (String path : paths.keySet()) {
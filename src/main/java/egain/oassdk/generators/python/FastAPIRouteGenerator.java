@@ -32,16 +32,16 @@ public final class FastAPIRouteGenerator {
         if (spec == null) {
             return result;
         }
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
         if (components == null) {
             return result;
         }
-        Map<String, Object> schemes = Util.asStringObjectMap(components.get("securitySchemes"));
+        Map<String, Object> schemes = Util.asStringObjectMapView(components.get("securitySchemes"));
         if (schemes == null) {
             return result;
         }
         for (Map.Entry<String, Object> e : schemes.entrySet()) {
-            Map<String, Object> scheme = Util.asStringObjectMap(e.getValue());
+            Map<String, Object> scheme = Util.asStringObjectMapView(e.getValue());
             if (scheme != null) {
                 result.put(e.getKey(), scheme);
             }
@@ -51,7 +51,7 @@ public final class FastAPIRouteGenerator {
 
     public void generateRouters(String outputDir, String packageName) throws IOException {
         Map<String, Object> spec = ctx.getSpec();
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return;
         }
@@ -125,14 +125,14 @@ public final class FastAPIRouteGenerator {
         String functionName = operationId != null ? PythonNamingUtils.toSnakeCase(operationId) : method;
         String pathParam = relativePath.isEmpty() ? "\"\"" : "\"" + relativePath + "\"";
 
-        List<Map<String, Object>> params = Util.asStringObjectMapList(operation.get("parameters"));
+        List<Map<String, Object>> params = Util.asStringObjectMapListView(operation.get("parameters"));
         List<String> parameterList = new ArrayList<>();
 
         if (params != null) {
             for (Map<String, Object> param : params) {
                 String name = (String) param.get("name");
                 String in = (String) param.get("in");
-                Map<String, Object> schema = Util.asStringObjectMap(param.get("schema"));
+                Map<String, Object> schema = Util.asStringObjectMapView(param.get("schema"));
                 boolean required = param.containsKey("required") ? (Boolean) param.get("required") : false;
 
                 if (name != null && in != null && schema != null) {
@@ -194,18 +194,18 @@ public final class FastAPIRouteGenerator {
     }
 
     public boolean anyOperationHasSecurity(Map<String, Object> spec) {
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return false;
         }
         for (Object pathItemObj : paths.values()) {
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathItemObj);
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathItemObj);
             if (pathItem == null) {
                 continue;
             }
             for (String method : Constants.HTTP_METHODS) {
                 if (pathItem.containsKey(method)
-                        && authSelector().authWiringFor(Util.asStringObjectMap(pathItem.get(method))) != null) {
+                        && authSelector().authWiringFor(Util.asStringObjectMapView(pathItem.get(method))) != null) {
                     return true;
                 }
             }
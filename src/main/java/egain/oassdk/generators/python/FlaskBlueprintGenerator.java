@@ -23,7 +23,7 @@ public final class FlaskBlueprintGenerator {
 
     public void generateBlueprints(String outputDir, String packageName) throws IOException {
         Map<String, Object> spec = ctx.getSpec();
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return;
         }
@@ -97,7 +97,7 @@ public final class FlaskBlueprintGenerator {
         String functionName = operationId != null ? PythonNamingUtils.toSnakeCase(operationId) : method + "_handler";
         String flaskPath = convertToFlaskPath(relativePath);
 
-        List<Map<String, Object>> params = Util.asStringObjectMapList(operation.get("parameters"));
+        List<Map<String, Object>> params = Util.asStringObjectMapListView(operation.get("parameters"));
         List<String> pathParams = new ArrayList<>();
         List<String> queryParams = new ArrayList<>();
         List<String> headerParams = new ArrayList<>();
@@ -152,7 +152,7 @@ public final class FlaskBlueprintGenerator {
             for (String queryParam : queryParams) {
                 Map<String, Object> paramDef = findParameterDefinition(params, queryParam, "query");
                 if (paramDef != null) {
-                    Map<String, Object> schema = Util.asStringObjectMap(paramDef.get("schema"));
+                    Map<String, Object> schema = Util.asStringObjectMapView(paramDef.get("schema"));
                     boolean required = paramDef.containsKey("required") ? (Boolean) paramDef.get("required") : false;
                     String varName = PythonNamingUtils.toSnakeCase(queryParam);
                     content.append("    ").append(varName).append(" = request.args.get('").append(queryParam).append("')\n");
@@ -282,7 +282,7 @@ public final class FlaskBlueprintGenerator {
         }
 
         SecurityInfo info = new SecurityInfo(true);
-        List<Map<String, Object>> securityList = Util.asStringObjectMapList(operation.get("security"));
+        List<Map<String, Object>> securityList = Util.asStringObjectMapListView(operation.get("security"));
 
         if (securityList != null) {
             for (Map<String, Object> securityMap : securityList) {
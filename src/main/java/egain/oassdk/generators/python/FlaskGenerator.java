@@ -119,7 +119,7 @@ public class FlaskGenerator implements CodeGenerator, ConfigurableGenerator {
         content.append("from ").append(pkg).append(".config.settings import settings\n");
         content.append("from ").append(pkg).append(".exceptions.handlers import register_error_handlers\n");
 
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths != null) {
             Set<String> parentPaths = new HashSet<>();
             for (String path : paths.keySet()) {
@@ -25,7 +25,7 @@ public final class PythonModelGenerator {
      */
     public void generate(PythonGenerationContext ctx, String outputDir, String packageName) throws IOException {
         Map<String, Object> spec = ctx.getSpec();
-        Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+        Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
         if (components == null) {
             return;
         }
@@ -50,7 +50,7 @@ public final class PythonModelGenerator {
         Set<String> selectedKeys = new LinkedHashSet<>();
         for (Map.Entry<String, Object> schemaEntry : schemas.entrySet()) {
             String schemaName = schemaEntry.getKey();
-            Map<String, Object> schema = Util.asStringObjectMap(schemaEntry.getValue());
+            Map<String, Object> schema = Util.asStringObjectMapView(schemaEntry.getValue());
             if (PythonSchemaCollector.isErrorSchema(schemaName, schema)) {
                 continue;
             }
@@ -62,7 +62,7 @@ public final class PythonModelGenerator {
 
         Deque<String> work = new ArrayDeque<>(selectedKeys);
         while (!work.isEmpty()) {
-            Map<String, Object> schema = Util.asStringObjectMap(schemas.get(work.poll()));
+            Map<String, Object> schema = Util.asStringObjectMapView(schemas.get(work.poll()));
             if (schema == null) {
                 continue;
             }
@@ -83,7 +83,7 @@ public final class PythonModelGenerator {
 
         List<String> generatedModels = new ArrayList<>();
         for (String key : selectedKeys) {
-            Map<String, Object> schema = Util.asStringObjectMap(schemas.get(key));
+            Map<String, Object> schema = Util.asStringObjectMapView(schemas.get(key));
             String pythonClassName = PythonNamingUtils.toPythonClassName(key);
             generateModel(pythonClassName, schema, outputDir, packagePath, spec, knownClasses);
             generatedModels.add(pythonClassName);
@@ -127,7 +127,7 @@ public final class PythonModelGenerator {
             return;
         }
         if (node instanceof Map<?, ?> m) {
-            Map<String, Object> schema = Util.asStringObjectMap(node);
+            Map<String, Object> schema = Util.asStringObjectMapView(node);
             String refName = OpenApiSchemaReferenceWalker.resolvedRefSchemaName(schema);
             if (refName != null && schema.containsKey("properties")
                     && !existing.containsKey(refName) && !toAdd.containsKey(refName)) {
@@ -154,12 +154,12 @@ public final class PythonModelGenerator {
         List<String> allRequired = new ArrayList<>();
 
         if (schema.containsKey("allOf")) {
-            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapList(schema.get("allOf"));
+            List<Map<String, Object>> allOfSchemas = Util.asStringObjectMapListView(schema.get("allOf"));
             for (Map<String, Object> subSchema : allOfSchemas) {
                 PythonSchemaMergeUtils.mergeSchemaProperties(subSchema, allProperties, allRequired, spec);
             }
         } else if (schema.containsKey("oneOf") || schema.containsKey("anyOf")) {
-            List<Map<String, Object>> compositionSchemas = Util.asStringObjectMapList(
+            List<Map<String, Object>> compositionSchemas = Util.asStringObjectMapListView(
                     schema.containsKey("oneOf") ? schema.get("oneOf") : schema.get("anyOf"));
             for (Map<String, Object> subSchema : compositionSchemas) {
                 PythonSchemaMergeUtils.mergeSchemaProperties(subSchema, allProperties, allRequired, spec);
@@ -172,7 +172,7 @@ public final class PythonModelGenerator {
         Set<String> referencedClasses = new LinkedHashSet<>();
         for (Map.Entry<String, Object> property : allProperties.entrySet()) {
             String fieldName = property.getKey();
-            Map<String, Object> fieldSchema = Util.asStringObjectMap(property.getValue());
+            Map<String, Object> fieldSchema = Util.asStringObjectMapView(property.getValue());
 
             String pythonFieldName = PythonNamingUtils.toSnakeCase(fieldName);
             String fieldType = PythonTypeUtils.getPythonType(fieldSchema);
@@ -242,11 +242,11 @@ public final class PythonModelGenerator {
         Map<String, Object> allProperties = new LinkedHashMap<>();
         List<String> allRequired = new ArrayList<>();
         if (schema.containsKey("allOf")) {
-            for (Map<String, Object> sub : Util.asStringObjectMapList(schema.get("allOf"))) {
+            for (Map<String, Object> sub : Util.asStringObjectMapListView(schema.get("allOf"))) {
                 PythonSchemaMergeUtils.mergeSchemaProperties(sub, allProperties, allRequired, spec);
             }
         } else if (schema.containsKey("oneOf") || schema.containsKey("anyOf")) {
-            List<Map<String, Object>> subs = Util.asStringObjectMapList(
+            List<Map<String, Object>> subs = Util.asStringObjectMapListView(
                     schema.containsKey("oneOf") ? schema.get("oneOf") : schema.get("anyOf"));
             for (Map<String, Object> sub : subs) {
                 PythonSchemaMergeUtils.mergeSchemaProperties(sub, allProperties, allRequired, spec);
@@ -255,7 +255,7 @@ public final class PythonModelGenerator {
             PythonSchemaMergeUtils.mergeSchemaProperties(schema, allProperties, allRequired, spec);
         }
         for (Object prop : allProperties.values()) {
-            PythonTypeUtils.collectReferencedClasses(Util.asStringObjectMap(prop), out);
+            PythonTypeUtils.collectReferencedClasses(Util.asStringObjectMapView(prop), out);
         }
     }
 }
@@ -21,21 +21,21 @@ public final class PythonSchemaCollector {
 
     public void collectInlinedSchemas() {
         Map<String, Object> spec = ctx.getSpec();
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return;
         }
 
         for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
             String path = pathEntry.getKey();
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathEntry.getValue());
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathEntry.getValue());
             if (pathItem == null) {
                 continue;
             }
 
             for (String method : Constants.HTTP_METHODS) {
                 if (pathItem.containsKey(method)) {
-                    Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                    Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                     collectInlinedSchemasFromOperation(operation, path, method);
                 }
             }
@@ -47,23 +47,23 @@ public final class PythonSchemaCollector {
             return;
         }
 
-        Map<String, Object> responses = Util.asStringObjectMap(operation.get("responses"));
+        Map<String, Object> responses = Util.asStringObjectMapView(operation.get("responses"));
         if (responses == null) {
             return;
         }
 
         for (Object responseObj : responses.values()) {
-            Map<String, Object> response = Util.asStringObjectMap(responseObj);
+            Map<String, Object> response = Util.asStringObjectMapView(responseObj);
             if (response == null || !response.containsKey("content")) {
                 continue;
             }
-            Map<String, Object> content = Util.asStringObjectMap(response.get("content"));
+            Map<String, Object> content = Util.asStringObjectMapView(response.get("content"));
             if (content == null) {
                 continue;
             }
 
             for (Object mediaTypeObj : content.values()) {
-                Map<String, Object> mediaTypeMap = Util.asStringObjectMap(mediaTypeObj);
+                Map<String, Object> mediaTypeMap = Util.asStringObjectMapView(mediaTypeObj);
                 if (mediaTypeMap == null || !mediaTypeMap.containsKey("schema")) {
                     continue;
                 }
@@ -71,7 +71,7 @@ public final class PythonSchemaCollector {
                 if (!(schemaObj instanceof Map)) {
                     continue;
                 }
-                Map<String, Object> schema = Util.asStringObjectMap(schemaObj);
+                Map<String, Object> schema = Util.asStringObjectMapView(schemaObj);
                 if (isInlineSchema(schema)) {
                     String modelName = generateInlineSchemaName(path, method);
                     if (!ctx.getInlinedSchemas().containsKey(schemaObj)) {
@@ -94,7 +94,7 @@ public final class PythonSchemaCollector {
             return true;
         }
         if ("array".equals(schema.get("type")) && schema.containsKey("items")) {
-            Map<String, Object> itemsMap = Util.asStringObjectMap(schema.get("items"));
+            Map<String, Object> itemsMap = Util.asStringObjectMapView(schema.get("items"));
             return itemsMap != null
                     && !itemsMap.containsKey("$ref")
                     && "object".equals(itemsMap.get("type"))
@@ -105,11 +105,11 @@ public final class PythonSchemaCollector {
 
     private String generateInlineSchemaName(String path, String method) {
         Map<String, Object> spec = ctx.getSpec();
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths != null) {
-            Map<String, Object> pathItem = Util.asStringObjectMap(paths.get(path));
+            Map<String, Object> pathItem = Util.asStringObjectMapView(paths.get(path));
             if (pathItem != null) {
-                Map<String, Object> operation = Util.asStringObjectMap(pathItem.get(method));
+                Map<String, Object> operation = Util.asStringObjectMapView(pathItem.get(method));
                 if (operation != null && operation.containsKey("operationId")) {
                     return PythonNamingUtils.toPascalCase((String) operation.get("operationId")) + "Response";
                 }
@@ -25,11 +25,11 @@ public final class PythonSchemaMergeUtils {
             String ref = (String) schema.get("$ref");
             if (ref.startsWith("#/components/schemas/")) {
                 String schemaName = ref.substring(ref.lastIndexOf('/') + 1);
-                Map<String, Object> components = Util.asStringObjectMap(spec.get("components"));
+                Map<String, Object> components = Util.asStringObjectMapView(spec.get("components"));
                 if (components != null) {
-                    Map<String, Object> schemas = Util.asStringObjectMap(components.get("schemas"));
+                    Map<String, Object> schemas = Util.asStringObjectMapView(components.get("schemas"));
                     if (schemas != null && schemas.containsKey(schemaName)) {
-                        mergeSchemaProperties(Util.asStringObjectMap(schemas.get(schemaName)), allProperties, allRequired, spec);
+                        mergeSchemaProperties(Util.asStringObjectMapView(schemas.get(schemaName)), allProperties, allRequired, spec);
                     }
                 }
             }
@@ -37,14 +37,14 @@ public final class PythonSchemaMergeUtils {
         }
 
         if (schema.containsKey("allOf")) {
-            for (Map<String, Object> subSchema : Util.asStringObjectMapList(schema.get("allOf"))) {
+            for (Map<String, Object> subSchema : Util.asStringObjectMapListView(schema.get("allOf"))) {
                 mergeSchemaProperties(subSchema, allProperties, allRequired, spec);
             }
             return;
         }
 
         if (schema.containsKey("oneOf") || schema.containsKey("anyOf")) {
-            List<Map<String, Object>> schemas = Util.asStringObjectMapList(
+            List<Map<String, Object>> schemas = Util.asStringObjectMapListView(
                     schema.containsKey("oneOf") ? schema.get("oneOf") : schema.get("anyOf"));
             for (Map<String, Object> subSchema : schemas) {
                 mergeSchemaProperties(subSchema, allProperties, allRequired, spec);
@@ -52,12 +52,12 @@ public final class PythonSchemaMergeUtils {
             return;
         }
 
-        Map<String, Object> properties = Util.asStringObjectMap(schema.get("properties"));
+        Map<String, Object> properties = Util.asStringObjectMapView(schema.get("properties"));
         if (properties != null) {
             allProperties.putAll(properties);
         }
 
-        List<String> required = Util.asStringList(schema.get("required"));
+        List<String> required = Util.asStringListView(schema.get("required"));
         if (required != null) {
             for (String field : required) {
                 if (!allRequired.contains(field)) {
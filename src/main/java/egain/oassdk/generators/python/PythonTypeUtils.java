@@ -41,7 +41,7 @@ public final class PythonTypeUtils {
             case "boolean" -> "bool";
             case "array" -> {
                 if (schema.containsKey("items")) {
-                    Map<String, Object> items = Util.asStringObjectMap(schema.get("items"));
+                    Map<String, Object> items = Util.asStringObjectMapView(schema.get("items"));
                     if (items != null) {
                         yield "List[" + getPythonType(items) + "]";
                     }
@@ -67,12 +67,12 @@ public final class PythonTypeUtils {
         if (refName != null) {
             out.add(PythonNamingUtils.toPythonClassName(refName));
         }
-        Map<String, Object> items = Util.asStringObjectMap(fieldSchema.get("items"));
+        Map<String, Object> items = Util.asStringObjectMapView(fieldSchema.get("items"));
         if (items != null) {
             collectReferencedClasses(items, out);
         }
         for (String comp : new String[]{"allOf", "oneOf", "anyOf"}) {
-            List<Map<String, Object>> subs = Util.asStringObjectMapList(fieldSchema.get(comp));
+            List<Map<String, Object>> subs = Util.asStringObjectMapListView(fieldSchema.get(comp));
             if (subs != null) {
                 for (Map<String, Object> sub : subs) {
                     collectReferencedClasses(sub, out);
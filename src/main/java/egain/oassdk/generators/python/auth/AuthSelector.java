@@ -30,18 +30,18 @@ public final class AuthSelector {
 
     public Set<AuthSchemeHandler> usedHandlers(Map<String, Object> spec) {
         Set<AuthSchemeHandler> handlers = new LinkedHashSet<>();
-        Map<String, Object> paths = Util.asStringObjectMap(spec.get("paths"));
+        Map<String, Object> paths = Util.asStringObjectMapView(spec.get("paths"));
         if (paths == null) {
             return handlers;
         }
         for (Object pathItemObj : paths.values()) {
-            Map<String, Object> pathItem = Util.asStringObjectMap(pathItemObj);
+            Map<String, Object> pathItem = Util.asStringObjectMapView(pathItemObj);
             if (pathItem == null) {
                 continue;
             }
             for (String method : egain.oassdk.core.Constants.HTTP_METHODS) {
                 if (pathItem.containsKey(method)) {
-                    AuthSelection sel = selectAuth(Util.asStringObjectMap(pathItem.get(method)));
+                    AuthSelection sel = selectAuth(Util.asStringObjectMapView(pathItem.get(method)));
                     if (sel != null) {
                         handlers.add(sel.handler);
                     }
@@ -55,7 +55,7 @@ public final class AuthSelector {
         if (operation == null || !operation.containsKey("security")) {
             return null;
         }
-        List<Map<String, Object>> securityList = Util.asStringObjectMapList(operation.get("security"));
+        List<Map<String, Object>> securityList = Util.asStringObjectMapListView(operation.get("security"));
         if (securityList == null) {
             return null;
         }
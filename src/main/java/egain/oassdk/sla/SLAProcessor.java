@@ -5,15 +5,21 @@ import egain.oassdk.config.SLAConfig;
 import egain.oassdk.core.Constants;
 import egain.oassdk.core.exceptions.GenerationException;
 import egain.oassdk.core.logging.LoggerConfig;
+import egain.oassdk.generators.common.OpenApiPathUtils;
+import egain.oassdk.generators.java.JerseyNamingUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.logging.Logger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * SLA processor for generating API Gateway scripts and SLA enforcement
@@ -99,6 +105,72 @@ public class SLAProcessor {
         }
     }
 
+    /**
+     * Collect the latency targets (in milliseconds) declared for the API: every value under
+     * {@code sla.requirements.performance.response_time} of the SLA spec (e.g. {@code p95: 200ms}) plus the
+     * {@code x-sla-response-time} info extension of the OpenAPI spec.
+     *
+     * @param spec    OpenAPI specification (may be null)
+     * @param slaSpec SLA specification (may be null)
+     * @return distinct targets in ascending order; empty when none are declared
+     */
+    public static List<Long> extractResponseTimeTargetsMs(Map<String, Object> spec, Map<String, Object> slaSpec) {
+        TreeSet<Long> targets = new TreeSet<>();
+        if (slaSpec != null) {
+            Map<String, Object> sla = Util.asStringObjectMap(slaSpec.get("sla"));
+            Map<String, Object> requirements = sla != null ? Util.asStringObjectMap(sla.get("requirements")) : null;
+            Map<String, Object> performance = requirements != null ? Util.asStringObjectMap(requirements.get("performance")) : null;
+            Object responseTime = performance != null ? performance.get("response_time") : null;
+            if (responseTime instanceof Map<?, ?> percentiles) {
+                for (Object value : percentiles.values()) {
+                    addDurationMs(targets, value);
+                }
+            } else {
+                addDurationMs(targets, responseTime);
+            }
+        }
+        if (spec != null) {
+            Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
+            if (info != null) {
+                addDurationMs(targets, info.get("x-sla-response-time"));
+            }
+        }
+        return new ArrayList<>(targets);
+    }
+
+    /**
+     * Parse a duration such as {@code 200}, {@code "200ms"}, {@code "1.5s"} or {@code "2m"} (bare numbers are
+     * milliseconds) and add it when positive; unparseable values are ignored.
+     */
+    private static void addDurationMs(TreeSet<Long> targets, Object value) {
+        double ms;
+        if (value instanceof Number number) {
+            ms = number.doubleValue();
+        } else if (value instanceof String text) {
+            String trimmed = text.trim().toLowerCase(Locale.ROOT);
+            double unit = 1;
+            if (trimmed.endsWith("ms")) {
+                trimmed = trimmed.substring(0, trimmed.length() - 2);
+            } else if (trimmed.endsWith("s")) {
+                trimmed = trimmed.substring(0, trimmed.length() - 1);
+                unit = 1000;
+            } else if (trimmed.endsWith("m")) {
+                trimmed = trimmed.substring(0, trimmed.length() - 1);
+                unit = 60_000;
+            }
+            try {
+                ms = Double.parseDouble(trimmed.trim()) * unit;
+            } catch (NumberFormatException e) {
+                return;
+            }
+        } else {
+            return;
+        }
+        if (ms > 0) {
+            targets.add(Math.round(ms));
+        }
+    }
+
     /**
      * Generate API Gateway policies
      */
@@ -242,6 +314,11 @@ public class SLAProcessor {
         String monitoringController = generateSLAMonitoringController(spec, slaSpec);
         Files.write(Paths.get(outputDir, "SLAMonitoringController.java"), monitoringController.getBytes(StandardCharsets.UTF_8));
 
+        // Route matcher of the monitoring controller, shared with the Jersey runtime
+        String routeIndex = readRuntimeResource("runtime/jersey/egain/ws/oas/RouteIndex.java")
+                .replaceFirst("package egain\\.ws\\.oas;", "package com.example.sla;");
+        Files.write(Paths.get(outputDir, "RouteIndex.java"), routeIndex.getBytes(StandardCharsets.UTF_8));
+
         // Generate SLA configuration
         String slaConfig = generateSLAConfig(spec, slaSpec);
         Files.write(Paths.get(outputDir, "SLAConfig.java"), slaConfig.getBytes(StandardCharsets.UTF_8));
@@ -362,28 +439,72 @@ public class SLAProcessor {
                 import jakarta.ws.rs.core.MediaType;
                 import jakarta.ws.rs.core.Response;
                 import jakarta.inject.Singleton;
-                import java.util.HashMap;
+                import java.util.LinkedHashMap;
+                import java.util.List;
                 import java.util.Map;
                 import java.util.concurrent.ConcurrentHashMap;
-                import java.util.concurrent.atomic.AtomicLong;
+                import java.util.concurrent.TimeUnit;
+                import java.util.concurrent.atomic.AtomicLongArray;
+                import java.util.concurrent.atomic.AtomicReferenceArray;
+                import java.util.concurrent.atomic.LongAdder;
+                import java.util.function.Function;
+                import java.util.function.LongSupplier;
 
+                /**
+                 * SLA metrics per OpenAPI route template over rolling 1m, 5m and 1h windows.
+                 *
+                 * <p>Recording is lock-free: counters are {@link LongAdder}s, and latencies go into log-linear histograms
+                 * (16 linear sub-buckets per power of two of microseconds, at most 6.25% error) kept in time slices that are
+                 * replaced as the windows roll. A slice only allocates the rows of powers of two it has seen, so a route
+                 * costs memory in proportion to its traffic's spread. Request paths are resolved to the spec's route
+                 * templates through a {@link RouteIndex}, so the number of tracked endpoints is bounded by the spec. Window summaries (p50/p95/p99 checked against
+                 * {@link #MAX_RESPONSE_TIME_MS}) are computed at most once per second and served from cache.
+                 */
                 @Path("/sla")
                 @Produces(MediaType.APPLICATION_JSON)
                 @Singleton
                 public class SLAMonitoringController {
 
-                    private final long startTimeMillis = System.currentTimeMillis();
-
-                    // Real counters for instrumentation
-                    private final AtomicLong totalRequests = new AtomicLong(0);
-                    private final AtomicLong errorCount = new AtomicLong(0);
-                    private final AtomicLong totalResponseTimeNanos = new AtomicLong(0);
+                    /** Response time objective from the SLA spec. */
+                    public static final long MAX_RESPONSE_TIME_MS = __MAX_RESPONSE_TIME_MS__L;
+                    /** Route reported for requests that match no template of the spec. */
+                    public static final String UNMATCHED = "UNMATCHED";
+
+                    // Template to match to the route reported; the index matches literal segments before templated ones
+                    private static final String ANY_METHOD = "*";
+                    private static final RouteIndex<String> ROUTES = new RouteIndex<String>()__ROUTES__;
+
+                    private static final Window[] WINDOWS = {
+                        new Window("1m", 60_000L, 6, 0),
+                        new Window("5m", 300_000L, 5, 6),
+                        new Window("1h", 3_600_000L, 12, 11),
+                    };
+                    private static final int SLOTS = 23;
+                    private static final int SUB_BUCKET_BITS = 4;
+                    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+                    private static final int MAX_MAGNITUDE = 31;
+                    private static final int ROWS = MAX_MAGNITUDE - SUB_BUCKET_BITS + 2;
+                    private static final int BUCKETS = ROWS * SUB_BUCKETS;
+                    private static final long SNAPSHOT_TTL_MS = 1_000L;
+
+                    private final LongSupplier clock;
+                    private final long startTimeMillis;
+
+                    private final LongAdder totalRequests = new LongAdder();
+                    private final LongAdder errorCount = new LongAdder();
+                    private final LongAdder totalResponseTimeMicros = new LongAdder();
+                    private final ConcurrentHashMap<String, RouteStats> routes = new ConcurrentHashMap<>();
+                    private final Function<String, RouteStats> newRoute = route -> new RouteStats();
+                    private volatile Snapshot snapshot;
+
+                    public SLAMonitoringController() {
+                        this(System::currentTimeMillis);
+                    }
 
-                    // Per-endpoint tracking
-                    private final ConcurrentHashMap<String, AtomicLong> endpointRequests =
-                            new ConcurrentHashMap<>();
-                    private final ConcurrentHashMap<String, AtomicLong> endpointResponseTimeNanos =
-                            new ConcurrentHashMap<>();
+                    SLAMonitoringController(LongSupplier clock) {
+                        this.clock = clock;
+                        this.startTimeMillis = clock.getAsLong();
+                    }
 
                     /**
                      * Record a completed request for metrics tracking.
@@ -392,37 +513,41 @@ public class SLAProcessor {
                      * @param isError        true if the response was an error (4xx/5xx)
                      */
                     public void recordRequest(long responseTimeMs, boolean isError) {
-                        totalRequests.incrementAndGet();
-                        totalResponseTimeNanos.addAndGet(responseTimeMs * 1_000_000L);
-                        if (isError) {
-                            errorCount.incrementAndGet();
-                        }
+                        record(UNMATCHED, TimeUnit.MILLISECONDS.toMicros(responseTimeMs), isError);
                     }
 
                     /**
                      * Record a completed request with endpoint detail.
                      *
-                     * @param endpoint       the request path
+                     * @param endpoint       the request path; resolved to its route template
                      * @param responseTimeMs response time in milliseconds
                      * @param isError        true if the response was an error
                      */
                     public void recordRequest(String endpoint, long responseTimeMs, boolean isError) {
-                        recordRequest(responseTimeMs, isError);
-                        endpointRequests.computeIfAbsent(endpoint, k -> new AtomicLong(0)).incrementAndGet();
-                        endpointResponseTimeNanos.computeIfAbsent(endpoint, k -> new AtomicLong(0))
-                                .addAndGet(responseTimeMs * 1_000_000L);
+                        record(resolveRoute(endpoint), TimeUnit.MILLISECONDS.toMicros(responseTimeMs), isError);
+                    }
+
+                    /**
+                     * Same as {@link #recordRequest(String, long, boolean)} with a nanosecond response time, e.g. from
+                     * {@code System.nanoTime()} deltas.
+                     */
+                    public void recordRequestNanos(String endpoint, long responseTimeNanos, boolean isError) {
+                        record(resolveRoute(endpoint), TimeUnit.NANOSECONDS.toMicros(responseTimeNanos), isError);
                     }
 
                     @GET
                     @Path("/status")
                     public Response getSLAStatus() {
-                        Map<String, Object> status = new HashMap<>();
-                        status.put("status", "healthy");
-                        status.put("timestamp", System.currentTimeMillis());
+                        Snapshot current = snapshot();
+                        Map<String, Object> status = new LinkedHashMap<>();
+                        status.put("status", current.healthy() ? "healthy" : "degraded");
+                        status.put("timestamp", clock.getAsLong());
                         status.put("uptime", getUptime());
                         status.put("responseTime", getAverageResponseTime());
                         status.put("errorRate", getErrorRate());
-                        status.put("totalRequests", totalRequests.get());
+                        status.put("totalRequests", totalRequests.sum());
+                        status.put("maxResponseTimeMs", MAX_RESPONSE_TIME_MS);
+                        status.put("windows", current.overall());
 
                         return Response.ok(status).build();
                     }
@@ -430,36 +555,76 @@ public class SLAProcessor {
                     @GET
                     @Path("/metrics")
                     public Response getMetrics() {
-                        Map<String, Object> metrics = new HashMap<>();
+                        Snapshot current = snapshot();
+                        Map<String, Object> metrics = new LinkedHashMap<>();
                         metrics.put("requestsPerSecond", getRequestsPerSecond());
                         metrics.put("averageResponseTime", getAverageResponseTime());
                         metrics.put("errorRate", getErrorRate());
                         metrics.put("availability", getAvailability());
-                        metrics.put("totalRequests", totalRequests.get());
-                        metrics.put("totalErrors", errorCount.get());
-                        metrics.put("endpointRequests", new HashMap<>(endpointRequests));
+                        metrics.put("totalRequests", totalRequests.sum());
+                        metrics.put("totalErrors", errorCount.sum());
+                        metrics.put("endpointRequests", current.endpointRequests());
+                        metrics.put("windows", current.overall());
+                        metrics.put("endpoints", current.endpoints());
 
                         return Response.ok(metrics).build();
                     }
 
+                    /**
+                     * Route template {@code path} belongs to, or {@link #UNMATCHED}. Matching walks one index level per
+                     * path segment.
+                     */
+                    static String resolveRoute(String path) {
+                        String route = ROUTES.lookup(path, ANY_METHOD);
+                        return route != null ? route : UNMATCHED;
+                    }
+
+                    private void record(String route, long micros, boolean isError) {
+                        totalRequests.increment();
+                        totalResponseTimeMicros.add(micros);
+                        if (isError) {
+                            errorCount.increment();
+                        }
+                        RouteStats stats = routes.get(route);
+                        if (stats == null) {
+                            stats = routes.computeIfAbsent(route, newRoute);
+                        }
+                        stats.requests.increment();
+                        int bucket = bucket(micros);
+                        long now = clock.getAsLong();
+                        for (Window window : WINDOWS) {
+                            stats.slice(window, now).record(bucket, micros, isError);
+                        }
+                    }
+
+                    private Snapshot snapshot() {
+                        long now = clock.getAsLong();
+                        Snapshot current = snapshot;
+                        if (current == null || now - current.takenAt() >= SNAPSHOT_TTL_MS) {
+                            current = Snapshot.take(now, routes);
+                            snapshot = current;
+                        }
+                        return current;
+                    }
+
                     private long getUptime() {
-                        return System.currentTimeMillis() - startTimeMillis;
+                        return clock.getAsLong() - startTimeMillis;
                     }
 
                     private double getAverageResponseTime() {
-                        long count = totalRequests.get();
+                        long count = totalRequests.sum();
                         if (count == 0) {
                             return 0.0;
                         }
-                        return (totalResponseTimeNanos.get() / 1_000_000.0) / count;
+                        return (totalResponseTimeMicros.sum() / 1_000.0) / count;
                     }
 
                     private double getErrorRate() {
-                        long count = totalRequests.get();
+                        long count = totalRequests.sum();
                         if (count == 0) {
                             return 0.0;
                         }
-                        return (double) errorCount.get() / count;
+                        return (double) errorCount.sum() / count;
                     }
 
                     private double getRequestsPerSecond() {
@@ -467,18 +632,260 @@ public class SLAProcessor {
                         if (uptimeSeconds == 0) {
                             return 0.0;
                         }
-                        return (double) totalRequests.get() / uptimeSeconds;
+                        return (double) totalRequests.sum() / uptimeSeconds;
                     }
 
                     private double getAvailability() {
-                        long count = totalRequests.get();
+                        long count = totalRequests.sum();
                         if (count == 0) {
                             return 100.0;
                         }
-                        return (1.0 - (double) errorCount.get() / count) * 100.0;
+                        return (1.0 - (double) errorCount.sum() / count) * 100.0;
+                    }
+
+                    // Log-linear buckets: values below 16us are exact, then 16 sub-buckets per power of two
+
+                    static int bucket(long micros) {
+                        if (micros < SUB_BUCKETS) {
+                            return (int) Math.max(0, micros);
+                        }
+                        int magnitude = Math.min(MAX_MAGNITUDE, 63 - Long.numberOfLeadingZeros(micros));
+                        long subBucket = Math.min(SUB_BUCKETS - 1, (micros >>> (magnitude - SUB_BUCKET_BITS)) - SUB_BUCKETS);
+                        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int) subBucket;
+                    }
+
+                    static double bucketMidpointMs(int bucket) {
+                        if (bucket < SUB_BUCKETS) {
+                            return bucket / 1_000.0;
+                        }
+                        int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+                        long width = 1L << (magnitude - SUB_BUCKET_BITS);
+                        long lower = (SUB_BUCKETS + bucket % SUB_BUCKETS) * width;
+                        return (lower + width / 2.0) / 1_000.0;
+                    }
+
+                    private record Window(String name, long lengthMillis, int slices, int offset) {
+                        long sliceMillis() {
+                            return lengthMillis / slices;
+                        }
+                    }
+
+                    /**
+                     * Requests of one window slice: {@code index} is the slice's start time divided by its length. Bucket
+                     * counts are kept in rows of {@link #SUB_BUCKETS}, one per power of two, allocated on first use.
+                     */
+                    private static final class Slice {
+                        private final long index;
+                        private final AtomicReferenceArray<AtomicLongArray> rows = new AtomicReferenceArray<>(ROWS);
+                        private final LongAdder requests = new LongAdder();
+                        private final LongAdder errors = new LongAdder();
+                        private final LongAdder micros = new LongAdder();
+
+                        private Slice(long index) {
+                            this.index = index;
+                        }
+
+                        private void record(int bucket, long responseMicros, boolean isError) {
+                            row(bucket / SUB_BUCKETS).incrementAndGet(bucket % SUB_BUCKETS);
+                            requests.increment();
+                            micros.add(responseMicros);
+                            if (isError) {
+                                errors.increment();
+                            }
+                        }
+
+                        private AtomicLongArray row(int row) {
+                            AtomicLongArray counts = rows.get(row);
+                            if (counts == null) {
+                                rows.compareAndSet(row, null, new AtomicLongArray(SUB_BUCKETS));
+                                counts = rows.get(row);
+                            }
+                            return counts;
+                        }
+                    }
+
+                    private static final class RouteStats {
+                        private final LongAdder requests = new LongAdder();
+                        private final AtomicReferenceArray<Slice> slots = new AtomicReferenceArray<>(SLOTS);
+
+                        /**
+                         * Current slice of {@code window}, replacing the expired slice in its slot. Writers still holding
+                         * the replaced slice lose at most a few samples.
+                         */
+                        private Slice slice(Window window, long now) {
+                            long index = now / window.sliceMillis();
+                            int slot = window.offset() + (int) (index % window.slices());
+                            while (true) {
+                                Slice slice = slots.get(slot);
+                                if (slice != null && slice.index >= index) {
+                                    return slice;
+                                }
+                                Slice next = new Slice(index);
+                                if (slots.compareAndSet(slot, slice, next)) {
+                                    return next;
+                                }
+                            }
+                        }
+
+                        /**
+                         * Adds the slices of {@code window} that are still inside it to {@code into}.
+                         */
+                        private void collect(Window window, long now, WindowTotals into) {
+                            long current = now / window.sliceMillis();
+                            for (int i = 0; i < window.slices(); i++) {
+                                Slice slice = slots.get(window.offset() + i);
+                                if (slice != null && slice.index > current - window.slices() && slice.index <= current) {
+                                    into.add(slice);
+                                }
+                            }
+                        }
+                    }
+
+                    private static final class WindowTotals {
+                        private final long[] buckets = new long[BUCKETS];
+                        private long requests;
+                        private long errors;
+                        private long micros;
+
+                        private void add(Slice slice) {
+                            for (int row = 0; row < ROWS; row++) {
+                                AtomicLongArray counts = slice.rows.get(row);
+                                for (int i = 0; counts != null && i < SUB_BUCKETS; i++) {
+                                    buckets[row * SUB_BUCKETS + i] += counts.get(i);
+                                }
+                            }
+                            requests += slice.requests.sum();
+                            errors += slice.errors.sum();
+                            micros += slice.micros.sum();
+                        }
+
+                        private void add(WindowTotals other) {
+                            for (int i = 0; i < BUCKETS; i++) {
+                                buckets[i] += other.buckets[i];
+                            }
+                            requests += other.requests;
+                            errors += other.errors;
+                            micros += other.micros;
+                        }
+
+                        private double percentileMs(double percentile) {
+                            long total = 0;
+                            for (long count : buckets) {
+                                total += count;
+                            }
+                            if (total == 0) {
+                                return 0.0;
+                            }
+                            long rank = (long) Math.ceil(percentile * total);
+                            long seen = 0;
+                            for (int i = 0; i < BUCKETS; i++) {
+                                seen += buckets[i];
+                                if (seen >= rank) {
+                                    return bucketMidpointMs(i);
+                                }
+                            }
+                            return bucketMidpointMs(BUCKETS - 1);
+                        }
+
+                        private Map<String, Object> summary(Window window) {
+                            double p95 = percentileMs(0.95);
+                            double p99 = percentileMs(0.99);
+                            Map<String, Object> summary = new LinkedHashMap<>();
+                            summary.put("requests", requests);
+                            summary.put("errors", errors);
+                            summary.put("errorRate", requests == 0 ? 0.0 : (double) errors / requests);
+                            summary.put("requestsPerSecond", requests * 1_000.0 / window.lengthMillis());
+                            summary.put("averageMs", requests == 0 ? 0.0 : micros / 1_000.0 / requests);
+                            summary.put("p50Ms", percentileMs(0.50));
+                            summary.put("p95Ms", p95);
+                            summary.put("p99Ms", p99);
+                            summary.put("p95WithinSla", p95 <= MAX_RESPONSE_TIME_MS);
+                            summary.put("p99WithinSla", p99 <= MAX_RESPONSE_TIME_MS);
+                            return summary;
+                        }
+                    }
+
+                    private record Snapshot(long takenAt, boolean healthy, Map<String, Object> overall,
+                                            Map<String, Object> endpoints, Map<String, Long> endpointRequests) {
+
+                        static Snapshot take(long now, Map<String, RouteStats> routes) {
+                            Map<String, Object> overall = new LinkedHashMap<>();
+                            Map<String, Object> endpoints = new LinkedHashMap<>();
+                            Map<String, Long> endpointRequests = new LinkedHashMap<>();
+                            boolean healthy = true;
+                            // Rows are added while requests arrive; every pass below must see the same routes
+                            List<Map.Entry<String, RouteStats>> rows = List.copyOf(routes.entrySet());
+                            for (Map.Entry<String, RouteStats> route : rows) {
+                                endpoints.put(route.getKey(), new LinkedHashMap<String, Object>());
+                                endpointRequests.put(route.getKey(), route.getValue().requests.sum());
+                            }
+                            for (Window window : WINDOWS) {
+                                WindowTotals all = new WindowTotals();
+                                for (Map.Entry<String, RouteStats> route : rows) {
+                                    WindowTotals totals = new WindowTotals();
+                                    route.getValue().collect(window, now, totals);
+                                    all.add(totals);
+                                    @SuppressWarnings("unchecked")
+                                    Map<String, Object> routeWindows = (Map<String, Object>) endpoints.get(route.getKey());
+                                    routeWindows.put(window.name(), totals.summary(window));
+                                }
+                                Map<String, Object> summary = all.summary(window);
+                                overall.put(window.name(), summary);
+                                if ("5m".equals(window.name()) && all.requests > 0) {
+                                    healthy = Boolean.TRUE.equals(summary.get("p95WithinSla"));
+                                }
+                            }
+                            return new Snapshot(now, healthy, overall, endpoints, endpointRequests);
+                        }
                     }
                 }
-                """;
+                """
+                .replace("__MAX_RESPONSE_TIME_MS__", String.valueOf(maxResponseTimeMs(spec)))
+                .replace("__ROUTES__", routeTemplates(spec));
+    }
+
+    /**
+     * Route index entries for the generated SLAMonitoringController: each spec path, with and without the server
+     * base path, mapped to its full template. The index itself makes {@code /items/export} win over
+     * {@code /items/{id}}.
+     */
+    private static String routeTemplates(Map<String, Object> spec) {
+        Map<String, Object> paths = spec != null ? Util.asStringObjectMap(spec.get("paths")) : null;
+        if (paths == null) {
+            return "";
+        }
+        String basePath = OpenApiPathUtils.extractServerBasePath(spec);
+        Map<String, String> routes = new LinkedHashMap<>();
+        for (String path : paths.keySet()) {
+            String fullPath = OpenApiPathUtils.buildFullPath(basePath, path);
+            routes.putIfAbsent(fullPath, fullPath);
+            routes.putIfAbsent(path.startsWith("/") ? path : "/" + path, fullPath);
+        }
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, String> route : routes.entrySet()) {
+            content.append("\n            .add(\"").append(JerseyNamingUtils.escapeJavaString(route.getKey()))
+                    .append("\", ANY_METHOD, \"").append(JerseyNamingUtils.escapeJavaString(route.getValue())).append("\")");
+        }
+        return content.toString();
+    }
+
+    private static String readRuntimeResource(String resourcePath) throws IOException {
+        try (InputStream in = SLAProcessor.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                throw new IOException("Missing runtime resource on classpath: " + resourcePath);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Response time objective shared by the generated SLAConfig and SLAMonitoringController:
+     * the {@code x-sla-response-time} info extension, 2000 ms by default.
+     */
+    private static int maxResponseTimeMs(Map<String, Object> spec) {
+        Map<String, Object> info = spec != null ? Util.asStringObjectMap(spec.get("info")) : null;
+        Object rtVal = info != null ? info.get("x-sla-response-time") : null;
+        return rtVal instanceof Number ? ((Number) rtVal).intValue() : 2000;
     }
 
     /**
@@ -486,7 +893,7 @@ public class SLAProcessor {
      */
     private String generateSLAConfig(Map<String, Object> spec, Map<String, Object> slaSpec) {
         // Derive thresholds from x-sla extensions if present, otherwise use defaults
-        int responseTimeMs = 2000;
+        int responseTimeMs = maxResponseTimeMs(spec);
         int rateLimit = 1000;
         double errorRate = 0.01;
         double availability = 99.9;
@@ -494,10 +901,6 @@ public class SLAProcessor {
         if (spec != null) {
             Map<String, Object> info = Util.asStringObjectMap(spec.get("info"));
             if (info != null) {
-                Object rtVal = info.get("x-sla-response-time");
-                if (rtVal instanceof Number) {
-                    responseTimeMs = ((Number) rtVal).intValue();
-                }
                 Object rlVal = info.get("x-sla-rate-limit");
                 if (rlVal instanceof Number) {
                     rateLimit = ((Number) rlVal).intValue();
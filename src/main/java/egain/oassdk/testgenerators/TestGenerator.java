@@ -2,6 +2,7 @@ package egain.oassdk.testgenerators;
 
 import egain.oassdk.config.TestConfig;
 import egain.oassdk.core.exceptions.GenerationException;
+import egain.oassdk.core.model.OpenApiDocument;
 
 import java.util.Map;
 
@@ -21,6 +22,20 @@ public interface TestGenerator {
      */
     void generate(Map<String, Object> spec, String outputDir, TestConfig config, String testFramework) throws GenerationException;
 
+    /**
+     * Generate tests from an indexed OpenAPI specification. Generators that look up operations or component schemas
+     * override this to use the document's indexes; by default it generates from {@link OpenApiDocument#spec()}.
+     *
+     * @param document      Indexed, parsed OpenAPI specification
+     * @param outputDir     Output directory for generated tests
+     * @param config        Test configuration
+     * @param testFramework Test framework (junit5, pytest, jest, etc.)
+     * @throws GenerationException if generation fails
+     */
+    default void generateFromDocument(OpenApiDocument document, String outputDir, TestConfig config, String testFramework) throws GenerationException {
+        generate(document.spec(), outputDir, config, testFramework);
+    }
+
     /**
      * Generate tests with default framework
      *
@@ -0,0 +1,156 @@
+package egain.ws.oas.bench;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import egain.framework.validation.ValidationBuilder;
+import egain.framework.validation.ValidationError;
+import egain.framework.validation.Validator;
+import egain.ws.oas.RequestInfo;
+import egain.ws.oas.Validations;
+import egain.ws.oas.validation.EnumValidator;
+import egain.ws.oas.validation.NumericMaxValidator;
+import egain.ws.oas.validation.PatternValidator;
+
+/**
+ * Micro-benchmarks for the per-request cost of the generated parameter validators.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec}; pass JMH options through
+ * {@code -Djmh.args="..."} (e.g. {@code -Djmh.args="-prof gc ValidationBenchmark"} to report allocations).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark
+{
+	private static final String REGEX = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+	private static final String VALUE = "3f2504e0-4f89-11d3-9a0c-0305e82c3301";
+	private static final String ENUM_VALUES = "ar-ae,cs-cz,da-dk,de-de,el-gr,en-au,en-ca,en-gb,en-ie,en-in,en-nz,en-us,"
+		+ "es-es,es-mx,fi-fi,fr-ca,fr-fr,he-il,hu-hu,it-it,ja-jp,ko-kr,nl-nl,no-no,pl-pl,pt-br,pt-pt,ru-ru,sv-se,"
+		+ "th-th,tr-tr,zh-cn,zh-tw";
+	private static final String ENUM_VALUE = "zh-tw";
+	private static final String ENUM_ITEMS = "en-us,fr-fr,de-de,ja-jp,zh-tw";
+	private static final String PAGE_SIZE = "50";
+
+	private Pattern precompiled;
+	private PatternValidator patternValidator;
+	private EnumValidator enumValidator;
+	private EnumValidator enumArrayValidator;
+	private NumericMaxValidator numericMaxValidator;
+	private Validator<RequestInfo> chain;
+	private RequestInfo requestInfo;
+
+	@Setup
+	public void setup()
+	{
+		precompiled = Pattern.compile(REGEX);
+		patternValidator = new PatternValidator("jobID", precompiled, "L10N_INVALID_VALUE_FOR_QUERY_PARAM_INVALID_PATTERN",
+			List.of("jobID", REGEX), Collections.emptyList(), "query", false);
+		enumValidator = new EnumValidator("$lang", ENUM_VALUES, "L10N_INVALID_VALUE_FOR_ENUM_ATTRIBUTE",
+			List.of("$lang", ENUM_VALUES), Collections.emptyList(), "query", false);
+		enumArrayValidator = new EnumValidator("languages", ENUM_VALUES, "L10N_INVALID_VALUE_FOR_ENUM_ATTRIBUTE",
+			List.of("languages", ENUM_VALUES), Collections.emptyList(), "query", true);
+		numericMaxValidator = new NumericMaxValidator("$pagesize", 75L, "L10N_INVALID_VALUE_FOR_QUERY_PARAM_MORE_THAN_MAX",
+			List.of("$pagesize", "75"), Collections.emptyList(), "query", false, false);
+		chain = new ValidationBuilder<RequestInfo>().add(patternValidator).add(enumValidator).add(enumArrayValidator)
+			.add(numericMaxValidator).build();
+		requestInfo = new RequestInfo("/jobs", "GET",
+			Map.of("jobID", List.of(VALUE), "$lang", List.of(ENUM_VALUE), "languages", List.of(ENUM_ITEMS), "$pagesize",
+				List.of(PAGE_SIZE)),
+			Map.of());
+	}
+
+	/** Baseline: what every pattern check used to cost (compile per call). */
+	@Benchmark
+	public boolean patternCompilePerCall()
+	{
+		return Pattern.compile(REGEX).matcher(VALUE).matches();
+	}
+
+	@Benchmark
+	public boolean patternCachedLookup()
+	{
+		return Validations.matchesPattern.apply(VALUE, REGEX);
+	}
+
+	@Benchmark
+	public boolean patternPrecompiled()
+	{
+		return precompiled.matcher(VALUE).matches();
+	}
+
+	@Benchmark
+	public ValidationError patternValidatorCall()
+	{
+		return patternValidator.call(requestInfo);
+	}
+
+	/** Baseline: what every enum check used to cost (split and linear scan per call). */
+	@Benchmark
+	public boolean enumSplitPerCall()
+	{
+		return Arrays.asList(ENUM_VALUES.split(",")).contains(ENUM_VALUE);
+	}
+
+	@Benchmark
+	public boolean enumCachedLookup()
+	{
+		return Validations.isValueInEnum.apply(ENUM_VALUE, ENUM_VALUES);
+	}
+
+	@Benchmark
+	public ValidationError enumValidatorCall()
+	{
+		return enumValidator.call(requestInfo);
+	}
+
+	@Benchmark
+	public ValidationError enumArrayValidatorCall()
+	{
+		return enumArrayValidator.call(requestInfo);
+	}
+
+	/** Baseline: what every numeric bound check used to cost (both sides parsed and boxed per call). */
+	@Benchmark
+	public boolean numericParsePerCall()
+	{
+		return Validations.isGreaterThan.apply(PAGE_SIZE, "75");
+	}
+
+	@Benchmark
+	public ValidationError numericMaxValidatorCall()
+	{
+		return numericMaxValidator.call(requestInfo);
+	}
+
+	/** Fail-fast over a valid request: the common case, expected to allocate nothing beyond the validators. */
+	@Benchmark
+	public ValidationError chainValidateFirst()
+	{
+		return chain.validateFirst(requestInfo);
+	}
+
+	@Benchmark
+	public List<ValidationError> chainValidateAll()
+	{
+		return chain.validateAll(requestInfo);
+	}
+}
@@ -1,35 +1,64 @@
 package egain.framework.validation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class Validator<T>
 {
 
-	private final List<ValidatorAction<T>> validatorActions = new ArrayList<>();
+	private final List<ValidatorAction<T>> validatorActions;
 
-	protected Validator()
+	protected Validator(List<ValidatorAction<T>> validatorActions)
 	{
-
+		this.validatorActions = List.copyOf(validatorActions);
 	}
 
-	protected void add(ValidatorAction<T> validatorAction)
+	/**
+	 * Fail-fast validation: runs the actions in order and returns the first error, or null when the input is valid.
+	 * Nothing is allocated on the success path.
+	 */
+	public ValidationError validateFirst(T input)
 	{
-		validatorActions.add(validatorAction);
+		for (int i = 0; i < validatorActions.size(); i++)
+		{
+			ValidationError validationError = validatorActions.get(i).call(input);
+			if (validationError != null)
+			{
+				return validationError;
+			}
+		}
+		return null;
 	}
 
-	public List<ValidationError> validate(T input)
+	/**
+	 * Collect-all validation: runs every action and returns all errors. A valid input returns the shared empty list;
+	 * the error list is only allocated (sized for the worst case) once the first error is found.
+	 */
+	public List<ValidationError> validateAll(T input)
 	{
-		List<ValidationError> validationErrors = new ArrayList<>();
-		for (ValidatorAction<T> validatorAction : validatorActions)
+		List<ValidationError> validationErrors = null;
+		for (int i = 0; i < validatorActions.size(); i++)
 		{
-			ValidationError validationError = validatorAction.call(input);
+			ValidationError validationError = validatorActions.get(i).call(input);
 			if (validationError != null)
 			{
+				if (validationErrors == null)
+				{
+					validationErrors = new ArrayList<>(validatorActions.size() - i);
+				}
 				validationErrors.add(validationError);
-				break;
 			}
 		}
-		return validationErrors;
+		return validationErrors == null ? Collections.emptyList() : validationErrors;
+	}
+
+	/**
+	 * Returns at most the first error, as a list; see {@link #validateFirst}.
+	 */
+	public List<ValidationError> validate(T input)
+	{
+		ValidationError validationError = validateFirst(input);
+		return validationError == null ? Collections.emptyList() : List.of(validationError);
 	}
 }
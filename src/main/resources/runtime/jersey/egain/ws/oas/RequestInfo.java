@@ -1,52 +1,145 @@
 package egain.ws.oas;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
-import __WS_NS__.core.MultivaluedMap;
+import __WS_NS__.core.HttpHeaders;
+import __WS_NS__.core.UriInfo;
 
-public record RequestInfo(String url, String httpMethod, Multimap<String, String> queryParameters,
-                          Multimap<String, String> pathParameters,
-                          Multimap<String, String> headerParameters) {
+/**
+ * Read-only view of the request parameters seen by the generated validators.
+ *
+ * <p>The parameter maps are wrapped, not copied: a JAX-RS {@code MultivaluedMap} is already a
+ * {@code Map<String, List<String>>}, so the container's own query, path and header maps are used directly.
+ * Headers can be supplied lazily and are only resolved when a validator asks for them.
+ */
+public final class RequestInfo
+{
+	private final String url;
+	private final String httpMethod;
+	private final Map<String, List<String>> queryParameters;
+	private final Map<String, List<String>> pathParameters;
+	private Supplier<Map<String, List<String>>> headerSupplier;
+	private Map<String, List<String>> headerParameters;
+
+	public RequestInfo(String url, String httpMethod, Map<String, List<String>> queryParameters,
+                       Map<String, List<String>> pathParameters)
+	{
+		this(url, httpMethod, queryParameters, pathParameters, Collections.emptyMap());
+	}
+
+	public RequestInfo(String url, String httpMethod, Map<String, List<String>> queryParameters,
+                       Map<String, List<String>> pathParameters,
+                       Map<String, List<String>> headerParameters)
+	{
+		this.url = url;
+		this.httpMethod = httpMethod;
+		this.queryParameters = orEmpty(queryParameters);
+		this.pathParameters = orEmpty(pathParameters);
+		this.headerParameters = orEmpty(headerParameters);
+	}
 
 	/**
-	 * Backward-compatible constructor without headers (defaults to empty header map).
+	 * Headers are fetched from {@code headerParameters} on first use, so requests whose validators never look at
+	 * a header never touch the container's header map.
 	 */
-	public RequestInfo(String url, String httpMethod, Multimap<String, String> queryParameters,
-                       Multimap<String, String> pathParameters)
+	public RequestInfo(String url, String httpMethod, Map<String, List<String>> queryParameters,
+                       Map<String, List<String>> pathParameters,
+                       Supplier<Map<String, List<String>>> headerParameters)
+	{
+		this.url = url;
+		this.httpMethod = httpMethod;
+		this.queryParameters = orEmpty(queryParameters);
+		this.pathParameters = orEmpty(pathParameters);
+		this.headerSupplier = headerParameters;
+	}
+
+	/**
+	 * Wraps the container's decoded query and path parameter maps and its request headers (resolved lazily).
+	 */
+	public static RequestInfo of(UriInfo uriInfo, String httpMethod, HttpHeaders headers)
+	{
+		return new RequestInfo(uriInfo.getPath(), httpMethod, uriInfo.getQueryParameters(), uriInfo.getPathParameters(),
+			headers == null ? Collections::emptyMap : headers::getRequestHeaders);
+	}
+
+	/**
+	 * Binds the path parameters a {@link RouteIndex} extracted from a concrete path to {@code request}, for callers
+	 * that validate by concrete path without their own path parameter map. The url, query parameters and headers
+	 * (still resolved lazily) are taken from {@code request}, which may be null.
+	 */
+	public static RequestInfo of(RouteIndex.Match<?> match, RequestInfo request)
+	{
+		Map<String, List<String>> pathParameters = new LinkedHashMap<>();
+		for (Map.Entry<String, String> parameter : match.pathParameters().entrySet())
+		{
+			pathParameters.put(parameter.getKey(), List.of(parameter.getValue()));
+		}
+		if (request == null)
+		{
+			return new RequestInfo(null, null, null, pathParameters);
+		}
+		return new RequestInfo(request.url, request.httpMethod, request.queryParameters, pathParameters,
+			request::headerParameters);
+	}
+
+	public String url()
 	{
-		this(url, httpMethod, queryParameters, pathParameters, emptyMultimap());
+		return url;
 	}
 
-	public RequestInfo(String url, String httpMethod, MultivaluedMap<String, String> queryParameters,
-                       MultivaluedMap<String, String> pathParameters)
+	public String httpMethod()
 	{
-		this(url, httpMethod, convertMultivaluedMapToMultimap(queryParameters),
-			convertMultivaluedMapToMultimap(pathParameters), emptyMultimap());
+		return httpMethod;
 	}
 
-	public RequestInfo(String url, String httpMethod, MultivaluedMap<String, String> queryParameters,
-                       MultivaluedMap<String, String> pathParameters,
-                       MultivaluedMap<String, String> headerParameters)
+	public Map<String, List<String>> queryParameters()
 	{
-		this(url, httpMethod, convertMultivaluedMapToMultimap(queryParameters),
-			convertMultivaluedMapToMultimap(pathParameters),
-			convertMultivaluedMapToMultimap(headerParameters));
+		return queryParameters;
 	}
 
-	private static Multimap<String, String> emptyMultimap()
+	public Map<String, List<String>> pathParameters()
 	{
-		return MultimapBuilder.linkedHashKeys().arrayListValues().build();
+		return pathParameters;
 	}
 
-	private static Multimap<String, String> convertMultivaluedMapToMultimap(MultivaluedMap<String, String> multivaluedMap)
+	public Map<String, List<String>> headerParameters()
 	{
-		Multimap<String, String> map = emptyMultimap();
-		if (multivaluedMap != null)
+		if (headerParameters == null)
 		{
-			multivaluedMap.forEach(map::putAll);
+			headerParameters = orEmpty(headerSupplier.get());
+			headerSupplier = null;
 		}
-		return map;
+		return headerParameters;
+	}
+
+	public String getFirstQueryParameter(String name)
+	{
+		return getFirst(queryParameters, name);
+	}
+
+	public String getFirstPathParameter(String name)
+	{
+		return getFirst(pathParameters, name);
+	}
+
+	public String getFirstHeader(String name)
+	{
+		return getFirst(headerParameters(), name);
+	}
+
+	private static String getFirst(Map<String, List<String>> parameters, String name)
+	{
+		List<String> values = parameters.get(name);
+		return values == null || values.isEmpty() ? null : values.get(0);
+	}
+
+	private static Map<String, List<String>> orEmpty(Map<String, List<String>> parameters)
+	{
+		return parameters == null ? Collections.emptyMap() : parameters;
 	}
 
 	@Override
@@ -57,7 +150,7 @@ public record RequestInfo(String url, String httpMethod, Multimap<String, String
 			"httpMethod=" + httpMethod + ", " +
 			"queryParameters=" + queryParameters + ", " +
 			"pathParameters=" + pathParameters + ", " +
-			"headerParameters=" + headerParameters + ']';
+			"headerParameters=" + headerParameters() + ']';
 	}
 
 }
@@ -0,0 +1,262 @@
+package egain.ws.oas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segment trie mapping concrete request paths (e.g. {@code /v4/folders/123/articles}) to the value registered
+ * for their OpenAPI path template (e.g. {@code /v4/folders/{folderID}/articles}) and HTTP method.
+ *
+ * <p>Matching walks one trie level per path segment: literal segments are a hash lookup and templated segments
+ * are tried afterwards, so literal routes win over templated ones and no regex is involved. A templated segment may
+ * hold fixed text and several parameters (e.g. {@code v{major}.{minor}}); as with JAX-RS templates, each parameter
+ * takes the longest non-empty text that still lets the rest of the segment match. Path parameter values are returned
+ * as they appear in the supplied path (no percent-decoding).
+ *
+ * <p>Routes are registered once (typically from a static initializer) and the index is read-only afterwards; it
+ * is safe for concurrent {@link #match} calls once safely published.
+ */
+public class RouteIndex<V>
+{
+	private final Node<V> root = new Node<>();
+
+	/**
+	 * Registers {@code value} for the given path template and HTTP method, replacing any previous value.
+	 */
+	public RouteIndex<V> add(String template, String httpMethod, V value)
+	{
+		List<String> segments = split(template);
+		ParamSegment[] params = new ParamSegment[segments.size()];
+		Node<V> node = root;
+		for (int i = 0; i < segments.size(); i++)
+		{
+			String segment = segments.get(i);
+			ParamSegment param = ParamSegment.parse(segment);
+			if (param == null)
+			{
+				node = node.literals.computeIfAbsent(segment, s -> new Node<>());
+				continue;
+			}
+			params[i] = param;
+			node = node.paramChild(param);
+		}
+		node.routes.put(httpMethod, new Route<>(template, value, params));
+		return this;
+	}
+
+	/**
+	 * Returns the route matching {@code path} and {@code httpMethod}, or null when no registered template matches.
+	 * A query string, if present, is ignored.
+	 */
+	public Match<V> match(String path, String httpMethod)
+	{
+		if (path == null || httpMethod == null)
+			return null;
+		int query = path.indexOf('?');
+		List<String> segments = split(query < 0 ? path : path.substring(0, query));
+		Route<V> route = find(root, segments, 0, httpMethod);
+		if (route == null)
+			return null;
+		return new Match<>(route.template(), route.value(), route.extract(segments));
+	}
+
+	/**
+	 * Returns the value registered for the template matching {@code path} and {@code httpMethod}, or null when none
+	 * matches. Unlike {@link #match}, path parameters are not extracted.
+	 */
+	public V lookup(String path, String httpMethod)
+	{
+		if (path == null || httpMethod == null)
+			return null;
+		int query = path.indexOf('?');
+		Route<V> route = find(root, split(query < 0 ? path : path.substring(0, query)), 0, httpMethod);
+		return route == null ? null : route.value();
+	}
+
+	private static <V> Route<V> find(Node<V> node, List<String> segments, int index, String httpMethod)
+	{
+		if (index == segments.size())
+			return node.routes.get(httpMethod);
+
+		String segment = segments.get(index);
+		Node<V> literal = node.literals.get(segment);
+		if (literal != null)
+		{
+			Route<V> route = find(literal, segments, index + 1, httpMethod);
+			if (route != null)
+				return route;
+		}
+		for (int i = 0; i < node.params.size(); i++)
+		{
+			ParamChild<V> child = node.params.get(i);
+			if (child.accepts(segment))
+			{
+				Route<V> route = find(child.node(), segments, index + 1, httpMethod);
+				if (route != null)
+					return route;
+			}
+		}
+		return null;
+	}
+
+	private static List<String> split(String path)
+	{
+		List<String> segments = new ArrayList<>();
+		int start = 0;
+		int length = path.length();
+		while (start <= length)
+		{
+			int end = path.indexOf('/', start);
+			if (end < 0)
+				end = length;
+			if (end > start)
+				segments.add(path.substring(start, end));
+			start = end + 1;
+		}
+		return segments;
+	}
+
+	/**
+	 * Result of a successful {@link #match}: the registered template and value plus the path parameters extracted
+	 * from the concrete path, keyed by template parameter name.
+	 */
+	public record Match<V>(String template, V value, Map<String, String> pathParameters) {
+	}
+
+	private static final class Node<V>
+	{
+		private final Map<String, Node<V>> literals = new HashMap<>();
+		private final List<ParamChild<V>> params = new ArrayList<>();
+		private final Map<String, Route<V>> routes = new HashMap<>();
+
+		private Node<V> paramChild(ParamSegment param)
+		{
+			for (ParamChild<V> child : params)
+			{
+				if (child.shape().sameShape(param))
+					return child.node();
+			}
+			ParamChild<V> child = new ParamChild<>(param, new Node<>());
+			params.add(child);
+			// Try the most specific (longest fixed text, then fewest parameters) templated segments first
+			params.sort((a, b) -> a.shape().fixedLength() != b.shape().fixedLength()
+				? b.shape().fixedLength() - a.shape().fixedLength()
+				: a.shape().names().length - b.shape().names().length);
+			return child.node();
+		}
+	}
+
+	private record ParamChild<V>(ParamSegment shape, Node<V> node) {
+		boolean accepts(String segment)
+		{
+			return shape.extract(segment) != null;
+		}
+	}
+
+	/**
+	 * A templated segment: {@code texts[0]} {@code {names[0]}} {@code texts[1]} ... {@code {names[n-1]}}
+	 * {@code texts[n]}, where the fixed texts may be empty.
+	 */
+	private record ParamSegment(String[] texts, String[] names) {
+		/**
+		 * Parses a template segment, or returns null when it has no complete {@code {name}}.
+		 */
+		static ParamSegment parse(String segment)
+		{
+			List<String> texts = new ArrayList<>();
+			List<String> names = new ArrayList<>();
+			int start = 0;
+			int open = segment.indexOf('{');
+			while (open >= 0)
+			{
+				int close = segment.indexOf('}', open + 1);
+				if (close < 0)
+					break;
+				texts.add(segment.substring(start, open));
+				names.add(segment.substring(open + 1, close));
+				start = close + 1;
+				open = segment.indexOf('{', start);
+			}
+			if (names.isEmpty())
+				return null;
+			texts.add(segment.substring(start));
+			return new ParamSegment(texts.toArray(new String[0]), names.toArray(new String[0]));
+		}
+
+		int fixedLength()
+		{
+			int length = 0;
+			for (String text : texts)
+				length += text.length();
+			return length;
+		}
+
+		boolean sameShape(ParamSegment other)
+		{
+			return Arrays.equals(texts, other.texts);
+		}
+
+		/**
+		 * Values of the parameters in {@code segment}, or null when it does not match this template segment.
+		 */
+		String[] extract(String segment)
+		{
+			int last = texts.length - 1;
+			if (segment.length() < fixedLength() + names.length || !segment.startsWith(texts[0])
+				|| !segment.endsWith(texts[last]))
+				return null;
+			String[] values = new String[names.length];
+			return extract(segment, 0, texts[0].length(), segment.length() - texts[last].length(), values)
+				? values : null;
+		}
+
+		/**
+		 * Matches parameter {@code index} onwards against {@code segment[from, end)}, trying the longest value of each
+		 * parameter first.
+		 */
+		private boolean extract(String segment, int index, int from, int end, String[] values)
+		{
+			if (index == names.length - 1)
+			{
+				if (end <= from)
+					return false;
+				values[index] = segment.substring(from, end);
+				return true;
+			}
+			String separator = texts[index + 1];
+			for (int at = segment.lastIndexOf(separator, end - separator.length() - 1); at > from;
+				at = segment.lastIndexOf(separator, at - 1))
+			{
+				if (extract(segment, index + 1, at + separator.length(), end, values))
+				{
+					values[index] = segment.substring(from, at);
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private record Route<V>(String template, V value, ParamSegment[] params) {
+		Map<String, String> extract(List<String> segments)
+		{
+			Map<String, String> values = null;
+			for (int i = 0; i < params.length; i++)
+			{
+				if (params[i] == null)
+					continue;
+				if (values == null)
+					values = new LinkedHashMap<>();
+				String[] extracted = params[i].extract(segments.get(i));
+				for (int j = 0; j < extracted.length; j++)
+					values.put(params[i].names()[j], extracted[j]);
+			}
+			return values == null ? Collections.emptyMap() : Collections.unmodifiableMap(values);
+		}
+	}
+}
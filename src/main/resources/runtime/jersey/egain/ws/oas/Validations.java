@@ -1,21 +1,34 @@
 package egain.ws.oas;
 
-import com.google.common.base.Objects;
-
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 
 public class Validations
 {
 	public static final Pattern RESERVED_CHARACTERS = Pattern.compile("[:/?#\\[\\]@!$&'()*+,;=]");
+	// Upper bound on regexes kept by compilePattern; patterns beyond it are compiled but not retained
+	private static final int PATTERN_CACHE_MAX_SIZE = 512;
+	private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+	// Same bound for the parsed enum lists kept by enumValueSet
+	private static final int ENUM_CACHE_MAX_SIZE = 512;
+	private static final Map<String, Set<String>> ENUM_CACHE = new ConcurrentHashMap<>();
+	// Returned by the compareToBound helpers when the value is not a number
+	public static final int NOT_A_NUMBER = Integer.MIN_VALUE;
+	// Longest digit run parseLong accepts; anything longer could overflow and goes through parseDouble instead
+	private static final int MAX_LONG_DIGITS = 18;
 	// For numerical attributes
 	public static final BiFunction<String, String, Boolean> isGreaterThanOrEqualTo = (value, min) -> {
 		try
 		{
-			Double numericValue = Double.parseDouble(value);
-			Double minValue = Double.parseDouble(min);
+			double numericValue = Double.parseDouble(value);
+			double minValue = Double.parseDouble(min);
 			return numericValue >= minValue;
 		}
 		catch (NumberFormatException e)
@@ -26,8 +39,8 @@ public class Validations
 	public static final BiFunction<String, String, Boolean> isGreaterThan = (value, min) -> {
 		try
 		{
-			Double numericValue = Double.parseDouble(value);
-			Double minValue = Double.parseDouble(min);
+			double numericValue = Double.parseDouble(value);
+			double minValue = Double.parseDouble(min);
 			return numericValue > minValue;
 		}
 		catch (NumberFormatException e)
@@ -38,8 +51,8 @@ public class Validations
 	public static final BiFunction<String, String, Boolean> isLessThanOrEqualTo = (value, max) -> {
 		try
 		{
-			Double numericValue = Double.parseDouble(value);
-			Double maxValue = Double.parseDouble(max);
+			double numericValue = Double.parseDouble(value);
+			double maxValue = Double.parseDouble(max);
 			return numericValue <= maxValue;
 		}
 		catch (NumberFormatException e)
@@ -50,8 +63,8 @@ public class Validations
 	public static final BiFunction<String, String, Boolean> isLessThan = (value, max) -> {
 		try
 		{
-			Double numericValue = Double.parseDouble(value);
-			Double maxValue = Double.parseDouble(max);
+			double numericValue = Double.parseDouble(value);
+			double maxValue = Double.parseDouble(max);
 			return numericValue < maxValue;
 		}
 		catch (NumberFormatException e)
@@ -62,8 +75,8 @@ public class Validations
 	public static final BiFunction<String, String, Boolean> isMultipleOf = (value, divisor) -> {
 		try
 		{
-			Double numericValue = Double.parseDouble(value);
-			Double divisorValue = Double.parseDouble(divisor);
+			double numericValue = Double.parseDouble(value);
+			double divisorValue = Double.parseDouble(divisor);
 			return divisorValue != 0 && numericValue % divisorValue == 0;
 		}
 		catch (NumberFormatException e)
@@ -97,8 +110,7 @@ public class Validations
 	public static final BiFunction<String, String, Boolean> matchesPattern = (string, regex) -> {
 		if (string == null || regex == null)
 			return false;
-		Pattern pattern = Pattern.compile(regex);
-		return pattern.matcher(string).matches();
+		return compilePattern(regex).matcher(string).matches();
 	};
 	// For array attributes (size-based checks)
 	public static final BiFunction<String[], String, Boolean> hasMinItems = (array, minItems) -> {
@@ -132,9 +144,7 @@ public class Validations
 	public static final BiFunction<String, String, Boolean> isValueInEnum = (value, input) -> {
 		if (value == null || input == null)
 			return false;
-		Set<String> enumSet = Arrays.stream(input.split(",\\s*")).collect(
-			java.util.stream.Collectors.toSet());
-		return enumSet.contains(value);
+		return enumValueSet(input).contains(value);
 	};
 
 	// For boolean attributes
@@ -143,36 +153,206 @@ public class Validations
 			return false;
 		return !("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value));
 	};
-	public static final BiFunction<RequestInfo, String, String> getQueryParameterValue = (holder,
-		paramName) -> holder.queryParameters().get(paramName).stream().findFirst().orElse(null);
-	public static final BiFunction<RequestInfo, String, String> getPathParameterValue = (holder,
-		paramName) -> holder.pathParameters().get(paramName).stream().findFirst().orElse(null);
-	public static final BiFunction<RequestInfo, String, String> getHeaderParameterValue = (holder,
-		paramName) -> {
-		if (holder.headerParameters() == null)
-			return null;
-		return holder.headerParameters().get(paramName).stream().findFirst().orElse(null);
-	};
+	public static final BiFunction<RequestInfo, String, String> getQueryParameterValue = RequestInfo::getFirstQueryParameter;
+	public static final BiFunction<RequestInfo, String, String> getPathParameterValue = RequestInfo::getFirstPathParameter;
+	public static final BiFunction<RequestInfo, String, String> getHeaderParameterValue = RequestInfo::getFirstHeader;
 	
-	public record ParameterValidatorMapKey(String url, String httpMethod) {
-		@Override
-		public boolean equals(Object o)
+	/**
+	 * Returns the compiled form of {@code regex}, reusing a previously compiled instance when one is
+	 * cached. Generated validators precompile their schema patterns once; this cache covers patterns
+	 * that are only known at call time. The cache is bounded so arbitrary caller-supplied regexes
+	 * cannot grow it without limit.
+	 */
+	public static Pattern compilePattern(String regex)
+	{
+		Pattern pattern = PATTERN_CACHE.get(regex);
+		if (pattern != null)
+			return pattern;
+		pattern = Pattern.compile(regex);
+		if (PATTERN_CACHE.size() < PATTERN_CACHE_MAX_SIZE)
+			PATTERN_CACHE.putIfAbsent(regex, pattern);
+		return pattern;
+	}
+
+	/**
+	 * Compares the number in {@code value[begin, end)} with {@code bound}, returning a negative, zero or positive
+	 * result, or {@link #NOT_A_NUMBER}. Plain integers are parsed in place without allocating; anything else
+	 * falls back to {@link Double#parseDouble}.
+	 */
+	public static int compareToBound(String value, int begin, int end, long bound)
+	{
+		if (isPlainLong(value, begin, end))
+			return Long.compare(parseLong(value, begin, end), bound);
+		return compareDoubles(parseDouble(value, begin, end), bound);
+	}
+
+	/**
+	 * Same as {@link #compareToBound(String, int, int, long)} for a fractional bound.
+	 */
+	public static int compareToBound(String value, int begin, int end, double bound)
+	{
+		if (isPlainLong(value, begin, end))
+			return compareDoubles(parseLong(value, begin, end), bound);
+		return compareDoubles(parseDouble(value, begin, end), bound);
+	}
+
+	/**
+	 * Exact comparison for {@code format: decimal} bounds, where double rounding is not acceptable.
+	 */
+	public static int compareToBound(String value, int begin, int end, BigDecimal bound)
+	{
+		try
 		{
-			if (this == o)
-				return true;
-			if (o == null || getClass() != o.getClass())
+			return Integer.signum(new BigDecimal(value.substring(begin, end).trim()).compareTo(bound));
+		}
+		catch (NumberFormatException e)
+		{
+			return NOT_A_NUMBER;
+		}
+	}
+
+	private static boolean isPlainLong(String value, int begin, int end)
+	{
+		int start = begin < end && value.charAt(begin) == '-' ? begin + 1 : begin;
+		if (start == end || end - start > MAX_LONG_DIGITS)
+			return false;
+		for (int i = start; i < end; i++)
+		{
+			char c = value.charAt(i);
+			if (c < '0' || c > '9')
 				return false;
-			ParameterValidatorMapKey that = (ParameterValidatorMapKey) o;
-			return Objects.equal(url, that.url) && Objects.equal(httpMethod, that.httpMethod);
+		}
+		return true;
+	}
+
+	private static long parseLong(String value, int begin, int end)
+	{
+		boolean negative = value.charAt(begin) == '-';
+		long result = 0;
+		for (int i = negative ? begin + 1 : begin; i < end; i++)
+			result = result * 10 + (value.charAt(i) - '0');
+		return negative ? -result : result;
+	}
+
+	private static double parseDouble(String value, int begin, int end)
+	{
+		try
+		{
+			return Double.parseDouble(begin == 0 && end == value.length() ? value : value.substring(begin, end));
+		}
+		catch (NumberFormatException e)
+		{
+			return Double.NaN;
+		}
+	}
+
+	private static int compareDoubles(double value, double bound)
+	{
+		// NaN (including unparseable input) is never out of range, as with the primitive comparisons it replaces
+		if (Double.isNaN(value) || Double.isNaN(bound))
+			return NOT_A_NUMBER;
+		return value < bound ? -1 : (value > bound ? 1 : 0);
+	}
+
+	/**
+	 * Returns the allowed values of a comma separated enum list (whitespace after each comma is ignored) as an
+	 * immutable set. Parsed lists are cached, bounded like {@link #compilePattern}, so repeated checks against
+	 * the same list are a single hash lookup.
+	 */
+	public static Set<String> enumValueSet(String values)
+	{
+		Set<String> enumSet = ENUM_CACHE.get(values);
+		if (enumSet != null)
+			return enumSet;
+		List<String> items = new ArrayList<>();
+		int start = 0;
+		while (true)
+		{
+			int comma = values.indexOf(',', start);
+			items.add(values.substring(start, comma < 0 ? values.length() : comma));
+			if (comma < 0)
+				break;
+			start = comma + 1;
+			while (start < values.length() && Character.isWhitespace(values.charAt(start)))
+				start++;
+		}
+		// Match String.split, which drops trailing empty entries (but keeps the single entry of an empty string)
+		while (!values.isEmpty() && !items.isEmpty() && items.get(items.size() - 1).isEmpty())
+			items.remove(items.size() - 1);
+		enumSet = Set.copyOf(items);
+		if (ENUM_CACHE.size() < ENUM_CACHE_MAX_SIZE)
+			ENUM_CACHE.putIfAbsent(values, enumSet);
+		return enumSet;
+	}
+
+	/**
+	 * A schema {@code minimum}/{@code maximum} parsed once into the narrowest exact representation: a {@code long}
+	 * for integral bounds, a {@code double} otherwise, and a {@link BigDecimal} only when one is supplied (for
+	 * {@code format: decimal}).
+	 */
+	public static final class NumericBound
+	{
+		private final long longValue;
+		private final double doubleValue;
+		private final BigDecimal decimalValue;
+		private final boolean integral;
+
+		private NumericBound(long longValue, double doubleValue, BigDecimal decimalValue, boolean integral)
+		{
+			this.longValue = longValue;
+			this.doubleValue = doubleValue;
+			this.decimalValue = decimalValue;
+			this.integral = integral;
+		}
+
+		public static NumericBound of(long bound)
+		{
+			return new NumericBound(bound, bound, null, true);
+		}
+
+		public static NumericBound of(double bound)
+		{
+			return new NumericBound(0L, bound, null, false);
+		}
+
+		public static NumericBound of(BigDecimal bound)
+		{
+			return new NumericBound(0L, bound.doubleValue(), bound, false);
+		}
+
+		/**
+		 * Parses a textual bound. An unparseable bound compares as {@link #NOT_A_NUMBER}, so it never rejects input.
+		 */
+		public static NumericBound parse(String bound)
+		{
+			if (bound != null && isPlainLong(bound, 0, bound.length()))
+				return of(parseLong(bound, 0, bound.length()));
+			return of(bound == null ? Double.NaN : Validations.parseDouble(bound, 0, bound.length()));
+		}
+
+		/**
+		 * Compares the number in {@code value[begin, end)} with this bound; see
+		 * {@link Validations#compareToBound(String, int, int, long)}.
+		 */
+		public int compareTo(String value, int begin, int end)
+		{
+			if (decimalValue != null)
+				return compareToBound(value, begin, end, decimalValue);
+			return integral ? compareToBound(value, begin, end, longValue) : compareToBound(value, begin, end, doubleValue);
 		}
 
 		@Override
-		public int hashCode()
+		public String toString()
 		{
-			return Objects.hashCode(url, httpMethod);
+			if (decimalValue != null)
+				return decimalValue.toPlainString();
+			return integral ? Long.toString(longValue) : Double.toString(doubleValue);
 		}
 	}
 
+	public record ParameterValidatorMapKey(String url, String httpMethod) {
+	}
+
 	public record Parameter(String name, String nameSpace, boolean isRequired, boolean isAllowEmptyValue,
 					boolean isAllowReserved) {
 	}
@@ -1,7 +1,9 @@
 package __PACKAGE__.observability;
 
+import egain.ws.oas.RouteIndex;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import __INJECT_NS__.Singleton;
 import __WS_NS__.container.ContainerRequestContext;
@@ -11,16 +13,43 @@ import __WS_NS__.container.ContainerResponseFilter;
 import __WS_NS__.ext.Provider;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+/**
+ * Records {@code http.server.requests} per OpenAPI route template, HTTP method and status class.
+ *
+ * <p>Tags never carry raw request data: the path is resolved to its template (e.g.
+ * {@code /v4/folders/{folderID}}), unknown paths are reported as {@value #UNMATCHED_ROUTE} and statuses are
+ * collapsed to {@code 1xx}..{@code 5xx}, so the number of series is bounded by the spec. Meters are looked up
+ * once per (route, method, status class) and cached, so recording a request does not build tags or touch the
+ * registry.
+ */
 @Provider
 @Singleton
 public class MetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
 
     private static final String START_TIME_PROPERTY = "metrics.startTime";
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx", "OTHER"};
+    private static final Set<String> KNOWN_METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "DELETE", "PATCH", "OPTIONS", "TRACE");
+    // Latency SLOs (ms) published as explicit histogram buckets
+    private static final long[] SLO_BUCKETS_MS = {__SLO_BUCKETS_MS__};
+
     private final PrometheusMeterRegistry registry;
+    private final RouteIndex<RouteMeters> routes = new RouteIndex<>();
+    private final ConcurrentMap<String, RouteMeters> unmatched = new ConcurrentHashMap<>();
 
     public MetricsFilter() {
         this.registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+__ROUTE_REGISTRATIONS__    }
+
+    private void register(String template, String method) {
+        routes.add(template, method, new RouteMeters(template, method));
     }
 
     @Override
@@ -35,22 +64,64 @@ public class MetricsFilter implements ContainerRequestFilter, ContainerResponseF
         if (startObj instanceof Long startTime) {
             long duration = System.nanoTime() - startTime;
             String method = requestContext.getMethod();
-            String path = requestContext.getUriInfo().getPath();
-            String status = String.valueOf(responseContext.getStatus());
-
-            Timer.builder("http.server.requests")
-                    .tag("method", method)
-                    .tag("path", path)
-                    .tag("status", status)
-                    .register(registry)
-                    .record(Duration.ofNanos(duration));
-
-            registry.counter("http.server.requests.count",
-                    "method", method, "path", path, "status", status).increment();
+            RouteMeters route = routes.lookup(requestContext.getUriInfo().getPath(), method);
+            if (route == null) {
+                route = unmatched.computeIfAbsent(KNOWN_METHODS.contains(method) ? method : "OTHER",
+                        m -> new RouteMeters(UNMATCHED_ROUTE, m));
+            }
+            Meters meters = route.forStatus(responseContext.getStatus());
+            meters.timer().record(duration, TimeUnit.NANOSECONDS);
+            meters.count().increment();
         }
     }
 
     public PrometheusMeterRegistry getRegistry() {
         return registry;
     }
+
+    private record Meters(Timer timer, Counter count) {
+    }
+
+    /**
+     * Meters of one route template and method, created lazily per status class.
+     */
+    private final class RouteMeters {
+        private final String route;
+        private final String method;
+        private final AtomicReferenceArray<Meters> byStatusClass = new AtomicReferenceArray<>(STATUS_CLASSES.length);
+
+        RouteMeters(String route, String method) {
+            this.route = route;
+            this.method = method;
+        }
+
+        Meters forStatus(int status) {
+            int statusClass = status >= 100 && status < 600 ? status / 100 - 1 : STATUS_CLASSES.length - 1;
+            Meters meters = byStatusClass.get(statusClass);
+            if (meters == null) {
+                // The registry hands back the existing meters if another thread won the race
+                meters = create(STATUS_CLASSES[statusClass]);
+                byStatusClass.set(statusClass, meters);
+            }
+            return meters;
+        }
+
+        private Meters create(String status) {
+            Timer.Builder timer = Timer.builder("http.server.requests")
+                    .tag("method", method)
+                    .tag("path", route)
+                    .tag("status", status)
+                    .publishPercentileHistogram();
+            if (SLO_BUCKETS_MS.length > 0) {
+                Duration[] slos = new Duration[SLO_BUCKETS_MS.length];
+                for (int i = 0; i < slos.length; i++) {
+                    slos[i] = Duration.ofMillis(SLO_BUCKETS_MS[i]);
+                }
+                timer.serviceLevelObjectives(slos);
+            }
+            Counter count = registry.counter("http.server.requests.count",
+                    "method", method, "path", route, "status", status);
+            return new Meters(timer.register(registry), count);
+        }
+    }
 }
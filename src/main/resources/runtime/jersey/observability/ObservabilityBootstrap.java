@@ -9,14 +9,27 @@ import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.semconv.ServiceAttributes;
+import java.time.Duration;
 
 /**
  * Bootstraps OpenTelemetry SDK with OTLP exporter and W3C trace context propagation.
- * Call {@link #initialize(String)} at application startup.
+ * Call {@link #initialize(String)} at application startup, before the first request is served.
+ *
+ * <p>Sampling and batch export settings are generated from the SDK's {@code ObservabilityConfig}.
  */
 public final class ObservabilityBootstrap {
 
+    /** Fraction of new traces that are sampled (recorded and exported). */
+    public static final double SAMPLING_RATIO = __SAMPLING_RATIO__;
+    /** Whether an incoming trace context's sampled flag takes precedence over {@link #SAMPLING_RATIO}. */
+    public static final boolean PARENT_BASED_SAMPLING = __PARENT_BASED_SAMPLING__;
+    public static final int BATCH_MAX_QUEUE_SIZE = __BATCH_MAX_QUEUE_SIZE__;
+    public static final int BATCH_MAX_EXPORT_BATCH_SIZE = __BATCH_MAX_EXPORT_BATCH_SIZE__;
+    public static final long BATCH_SCHEDULE_DELAY_MS = __BATCH_SCHEDULE_DELAY_MS__L;
+    public static final long BATCH_EXPORT_TIMEOUT_MS = __BATCH_EXPORT_TIMEOUT_MS__L;
+
     private ObservabilityBootstrap() {
         // utility class
     }
@@ -33,8 +46,16 @@ public final class ObservabilityBootstrap {
         OtlpGrpcSpanExporter spanExporter = OtlpGrpcSpanExporter.builder()
                 .build();
 
+        BatchSpanProcessor spanProcessor = BatchSpanProcessor.builder(spanExporter)
+                .setMaxQueueSize(BATCH_MAX_QUEUE_SIZE)
+                .setMaxExportBatchSize(BATCH_MAX_EXPORT_BATCH_SIZE)
+                .setScheduleDelay(Duration.ofMillis(BATCH_SCHEDULE_DELAY_MS))
+                .setExporterTimeout(Duration.ofMillis(BATCH_EXPORT_TIMEOUT_MS))
+                .build();
+
         SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
-                .addSpanProcessor(BatchSpanProcessor.builder(spanExporter).build())
+                .setSampler(sampler())
+                .addSpanProcessor(spanProcessor)
                 .setResource(resource)
                 .build();
 
@@ -43,4 +64,16 @@ public final class ObservabilityBootstrap {
                 .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
                 .buildAndRegisterGlobal();
     }
+
+    static Sampler sampler() {
+        Sampler root;
+        if (SAMPLING_RATIO >= 1.0) {
+            root = Sampler.alwaysOn();
+        } else if (SAMPLING_RATIO <= 0.0) {
+            root = Sampler.alwaysOff();
+        } else {
+            root = Sampler.traceIdRatioBased(SAMPLING_RATIO);
+        }
+        return PARENT_BASED_SAMPLING ? Sampler.parentBased(root) : root;
+    }
 }
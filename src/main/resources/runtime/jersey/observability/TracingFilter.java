@@ -1,6 +1,8 @@
 package __PACKAGE__.observability;
 
+import egain.ws.oas.RouteIndex;
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.api.trace.StatusCode;
@@ -8,6 +10,7 @@ import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
 import __INJECT_NS__.Singleton;
 import __WS_NS__.container.ContainerRequestContext;
 import __WS_NS__.container.ContainerRequestFilter;
@@ -15,16 +18,32 @@ import __WS_NS__.container.ContainerResponseContext;
 import __WS_NS__.container.ContainerResponseFilter;
 import __WS_NS__.ext.Provider;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Set;
 
+/**
+ * Starts a SERVER span per request, continuing the caller's W3C trace context.
+ *
+ * <p>Span names are precomputed per OpenAPI operation ({@code GET /v4/folders/{folderID}}), so naming a span
+ * is a route lookup rather than string building. Attributes are only computed for spans the sampler keeps;
+ * unsampled requests pay for context extraction and a non-recording span only.
+ */
 @Provider
 @Singleton
 public class TracingFilter implements ContainerRequestFilter, ContainerResponseFilter {
 
     private static final String SPAN_PROPERTY = "tracing.span";
     private static final String SCOPE_PROPERTY = "tracing.scope";
+    private static final Set<String> KNOWN_METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "DELETE", "PATCH", "OPTIONS", "TRACE");
+
+    private static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+    private static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+    private static final AttributeKey<String> HTTP_URL = AttributeKey.stringKey("http.url");
+    private static final AttributeKey<Long> HTTP_STATUS_CODE = AttributeKey.longKey("http.status_code");
 
     private final Tracer tracer;
+    private final TextMapPropagator propagator;
+    private final RouteIndex<Route> routes = new RouteIndex<>();
 
     private static final TextMapGetter<ContainerRequestContext> GETTER = new TextMapGetter<>() {
         @Override
@@ -40,20 +59,33 @@ public class TracingFilter implements ContainerRequestFilter, ContainerResponseF
 
     public TracingFilter() {
         this.tracer = GlobalOpenTelemetry.getTracer("jersey-server");
+        this.propagator = GlobalOpenTelemetry.getPropagators().getTextMapPropagator();
+__ROUTE_REGISTRATIONS__    }
+
+    private void register(String template, String method) {
+        routes.add(template, method, new Route(method + " " + template, template));
     }
 
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
-        Context extractedContext = GlobalOpenTelemetry.getPropagators()
-                .getTextMapPropagator()
-                .extract(Context.current(), requestContext, GETTER);
+        Context extractedContext = propagator.extract(Context.current(), requestContext, GETTER);
 
-        Span span = tracer.spanBuilder(requestContext.getMethod() + " " + requestContext.getUriInfo().getPath())
+        String method = requestContext.getMethod();
+        Route route = routes.lookup(requestContext.getUriInfo().getPath(), method);
+        // Unmatched requests are named after the method alone so span names stay low-cardinality
+        String spanName = route != null ? route.spanName() : KNOWN_METHODS.contains(method) ? method : "HTTP";
+
+        Span span = tracer.spanBuilder(spanName)
                 .setParent(extractedContext)
                 .setSpanKind(SpanKind.SERVER)
-                .setAttribute("http.method", requestContext.getMethod())
-                .setAttribute("http.url", requestContext.getUriInfo().getRequestUri().toString())
                 .startSpan();
+        if (span.isRecording()) {
+            span.setAttribute(HTTP_METHOD, method);
+            if (route != null) {
+                span.setAttribute(HTTP_ROUTE, route.template());
+            }
+            span.setAttribute(HTTP_URL, requestContext.getUriInfo().getRequestUri().toString());
+        }
 
         Scope scope = span.makeCurrent();
         requestContext.setProperty(SPAN_PROPERTY, span);
@@ -66,9 +98,11 @@ public class TracingFilter implements ContainerRequestFilter, ContainerResponseF
         Scope scope = (Scope) requestContext.getProperty(SCOPE_PROPERTY);
         Span span = (Span) requestContext.getProperty(SPAN_PROPERTY);
         if (span != null) {
-            span.setAttribute("http.status_code", responseContext.getStatus());
-            if (responseContext.getStatus() >= 500) {
-                span.setStatus(StatusCode.ERROR, "HTTP " + responseContext.getStatus());
+            if (span.isRecording()) {
+                span.setAttribute(HTTP_STATUS_CODE, (long) responseContext.getStatus());
+                if (responseContext.getStatus() >= 500) {
+                    span.setStatus(StatusCode.ERROR, "HTTP " + responseContext.getStatus());
+                }
             }
             span.end();
         }
@@ -76,4 +110,7 @@ public class TracingFilter implements ContainerRequestFilter, ContainerResponseF
             scope.close();
         }
     }
+
+    private record Route(String spanName, String template) {
+    }
 }
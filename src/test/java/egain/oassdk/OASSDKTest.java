@@ -194,6 +194,23 @@ public class OASSDKTest {
         assertSame(sdk, result);
     }
     
+    @Test
+    public void testGenerateApplicationLeavesConfigUnchanged(@TempDir Path tempDir) throws Exception {
+        GeneratorConfig config = new GeneratorConfig();
+        OASSDK configuredSDK = new OASSDK(config, new TestConfig(), new SLAConfig());
+        configuredSDK.loadSpec("src/test/resources/openapi.yaml");
+        configuredSDK.loadSLA("src/test/resources/sla.yaml");
+
+        configuredSDK.generateApplication("java", "jersey", "com.example.api", tempDir.toString());
+
+        // SLA latency targets are used for this run only
+        assertTrue(config.getObservabilityConfig().getSloBucketsMs().isEmpty());
+        try (var files = Files.walk(tempDir)) {
+            Path metricsFilter = files.filter(p -> p.endsWith("MetricsFilter.java")).findFirst().orElseThrow();
+            assertTrue(Files.readString(metricsFilter).contains("SLO_BUCKETS_MS = {200L, 500L}"));
+        }
+    }
+    
     @Test
     public void testGenerateApplicationWithoutPackageName(@TempDir Path tempDir) throws OASSDKException {
         sdk.loadSpec("src/test/resources/openapi.yaml");
@@ -132,4 +132,43 @@ public class UtilTest {
                 () -> Util.asObjectList("not a list"));
         assertTrue(e.getMessage().contains("Expected a List"));
     }
+
+    @Test
+    public void testAsStringObjectMapViewIsReadOnlyAndLive() {
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("a", 1);
+        Map<String, Object> view = Util.asStringObjectMapView(input);
+        assertNotSame(input, view);
+        assertEquals(input, view);
+        assertThrows(UnsupportedOperationException.class, () -> view.put("b", 2));
+
+        input.put("b", 2);
+        assertEquals(2, view.get("b"));
+    }
+
+    @Test
+    public void testAsStringObjectMapViewChecksTypes() {
+        assertNull(Util.asStringObjectMapView(null));
+        assertThrows(IllegalArgumentException.class, () -> Util.asStringObjectMapView("not a map"));
+        Map<Object, Object> bad = new LinkedHashMap<>();
+        bad.put(123, "value");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Util.asStringObjectMapView(bad));
+        assertTrue(e.getMessage().contains("Non-String key"));
+    }
+
+    @Test
+    public void testListViews() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("k", "v");
+        List<Map<String, Object>> maps = Util.asStringObjectMapListView(Arrays.asList(m, null));
+        assertEquals(m, maps.get(0));
+        assertNull(maps.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> maps.get(0).put("x", 1));
+
+        List<String> strings = Util.asStringListView(Arrays.asList("a", null));
+        assertEquals(Arrays.asList("a", null), strings);
+        assertThrows(UnsupportedOperationException.class, () -> strings.add("c"));
+        assertThrows(IllegalArgumentException.class, () -> Util.asStringListView(Arrays.asList("a", 42)));
+    }
 }
@@ -48,6 +48,17 @@ public class GeneratorConfigTest {
         GeneratorConfig built = GeneratorConfig.builder().useBoxedPrimitives(true).build();
         assertTrue(built.isUseBoxedPrimitives());
     }
+
+    @Test
+    public void testCollectAllValidationErrorsDefaultAndBuilder() {
+        GeneratorConfig config = new GeneratorConfig();
+        assertFalse(config.isCollectAllValidationErrors());
+        config.setCollectAllValidationErrors(true);
+        assertTrue(config.isCollectAllValidationErrors());
+
+        GeneratorConfig built = GeneratorConfig.builder().collectAllValidationErrors(true).build();
+        assertTrue(built.isCollectAllValidationErrors());
+    }
     
     @Test
     public void testSpecZipPathGetterAndSetter() {
@@ -244,5 +255,24 @@ public class GeneratorConfigTest {
         assertNotNull(config.getAdditionalProperties());
         assertTrue(config.getAdditionalProperties().isEmpty());
     }
-}
 
+    @Test
+    public void testCopyConstructor() {
+        GeneratorConfig original = GeneratorConfig.builder()
+            .language("java")
+            .framework("jersey")
+            .packageName("com.test")
+            .build();
+        original.setIncludePaths(List.of("/a"));
+        original.setParallelGeneration(true);
+
+        GeneratorConfig copy = new GeneratorConfig(original);
+        assertEquals(original.toString(), copy.toString());
+        assertNotSame(original.getObservabilityConfig(), copy.getObservabilityConfig());
+
+        copy.getObservabilityConfig().setSloBucketsMs(List.of(200L));
+        copy.setIncludePaths(List.of("/b"));
+        assertTrue(original.getObservabilityConfig().getSloBucketsMs().isEmpty());
+        assertEquals(List.of("/a"), original.getIncludePaths());
+    }
+}
@@ -3,7 +3,9 @@ package egain.oassdk.config;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -186,4 +188,73 @@ public class ObservabilityConfigTest {
         assertEquals("http://host:4318", config.getOtlpEndpoint());
         assertEquals("v", config.getResourceAttributes().get("k"));
     }
+
+    @Test
+    @DisplayName("SLO buckets default to empty and are copied defensively")
+    public void testSloBucketsMs() {
+        assertTrue(new ObservabilityConfig().getSloBucketsMs().isEmpty());
+        assertTrue(ObservabilityConfig.builder().build().getSloBucketsMs().isEmpty());
+
+        List<Long> buckets = new ArrayList<>(List.of(200L, 500L));
+        ObservabilityConfig config = ObservabilityConfig.builder().sloBucketsMs(buckets).build();
+        buckets.add(1000L);
+        assertEquals(List.of(200L, 500L), config.getSloBucketsMs());
+
+        config.getSloBucketsMs().clear();
+        assertEquals(List.of(200L, 500L), config.getSloBucketsMs());
+
+        config.setSloBucketsMs(null);
+        assertTrue(config.getSloBucketsMs().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Sampling and batch export settings default to OpenTelemetry SDK defaults")
+    public void testTracingSettings() {
+        ObservabilityConfig defaults = ObservabilityConfig.builder().build();
+        assertEquals(1.0, defaults.getSamplingRatio());
+        assertTrue(defaults.isParentBasedSampling());
+        assertEquals(2048, defaults.getBatchMaxQueueSize());
+        assertEquals(512, defaults.getBatchMaxExportBatchSize());
+        assertEquals(5000, defaults.getBatchScheduleDelayMs());
+        assertEquals(30000, defaults.getBatchExportTimeoutMs());
+        assertEquals(defaults.getSamplingRatio(), new ObservabilityConfig().getSamplingRatio());
+
+        ObservabilityConfig config = ObservabilityConfig.builder()
+                .samplingRatio(0.1)
+                .parentBasedSampling(false)
+                .batchMaxQueueSize(8192)
+                .batchMaxExportBatchSize(1024)
+                .batchScheduleDelayMs(200)
+                .batchExportTimeoutMs(5000)
+                .build();
+        assertEquals(0.1, config.getSamplingRatio());
+        assertFalse(config.isParentBasedSampling());
+        assertEquals(8192, config.getBatchMaxQueueSize());
+        assertEquals(1024, config.getBatchMaxExportBatchSize());
+        assertEquals(200, config.getBatchScheduleDelayMs());
+        assertEquals(5000, config.getBatchExportTimeoutMs());
+    }
+
+    @Test
+    @DisplayName("Copy constructor copies every setting and owns its collections")
+    public void testCopyConstructor() {
+        ObservabilityConfig original = ObservabilityConfig.builder()
+                .serviceName("svc")
+                .metricsExporter("otlp")
+                .resourceAttributes(Map.of("env", "test"))
+                .sloBucketsMs(List.of(200L))
+                .samplingRatio(0.25)
+                .batchMaxQueueSize(4096)
+                .build();
+
+        ObservabilityConfig copy = new ObservabilityConfig(original);
+        assertEquals(original.toString(), copy.toString());
+        assertEquals(0.25, copy.getSamplingRatio());
+        assertEquals(4096, copy.getBatchMaxQueueSize());
+
+        copy.setSloBucketsMs(List.of(100L, 500L));
+        copy.setResourceAttributes(Map.of());
+        assertEquals(List.of(200L), original.getSloBucketsMs());
+        assertEquals(Map.of("env", "test"), original.getResourceAttributes());
+    }
 }
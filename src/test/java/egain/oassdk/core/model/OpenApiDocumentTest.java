@@ -0,0 +1,119 @@
+package egain.oassdk.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for OpenApiDocument
+ */
+public class OpenApiDocumentTest {
+
+    private static Map<String, Object> schema(String type) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", type);
+        return schema;
+    }
+
+    private static Map<String, Object> operation(String operationId) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        operation.put("operationId", operationId);
+        return operation;
+    }
+
+    /** Pet refers to Owner by $ref and to Tag by sharing its map, as the parser inlines references. */
+    private static Map<String, Object> spec() {
+        Map<String, Object> tag = schema("object");
+        Map<String, Object> owner = schema("object");
+        Map<String, Object> pet = schema("object");
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("owner", Map.of("$ref", "#/components/schemas/Owner"));
+        properties.put("tags", Map.of("type", "array", "items", tag));
+        pet.put("properties", properties);
+        // Owner refers back to Pet
+        owner.put("properties", Map.of("pets", Map.of("type", "array", "items", pet)));
+
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        schemas.put("Pet", pet);
+        schemas.put("Owner", owner);
+        schemas.put("Tag", tag);
+        schemas.put("Label", tag);
+
+        Map<String, Object> petItem = new LinkedHashMap<>();
+        petItem.put("post", operation("createPet"));
+        petItem.put("get", operation("listPets"));
+        Map<String, Object> paths = new LinkedHashMap<>();
+        paths.put("/pets", petItem);
+        paths.put("/owners", Map.of("get", operation("listOwners")));
+
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("openapi", "3.0.0");
+        spec.put("paths", paths);
+        spec.put("components", Map.of("schemas", schemas));
+        return spec;
+    }
+
+    @Test
+    public void testOperationsInDocumentOrder() {
+        OpenApiDocument document = OpenApiDocument.of(spec());
+
+        assertEquals(List.of("listPets", "createPet", "listOwners"),
+                document.operations().stream().map(OpenApiDocument.Operation::operationId).toList());
+        OpenApiDocument.Operation create = document.operation("createPet");
+        assertEquals("/pets", create.path());
+        assertEquals("post", create.method());
+        assertEquals(List.of("get", "post"),
+                document.operationsAt("/pets").stream().map(OpenApiDocument.Operation::method).toList());
+        assertTrue(document.operationsAt("/missing").isEmpty());
+        assertNull(document.operation("missing"));
+    }
+
+    @Test
+    public void testSchemaNameOfMatchesByIdentity() {
+        Map<String, Object> spec = spec();
+        OpenApiDocument document = OpenApiDocument.of(spec);
+
+        assertEquals(List.of("Pet", "Owner", "Tag", "Label"), List.copyOf(document.schemaNames()));
+        assertEquals("Pet", document.schemaNameOf(document.schema("Pet")));
+        // Aliases share a map: the first name wins
+        assertEquals("Tag", document.schemaNameOf(document.schema("Label")));
+        // Equal is not enough
+        assertNull(document.schemaNameOf(new LinkedHashMap<>(document.schema("Pet"))));
+        assertNull(document.schemaNameOf(null));
+    }
+
+    @Test
+    public void testReferencesInBothDirections() {
+        OpenApiDocument document = OpenApiDocument.of(spec());
+
+        assertEquals(Set.of("Owner", "Tag"), document.references("Pet"));
+        assertEquals(Set.of("Pet"), document.references("Owner"));
+        assertTrue(document.references("Tag").isEmpty());
+        assertEquals(Set.of("Owner"), document.referencedBy("Pet"));
+        assertEquals(Set.of("Pet"), document.referencedBy("Tag"));
+        assertTrue(document.referencedBy("Missing").isEmpty());
+    }
+
+    @Test
+    public void testSelfReferentialSchema() {
+        Map<String, Object> node = schema("object");
+        node.put("properties", Map.of("next", node));
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("components", Map.of("schemas", Map.of("Node", node)));
+
+        OpenApiDocument document = OpenApiDocument.of(spec);
+
+        assertEquals(Set.of("Node"), document.references("Node"));
+        assertTrue(document.operations().isEmpty());
+    }
+
+    @Test
+    public void testNullSpecThrows() {
+        assertThrows(IllegalArgumentException.class, () -> OpenApiDocument.of(null));
+    }
+}
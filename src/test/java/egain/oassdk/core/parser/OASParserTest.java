@@ -7,7 +7,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -481,5 +483,54 @@ public class OASParserTest {
         assertFalse(schemas.containsKey("ImplicitObjectListRef"),
             "Inline array with implicit object items must not register ImplicitObjectListRef when inlined");
     }
-}
 
+    @Test
+    public void testParseStreamDetectsFormatFromFirstBytes() throws OASSDKException {
+        // Byte order mark and leading white space before the opening brace
+        byte[] json = "\uFEFF \n{\"openapi\":\"3.0.0\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] yaml = "openapi: 3.0.0\ninfo:\n  title: Test\n".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("3.0.0", parser.parse(new ByteArrayInputStream(json), "spec").get("openapi"));
+        assertEquals("3.0.0", parser.parse(new ByteArrayInputStream(yaml), "spec").get("openapi"));
+        assertEquals("3.0.0", parser.parse(new ByteArrayInputStream(yaml), "spec.yaml").get("openapi"));
+        assertThrows(OASSDKException.class,
+                () -> parser.parse(new ByteArrayInputStream("{ not json".getBytes(StandardCharsets.UTF_8)), "spec"));
+    }
+
+    @Test
+    public void testParsedKeysAreInterned() throws OASSDKException {
+        String yamlContent = """
+            a:
+              type: string
+            b:
+              type: string
+            """;
+
+        Map<String, Object> spec = parser.parse(
+                new ByteArrayInputStream(yamlContent.getBytes(StandardCharsets.UTF_8)), "test.yaml");
+
+        String first = Util.asStringObjectMap(spec.get("a")).keySet().iterator().next();
+        String second = Util.asStringObjectMap(spec.get("b")).keySet().iterator().next();
+        assertSame(first, second);
+        assertSame("type", first);
+    }
+
+    @Test
+    public void testParseYamlFileLargerThanDefaultYamlLimit(@TempDir Path tempDir) throws IOException, OASSDKException {
+        // SnakeYAML rejects documents over 3 MB by default
+        StringBuilder yaml = new StringBuilder("openapi: 3.0.0\ncomponents:\n  schemas:\n");
+        int count = 0;
+        while (yaml.length() < 4 * 1024 * 1024) {
+            yaml.append("    Schema").append(count++).append(":\n      type: object\n")
+                    .append("      description: ").append("x".repeat(200)).append('\n');
+        }
+        Path file = tempDir.resolve("large.yaml");
+        Files.writeString(file, yaml);
+        parser.setDocumentCache(null);
+
+        Map<String, Object> spec = parser.parse(file.toString());
+
+        Map<String, Object> schemas = Util.asStringObjectMap(Util.asStringObjectMap(spec.get("components")).get("schemas"));
+        assertEquals(count, schemas.size());
+    }
+}
@@ -0,0 +1,170 @@
+package egain.oassdk.core.parser;
+
+import egain.oassdk.core.exceptions.OASSDKException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for ParsedDocumentCache
+ */
+public class ParsedDocumentCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeSchema(String name, String propertyName) throws IOException {
+        Path file = tempDir.resolve(name + ".yaml");
+        Files.writeString(file, """
+            type: object
+            title: %s
+            properties:
+              %s:
+                type: string
+            """.formatted(name, propertyName));
+        return file;
+    }
+
+    private static OASParser parserWith(ParsedDocumentCache cache) {
+        OASParser parser = new OASParser();
+        parser.setDocumentCache(cache);
+        return parser;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> properties(Map<String, Object> schema) {
+        return (Map<String, Object>) schema.get("properties");
+    }
+
+    @Test
+    public void testDocumentSharedAcrossParsersAsPrivateCopies() throws IOException, OASSDKException {
+        Path file = writeSchema("User", "name");
+        ParsedDocumentCache cache = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_RETAINED_BYTES);
+
+        Map<String, Object> first = parserWith(cache).parse(file.toString());
+        Map<String, Object> second = parserWith(cache).parse(file.toString());
+
+        assertEquals(first, second);
+        assertNotSame(properties(first), properties(second));
+        ParsedDocumentCache.Stats stats = cache.stats();
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.documents());
+        assertEquals(0.5, stats.hitRate());
+
+        // Changes made by one caller never reach another
+        properties(second).clear();
+        second.put("$ref", "Other.yaml");
+        assertEquals(first, parserWith(cache).parse(file.toString()));
+    }
+
+    @Test
+    public void testEditedFileIsParsedAgain() throws IOException, OASSDKException {
+        Path file = writeSchema("User", "name");
+        ParsedDocumentCache cache = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_RETAINED_BYTES);
+        OASParser parser = parserWith(cache);
+        parser.parse(file.toString());
+
+        // Same size, so only the content hash can tell the files apart
+        writeSchema("User", "mail");
+        assertTrue(properties(parser.parse(file.toString())).containsKey("mail"));
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDocumentsEvicted() throws IOException, OASSDKException {
+        Path a = writeSchema("A", "name");
+        Path b = writeSchema("B", "name");
+        Path c = writeSchema("C", "name");
+        ParsedDocumentCache probe = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_RETAINED_BYTES);
+        parserWith(probe).parse(a.toString());
+        long documentBytes = probe.stats().retainedBytes();
+
+        // Room for two documents
+        ParsedDocumentCache cache = new ParsedDocumentCache(documentBytes * 2 + documentBytes / 2);
+        OASParser parser = parserWith(cache);
+        parser.parse(a.toString());
+        parser.parse(b.toString());
+        parser.parse(a.toString());
+        parser.parse(c.toString());
+
+        ParsedDocumentCache.Stats stats = cache.stats();
+        assertEquals(2, stats.documents());
+        assertEquals(1, stats.evictions());
+        assertTrue(stats.retainedBytes() <= stats.maxRetainedBytes());
+
+        // B was least recently used
+        parser.parse(a.toString());
+        assertEquals(2, cache.stats().hits());
+        parser.parse(b.toString());
+        assertEquals(4, cache.stats().misses());
+    }
+
+    @Test
+    public void testExternalFilesParsedOnceAcrossSpecs() throws IOException, OASSDKException {
+        writeSchema("User", "name");
+        ParsedDocumentCache cache = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_RETAINED_BYTES);
+        List<Path> specs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Path spec = tempDir.resolve("api" + i + ".yaml");
+            Files.writeString(spec, """
+                openapi: 3.0.0
+                info:
+                  title: API %d
+                  version: 1.0.0
+                paths: {}
+                components:
+                  schemas:
+                    User:
+                      $ref: User.yaml
+                """.formatted(i));
+            specs.add(spec);
+        }
+
+        for (Path spec : specs) {
+            OASParser parser = parserWith(cache);
+            Map<String, Object> resolved = parser.resolveReferences(parser.parse(spec.toString()), spec.toString());
+            assertNotNull(resolved.get("components"));
+        }
+        // Three specs, one shared external file
+        assertEquals(4, cache.stats().misses());
+        assertEquals(2, cache.stats().hits());
+    }
+
+    @Test
+    public void testConcurrentCheckouts() throws Exception {
+        Path file = writeSchema("User", "name");
+        ParsedDocumentCache cache = new ParsedDocumentCache(ParsedDocumentCache.DEFAULT_MAX_RETAINED_BYTES);
+        Map<String, Object> expected = new OASParser().parse(file.toString());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<String, Object>>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> {
+                    Map<String, Object> document = parserWith(cache).parse(file.toString());
+                    properties(document).put("extra", Map.of("type", "string"));
+                    return document;
+                }));
+            }
+            for (Future<Map<String, Object>> future : futures) {
+                Map<String, Object> document = future.get();
+                properties(document).remove("extra");
+                assertEquals(expected, document);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(32, cache.stats().hits() + cache.stats().misses());
+    }
+}
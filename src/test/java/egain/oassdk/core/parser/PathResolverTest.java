@@ -11,6 +11,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
 /**
  * Comprehensive tests for PathResolver
@@ -294,5 +297,78 @@ public class PathResolverTest {
         // Verify MAX_FILE_SIZE is accessible and has correct value
         assertEquals(100 * 1024 * 1024L, PathResolver.MAX_FILE_SIZE);
     }
-}
 
+    @Test
+    public void testRecursiveSearchPicksShallowestThenFirstByPath() throws IOException, OASSDKException {
+        Path root = tempDir.resolve("ambiguous");
+        for (String dir : List.of("b/deep", "c", "a")) {
+            Files.createDirectories(root.resolve(dir));
+            Files.createFile(root.resolve(dir).resolve("Shared.yaml"));
+        }
+        Files.createDirectories(root.resolve("z"));
+        Files.createFile(root.resolve("z").resolve("Deep.yaml"));
+        Files.createDirectories(root.resolve("a/x"));
+        Files.createFile(root.resolve("a/x").resolve("Deep.yaml"));
+
+        PathResolver resolver = new PathResolver(List.of(root.toString()));
+        assertEquals(root.resolve("a/Shared.yaml"), resolver.resolveReference("./Shared.yaml", baseDir));
+        assertEquals(root.resolve("z/Deep.yaml"), resolver.resolveReference("Deep.yaml", baseDir));
+    }
+
+    @Test
+    public void testRecursiveSearchSeesAddedAndRemovedFiles() throws Exception {
+        Path root = tempDir.resolve("changing");
+        Path deep = root.resolve("x/y");
+        Files.createDirectories(deep);
+        Files.createFile(deep.resolve("Known.yaml"));
+        PathResolver resolver = new PathResolver(List.of(root.toString()));
+        assertEquals(deep.resolve("Known.yaml"), resolver.resolveReference("Known.yaml", baseDir));
+        assertThrows(OASSDKException.class, () -> resolver.resolveReference("Added.yaml", baseDir));
+
+        // A file added after the index was built, seen once the directories are next checked
+        Files.createFile(deep.resolve("Added.yaml"));
+        Thread.sleep(SearchPathIndex.REVALIDATE_INTERVAL_MS + 100);
+        assertEquals(deep.resolve("Added.yaml"), resolver.resolveReference("Added.yaml", baseDir));
+
+        // A file moved after it was found
+        Path moved = root.resolve("x/Known.yaml");
+        Files.move(deep.resolve("Known.yaml"), moved);
+        assertEquals(moved, resolver.resolveReference("Known.yaml", baseDir));
+    }
+
+    @Test
+    public void testAmbiguousReferenceWarningNamesFilesUnderSearchPath() throws IOException, OASSDKException {
+        Path root = tempDir.resolve("warned");
+        for (String dir : List.of("a", "b")) {
+            Files.createDirectories(root.resolve(dir));
+            Files.createFile(root.resolve(dir).resolve("Twice.yaml"));
+        }
+        List<String> warnings = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                warnings.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(SearchPathIndex.class.getName());
+        logger.addHandler(handler);
+        try {
+            new PathResolver(List.of(root.toString())).resolveReference("Twice.yaml", baseDir);
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        assertEquals(1, warnings.size());
+        String unixRoot = PathUtils.toUnixPath(root);
+        assertTrue(warnings.get(0).contains("using " + unixRoot + "/a/Twice.yaml"), warnings.get(0));
+        assertTrue(warnings.get(0).contains(unixRoot + "/b/Twice.yaml"), warnings.get(0));
+    }
+}
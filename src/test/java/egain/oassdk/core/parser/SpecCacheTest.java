@@ -0,0 +1,213 @@
+package egain.oassdk.core.parser;
+
+import egain.oassdk.core.exceptions.OASSDKException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for SpecCache and OASParser.parseAndResolve
+ */
+public class SpecCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path apiPath;
+    private Path userPath;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path modelsDir = tempDir.resolve("models");
+        Files.createDirectories(modelsDir);
+        userPath = modelsDir.resolve("User.yaml");
+        writeUser("name");
+        apiPath = tempDir.resolve("api.yaml");
+        Files.writeString(apiPath, """
+            openapi: 3.0.0
+            info:
+              title: Test API
+              version: 1.0.0
+            paths:
+              /users:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+                      content:
+                        application/json:
+                          schema:
+                            $ref: models/User.yaml
+            components:
+              schemas:
+                User:
+                  $ref: models/User.yaml
+            """);
+    }
+
+    private void writeUser(String propertyName) throws IOException {
+        Files.writeString(userPath, """
+            type: object
+            title: User
+            properties:
+              %s:
+                type: string
+            """.formatted(propertyName));
+    }
+
+    // Not Util.asStringObjectMap, which copies: the tests modify what they get
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    private static Map<String, Object> userProperties(Map<String, Object> spec) {
+        Map<String, Object> schemas = map(map(spec.get("components")).get("schemas"));
+        return map(map(schemas.get("User")).get("properties"));
+    }
+
+    private OASParser cachedParser(SpecCache cache) {
+        OASParser parser = new OASParser();
+        parser.setSpecCache(cache);
+        return parser;
+    }
+
+    @Test
+    public void testCachedSpecMatchesUncachedAndIsCopied() throws OASSDKException {
+        Map<String, Object> uncached = new OASParser().parseAndResolve(apiPath.toString());
+        OASParser parser = cachedParser(new SpecCache(null));
+
+        Map<String, Object> first = parser.parseAndResolve(apiPath.toString());
+        Map<String, Object> second = parser.parseAndResolve(apiPath.toString());
+
+        assertEquals(uncached, first);
+        assertEquals(uncached, second);
+        assertNotSame(first, second);
+
+        // Callers may modify what they get without affecting the cache
+        userProperties(second).clear();
+        second.remove("paths");
+        assertEquals(uncached, parser.parseAndResolve(apiPath.toString()));
+    }
+
+    @Test
+    public void testEditedExternalFileInvalidatesResolvedSpec() throws IOException, OASSDKException {
+        OASParser parser = cachedParser(new SpecCache(null));
+        assertTrue(userProperties(parser.parseAndResolve(apiPath.toString())).containsKey("name"));
+
+        // Same size, so only the content hash can tell the files apart
+        writeUser("mail");
+        Map<String, Object> reloaded = parser.parseAndResolve(apiPath.toString());
+        assertTrue(userProperties(reloaded).containsKey("mail"));
+        assertFalse(userProperties(reloaded).containsKey("name"));
+        assertEquals(new OASParser().parseAndResolve(apiPath.toString()), reloaded);
+    }
+
+    @Test
+    public void testSnapshotReusedByNewCacheUntilFilesChange() throws IOException, OASSDKException {
+        Path snapshotDir = tempDir.resolve("snapshots");
+        Map<String, Object> expected = cachedParser(new SpecCache(snapshotDir)).parseAndResolve(apiPath.toString());
+        List<Path> snapshots;
+        try (Stream<Path> files = Files.list(snapshotDir)) {
+            snapshots = files.toList();
+        }
+        assertEquals(1, snapshots.size());
+
+        // A new cache (as in a new process) loads the snapshot
+        assertEquals(expected, cachedParser(new SpecCache(snapshotDir)).parseAndResolve(apiPath.toString()));
+
+        // A snapshot whose files changed is ignored
+        writeUser("mail");
+        Map<String, Object> reloaded = cachedParser(new SpecCache(snapshotDir)).parseAndResolve(apiPath.toString());
+        assertTrue(userProperties(reloaded).containsKey("mail"));
+
+        // An unreadable snapshot is ignored too
+        for (Path snapshot : snapshots) {
+            Files.writeString(snapshot, "not a snapshot");
+        }
+        reloaded = cachedParser(new SpecCache(snapshotDir)).parseAndResolve(apiPath.toString());
+        assertTrue(userProperties(reloaded).containsKey("mail"));
+    }
+
+    @Test
+    public void testCopyKeepsSharedAndRecursiveSubtrees() {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("type", "object");
+        List<Object> children = new ArrayList<>();
+        children.add(node);
+        node.put("children", children);
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("a", node);
+        root.put("b", node);
+
+        Map<String, Object> copy = SpecTrees.copy(root);
+
+        assertNotSame(root.get("a"), copy.get("a"));
+        assertSame(copy.get("a"), copy.get("b"));
+        Map<String, Object> copiedNode = map(copy.get("a"));
+        assertSame(copy.get("a"), ((List<?>) copiedNode.get("children")).get(0));
+    }
+
+    @Test
+    public void testCanonicalCopyKeepsContentOrderAndIdentity() {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("type", "object");
+        List<Object> children = new ArrayList<>();
+        children.add(node);
+        children.add(null);
+        node.put("children", children);
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("a", node);
+        root.put("b", node);
+        // Equal but distinct schemas stay distinct
+        root.put("c", new LinkedHashMap<>(Map.of("type", new String("object"))));
+        root.put("d", new LinkedHashMap<>(Map.of("type", "object")));
+        Map<String, Object> large = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            large.put("property" + i, i);
+        }
+        root.put("large", large);
+
+        Map<String, Object> canonical = OASParser.canonicalize(root);
+
+        // Not assertEquals(root, canonical): equals does not terminate on recursive trees
+        assertEquals(List.copyOf(root.keySet()), List.copyOf(canonical.keySet()));
+        assertEquals(root.get("c"), canonical.get("c"));
+        assertEquals(large, canonical.get("large"));
+        assertEquals(List.copyOf(large.keySet()), List.copyOf(map(canonical.get("large")).keySet()));
+        assertEquals(42, map(canonical.get("large")).get("property42"));
+        assertNull(map(canonical.get("large")).get("missing"));
+        assertSame(canonical.get("a"), canonical.get("b"));
+        assertSame(canonical.get("a"), ((List<?>) map(canonical.get("a")).get("children")).get(0));
+        assertNotSame(canonical.get("c"), canonical.get("d"));
+        // Short strings are interned
+        assertSame("object", map(canonical.get("c")).get("type"));
+        assertThrows(UnsupportedOperationException.class, () -> canonical.put("e", "f"));
+        assertThrows(UnsupportedOperationException.class, () -> map(canonical.get("a")).remove("type"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> ((List<?>) map(canonical.get("a")).get("children")).clear());
+    }
+
+    @Test
+    public void testCachedTreesAreCanonical() throws OASSDKException {
+        SpecCache cache = new SpecCache(null);
+        Map<String, Object> resolved = cachedParser(cache).parseAndResolve(apiPath.toString());
+
+        // What callers get is still a private, mutable copy
+        Map<String, Object> again = cachedParser(cache).parseAndResolve(apiPath.toString());
+        assertEquals(resolved, again);
+        userProperties(again).put("mail", Map.of("type", "string"));
+        assertEquals(resolved, cachedParser(cache).parseAndResolve(apiPath.toString()));
+    }
+}
@@ -4,9 +4,22 @@ import egain.oassdk.core.exceptions.GenerationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,5 +44,173 @@ public class RateLimitCheckerTest {
         assertTrue(Files.exists(tempDir.resolve("RateLimitInterceptor.java")));
         assertTrue(Files.exists(tempDir.resolve("RateLimitConfig.java")));
         assertTrue(Files.exists(tempDir.resolve("RateLimitService.java")));
+        assertTrue(Files.exists(tempDir.resolve("RateLimitBackend.java")));
+        assertTrue(Files.exists(tempDir.resolve("SharedStore.java")));
+        assertTrue(Files.exists(tempDir.resolve("SharedStoreRateLimitBackend.java")));
+        assertTrue(Files.exists(tempDir.resolve("InProcessSharedStore.java")));
+    }
+
+    @Test
+    public void testInterceptorAndServiceUseBackendSpi(@TempDir Path tempDir) throws Exception {
+        new RateLimitChecker().generateRateLimitCheckers(Map.of(), tempDir.toString());
+
+        assertTrue(Files.readString(tempDir.resolve("RateLimiter.java")).contains("public class RateLimiter implements RateLimitBackend"));
+        assertTrue(Files.readString(tempDir.resolve("RateLimitInterceptor.java")).contains("private RateLimitBackend rateLimiter;"));
+        assertTrue(Files.readString(tempDir.resolve("RateLimitService.java")).contains("private RateLimitBackend rateLimiter;"));
+
+        String shared = Files.readString(tempDir.resolve("SharedStoreRateLimitBackend.java"));
+        assertTrue(shared.contains("public class SharedStoreRateLimitBackend implements RateLimitBackend"));
+        assertTrue(shared.contains("store.incrementAsync("), "Leases should be fetched asynchronously");
+        assertFalse(shared.contains(".join()"), "Requests must never wait on the store");
+    }
+
+    @Test
+    public void testRateLimitsReadFromSlaSpec(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> slaSpec = Map.of("sla", Map.of("enforcement", Map.of("rate_limiting", Map.of(
+                "requests_per_minute", 600,
+                "requests_per_hour", 20000,
+                "burst_capacity", 50,
+                "algorithm", "gcra"))));
+        new RateLimitChecker().generateRateLimitCheckers(slaSpec, tempDir.toString());
+
+        String config = Files.readString(tempDir.resolve("RateLimitConfig.java"));
+        assertTrue(config.contains("DEFAULT_ALGORITHM = RateLimiter.Algorithm.GCRA;"));
+        assertTrue(config.contains("DEFAULT_MAX_REQUESTS_PER_MINUTE = 600;"));
+        assertTrue(config.contains("DEFAULT_MAX_REQUESTS_PER_HOUR = 20000;"));
+        assertTrue(config.contains("DEFAULT_MAX_REQUESTS_PER_DAY = 100000;"), "Missing limits keep their defaults");
+        assertTrue(config.contains("DEFAULT_BURST_CAPACITY = 50;"));
+
+        String limiter = Files.readString(tempDir.resolve("RateLimiter.java"));
+        assertTrue(limiter.contains("AtomicLongArray"), "Per-client state should be primitive longs updated by CAS");
+        assertTrue(limiter.contains("compareAndSet"));
+        assertTrue(limiter.contains("public int evictIdle()"));
+        assertFalse(limiter.contains("LocalDateTime"), "Request timestamps should no longer be stored");
+        assertFalse(limiter.contains("synchronized"));
+
+        String service = Files.readString(tempDir.resolve("RateLimitService.java"));
+        assertFalse(service.contains("return 1000;"), "Service limits should come from the limiter");
+    }
+
+    @Test
+    public void testRateLimitsFallBackToThroughput() {
+        RateLimitChecker.RateLimits limits = RateLimitChecker.RateLimits.fromSla(Map.of("sla", Map.of(
+                "requirements", Map.of("performance", Map.of("throughput", Map.of("requests_per_second", 50))),
+                "enforcement", Map.of("rate_limiting", Map.of("algorithm", "sliding-window")))));
+        assertEquals(3000, limits.perMinute());
+        assertEquals("SLIDING_WINDOW", limits.algorithm());
+
+        RateLimitChecker.RateLimits defaults = RateLimitChecker.RateLimits.fromSla(Map.of());
+        assertEquals(new RateLimitChecker.RateLimits("TOKEN_BUCKET", 0, 1000, 10000, 100000, 0), defaults);
+
+        RateLimitChecker.RateLimits perSecond = RateLimitChecker.RateLimits.fromSla(Map.of("sla", Map.of(
+                "enforcement", Map.of("rate_limiting", Map.of("requests_per_second", 20)))));
+        assertEquals(20, perSecond.perSecond());
+    }
+
+    @Test
+    public void testInterceptorChecksEveryWindow(@TempDir Path tempDir) throws Exception {
+        new RateLimitChecker().generateRateLimitCheckers(Map.of(), tempDir.toString());
+
+        String interceptor = Files.readString(tempDir.resolve("RateLimitInterceptor.java"));
+        assertTrue(interceptor.contains("for (ChronoUnit window : RateLimitBackend.WINDOWS)"));
+        assertTrue(interceptor.contains("handleRateLimitExceeded(requestContext, clientKey, window)"));
+    }
+
+    @Test
+    public void testBackendsSharingOneStoreEnforceCombinedLimit(@TempDir Path tempDir) throws Exception {
+        ClassLoader loader = compileGenerated(tempDir);
+        Class<?> configClass = loader.loadClass("com.example.limits.RateLimitConfig");
+        Class<?> storeClass = loader.loadClass("com.example.limits.InProcessSharedStore");
+        Class<?> backendClass = loader.loadClass("com.example.limits.SharedStoreRateLimitBackend");
+        Class<?> spi = loader.loadClass("com.example.limits.RateLimitBackend");
+
+        // 100 per minute and 150 per hour for the whole cluster, shared by two nodes
+        Object config = configClass.getConstructor(int.class, int.class, int.class).newInstance(100, 150, 100000);
+        AtomicLong now = new AtomicLong(0);
+        LongSupplier clock = now::get;
+        Object store = storeClass.getConstructor(long.class, LongSupplier.class).newInstance(0L, clock);
+        Constructor<?> newBackend = backendClass.getDeclaredConstructor(configClass, loader.loadClass("com.example.limits.SharedStore"),
+                String.class, double.class, int.class, LongSupplier.class, boolean.class);
+        newBackend.setAccessible(true);
+        List<Object> nodes = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            nodes.add(newBackend.newInstance(config, store, "ratelimit", 0.1, -1, clock, false));
+        }
+
+        int[] admitted = new int[2];
+        for (int request = 0; request < 300; request++) {
+            int node = request % 2;
+            if ((boolean) spi.getMethod("isAllowed", String.class, ChronoUnit.class).invoke(nodes.get(node), "client", ChronoUnit.MINUTES)) {
+                admitted[node]++;
+            }
+        }
+        assertEquals(100, admitted[0] + admitted[1], "The per-minute limit holds across both nodes");
+        assertTrue(admitted[0] > 0 && admitted[1] > 0, "Both nodes admit part of the limit");
+
+        // The next minute admits again, up to what is left of the hour
+        now.set(60_000);
+        int admittedInHour = 0;
+        for (int request = 0; request < 300; request++) {
+            if ((boolean) spi.getMethod("isAllowed", String.class, ChronoUnit.class).invoke(nodes.get(request % 2), "client", ChronoUnit.HOURS)) {
+                admittedInHour++;
+            }
+        }
+        assertEquals(150, admittedInHour, "The per-hour limit holds across both nodes");
+        assertEquals(0, spi.getMethod("getMaxRequests", ChronoUnit.class).invoke(nodes.get(0), ChronoUnit.SECONDS),
+                "No per-second limit unless configured");
+    }
+
+    @Test
+    public void testTokenBucketRefillsAfterLongGapWithShortInterval(@TempDir Path tempDir) throws Exception {
+        ClassLoader loader = compileGenerated(tempDir);
+        Class<?> configClass = loader.loadClass("com.example.limits.RateLimitConfig");
+        Class<?> algorithmClass = loader.loadClass("com.example.limits.RateLimiter$Algorithm");
+        Class<?> limiterClass = loader.loadClass("com.example.limits.RateLimiter");
+
+        // Largest per-minute limit, so one token refills every 27 ns; a burst of 2
+        Object tokenBucket = algorithmClass.getField("TOKEN_BUCKET").get(null);
+        Object config = configClass.getConstructor(algorithmClass, int.class, int.class, int.class, int.class, int.class, long.class)
+                .newInstance(tokenBucket, 0, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 2, 60L);
+        AtomicLong now = new AtomicLong(0);
+        LongSupplier clock = now::get;
+        Constructor<?> newLimiter = limiterClass.getDeclaredConstructor(configClass, LongSupplier.class, boolean.class);
+        newLimiter.setAccessible(true);
+        Object limiter = newLimiter.newInstance(config, clock, false);
+
+        Method isAllowed = limiterClass.getMethod("isAllowed", String.class, ChronoUnit.class);
+        assertTrue((boolean) isAllowed.invoke(limiter, "client", ChronoUnit.MINUTES));
+        assertTrue((boolean) isAllowed.invoke(limiter, "client", ChronoUnit.MINUTES));
+        assertFalse((boolean) isAllowed.invoke(limiter, "client", ChronoUnit.MINUTES));
+
+        // More than 2^31 refill ticks later the bucket is full again
+        now.set(((1L << 31) + 10) * 27);
+        assertEquals(2, limiterClass.getMethod("getRemainingRequests", String.class, ChronoUnit.class)
+                .invoke(limiter, "client", ChronoUnit.MINUTES));
+        assertTrue((boolean) isAllowed.invoke(limiter, "client", ChronoUnit.MINUTES));
+        assertTrue((boolean) isAllowed.invoke(limiter, "client", ChronoUnit.MINUTES));
+        assertFalse((boolean) isAllowed.invoke(limiter, "client", ChronoUnit.MINUTES));
+        assertThrows(NoSuchMethodException.class,
+                () -> limiterClass.getMethod("isAllowed", String.class, int.class, ChronoUnit.class));
+    }
+
+    /**
+     * Compiles the generated limiter sources; they are not part of the SDK's own classpath.
+     */
+    private static ClassLoader compileGenerated(Path tempDir) throws Exception {
+        Path sources = tempDir.resolve("src");
+        new RateLimitChecker().generateRateLimitCheckers(Map.of(), sources.toString());
+        Path classes = tempDir.resolve("classes");
+        Files.createDirectories(classes);
+        String classPath = String.join(File.pathSeparator,
+                Path.of(jakarta.inject.Singleton.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString(),
+                Path.of(jakarta.ws.rs.core.Response.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+        List<String> arguments = new ArrayList<>(List.of("-cp", classPath, "-d", classes.toString()));
+        try (Stream<Path> files = Files.list(sources)) {
+            files.map(Path::toString).forEach(arguments::add);
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "Tests need a JDK to compile the generated classes");
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, RateLimitCheckerTest.class.getClassLoader());
     }
 }
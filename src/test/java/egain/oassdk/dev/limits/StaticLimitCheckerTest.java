@@ -6,6 +6,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,5 +32,181 @@ public class StaticLimitCheckerTest {
         assertTrue(Files.exists(tempDir.resolve("RequestSizeLimitChecker.java")));
         assertTrue(Files.exists(tempDir.resolve("ResponseSizeLimitChecker.java")));
         assertTrue(Files.exists(tempDir.resolve("StaticLimitConfig.java")));
+        assertTrue(Files.exists(tempDir.resolve("RouteIndex.java")));
+    }
+
+    @Test
+    public void testRequestSizeLimitsDerivedPerOperation(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> bounded = Map.of(
+                "type", "object",
+                "additionalProperties", false,
+                "properties", Map.of(
+                        "name", Map.of("type", "string", "maxLength", 10),
+                        "tags", Map.of("type", "array", "maxItems", 2, "items", Map.of("type", "integer"))));
+        Map<String, Object> spec = Map.of(
+                "servers", List.of(Map.of("url", "https://api.example.com/v1")),
+                "paths", Map.of(
+                        "/items", Map.of("post", Map.of("requestBody", Map.of("content",
+                                Map.of("application/json", Map.of("schema", bounded))))),
+                        "/uploads", Map.of("put", Map.of("x-max-body-size", "5MB")),
+                        "/notes", Map.of("post", Map.of("requestBody", Map.of("content",
+                                Map.of("application/json", Map.of("schema", Map.of("type", "object"))))))));
+
+        // {"name":<2+6*10>,"tags":[20,20]} with every key escaped, doubled for whitespace
+        long itemsLimit = 2 * (2 + (2 + 6 * 4 + 2 + 62) + (2 + 6 * 4 + 2 + 44));
+        List<StaticLimitChecker.BodyLimit> limits = StaticLimitChecker.BodyLimit.fromSpec(spec, 1024 * 1024);
+        assertTrue(limits.contains(new StaticLimitChecker.BodyLimit("POST", "/v1/items", itemsLimit)));
+        assertTrue(limits.contains(new StaticLimitChecker.BodyLimit("POST", "/items", itemsLimit)));
+        assertTrue(limits.contains(new StaticLimitChecker.BodyLimit("PUT", "/v1/uploads", 5L * 1024 * 1024)));
+        assertTrue(limits.contains(new StaticLimitChecker.BodyLimit("POST", "/v1/notes", 1024 * 1024)),
+                "Unbounded schemas keep the default limit");
+
+        new StaticLimitChecker().generateStaticLimitCheckers(spec, tempDir.toString());
+        String checker = Files.readString(tempDir.resolve("RequestSizeLimitChecker.java"));
+        assertTrue(checker.contains(".add(\"/v1/items\", \"POST\", " + itemsLimit + "L)"));
+        assertTrue(checker.contains(".add(\"/v1/notes\", \"POST\", 1048576L)"));
+        assertTrue(checker.contains("MAX_REQUEST_SIZE = 1048576L"));
+        assertFalse(checker.contains("__"));
+        String interceptor = Files.readString(tempDir.resolve("RequestBodyLimitInterceptor.java"));
+        assertTrue(interceptor.contains("implements ReaderInterceptor"));
+        assertTrue(interceptor.contains("REQUEST_ENTITY_TOO_LARGE"));
+    }
+
+    @Test
+    public void testRecursiveSchemasHaveNoDerivedBodyLimit(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> tree = Map.of("$ref", "#/components/schemas/Tree");
+        Map<String, Object> spec = Map.of(
+                "paths", Map.of("/trees", Map.of("post", Map.of("requestBody", Map.of("content",
+                        Map.of("application/json", Map.of("schema", tree)))))),
+                "components", Map.of("schemas", Map.of(
+                        "Tree", Map.of("type", "array", "maxItems", 3, "items", tree))));
+
+        assertEquals(List.of(new StaticLimitChecker.BodyLimit("POST", "/trees", 1024 * 1024)),
+                StaticLimitChecker.BodyLimit.fromSpec(spec, 1024 * 1024),
+                "A recursive schema is unbounded and keeps the default limit");
+        new StaticLimitChecker().generateStaticLimitCheckers(spec, tempDir.toString());
+        assertTrue(Files.exists(tempDir.resolve("RequestSizeLimitChecker.java")));
+    }
+
+    @Test
+    public void testLiteralRoutesKeepTheirOwnLimit(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> bounded = Map.of("type", "string", "maxLength", 10);
+        Map<String, Object> spec = Map.of(
+                "servers", List.of(Map.of("url", "https://api.example.com/v1")),
+                "paths", Map.of(
+                        "/items/{id}", Map.of("post", Map.of("requestBody", Map.of("content",
+                                Map.of("application/json", Map.of("schema", bounded))))),
+                        "/items/export", Map.of("post", Map.of("requestBody", Map.of("content",
+                                Map.of("application/json", Map.of("schema", Map.of("type", "object"))))))));
+
+        List<StaticLimitChecker.BodyLimit> limits = StaticLimitChecker.BodyLimit.fromSpec(spec, 1024 * 1024);
+        assertTrue(limits.contains(new StaticLimitChecker.BodyLimit("POST", "/v1/items/{id}", 2 * (2 + 6 * 10))));
+        assertTrue(limits.contains(new StaticLimitChecker.BodyLimit("POST", "/v1/items/export", 1024 * 1024)),
+                "A literal route on the default limit is still registered, so it does not match /items/{id}");
+
+        new StaticLimitChecker().generateStaticLimitCheckers(spec, tempDir.toString());
+        String checker = Files.readString(tempDir.resolve("RequestSizeLimitChecker.java"));
+        assertTrue(checker.contains("RouteIndex<Long> BODY_LIMITS"));
+        assertTrue(checker.contains(".add(\"/v1/items/export\", \"POST\", 1048576L)"));
+        assertTrue(Files.readString(tempDir.resolve("RouteIndex.java")).startsWith("package com.example.limits;"));
+    }
+
+    @Test
+    public void testHugeBoundsDoNotOverflow() {
+        Map<String, Object> string = Map.of("type", "string", "maxLength", Long.MAX_VALUE / 3);
+        Map<String, Object> array = Map.of("type", "array", "maxItems", Long.MAX_VALUE / 4, "items", string);
+        Map<String, Object> spec = Map.of("paths", Map.of(
+                "/strings", Map.of("post", Map.of("requestBody", Map.of("content",
+                        Map.of("application/json", Map.of("schema", string))))),
+                "/arrays", Map.of("post", Map.of("requestBody", Map.of("content",
+                        Map.of("application/json", Map.of("schema", Map.of("type", "array",
+                                "maxItems", Long.MAX_VALUE / 4, "items", Map.of("type", "integer")))))))),
+                "/merged", Map.of("post", Map.of("requestBody", Map.of("content",
+                        Map.of("application/json", Map.of("schema", Map.of("allOf", List.of(array, array))))))));
+
+        assertEquals(Long.MAX_VALUE, StaticLimitChecker.BodyLimit.jsonBound(string, spec, new HashSet<>()));
+        assertEquals(Long.MAX_VALUE, StaticLimitChecker.BodyLimit.jsonBound(array, spec, new HashSet<>()));
+        assertEquals(Long.MAX_VALUE, StaticLimitChecker.BodyLimit.size(Long.MAX_VALUE / 2 + "KB"));
+        for (StaticLimitChecker.BodyLimit limit : StaticLimitChecker.BodyLimit.fromSpec(spec, 1024 * 1024)) {
+            assertEquals(1024 * 1024, limit.maxBytes(), limit.template());
+        }
+    }
+
+    @Test
+    public void testBodySizeParsing() {
+        assertEquals(512, StaticLimitChecker.BodyLimit.size(512));
+        assertEquals(512, StaticLimitChecker.BodyLimit.size("512B"));
+        assertEquals(64 * 1024, StaticLimitChecker.BodyLimit.size("64 KB"));
+        assertEquals(2L * 1024 * 1024, StaticLimitChecker.BodyLimit.size("2mb"));
+        assertTrue(StaticLimitChecker.BodyLimit.size("lots") < 0);
+    }
+
+    @Test
+    public void testJsonLimitCheckerCompiledFromSchemas(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> spec = Map.of(
+                "paths", Map.of("/trees", Map.of("post", Map.of("requestBody", Map.of("content",
+                        Map.of("application/json", Map.of("schema", Map.of("$ref", "#/components/schemas/Tree"))))))),
+                "components", Map.of("schemas", Map.of(
+                        "Tree", Map.of("type", "object", "properties", Map.of(
+                                "label", Map.of("type", "string", "maxLength", 4),
+                                "weight", Map.of("type", "number", "minimum", 0, "exclusiveMaximum", 10),
+                                "children", Map.of("type", "array", "maxItems", 3,
+                                        "items", Map.of("$ref", "#/components/schemas/Tree")),
+                                "notes", Map.of("type", "object"))),
+                        "Unlimited", Map.of("type", "object"))));
+
+        new StaticLimitChecker().generateStaticLimitCheckers(spec, tempDir.toString());
+
+        assertFalse(Files.exists(tempDir.resolve("FieldLengthLimitChecker.java")));
+        assertFalse(Files.exists(tempDir.resolve("ArraySizeLimitChecker.java")));
+        assertFalse(Files.exists(tempDir.resolve("NumericRangeLimitChecker.java")));
+        String checker = Files.readString(tempDir.resolve("JsonLimitChecker.java"));
+        assertTrue(checker.contains("SCHEMAS.put(\"Tree\", new Node()"));
+        assertTrue(checker.contains(".property(\"label\", new Node().maxLength(4))"));
+        assertTrue(checker.contains(".maximum(\"10\", true)"));
+        assertTrue(checker.contains(".maxItems(3).items(Node.ref(\"Tree\"))"));
+        assertTrue(checker.contains(".add(\"/trees\", \"POST\", Node.ref(\"Tree\"))"));
+        assertFalse(checker.contains("\"notes\""), "Unconstrained properties are skipped, not tracked");
+        assertFalse(checker.contains("\"Unlimited\""));
+        assertFalse(checker.contains("readTree"));
+        assertTrue(Files.readString(tempDir.resolve("StaticLimitConfig.java")).contains("JsonLimitChecker"));
+    }
+
+    @Test
+    public void testJsonLimitCheckerRegistersOperationsWithoutLimits(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> spec = Map.of(
+                "paths", Map.of(
+                        "/items/{id}", Map.of("post", Map.of("requestBody", Map.of("content",
+                                Map.of("application/json", Map.of("schema", Map.of("type", "string", "maxLength", 4)))))),
+                        "/items/export", Map.of("post", Map.of("requestBody", Map.of("content",
+                                Map.of("application/json", Map.of("schema", Map.of("type", "object"))))))));
+
+        new StaticLimitChecker().generateStaticLimitCheckers(spec, tempDir.toString());
+
+        String checker = Files.readString(tempDir.resolve("JsonLimitChecker.java"));
+        assertTrue(checker.contains("RouteIndex<Node> OPERATIONS"));
+        assertTrue(checker.contains(".add(\"/items/{id}\", \"POST\", new Node().maxLength(4))"));
+        assertTrue(checker.contains(".add(\"/items/export\", \"POST\", null)"),
+                "A literal route without limits must not fall through to the tree of /items/{id}");
+        assertFalse(Files.readString(tempDir.resolve("RequestSizeLimitChecker.java")).contains("matches("));
+    }
+
+    @Test
+    public void testInclusiveAndExclusiveBoundsKeepTheStricter(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> spec = Map.of(
+                "paths", Map.of("/scores", Map.of("post", Map.of("requestBody", Map.of("content",
+                        Map.of("application/json", Map.of("schema", Map.of("$ref", "#/components/schemas/Score"))))))),
+                "components", Map.of("schemas", Map.of(
+                        "Score", Map.of("type", "object", "properties", Map.of(
+                                "low", Map.of("type", "number", "minimum", 10, "exclusiveMinimum", 0),
+                                "high", Map.of("type", "number", "maximum", 100, "exclusiveMaximum", 50),
+                                "tie", Map.of("type", "number", "minimum", 3, "exclusiveMinimum", 3))))));
+
+        new StaticLimitChecker().generateStaticLimitCheckers(spec, tempDir.toString());
+
+        String checker = Files.readString(tempDir.resolve("JsonLimitChecker.java"));
+        assertTrue(checker.contains(".property(\"low\", new Node().minimum(\"10\", false))"));
+        assertTrue(checker.contains(".property(\"high\", new Node().maximum(\"50\", true))"));
+        assertTrue(checker.contains(".property(\"tie\", new Node().minimum(\"3\", true))"));
     }
 }
@@ -6,6 +6,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,4 +35,162 @@ public class APIValidatorTest {
         assertTrue(Files.exists(tempDir.resolve("SchemaValidator.java")));
         assertTrue(Files.exists(tempDir.resolve("ValidationConfig.java")));
     }
+
+    @Test
+    public void testSchemaValidatorsCompiledPerSchema(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> owner = Map.of(
+                "type", "object",
+                "properties", Map.of("age", Map.of("type", "integer", "minimum", 0, "maximum", 150)));
+        Map<String, Object> pet = Map.of(
+                "type", "object",
+                "required", List.of("name"),
+                "additionalProperties", false,
+                "properties", Map.of(
+                        "name", Map.of("type", "string", "pattern", "^[a-z]+$", "minLength", 2),
+                        "kind", Map.of("type", "string", "enum", List.of("cat", "dog")),
+                        "owner", Map.of("$ref", "#/components/schemas/Owner")));
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", Map.of("Pet", pet, "Owner", owner)));
+
+        new APIValidator().generateValidators(spec, tempDir.toString());
+
+        String petValidator = Files.readString(tempDir.resolve("PetSchemaValidator.java"));
+        assertTrue(petValidator.contains("public static SchemaValidator.Violation validate(JsonParser parser)"));
+        assertTrue(petValidator.contains("Pattern.compile(\"^[a-z]+$\")"));
+        assertTrue(petValidator.contains("Set.of(\"cat\", \"dog\")"));
+        assertTrue(petValidator.contains("OwnerSchemaValidator.validate(parser)"));
+        assertTrue(petValidator.contains("is not an allowed property"));
+        assertTrue(Files.readString(tempDir.resolve("OwnerSchemaValidator.java")).contains("150"));
+
+        String dispatcher = Files.readString(tempDir.resolve("SchemaValidator.java"));
+        assertTrue(dispatcher.contains("case \"Pet\" -> PetSchemaValidator.validate(parser);"));
+        assertTrue(dispatcher.contains("readValidated"));
+        assertTrue(dispatcher.contains("private static final long serialVersionUID = 1L;"));
+        assertFalse(dispatcher.contains("Map<String, Object> schema"));
+    }
+
+    @Test
+    public void testSchemaValidatorsCompiledForAllOfCycles(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> a = Map.of("allOf", List.of(
+                Map.of("$ref", "#/components/schemas/B"),
+                Map.of("type", "object", "required", List.of("a"))));
+        Map<String, Object> b = Map.of("allOf", List.of(
+                Map.of("$ref", "#/components/schemas/A"),
+                Map.of("properties", Map.of("b", Map.of("type", "string")))));
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", Map.of("A", a, "B", b)));
+
+        new APIValidator().generateValidators(spec, tempDir.toString());
+
+        String aValidator = Files.readString(tempDir.resolve("ASchemaValidator.java"));
+        assertTrue(aValidator.contains("{\"a\"}"));
+        assertTrue(aValidator.contains("case \"b\""));
+        assertTrue(Files.readString(tempDir.resolve("BSchemaValidator.java")).contains("{\"a\"}"));
+    }
+
+    @Test
+    public void testNumericEnumsComparedByValue(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", Map.of(
+                "Ratio", Map.of("type", "number", "enum", List.of(1.5, 2, 2.0)))));
+
+        new APIValidator().generateValidators(spec, tempDir.toString());
+
+        String validator = Files.readString(tempDir.resolve("RatioSchemaValidator.java"));
+        assertTrue(validator.contains("BigDecimal[] VALUES = {new BigDecimal(\"1.5\"), new BigDecimal(\"2\")}"));
+        assertTrue(validator.contains("SchemaValidator.isOneOf(parser, VALUES)"));
+        assertTrue(validator.contains("must be one of [1.5, 2]"));
+        assertFalse(validator.contains("getText()"));
+        assertTrue(Files.readString(tempDir.resolve("SchemaValidator.java")).contains("value.compareTo(candidate) == 0"));
+    }
+
+    @Test
+    public void testTypeListsDispatchOnToken(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", Map.of(
+                "Id", Map.of("type", List.of("string", "integer", "null"), "minLength", 2, "minimum", 5))));
+
+        new APIValidator().generateValidators(spec, tempDir.toString());
+
+        String validator = Files.readString(tempDir.resolve("IdSchemaValidator.java"));
+        assertTrue(validator.contains("case VALUE_STRING -> validateString(parser);"));
+        assertTrue(validator.contains("case VALUE_NUMBER_INT -> validateInteger(parser);"));
+        assertTrue(validator.contains("must be of type string or integer"));
+        assertTrue(validator.contains("if (length < 2)"));
+        assertTrue(validator.contains("if (value < 5L)"));
+        assertTrue(validator.contains("JsonToken.VALUE_NULL"));
+    }
+
+    @Test
+    public void testOneOfSiblingsAreChecked(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> contact = Map.of(
+                "type", "object",
+                "required", List.of("id"),
+                "properties", Map.of("id", Map.of("type", "integer")),
+                "oneOf", List.of(Map.of("required", List.of("email")), Map.of("required", List.of("phone"))));
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", Map.of("Contact", contact)));
+
+        new APIValidator().generateValidators(spec, tempDir.toString());
+
+        String validator = Files.readString(tempDir.resolve("ContactSchemaValidator.java"));
+        assertTrue(validator.contains("var value = SchemaValidator.buffer(parser);"));
+        assertTrue(validator.contains("SchemaValidator.replay(parser, value, ContactSchemaValidator::validateBase)"));
+        assertTrue(validator.contains("SchemaValidator.countMatches(value, "));
+        assertTrue(validator.contains("{\"id\"}"));
+        assertTrue(validator.contains("case \"id\""));
+        assertTrue(Files.readString(tempDir.resolve("SchemaValidator.java"))
+                .contains("static Violation replay(JsonParser parser, TokenBuffer value, Check check)"));
+    }
+
+    @Test
+    public void testInclusiveAndExclusiveBoundsKeepTheStricter(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", Map.of(
+                "Low", Map.of("type", "integer", "minimum", 10, "exclusiveMinimum", 0),
+                "High", Map.of("type", "number", "maximum", 100, "exclusiveMaximum", 50))));
+
+        new APIValidator().generateValidators(spec, tempDir.toString());
+
+        String low = Files.readString(tempDir.resolve("LowSchemaValidator.java"));
+        assertTrue(low.contains("if (value < 10L)"));
+        assertTrue(low.contains("must be at least 10"));
+        String high = Files.readString(tempDir.resolve("HighSchemaValidator.java"));
+        assertTrue(high.contains("value.compareTo(MAXIMUM) >= 0"));
+        assertTrue(high.contains("must be less than 50"));
+    }
+
+    @Test
+    public void testRequiredPropertiesPastSixtyFourAreChecked(@TempDir Path tempDir) throws Exception {
+        List<String> required = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            required.add("p" + i);
+        }
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", Map.of(
+                "Wide", Map.of("type", "object", "required", required))));
+
+        new APIValidator().generateValidators(spec, tempDir.toString());
+
+        String validator = Files.readString(tempDir.resolve("WideSchemaValidator.java"));
+        assertTrue(validator.contains("import java.util.BitSet;"));
+        assertTrue(validator.contains("BitSet seen = new BitSet(70);"));
+        assertTrue(validator.contains("case \"p69\" -> {"));
+        assertTrue(validator.contains("seen.set(69);"));
+        assertTrue(validator.contains("if (seen.cardinality() != 70)"));
+        assertTrue(Files.readString(tempDir.resolve("SchemaValidator.java"))
+                .contains("static Violation missingProperty(JsonParser parser, BitSet seen, String[] required)"));
+    }
+
+    @Test
+    public void testEnumWithoutTypeIsChecked(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", Map.of(
+                "Order", Map.of("type", "object", "properties", Map.of(
+                        "status", Map.of("enum", Arrays.asList("open", 1, true, null)))))));
+
+        new APIValidator().generateValidators(spec, tempDir.toString());
+
+        String validator = Files.readString(tempDir.resolve("OrderSchemaValidator.java"));
+        assertTrue(validator.contains("case \"status\" -> validateStatus(parser);"));
+        assertTrue(validator.contains("Set.of(\"open\")"));
+        assertTrue(validator.contains("case VALUE_STRING -> STATUS_VALUES.contains(parser.getText());"));
+        assertTrue(validator.contains("case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> SchemaValidator.isOneOf(parser, STATUS_NUMBER_VALUES);"));
+        assertTrue(validator.contains("case VALUE_TRUE -> true;"));
+        assertTrue(validator.contains("case VALUE_FALSE -> false;"));
+        assertTrue(validator.contains("case VALUE_NULL -> true;"));
+        assertTrue(validator.contains("must be one of [open, 1, true, null]"));
+    }
 }
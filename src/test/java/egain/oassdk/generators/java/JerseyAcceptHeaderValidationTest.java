@@ -82,6 +82,25 @@ public class JerseyAcceptHeaderValidationTest {
             "ValidationMapHelper should map getSubFolders");
         assertTrue(mapContent.contains("/v1/folders"),
             "ValidationMapHelper should include full path");
+        assertTrue(mapContent.contains("Map<ParameterValidatorMapKey, Validator<RequestInfo>> validators = buildValidators()"),
+            "ValidationMapHelper should build validator chains once at class init");
+        assertTrue(mapContent.contains("Validator<RequestInfo> validator = validators.get(new ParameterValidatorMapKey(path, httpMethod));"),
+            "validate should look up the prebuilt validator");
+        assertFalse(mapContent.contains("supplier.get()"),
+            "validate should not rebuild the chain per request");
+        assertTrue(mapContent.contains("public static RouteIndex.Match<Validator<RequestInfo>> match(String path, String httpMethod)"),
+            "ValidationMapHelper should expose concrete-path matching");
+        assertTrue(mapContent.contains("index.add(path, httpMethod, validators.get(new ParameterValidatorMapKey(path, httpMethod)))"),
+            "Route index should be built from the prebuilt validators");
+        assertTrue(mapContent.contains("requestInfo = bindPathParameters(match, requestInfo);"),
+            "Concrete-path validation should bind the matched path parameters");
+        assertTrue(mapContent.contains("return RequestInfo.of(match, requestInfo);"),
+            "Matched path parameters should only replace an empty path parameter map");
+
+        Path routeIndex = outputDir.resolve("src/main/java/egain/ws/oas/RouteIndex.java");
+        assertTrue(Files.exists(routeIndex), "RouteIndex.java should be generated");
+        assertTrue(Files.readString(routeIndex).contains("public record Match<V>(String template, V value, Map<String, String> pathParameters)"),
+            "RouteIndex.Match should carry the template and extracted path parameters");
 
         Path requiredHeader = outputDir.resolve("src/main/java/" + VALIDATION_PACKAGE_PATH + "/RequiredHeaderValidator.java");
         assertTrue(Files.exists(requiredHeader), "RequiredHeaderValidator.java should be generated");
@@ -96,6 +115,14 @@ public class JerseyAcceptHeaderValidationTest {
         String riContent = Files.readString(requestInfo);
         assertTrue(riContent.contains("headerParameters"),
             "RequestInfo should include headerParameters");
+        assertFalse(riContent.contains("com.google.common"),
+            "RequestInfo should wrap the container maps instead of copying into Guava multimaps");
+        assertTrue(riContent.contains("public String getFirstHeader(String name)"),
+            "RequestInfo should expose getFirst-style lookups");
+        assertTrue(rhContent.contains("val.getFirstHeader(headerName)"),
+            "RequiredHeaderValidator should read the first header value through RequestInfo");
+        assertFalse(Files.readString(outputDir.resolve("pom.xml")).contains("<artifactId>guava</artifactId>"),
+            "Generated pom should not depend on Guava");
 
         Path validations = outputDir.resolve("src/main/java/egain/ws/oas/Validations.java");
         assertTrue(Files.exists(validations));
@@ -255,6 +282,51 @@ public class JerseyAcceptHeaderValidationTest {
         }
     }
 
+    @Test
+    @DisplayName("Operations without validators are still routed, in spec order")
+    public void testLiteralRoutesWithoutValidatorsAreRouted() throws OASSDKException, IOException {
+        String yaml = """
+            openapi: 3.0.0
+            info:
+              title: Route Test API
+              version: 1.0.0
+            servers:
+              - url: https://api.example.com/v1
+            paths:
+              /folders/{id}:
+                get:
+                  operationId: getFolder
+                  parameters:
+                    - name: id
+                      in: path
+                      required: true
+                      schema:
+                        type: string
+                        pattern: '^[0-9]+$'
+                  responses:
+                    '200':
+                      description: OK
+              /folders/search:
+                get:
+                  operationId: searchFolders
+                  responses:
+                    '200':
+                      description: OK
+            """;
+
+        Path outputDir = generateFromYaml("literal-route", yaml);
+
+        String mapContent = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/ValidationMapHelper.java"));
+        int templated = mapContent.indexOf("addRoute(index, \"/v1/folders/{id}\", \"GET\");");
+        int literal = mapContent.indexOf("addRoute(index, \"/v1/folders/search\", \"GET\");");
+        assertTrue(templated >= 0, "Templated route should be indexed");
+        assertTrue(literal > templated, "Literal route without a validator should be indexed too, in spec order");
+        assertFalse(mapContent.contains("validators.entrySet()"),
+            "Routes should not be built from the unordered validator map");
+        assertFalse(mapContent.contains("QueryParamValidators::searchFolders"),
+            "Operations without parameters should have no validator entry");
+    }
+
     private Path generateFromYaml(String dirName, String yaml) throws OASSDKException, IOException {
         Path specFile = tempOutputDir.resolve(dirName + "-spec.yaml");
         Files.writeString(specFile, yaml);
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -150,4 +152,161 @@ public class JerseyGeneratorConfigTest {
             generator.generate(resolvedSpec, null, new GeneratorConfig(), PACKAGE_NAME)
         );
     }
+
+    @Test
+    @DisplayName("collectAllValidationErrors selects the ValidationMapHelper.validateRequest mode")
+    public void testValidationErrorCollectionMode() throws Exception {
+        OASParser parser = new OASParser();
+        Map<String, Object> spec = parser.parse(TEST_YAML);
+        Map<String, Object> resolvedSpec = parser.resolveReferences(spec, TEST_YAML);
+        String packagePath = PACKAGE_NAME.replace(".", "/");
+
+        Path failFastDir = tempDir.resolve("fail-fast");
+        new JerseyGenerator().generate(resolvedSpec, failFastDir.toString(), new GeneratorConfig(), PACKAGE_NAME);
+        String failFast = Files.readString(failFastDir.resolve("src/main/java/" + packagePath + "/ValidationMapHelper.java"));
+        assertTrue(failFast.contains("COLLECT_ALL_ERRORS = false"), "Fail-fast is the default mode");
+        assertTrue(failFast.contains("validator.validateFirst(requestInfo)"), "validate should stop at the first error");
+        assertFalse(failFast.contains("validator.validateAll(requestInfo)"), "Fail-fast mode should not collect every error");
+
+        Path collectAllDir = tempDir.resolve("collect-all");
+        GeneratorConfig config = GeneratorConfig.builder().collectAllValidationErrors(true).build();
+        new JerseyGenerator().generate(resolvedSpec, collectAllDir.toString(), config, PACKAGE_NAME);
+        String collectAll = Files.readString(collectAllDir.resolve("src/main/java/" + packagePath + "/ValidationMapHelper.java"));
+        assertTrue(collectAll.contains("COLLECT_ALL_ERRORS = true"), "Collect-all mode should be recorded");
+        assertTrue(collectAll.contains("return validator.validateAll(requestInfo);"), "validateRequest should collect every error");
+        assertTrue(collectAll.contains("validator.validateFirst(requestInfo)"), "validate keeps returning the first error");
+    }
+
+    @Test
+    @DisplayName("Parallel generation writes the same files, byte for byte, as sequential generation")
+    public void testParallelGenerationMatchesSequential() throws Exception {
+        OASParser parser = new OASParser();
+        Map<String, Object> spec = parser.parse(OPENAPI_YAML);
+        Map<String, Object> resolvedSpec = parser.resolveReferences(spec, OPENAPI_YAML);
+
+        for (boolean modelsOnly : new boolean[]{false, true}) {
+            Path sequentialDir = tempDir.resolve("sequential-" + modelsOnly);
+            new JerseyGenerator().generate(resolvedSpec, sequentialDir.toString(),
+                    GeneratorConfig.builder().modelsOnly(modelsOnly).build(), PACKAGE_NAME);
+
+            Path parallelDir = tempDir.resolve("parallel-" + modelsOnly);
+            new JerseyGenerator().generate(resolvedSpec, parallelDir.toString(),
+                    GeneratorConfig.builder().modelsOnly(modelsOnly).parallelGeneration(true).build(), PACKAGE_NAME);
+
+            Map<String, String> sequential = readTree(sequentialDir);
+            assertFalse(sequential.isEmpty());
+            assertEquals(sequential, readTree(parallelDir), "modelsOnly=" + modelsOnly);
+        }
+    }
+
+    @Test
+    @DisplayName("Incremental generation leaves unchanged files untouched")
+    public void testIncrementalGenerationSkipsUnchangedFiles() throws Exception {
+        OASParser parser = new OASParser();
+        Map<String, Object> spec = parser.parse(OPENAPI_YAML);
+        Map<String, Object> resolvedSpec = parser.resolveReferences(spec, OPENAPI_YAML);
+
+        Path fullDir = tempDir.resolve("full");
+        new JerseyGenerator().generate(resolvedSpec, fullDir.toString(), GeneratorConfig.builder().build(), PACKAGE_NAME);
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            Path incrementalDir = tempDir.resolve("incremental-" + parallel);
+            GeneratorConfig config = GeneratorConfig.builder()
+                    .incrementalGeneration(true)
+                    .parallelGeneration(parallel)
+                    .build();
+            new JerseyGenerator().generate(resolvedSpec, incrementalDir.toString(), config, PACKAGE_NAME);
+            assertTrue(Files.exists(incrementalDir.resolve(JerseyGenerationManifest.FILE_NAME)));
+
+            Map<String, FileTime> firstRun = modificationTimes(incrementalDir);
+            new JerseyGenerator().generate(resolvedSpec, incrementalDir.toString(), config, PACKAGE_NAME);
+            Map<String, FileTime> secondRun = modificationTimes(incrementalDir);
+            secondRun.remove(JerseyGenerationManifest.FILE_NAME);
+            firstRun.remove(JerseyGenerationManifest.FILE_NAME);
+            assertEquals(firstRun, secondRun, "An unchanged spec should not rewrite any file, parallel=" + parallel);
+
+            Map<String, String> incremental = readTree(incrementalDir);
+            incremental.remove(JerseyGenerationManifest.FILE_NAME);
+            assertEquals(readTree(fullDir), incremental, "parallel=" + parallel);
+        }
+    }
+
+    @Test
+    @DisplayName("Incremental generation after a spec edit only rewrites files whose content changed")
+    public void testIncrementalGenerationAfterEditKeepsUntouchedFiles() throws Exception {
+        Path editedYaml = tempDir.resolve("openapi-edited.yaml");
+        String yaml = Files.readString(Path.of(OPENAPI_YAML));
+        assertTrue(yaml.contains("maximum: 100"));
+        Files.writeString(editedYaml, yaml);
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            Path incrementalDir = tempDir.resolve("edited-" + parallel);
+            GeneratorConfig config = GeneratorConfig.builder()
+                    .incrementalGeneration(true)
+                    .parallelGeneration(parallel)
+                    .build();
+            Files.writeString(editedYaml, yaml);
+            generate(editedYaml, incrementalDir, config);
+            Map<String, String> firstContent = readTree(incrementalDir);
+            Map<String, FileTime> firstRun = modificationTimes(incrementalDir);
+
+            // A new path re-runs every task; User.java and the other models written by several tasks keep their content
+            String edited = yaml.replace("maximum: 100", "maximum: 200").replace("  /users:\n", """
+                      /ping:
+                        get:
+                          operationId: ping
+                          responses:
+                            '204':
+                              description: Alive
+                      /users:
+                    """);
+            assertNotEquals(yaml, edited);
+            Files.writeString(editedYaml, edited);
+            generate(editedYaml, incrementalDir, config);
+            Map<String, String> secondContent = readTree(incrementalDir);
+            Map<String, FileTime> secondRun = modificationTimes(incrementalDir);
+
+            int rewritten = 0;
+            for (Map.Entry<String, String> file : firstContent.entrySet()) {
+                if (file.getKey().equals(JerseyGenerationManifest.FILE_NAME)) {
+                    continue;
+                }
+                if (file.getValue().equals(secondContent.get(file.getKey()))) {
+                    assertEquals(firstRun.get(file.getKey()), secondRun.get(file.getKey()),
+                            file.getKey() + " kept its content but was rewritten, parallel=" + parallel);
+                } else {
+                    rewritten++;
+                }
+            }
+            assertTrue(rewritten > 0, "The edit should change at least one file, parallel=" + parallel);
+            assertTrue(firstContent.keySet().stream().anyMatch(file -> file.endsWith("User.java")));
+        }
+    }
+
+    private static void generate(Path yaml, Path outputDir, GeneratorConfig config) throws Exception {
+        OASParser parser = new OASParser();
+        Map<String, Object> spec = parser.parse(yaml.toString());
+        Map<String, Object> resolvedSpec = parser.resolveReferences(spec, yaml.toString());
+        new JerseyGenerator().generate(resolvedSpec, outputDir.toString(), config, PACKAGE_NAME);
+    }
+
+    private static Map<String, FileTime> modificationTimes(Path root) throws Exception {
+        Map<String, FileTime> times = new TreeMap<>();
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path file : walk.filter(Files::isRegularFile).toList()) {
+                times.put(root.relativize(file).toString(), Files.getLastModifiedTime(file));
+            }
+        }
+        return times;
+    }
+
+    private static Map<String, String> readTree(Path root) throws Exception {
+        Map<String, String> files = new TreeMap<>();
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path file : walk.filter(Files::isRegularFile).toList()) {
+                files.put(root.relativize(file).toString(), Files.readString(file));
+            }
+        }
+        return files;
+    }
 }
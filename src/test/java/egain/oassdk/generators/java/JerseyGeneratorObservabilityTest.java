@@ -10,6 +10,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -80,6 +81,26 @@ public class JerseyGeneratorObservabilityTest {
                 "MetricsFilter should instrument http.server.requests");
     }
 
+    @Test
+    @DisplayName("Generated MetricsFilter tags by route template and publishes SLO buckets")
+    public void testMetricsFilterRouteTemplatesAndSloBuckets() throws Exception {
+        Path outputDir = tempDir.resolve("obs-metrics-routes");
+        GeneratorConfig config = GeneratorConfig.builder()
+                .observabilityConfig(ObservabilityConfig.builder().sloBucketsMs(List.of(500L, 200L)).build())
+                .build();
+
+        generator.generate(resolvedSpec, outputDir.toString(), config, PACKAGE_NAME);
+
+        String content = Files.readString(outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/observability/MetricsFilter.java"));
+        assertTrue(content.contains("register(\"/knowledge/contentmgr/v4/schedules\", \"GET\");"),
+                "Routes should be registered by full path template and method");
+        assertFalse(content.contains("__ROUTE_REGISTRATIONS__"), "Route placeholder should be substituted");
+        assertTrue(content.contains("SLO_BUCKETS_MS = {200L, 500L}"), "SLO buckets should be sorted literals");
+        assertTrue(content.contains("publishPercentileHistogram()"), "Timers should publish histograms");
+        assertFalse(content.contains("uriInfo.getPath()") || content.contains(".tag(\"path\", path)"),
+                "Raw request paths should never be used as tag values");
+    }
+
     @Test
     @DisplayName("Generated TracingFilter contains expected tracing code")
     public void testTracingFilterContent() throws Exception {
@@ -100,6 +121,40 @@ public class JerseyGeneratorObservabilityTest {
                 "TracingFilter should use SpanKind.SERVER");
     }
 
+    @Test
+    @DisplayName("Generated tracing uses route-template span names and configured sampling")
+    public void testTracingSamplingAndSpanNames() throws Exception {
+        Path outputDir = tempDir.resolve("obs-tracing-sampling");
+        GeneratorConfig config = GeneratorConfig.builder()
+                .observabilityConfig(ObservabilityConfig.builder()
+                        .samplingRatio(0.05)
+                        .parentBasedSampling(false)
+                        .batchMaxQueueSize(4096)
+                        .batchMaxExportBatchSize(8192)
+                        .batchScheduleDelayMs(1000)
+                        .batchExportTimeoutMs(10000)
+                        .build())
+                .build();
+
+        generator.generate(resolvedSpec, outputDir.toString(), config, PACKAGE_NAME);
+
+        Path obsDir = outputDir.resolve("src/main/java/" + PACKAGE_PATH + "/observability");
+        String tracing = Files.readString(obsDir.resolve("TracingFilter.java"));
+        assertTrue(tracing.contains("register(\"/knowledge/contentmgr/v4/schedules\", \"GET\");"),
+                "Span names should be registered per route template");
+        assertTrue(tracing.contains("span.isRecording()"), "Attributes should only be set on sampled spans");
+
+        String bootstrap = Files.readString(obsDir.resolve("ObservabilityBootstrap.java"));
+        assertTrue(bootstrap.contains("SAMPLING_RATIO = 0.05;"));
+        assertTrue(bootstrap.contains("PARENT_BASED_SAMPLING = false;"));
+        assertTrue(bootstrap.contains("BATCH_MAX_QUEUE_SIZE = 4096;"));
+        assertTrue(bootstrap.contains("BATCH_MAX_EXPORT_BATCH_SIZE = 4096;"),
+                "Export batch size should be capped at the queue size");
+        assertTrue(bootstrap.contains("BATCH_SCHEDULE_DELAY_MS = 1000L;"));
+        assertTrue(bootstrap.contains("BATCH_EXPORT_TIMEOUT_MS = 10000L;"));
+        assertFalse(bootstrap.contains("__"), "All placeholders should be substituted");
+    }
+
     @Test
     @DisplayName("Generated pom.xml contains observability dependencies")
     public void testPomXmlContainsObservabilityDependencies() throws Exception {
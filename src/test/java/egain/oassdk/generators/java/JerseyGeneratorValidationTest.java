@@ -208,8 +208,14 @@ public class JerseyGeneratorValidationTest {
             "Should be a public class");
         assertTrue(content.contains("private final String val"),
             "Should have pattern value field");
-        assertTrue(content.contains("Validations.matchesPattern.apply"),
-            "Should use Validations.matchesPattern");
+        assertTrue(content.contains("private final Pattern pattern"),
+            "Should hold a precompiled Pattern");
+        assertTrue(content.contains("pattern.matcher(input).matches()"),
+            "Should match against the precompiled Pattern");
+        assertFalse(content.contains("Validations.matchesPattern.apply"),
+            "Should not recompile the regex per request via Validations.matchesPattern");
+        assertTrue(content.contains("Validations.compilePattern(val)"),
+            "String constructor should go through the shared pattern cache");
         assertTrue(content.contains("import egain.ws.oas.Validations;"),
             "Should import Validations");
     }
@@ -240,6 +246,11 @@ public class JerseyGeneratorValidationTest {
             "Should split enum values by comma");
         assertTrue(content.contains("import java.util.Arrays;"),
             "Should import Arrays");
+        assertTrue(content.contains("this.allowedValues = Set.copyOf(Arrays.asList(enumValues.split(\",\")))"),
+            "Should precompute the allowed values set at construction");
+        String call = content.substring(content.indexOf("public ValidationError call("));
+        assertFalse(call.contains(".split("),
+            "call() should not split enum values or array items per request");
     }
     
     @Test
@@ -548,27 +559,31 @@ public class JerseyGeneratorValidationTest {
         sdk.loadSpec(yamlFile);
         sdk.generateApplication("java", "jersey", packageName, outputDir.toString());
         
-        // Test NumericMaxValidator (uses Validations comparators with string val)
+        // Test NumericMaxValidator (compares against a pre-parsed NumericBound)
         Path maxValidatorFile = outputDir.resolve("src/main/java/" + VALIDATION_PACKAGE_PATH + "/NumericMaxValidator.java");
         assertTrue(Files.exists(maxValidatorFile), "NumericMaxValidator should exist");
         String maxContent = Files.readString(maxValidatorFile);
-        assertTrue(maxContent.contains("Validations.isGreaterThan"),
-            "NumericMaxValidator should use Validations.isGreaterThan");
-        assertTrue(maxContent.contains("Validations.isGreaterThanOrEqualTo"),
-            "NumericMaxValidator should use Validations.isGreaterThanOrEqualTo for exclusive max");
-        assertTrue(maxContent.contains("private final String val"),
-            "NumericMaxValidator should have max limit as String val");
+        assertTrue(maxContent.contains("private final NumericBound max"),
+            "NumericMaxValidator should hold the max limit pre-parsed");
+        assertTrue(maxContent.contains("public NumericMaxValidator(String parameterName, long max,"),
+            "NumericMaxValidator should accept an integral bound");
+        assertTrue(maxContent.contains("public NumericMaxValidator(String parameterName, double max,"),
+            "NumericMaxValidator should accept a fractional bound");
+        assertTrue(maxContent.contains("public NumericMaxValidator(String parameterName, BigDecimal max,"),
+            "NumericMaxValidator should accept a decimal bound");
+        assertTrue(maxContent.contains("isExclusive ? comparison >= 0 : comparison > 0"),
+            "NumericMaxValidator should honour exclusive max");
+        assertFalse(maxContent.contains("Double.parseDouble"),
+            "NumericMaxValidator should not re-parse the bound per call");
         
-        // Test NumericMinValidator (uses Validations comparators with string val)
+        // Test NumericMinValidator (compares against a pre-parsed NumericBound)
         Path minValidatorFile = outputDir.resolve("src/main/java/" + VALIDATION_PACKAGE_PATH + "/NumericMinValidator.java");
         assertTrue(Files.exists(minValidatorFile), "NumericMinValidator should exist");
         String minContent = Files.readString(minValidatorFile);
-        assertTrue(minContent.contains("Validations.isLessThan"),
-            "NumericMinValidator should use Validations.isLessThan");
-        assertTrue(minContent.contains("Validations.isLessThanOrEqualTo"),
-            "NumericMinValidator should use Validations.isLessThanOrEqualTo for exclusive min");
-        assertTrue(minContent.contains("private final String val"),
-            "NumericMinValidator should have min limit as String val");
+        assertTrue(minContent.contains("private final NumericBound min"),
+            "NumericMinValidator should hold the min limit pre-parsed");
+        assertTrue(minContent.contains("isExclusive ? comparison <= 0 : comparison < 0"),
+            "NumericMinValidator should honour exclusive min");
         
         // Test NumericMultipleOfValidator
         Path multipleOfValidatorFile = outputDir.resolve("src/main/java/" + VALIDATION_PACKAGE_PATH + "/NumericMultipleOfValidator.java");
@@ -964,6 +979,67 @@ public class JerseyGeneratorValidationTest {
             "PatternValidator must appear before MinLengthValidator for jobID");
         assertTrue(patternIdx < maxLenIdx,
             "PatternValidator must appear before MaxLengthValidator for jobID");
+        assertTrue(content.contains("private static final Pattern PATTERN_1 = Pattern.compile(\"^[0-9a-fA-F]{8}-"),
+            "jobID pattern should be precompiled once as a static constant");
+        assertTrue(content.contains("new PatternValidator(\"jobID\", PATTERN_1,"),
+            "PatternValidator should receive the precompiled constant");
+    }
+
+    @Test
+    @DisplayName("Numeric query param bounds are emitted as long, double or BigDecimal literals")
+    public void testNumericBoundsEmittedAsPreParsedLiterals() throws OASSDKException, IOException {
+        String yamlContent = """
+            openapi: 3.0.0
+            info:
+              title: Numeric bounds test
+              version: 1.0.0
+            servers:
+              - url: https://api.example.com
+            paths:
+              /items:
+                get:
+                  operationId: listItems
+                  parameters:
+                    - name: pagesize
+                      in: query
+                      schema:
+                        type: integer
+                        minimum: 1
+                        maximum: 75
+                    - name: ratio
+                      in: query
+                      schema:
+                        type: number
+                        maximum: 10.25
+                    - name: amount
+                      in: query
+                      schema:
+                        type: number
+                        format: decimal
+                        minimum: 0.01
+                  responses:
+                    '200':
+                      description: OK
+            """;
+        Path specFile = tempOutputDir.resolve("numeric-bounds-spec.yaml");
+        Files.writeString(specFile, yamlContent);
+        Path outputDir = tempOutputDir.resolve("numeric-bounds-sdk");
+
+        OASSDK sdk = new OASSDK();
+        sdk.loadSpec(specFile.toString());
+        sdk.generateApplication("java", "jersey", TEST_PACKAGE, outputDir.toString());
+
+        String content = Files.readString(outputDir.resolve("src/main/java/" + TEST_PACKAGE_PATH + "/QueryParamValidators.java"));
+        assertTrue(content.contains("new NumericMaxValidator(\"pagesize\", 75L,"),
+            "Integer maximum should be emitted as a long literal");
+        assertTrue(content.contains("new NumericMinValidator(\"pagesize\", 1L,"),
+            "Integer minimum should be emitted as a long literal");
+        assertTrue(content.contains("new NumericMaxValidator(\"ratio\", 10.25,"),
+            "Fractional maximum should be emitted as a double literal");
+        assertTrue(content.contains("new NumericMinValidator(\"amount\", new java.math.BigDecimal(\"0.01\"),"),
+            "format: decimal bounds should be emitted as BigDecimal");
+        assertTrue(content.contains("List.of(\"pagesize\", \"75\")"),
+            "Error arguments should keep the bound text");
     }
 
     @Test
@@ -1076,5 +1152,27 @@ public class JerseyGeneratorValidationTest {
         assertFalse(enumInvocation.contains("L10N_INVALID_VALUE_FOR_ENUM_ATTRIBUTE\", Collections.emptyList()"),
             "EnumValidator must not use Collections.emptyList() for l10n arguments (EGS-98675)");
     }
-}
 
+    @Test
+    @DisplayName("Validation JMH benchmark is emitted under src/jmh/java behind the pom benchmark profile")
+    public void testValidationBenchmarkEmittedBehindProfile() throws OASSDKException, IOException {
+        Path outputDir = tempOutputDir.resolve("validation-benchmark-test");
+
+        OASSDK sdk = new OASSDK();
+        sdk.loadSpec("src/test/resources/openapi3.yaml");
+        sdk.generateApplication("java", "jersey", TEST_PACKAGE, outputDir.toString());
+
+        Path benchmark = outputDir.resolve("src/jmh/java/egain/ws/oas/bench/ValidationBenchmark.java");
+        assertTrue(Files.exists(benchmark), "ValidationBenchmark.java should be generated");
+        String content = Files.readString(benchmark);
+        assertTrue(content.contains("@Benchmark"), "Benchmark should declare JMH benchmarks");
+        assertTrue(content.contains("patternCompilePerCall") && content.contains("patternPrecompiled"),
+            "Benchmark should compare per-call compilation against precompiled patterns");
+
+        String pom = Files.readString(outputDir.resolve("pom.xml"));
+        assertTrue(pom.contains("<id>benchmark</id>"), "pom.xml should declare a benchmark profile");
+        int profilesIdx = pom.indexOf("<profiles>");
+        assertTrue(profilesIdx >= 0 && pom.indexOf("jmh-core") > profilesIdx,
+            "JMH must only be a dependency of the benchmark profile");
+    }
+}
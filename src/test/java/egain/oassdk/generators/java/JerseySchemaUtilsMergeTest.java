@@ -3,6 +3,7 @@ package egain.oassdk.generators.java;
 import egain.oassdk.Util;
 import egain.oassdk.core.exceptions.OASSDKException;
 import egain.oassdk.core.parser.OASParser;
+import egain.oassdk.generators.common.OpenApiSchemaUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
@@ -59,6 +60,95 @@ class JerseySchemaUtilsMergeTest {
         assertSame(schema, JerseySchemaUtils.resolveCompositionToEffectiveSchema(schema, null));
     }
 
+    @Test
+    @DisplayName("resolveCompositionToEffectiveSchema resolves allOf chains of any depth")
+    void resolveComposition_deepAllOfChain() {
+        Map<String, Object> spec = chainSpec(25);
+
+        Map<String, Object> effective = JerseySchemaUtils.resolveCompositionToEffectiveSchema(
+                chainSchema(spec, 0), spec);
+
+        assertEquals("object", effective.get("type"));
+        assertEquals("leaf", effective.get("format"));
+    }
+
+    @Test
+    @DisplayName("resolveCompositionToEffectiveSchema stops at allOf cycles")
+    void resolveComposition_allOfCycle() {
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("allOf", List.of(Map.of("$ref", "#/components/schemas/B"), Map.of("type", "object")));
+        Map<String, Object> b = new LinkedHashMap<>();
+        b.put("allOf", List.of(Map.of("$ref", "#/components/schemas/A"), Map.of("format", "cyclic")));
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        schemas.put("A", a);
+        schemas.put("B", b);
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", schemas));
+
+        Map<String, Object> effectiveA = JerseySchemaUtils.resolveCompositionToEffectiveSchema(a, spec);
+        Map<String, Object> effectiveB = JerseySchemaUtils.resolveCompositionToEffectiveSchema(b, spec);
+
+        assertEquals("object", effectiveA.get("type"));
+        assertEquals("cyclic", effectiveA.get("format"));
+        assertEquals("object", effectiveB.get("type"));
+        assertEquals("cyclic", effectiveB.get("format"));
+    }
+
+    @Test
+    @DisplayName("resolveCompositionToEffectiveSchema memoizes effective schemas per spec")
+    void resolveComposition_memoized() {
+        Map<String, Object> spec = chainSpec(3);
+        Map<String, Object> level0 = chainSchema(spec, 0);
+
+        Map<String, Object> first = JerseySchemaUtils.resolveCompositionToEffectiveSchema(level0, spec);
+        assertSame(first, JerseySchemaUtils.resolveCompositionToEffectiveSchema(level0, spec));
+        assertThrows(UnsupportedOperationException.class, () -> first.put("type", "string"));
+
+        // Adding a schema drops the spec's memoized schemas, as does clearing them
+        chainSchemas(spec).put("Extra", Map.of("type", "string"));
+        Map<String, Object> second = JerseySchemaUtils.resolveCompositionToEffectiveSchema(level0, spec);
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        OpenApiSchemaUtils.clearCompositionCache(spec);
+        assertNotSame(second, JerseySchemaUtils.resolveCompositionToEffectiveSchema(level0, spec));
+    }
+
+    @Test
+    @DisplayName("mergeSchemaProperties merges allOf chains of any depth")
+    void mergeSchemaProperties_deepAllOfChain() {
+        Map<String, Object> spec = chainSpec(25);
+        Map<String, Object> allProps = new LinkedHashMap<>();
+        List<String> allRequired = new ArrayList<>();
+
+        JerseySchemaUtils.mergeSchemaProperties(chainSchema(spec, 0), allProps, allRequired, spec);
+
+        assertEquals(26, allProps.size());
+        assertTrue(allProps.containsKey("field0"));
+        assertTrue(allProps.containsKey("leafField"));
+    }
+
+    @Test
+    @DisplayName("mergeSchemaProperties stops at allOf $ref cycles")
+    void mergeSchemaProperties_allOfRefCycle() {
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("allOf", List.of(Map.of("$ref", "#/components/schemas/B"),
+                Map.of("properties", Map.of("a", Map.of("type", "string")))));
+        Map<String, Object> b = new LinkedHashMap<>();
+        b.put("allOf", List.of(Map.of("$ref", "#/components/schemas/A"),
+                Map.of("properties", Map.of("b", Map.of("type", "string")))));
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        schemas.put("A", a);
+        schemas.put("B", b);
+        Map<String, Object> spec = Map.of("components", Map.of("schemas", schemas));
+        Map<String, Object> allProps = new LinkedHashMap<>();
+        List<String> allRequired = new ArrayList<>();
+
+        JerseySchemaUtils.mergeSchemaProperties(Util.asStringObjectMapView(a), allProps, allRequired, spec);
+
+        assertEquals(2, allProps.size());
+        assertTrue(allProps.containsKey("a"));
+        assertTrue(allProps.containsKey("b"));
+    }
+
     @Test
     @DisplayName("mergeSchemaProperties merges direct properties")
     void mergeSchemaProperties_direct() {
@@ -699,6 +789,41 @@ class JerseySchemaUtilsMergeTest {
         assertRefNameContains(allProps.get("department"), "Department");
     }
 
+    /**
+     * Spec whose {@code Level0} .. {@code Level<depth-1>} each extend the next level by allOf, down to
+     * {@code Level<depth>}, an object with format {@code leaf}.
+     */
+    private static Map<String, Object> chainSpec(int depth) {
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < depth; i++) {
+            Map<String, Object> overlay = new LinkedHashMap<>();
+            overlay.put("properties", Map.of("field" + i, Map.of("type", "string")));
+            Map<String, Object> level = new LinkedHashMap<>();
+            level.put("allOf", List.of(Map.of("$ref", "#/components/schemas/Level" + (i + 1)), overlay));
+            schemas.put("Level" + i, level);
+        }
+        Map<String, Object> leaf = new LinkedHashMap<>();
+        leaf.put("type", "object");
+        leaf.put("format", "leaf");
+        leaf.put("properties", Map.of("leafField", Map.of("type", "string")));
+        schemas.put("Level" + depth, leaf);
+        Map<String, Object> components = new LinkedHashMap<>();
+        components.put("schemas", schemas);
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("components", components);
+        return spec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> chainSchemas(Map<String, Object> spec) {
+        return (Map<String, Object>) ((Map<String, Object>) spec.get("components")).get("schemas");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> chainSchema(Map<String, Object> spec, int level) {
+        return (Map<String, Object>) chainSchemas(spec).get("Level" + level);
+    }
+
     private static void assertRefNameContains(Object propertySchema, String expectedName) {
         assertTrue(containsSchemaRefName(propertySchema, expectedName),
                 "Expected ref to " + expectedName + " in schema: " + propertySchema);
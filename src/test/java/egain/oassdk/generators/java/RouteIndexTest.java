@@ -0,0 +1,151 @@
+package egain.oassdk.generators.java;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.ws.rs.core.UriInfo;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour of the RouteIndex runtime class emitted into generated Jersey projects. The class is compiled from the
+ * runtime resource and driven reflectively, since it is not part of the SDK's own classpath.
+ */
+@DisplayName("RouteIndex runtime matching")
+public class RouteIndexTest {
+
+    private static final String RESOURCE = "runtime/jersey/egain/ws/oas/RouteIndex.java";
+    private static final String REQUEST_INFO_RESOURCE = "runtime/jersey/egain/ws/oas/RequestInfo.java";
+
+    @TempDir
+    Path tempDir;
+
+    private Class<?> routeIndexClass;
+    private Class<?> requestInfoClass;
+
+    @BeforeEach
+    public void compileRouteIndex() throws Exception {
+        Path routeIndex = writeRuntimeSource(RESOURCE);
+        // RequestInfo is compiled alongside so its RouteIndex.Match factory can be exercised
+        Path requestInfo = writeRuntimeSource(REQUEST_INFO_RESOURCE);
+        Files.writeString(requestInfo, Files.readString(requestInfo).replace("__WS_NS__", "jakarta.ws.rs"));
+        Path classes = tempDir.resolve("classes");
+        Files.createDirectories(classes);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "Tests need a JDK to compile the runtime class");
+        String classpath = Path.of(UriInfo.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        assertEquals(0, compiler.run(null, null, null, "-d", classes.toString(), "-cp", classpath,
+                routeIndex.toString(), requestInfo.toString()));
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+        routeIndexClass = loader.loadClass("egain.ws.oas.RouteIndex");
+        requestInfoClass = loader.loadClass("egain.ws.oas.RequestInfo");
+    }
+
+    private Path writeRuntimeSource(String resource) throws Exception {
+        Path source = tempDir.resolve("src/" + resource.substring("runtime/jersey/".length()));
+        Files.createDirectories(source.getParent());
+        try (InputStream in = RouteIndexTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(in, "Missing runtime resource " + resource);
+            Files.write(source, in.readAllBytes());
+        }
+        return source;
+    }
+
+    @Test
+    @DisplayName("Literal segments win over templated ones")
+    public void testLiteralBeforeTemplated() throws Exception {
+        Object index = index(
+                "/items/{id}", "GET", "item",
+                "/items/export", "GET", "export",
+                "/a/{x}/c", "GET", "templated-first",
+                "/a/b/{y}", "GET", "literal-first");
+
+        assertMatch(index, "/items/export", "GET", "/items/export", Map.of());
+        assertMatch(index, "/items/42", "GET", "/items/{id}", Map.of("id", "42"));
+        assertMatch(index, "items/42?expand=true", "GET", "/items/{id}", Map.of("id", "42"));
+        assertMatch(index, "/a/b/c", "GET", "/a/b/{y}", Map.of("y", "c"));
+        assertMatch(index, "/a/z/c", "GET", "/a/{x}/c", Map.of("x", "z"));
+        assertNull(match(index, "/items/42", "POST"));
+        assertNull(match(index, "/items", "GET"));
+        assertNull(match(index, "/items/42/more", "GET"));
+    }
+
+    @Test
+    @DisplayName("Templated segments with a prefix, a suffix or several parameters")
+    public void testPrefixSuffixAndSeveralParameters() throws Exception {
+        Object index = index(
+                "/files/{name}.json", "GET", "json",
+                "/files/{name}", "GET", "any",
+                "/files/v{version}", "GET", "version",
+                "/archives/{name}-{ver}", "GET", "archive",
+                "/releases/v{major}.{minor}.{patch}", "GET", "release");
+
+        assertMatch(index, "/files/report.json", "GET", "/files/{name}.json", Map.of("name", "report"));
+        assertMatch(index, "/files/v2", "GET", "/files/v{version}", Map.of("version", "2"));
+        assertMatch(index, "/files/report.xml", "GET", "/files/{name}", Map.of("name", "report.xml"));
+        assertMatch(index, "/files/.json", "GET", "/files/{name}", Map.of("name", ".json"));
+        assertMatch(index, "/archives/x-1", "GET", "/archives/{name}-{ver}", Map.of("name", "x", "ver", "1"));
+        assertMatch(index, "/archives/my-app-1.0", "GET", "/archives/{name}-{ver}",
+                Map.of("name", "my-app", "ver", "1.0"));
+        assertNull(match(index, "/archives/x-", "GET"));
+        assertNull(match(index, "/archives/x1", "GET"));
+        assertMatch(index, "/releases/v1.2.3", "GET", "/releases/v{major}.{minor}.{patch}",
+                Map.of("major", "1", "minor", "2", "patch", "3"));
+        assertNull(match(index, "/releases/v1.2", "GET"));
+    }
+
+    @Test
+    @DisplayName("RequestInfo binds the path parameters of a match and keeps the caller's query and headers")
+    public void testRequestInfoFromMatch() throws Exception {
+        Object index = index("/folders/{folderID}/articles/{articleID}", "GET", "articles");
+        Object match = match(index, "/folders/12/articles/34?lang=en", "GET");
+        Object request = requestInfoClass.getConstructor(String.class, String.class, Map.class, Map.class, Map.class)
+                .newInstance("/folders/12/articles/34", "GET", Map.of("lang", List.of("en")), null,
+                        Map.of("Accept", List.of("application/json")));
+
+        Object bound = requestInfoClass.getMethod("of", match.getClass(), requestInfoClass).invoke(null, match, request);
+        assertEquals(Map.of("folderID", List.of("12"), "articleID", List.of("34")),
+                requestInfoClass.getMethod("pathParameters").invoke(bound));
+        assertEquals("34", requestInfoClass.getMethod("getFirstPathParameter", String.class).invoke(bound, "articleID"));
+        assertEquals("/folders/12/articles/34", requestInfoClass.getMethod("url").invoke(bound));
+        assertEquals(Map.of("lang", List.of("en")), requestInfoClass.getMethod("queryParameters").invoke(bound));
+        assertEquals("application/json", requestInfoClass.getMethod("getFirstHeader", String.class).invoke(bound, "Accept"));
+
+        Object withoutRequest = requestInfoClass.getMethod("of", match.getClass(), requestInfoClass).invoke(null, match, null);
+        assertEquals("12", requestInfoClass.getMethod("getFirstPathParameter", String.class).invoke(withoutRequest, "folderID"));
+        assertEquals(Map.of(), requestInfoClass.getMethod("queryParameters").invoke(withoutRequest));
+    }
+
+    private Object index(String... routes) throws Exception {
+        Object index = routeIndexClass.getConstructor().newInstance();
+        for (int i = 0; i < routes.length; i += 3) {
+            routeIndexClass.getMethod("add", String.class, String.class, Object.class)
+                    .invoke(index, routes[i], routes[i + 1], routes[i + 2]);
+        }
+        return index;
+    }
+
+    private Object match(Object index, String path, String method) throws Exception {
+        return routeIndexClass.getMethod("match", String.class, String.class).invoke(index, path, method);
+    }
+
+    private void assertMatch(Object index, String path, String method, String template,
+                             Map<String, String> pathParameters) throws Exception {
+        Object match = match(index, path, method);
+        assertNotNull(match, path);
+        assertEquals(template, match.getClass().getMethod("template").invoke(match), path);
+        assertEquals(pathParameters, match.getClass().getMethod("pathParameters").invoke(match), path);
+    }
+}
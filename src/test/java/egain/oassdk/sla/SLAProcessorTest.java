@@ -99,5 +99,47 @@ public class SLAProcessorTest {
             processor.generateMonitoring(openApiSpec, tempDir.toString(), config, monitoringStack);
         });
     }
+    
+    @Test
+    public void testExtractResponseTimeTargetsMs() {
+        Map<String, Object> responseTime = new LinkedHashMap<>();
+        responseTime.put("p95", "200ms");
+        responseTime.put("p99", "0.5s");
+        responseTime.put("p999", "not-a-duration");
+        slaSpec.put("sla", Map.of("requirements", Map.of("performance", Map.of("response_time", responseTime))));
+        ((Map<String, Object>) openApiSpec.get("info")).put("x-sla-response-time", 200);
+        
+        assertEquals(List.of(200L, 500L), SLAProcessor.extractResponseTimeTargetsMs(openApiSpec, slaSpec));
+        assertTrue(SLAProcessor.extractResponseTimeTargetsMs(null, null).isEmpty());
+    }
+    
+    @Test
+    public void testGenerateMonitoringControllerUsesRouteTemplatesAndWindows(@TempDir Path tempDir) throws Exception {
+        Map<String, Object> paths = new LinkedHashMap<>();
+        paths.put("/items/{id}", Map.of("get", Map.of()));
+        paths.put("/items/export", Map.of("get", Map.of()));
+        openApiSpec.put("paths", paths);
+        openApiSpec.put("servers", List.of(Map.of("url", "https://api.example.com/v1")));
+        ((Map<String, Object>) openApiSpec.get("info")).put("x-sla-response-time", 250);
+        
+        processor.generateEnforcement(openApiSpec, slaSpec, tempDir.toString(), new SLAConfig());
+        String controller = java.nio.file.Files.readString(tempDir.resolve("SLAMonitoringController.java"));
+        
+        assertTrue(controller.contains("MAX_RESPONSE_TIME_MS = 250L"));
+        assertTrue(controller.contains(".add(\"/v1/items/{id}\", ANY_METHOD, \"/v1/items/{id}\")"));
+        assertTrue(controller.contains(".add(\"/items/{id}\", ANY_METHOD, \"/v1/items/{id}\")"));
+        assertTrue(controller.contains(".add(\"/items/export\", ANY_METHOD, \"/v1/items/export\")"));
+        assertTrue(controller.contains("ROUTES.lookup(path, ANY_METHOD)"),
+                "Routes must be resolved through the RouteIndex, which matches literal segments first");
+        String routeIndex = java.nio.file.Files.readString(tempDir.resolve("RouteIndex.java"));
+        assertTrue(routeIndex.startsWith("package com.example.sla;"));
+        assertTrue(controller.contains("LongAdder"));
+        assertFalse(controller.contains("new AtomicLongArray(BUCKETS)"),
+                "Histogram rows must be allocated on first use, not per slice up front");
+        assertTrue(controller.contains("new Window(\"5m\""));
+        assertTrue(controller.contains("List.copyOf(routes.entrySet())"),
+                "A snapshot must read one copy of the routes, which grow while requests arrive");
+        assertFalse(controller.contains("ConcurrentHashMap<String, AtomicLong>"));
+        assertFalse(controller.contains("__"));
+    }
 }
-